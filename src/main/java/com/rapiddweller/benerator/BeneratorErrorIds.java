@@ -173,6 +173,8 @@ public class BeneratorErrorIds {
 
   public static final String SYN_MEMSTORE_ILLEGAL_ATTR = "BEN-0285";
   public static final String SYN_MEMSTORE_ID           = "BEN-0286";
+  public static final String SYN_MEMSTORE_INDEXES      = "BEN-0287";
+  public static final String SYN_MEMSTORE_OFF_HEAP     = "BEN-0288";
 
   // Syntax Errors regarding <run-task> ------------------------------------------------------------------------------
 
@@ -468,6 +470,11 @@ public class BeneratorErrorIds {
   public static final String SYN_DB_LAZY                 = "BEN-1018";
   public static final String SYN_DB_META_CACHE           = "BEN-1019";
   public static final String SYN_DB_ACCEPT_UNK_COL_TYPES = "BEN-1020";
+  public static final String SYN_DB_PARTITIONS          = "BEN-1025";
+  public static final String SYN_DB_PARTITION_FETCH_SIZE = "BEN-1026";
+  public static final String SYN_DB_POOL_SIZE           = "BEN-1027";
+  public static final String SYN_DB_TABLE_META_CACHE    = "BEN-1028";
+  public static final String SYN_DB_BULK_LOAD           = "BEN-1029";
 
   public static final String SYN_DB_URL_GROUP_INCOMPLETE = "BEN-1021";
   public static final String SYN_DB_ENV_GROUP_INCOMPLETE = "BEN-1022";
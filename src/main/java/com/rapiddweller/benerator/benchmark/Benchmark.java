@@ -30,6 +30,7 @@ public class Benchmark {
       new Benchmark("anon-person-constant", false, V200, 8000000, "Anonymization with constant data"),
       new Benchmark("file-csv", false, V210, 1000000, "Reading/writing CSV files"),
       new Benchmark("file-dbunit", false, V210, 1000000, "Reading/writing DbUnit files"),
+      new Benchmark("file-dbunit-typed", false, V210, 1000000, "Reading/writing DbUnit files with typed and escaped values"),
       new Benchmark("file-json", true, V210, 800000, "Reading/writing JSON files"),
       new Benchmark("file-fixedwidth", false, V210, 500000, "Reading/writing fixed-width-files"),
       new Benchmark("file-out-xml", false, V210, 500000, "Writing XML files"),
@@ -11,6 +11,8 @@
 import com.rapiddweller.benerator.environment.SystemRef;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
 import com.rapiddweller.benerator.main.Benerator;
+import com.rapiddweller.benerator.sensor.CounterRepository;
+import com.rapiddweller.benerator.sensor.LatencyCounter;
 import com.rapiddweller.common.BeanUtil;
 import com.rapiddweller.common.CollectionUtil;
 import com.rapiddweller.common.FileUtil;
@@ -19,8 +21,6 @@
 import com.rapiddweller.common.log.LoggingPrinter;
 import com.rapiddweller.common.time.ElapsedTimeFormatter;
 import com.rapiddweller.jdbacl.DatabaseDialect;
-import com.rapiddweller.stat.CounterRepository;
-import com.rapiddweller.stat.LatencyCounter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
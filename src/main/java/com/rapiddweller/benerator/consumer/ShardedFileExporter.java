@@ -0,0 +1,514 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.consumer;
+
+import com.rapiddweller.benerator.Consumer;
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.util.FileCompression;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.common.BeanUtil;
+import com.rapiddweller.common.Context;
+import com.rapiddweller.common.Expression;
+import com.rapiddweller.common.FileUtil;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.ThreadAware;
+import com.rapiddweller.common.context.ContextAware;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.script.DatabeneScriptParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Distributes the exported data over several files ('shards') and rolls each shard over to a new file
+ * when it reaches a maximum number of rows or bytes.
+ * Each file is written by a fresh instance of the exporter defined by the bean spec 'exporter',
+ * so each file gets a complete header and footer, e.g. a CSV header row or an XML root element.
+ * The file names are derived from the 'uri' by inserting the shard and part number before the suffix,
+ * e.g. 'export-002-00001.csv' for the second file of the third shard.
+ * Top-level products are assigned to the shards round-robin, or by the hash of the 'key' component if one is set.
+ * Nested products are written to the shard of their top-level product, and rollover happens only between
+ * top-level products. Each thread buffers a top-level product with its nested products until the top-level
+ * product is finished and then writes them to the shard at once, so no shard stays locked between calls.
+ * If a product is not finished, e.g. after an error which is handled with onError="warn",
+ * it is discarded with a warning. The shards are written by the generating threads,
+ * so products of different shards are written concurrently with multithreaded generation,
+ * while a single-threaded generation writes the shards one after the other.
+ * On close, a JSON manifest is written, which lists all files with their shard, part, row count and size.<br/><br/>
+ * Created: 19.10.2026 09:12:40
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class ShardedFileExporter implements FileExporter, ContextAware, ThreadAware {
+
+  private static final Logger logger = LoggerFactory.getLogger(ShardedFileExporter.class);
+
+  /** The number of rows after which the size of a file is checked, if a maximum size is configured */
+  private static final int SIZE_CHECK_INTERVAL = 256;
+
+  // attributes ------------------------------------------------------------------------------------------------------
+
+  private String uri;
+  private String exporter;
+  private int shards;
+  private String key;
+  private long maxRows;
+  private long maxBytes;
+  private String manifestUri;
+
+  private BeneratorContext context;
+  private Expression<?> exporterExpression;
+  private volatile Shard[] shardArray;
+  private final AtomicLong nextShard;
+  private final AtomicLong rowCount;
+  private final ThreadLocal<PendingProducts> pending;
+  private final List<FileInfo> files;
+  private boolean closed;
+
+  // constructors ----------------------------------------------------------------------------------------------------
+
+  public ShardedFileExporter() {
+    this(null, null);
+  }
+
+  public ShardedFileExporter(String uri, String exporter) {
+    this.uri = uri;
+    this.exporter = exporter;
+    this.shards = 1;
+    this.key = null;
+    this.maxRows = 0;
+    this.maxBytes = 0;
+    this.manifestUri = null;
+    this.nextShard = new AtomicLong();
+    this.rowCount = new AtomicLong();
+    this.pending = ThreadLocal.withInitial(PendingProducts::new);
+    this.files = new ArrayList<>();
+    this.closed = false;
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  @Override
+  public String getUri() {
+    return uri;
+  }
+
+  /** Sets the base name of the files, from which the names of the shard files are derived. */
+  public void setUri(String uri) {
+    this.uri = uri;
+  }
+
+  public String getExporter() {
+    return exporter;
+  }
+
+  /** Sets the bean spec of the exporter which writes each file, e.g. "new CSVEntityExporter{columns='id,name'}".
+   *  Its 'uri' is set to the name of the file it shall write. */
+  public void setExporter(String exporter) {
+    this.exporter = exporter;
+  }
+
+  public int getShards() {
+    return shards;
+  }
+
+  /** Sets the number of files which are written concurrently by the generating threads. */
+  public void setShards(int shards) {
+    if (shards < 1) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("Illegal shard count: " + shards);
+    }
+    this.shards = shards;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  /** Sets the name of the component whose hash determines the shard of a product.
+   *  If it is not set, products are distributed round-robin. */
+  public void setKey(String key) {
+    this.key = key;
+  }
+
+  public long getMaxRows() {
+    return maxRows;
+  }
+
+  /** Sets the maximum number of top-level products in a file, 0 stands for no limit. */
+  public void setMaxRows(long maxRows) {
+    this.maxRows = maxRows;
+  }
+
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  /** Sets the size in bytes from which on a file is closed and continued in a new one, 0 stands for no limit.
+   *  Since the size is checked only every {@value #SIZE_CHECK_INTERVAL} rows, files may get a bit larger.
+   *  A compressed file may exceed the limit by the compressed size of up to about 4 MB of uncompressed data,
+   *  since its size only grows when the background thread has compressed the buffered data. */
+  public void setMaxBytes(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  public String getManifestUri() {
+    return manifestUri;
+  }
+
+  /** Sets the uri of the manifest file. By default, it is derived from the 'uri', e.g. 'export.manifest.json'. */
+  public void setManifestUri(String manifestUri) {
+    this.manifestUri = manifestUri;
+  }
+
+  // ContextAware interface implementation ---------------------------------------------------------------------------
+
+  @Override
+  public void setContext(Context context) {
+    this.context = (BeneratorContext) context;
+  }
+
+  // ThreadAware interface implementation ----------------------------------------------------------------------------
+
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
+  // Consumer interface implementation -------------------------------------------------------------------------------
+
+  @Override
+  public void startConsuming(ProductWrapper<?> wrapper) {
+    PendingProducts products = pending.get();
+    // a generation reuses its wrapper, so if it is still in use, its previous product has not been finished
+    for (int i = 0; i < products.started.size(); i++) {
+      if (products.started.get(i).wrapper == wrapper) {
+        products.discardFrom(i);
+        break;
+      }
+    }
+    products.started.add(new StartedProduct(wrapper, products.calls.size()));
+    products.calls.add(new BufferedCall(true, wrapper));
+  }
+
+  @Override
+  public void finishConsuming(ProductWrapper<?> wrapper) {
+    PendingProducts products = pending.get();
+    int index = products.started.size() - 1;
+    while (index >= 0 && products.started.get(index).product != wrapper.unwrap()) {
+      index--;
+    }
+    if (index < 0) {
+      logger.warn("Ignoring product which has not been started: {}", wrapper.unwrap());
+      return;
+    }
+    if (index < products.started.size() - 1) {
+      products.discardFrom(index + 1);
+    }
+    products.started.remove(index);
+    products.calls.add(new BufferedCall(false, wrapper));
+    if (products.started.isEmpty()) {
+      try {
+        write(products.calls);
+      } finally {
+        products.calls.clear();
+      }
+    }
+  }
+
+  @Override
+  public void flush() {
+    if (shardArray != null) {
+      for (Shard shard : shardArray) {
+        shard.lock.lock();
+        try {
+          if (shard.target != null) {
+            shard.target.flush();
+          }
+        } finally {
+          shard.lock.unlock();
+        }
+      }
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (shardArray != null) {
+      for (Shard shard : shardArray) {
+        shard.lock.lock();
+        try {
+          if (shard.target != null) {
+            shard.closeFile();
+          }
+        } finally {
+          shard.lock.unlock();
+        }
+      }
+    }
+    writeManifest();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** Writes a finished top-level product and its nested products to the shard of the top-level product. */
+  private void write(List<BufferedCall> calls) {
+    Shard shard = selectShard(calls.get(0).product);
+    shard.lock.lock();
+    try {
+      if (shard.target == null) {
+        shard.openFile();
+      }
+      for (BufferedCall call : calls) {
+        if (call.start) {
+          shard.target.startConsuming(call.wrap());
+        } else {
+          shard.target.finishConsuming(call.wrap());
+        }
+      }
+      rowCount.incrementAndGet();
+      shard.rows++;
+      if (shard.isFull()) {
+        shard.closeFile();
+      }
+    } finally {
+      shard.lock.unlock();
+    }
+  }
+
+  private Shard selectShard(Object product) {
+    Shard[] array = getOrCreateShards();
+    if (key != null && product instanceof Entity) {
+      return array[Math.floorMod(Objects.hashCode(((Entity) product).getComponent(key)), array.length)];
+    } else {
+      return array[(int) (nextShard.getAndIncrement() % array.length)];
+    }
+  }
+
+  /** Returns the shards, creating them on first invocation. */
+  private synchronized Shard[] getOrCreateShards() {
+    if (shardArray == null) {
+      if (uri == null) {
+        throw BeneratorExceptionFactory.getInstance().configurationError("No 'uri' set for " + this);
+      }
+      if (exporter == null) {
+        throw BeneratorExceptionFactory.getInstance().configurationError("No 'exporter' set for " + this);
+      }
+      exporterExpression = DatabeneScriptParser.parseBeanSpec(exporter);
+      Shard[] array = new Shard[shards];
+      for (int i = 0; i < shards; i++) {
+        array[i] = new Shard(i);
+      }
+      shardArray = array;
+    }
+    return shardArray;
+  }
+
+  private Consumer createExporter(String fileUri) {
+    Object result = exporterExpression.evaluate(context);
+    if (!(result instanceof Consumer)) {
+      throw BeneratorExceptionFactory.getInstance().configurationError(
+          "Not a consumer: " + exporter + " of " + this);
+    }
+    BeanUtil.setPropertyValue(result, "uri", fileUri, true);
+    if (result instanceof ContextAware) {
+      ((ContextAware) result).setContext(context);
+    }
+    return (Consumer) result;
+  }
+
+  /** Derives the name of a shard file from the base uri, e.g. 'export-002-00001.csv' from 'export.csv'. */
+  static String fileUri(String uri, int shard, int part) {
+    int suffixStart = suffixStart(uri);
+    return String.format("%s-%03d-%05d%s", uri.substring(0, suffixStart), shard, part, uri.substring(suffixStart));
+  }
+
+  static String defaultManifestUri(String uri) {
+    return uri.substring(0, suffixStart(uri)) + ".manifest.json";
+  }
+
+  /** Determines the start of the file suffix, which includes a compression suffix, e.g. '.csv.gz' */
+  private static int suffixStart(String uri) {
+    String compressionSuffix = FileCompression.forUri(uri).getSuffix();
+    int end = uri.length() - (compressionSuffix != null ? compressionSuffix.length() : 0);
+    int dot = uri.lastIndexOf('.', end - 1);
+    int separator = Math.max(uri.lastIndexOf('/'), uri.lastIndexOf('\\'));
+    return (dot > separator + 1 ? dot : end);
+  }
+
+  private void writeManifest() {
+    String target = (manifestUri != null ? manifestUri : (uri != null ? defaultManifestUri(uri) : null));
+    if (target == null) {
+      return;
+    }
+    List<FileInfo> list;
+    synchronized (files) {
+      list = new ArrayList<>(files);
+    }
+    list.sort(Comparator.comparingInt((FileInfo info) -> info.shard).thenComparingInt(info -> info.part));
+    StringBuilder builder = new StringBuilder();
+    builder.append("{\n");
+    builder.append("  \"uri\": ").append(jsonString(uri)).append(",\n");
+    builder.append("  \"shards\": ").append(shards).append(",\n");
+    builder.append("  \"rows\": ").append(rowCount.get()).append(",\n");
+    builder.append("  \"files\": [");
+    for (int i = 0; i < list.size(); i++) {
+      FileInfo info = list.get(i);
+      builder.append(i > 0 ? ",\n" : "\n");
+      builder.append("    { \"uri\": ").append(jsonString(info.uri))
+          .append(", \"shard\": ").append(info.shard)
+          .append(", \"part\": ").append(info.part)
+          .append(", \"rows\": ").append(info.rows)
+          .append(", \"bytes\": ").append(info.bytes).append(" }");
+    }
+    builder.append(list.isEmpty() ? "]\n" : "\n  ]\n");
+    builder.append("}\n");
+    IOUtil.writeTextFile(target, builder.toString(), "UTF-8");
+    logger.debug("Wrote manifest {} for {} files", target, list.size());
+  }
+
+  private static String jsonString(String s) {
+    return '"' + s.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '[' + uri + ']';
+  }
+
+  // helper classes --------------------------------------------------------------------------------------------------
+
+  /** The buffered calls for the top-level product which is currently consumed by a thread
+   *  and of its nested products, and the products which have been started but not yet finished */
+  private static final class PendingProducts {
+    final List<BufferedCall> calls = new ArrayList<>();
+    final List<StartedProduct> started = new ArrayList<>();
+
+    /** Discards the unfinished products from the given nesting level on together with their nested products */
+    void discardFrom(int level) {
+      logger.warn("Discarding unfinished product {}", started.get(level).product);
+      int callCount = started.get(level).callIndex;
+      calls.subList(callCount, calls.size()).clear();
+      started.subList(level, started.size()).clear();
+    }
+  }
+
+  private static final class StartedProduct {
+    final ProductWrapper<?> wrapper;
+    final Object product;
+    final int callIndex;
+
+    StartedProduct(ProductWrapper<?> wrapper, int callIndex) {
+      this.wrapper = wrapper;
+      this.product = wrapper.unwrap();
+      this.callIndex = callIndex;
+    }
+  }
+
+  /** A call of startConsuming() or finishConsuming(). Since generators reuse their wrappers,
+   *  the product and tags are copied for providing them in a new wrapper when the call is replayed. */
+  private static final class BufferedCall {
+    final boolean start;
+    final Object product;
+    final Map<String, String> tags;
+
+    BufferedCall(boolean start, ProductWrapper<?> wrapper) {
+      this.start = start;
+      this.product = wrapper.unwrap();
+      this.tags = (wrapper.getTags().isEmpty() ? null : new HashMap<>(wrapper.getTags()));
+    }
+
+    ProductWrapper<Object> wrap() {
+      ProductWrapper<Object> wrapper = new ProductWrapper<>(product);
+      if (tags != null) {
+        tags.forEach(wrapper::setTag);
+      }
+      return wrapper;
+    }
+  }
+
+  private final class Shard {
+
+    final int index;
+    final ReentrantLock lock;
+    Consumer target;
+    String fileUri;
+    int part;
+    long rows;
+
+    Shard(int index) {
+      this.index = index;
+      this.lock = new ReentrantLock();
+      this.part = 0;
+    }
+
+    void openFile() {
+      fileUri = fileUri(uri, index, part);
+      logger.debug("Opening {}", fileUri);
+      File folder = new File(fileUri).getAbsoluteFile().getParentFile();
+      if (folder != null) {
+        FileUtil.ensureDirectoryExists(folder);
+      }
+      target = createExporter(fileUri);
+      rows = 0;
+    }
+
+    boolean isFull() {
+      if (maxRows > 0 && rows >= maxRows) {
+        return true;
+      }
+      if (maxBytes > 0 && rows % SIZE_CHECK_INTERVAL == 0) {
+        target.flush();
+        return new File(fileUri).length() >= maxBytes;
+      }
+      return false;
+    }
+
+    void closeFile() {
+      IOUtil.close(target);
+      target = null;
+      synchronized (files) {
+        files.add(new FileInfo(fileUri, index, part, rows, new File(fileUri).length()));
+      }
+      logger.debug("Closed {} with {} rows", fileUri, rows);
+      part++;
+    }
+  }
+
+  private static final class FileInfo {
+    final String uri;
+    final int shard;
+    final int part;
+    final long rows;
+    final long bytes;
+
+    FileInfo(String uri, int shard, int part, long rows, long bytes) {
+      this.uri = uri;
+      this.shard = shard;
+      this.part = part;
+      this.rows = rows;
+      this.bytes = bytes;
+    }
+  }
+
+}
@@ -26,21 +26,30 @@
 
 package com.rapiddweller.benerator.consumer;
 
+import com.rapiddweller.benerator.util.FileCompression;
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.SystemInfo;
 import com.rapiddweller.common.exception.ExceptionFactory;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.Writer;
 
 /**
- * Parent class for Exporters that export data to a text file.<br/><br/>
+ * Parent class for Exporters that export data to a text file.
+ * The file is compressed if a 'compression' is configured or its uri ends with a compression suffix like '.gz'.<br/><br/>
  * Created: 11.07.2008 09:50:46
  * @author Volker Bergmann
  * @since 0.5.4
  */
 public class TextFileExporter extends FormattingConsumer implements FileExporter {
 
+  private static final int COMPRESSED_WRITER_BUFFER_SIZE = 64 * 1024;
+
   // attributes ------------------------------------------------------------------------------------------------------
 
   protected String uri;
@@ -48,6 +57,7 @@ public class TextFileExporter extends FormattingConsumer implements FileExporter
   protected String lineSeparator;
   protected boolean append;
   protected boolean wasAppended;
+  protected String compression;
 
   protected PrintWriter printer;
 
@@ -66,6 +76,7 @@ public TextFileExporter(String uri, String encoding, String lineSeparator) {
     this.encoding = (encoding != null ? encoding : SystemInfo.getFileEncoding());
     this.lineSeparator = (lineSeparator != null ? lineSeparator : SystemInfo.getLineSeparator());
     this.append = false;
+    this.compression = null;
   }
 
   // callback interface for child classes ----------------------------------------------------------------------------
@@ -127,6 +138,16 @@ public void setAppend(boolean append) {
     this.append = append;
   }
 
+  public String getCompression() {
+    return compression;
+  }
+
+  /** Sets the compression format of the file: 'gzip' or 'none'.
+   *  If it is not set, the file is compressed according to the suffix of its uri. */
+  public void setCompression(String compression) {
+    this.compression = compression;
+  }
+
   // Consumer interface ----------------------------------------------------------------------------------------------
 
   @Override
@@ -141,6 +162,7 @@ public final synchronized void startProductConsumption(Object data) {
   public void flush() {
     if (printer != null) {
       printer.flush();
+      checkPrinterError();
     }
   }
 
@@ -155,10 +177,19 @@ public void close() {
       assert printer != null;
       printer.close();
     }
+    checkPrinterError();
   }
 
   // private helpers -------------------------------------------------------------------------------------------------
 
+  /** A {@link PrintWriter} does not throw IOExceptions but only remembers them, e.g. the ones of a compression
+   *  in a background thread, so its error state is checked when the data is expected to be written. */
+  private void checkPrinterError() {
+    if (printer.checkError()) {
+      throw ExceptionFactory.getInstance().operationFailed("Error writing " + uri, null);
+    }
+  }
+
   protected void initPrinter(Object data) {
     if (uri == null) {
       throw ExceptionFactory.getInstance().configurationError("Property 'uri' not set on bean " + getClass().getName());
@@ -177,10 +208,35 @@ protected void initPrinter(Object data) {
       }
     }
 
-    printer = IOUtil.getPrinterForURI(uri, encoding, append, lineSeparator, true);
+    FileCompression fileCompression = FileCompression.of(compression, uri);
+    if (fileCompression == FileCompression.NONE) {
+      printer = IOUtil.getPrinterForURI(uri, encoding, append, lineSeparator, true);
+    } else {
+      printer = createCompressedPrinter(fileCompression);
+    }
     postInitPrinter(data);
   }
 
+  private PrintWriter createCompressedPrinter(FileCompression fileCompression) {
+    String separator = lineSeparator;
+    OutputStream out = null;
+    try {
+      out = fileCompression.openOutputStream(uri, append);
+      Writer writer = new BufferedWriter(new OutputStreamWriter(out, encoding), COMPRESSED_WRITER_BUFFER_SIZE);
+      return new PrintWriter(writer) {
+        @Override
+        public void println() {
+          print(separator);
+        }
+      };
+    } catch (IOException e) {
+      if (out != null) {
+        IOUtil.close(out);
+      }
+      throw ExceptionFactory.getInstance().fileCreationFailed("Error creating file " + uri, e);
+    }
+  }
+
   protected void println() {
     printer.print(lineSeparator);
   }
@@ -243,6 +243,11 @@ public boolean isAcceptUnknownSimpleTypes() {
     return parent.isAcceptUnknownSimpleTypes();
   }
 
+  @Override
+  public boolean isDescriptorCache() {
+    return parent.isDescriptorCache();
+  }
+
   @Override
   public boolean isDefaultImports() {
     return parent.isDefaultImports();
@@ -56,6 +56,8 @@ public interface BeneratorContext extends GeneratorContext, ScriptContext {
 
   boolean isAcceptUnknownSimpleTypes();
 
+  boolean isDescriptorCache();
+
   // import handling -------------------------------------------------------------------------------------------------
 
   void importPackage(String packageName);
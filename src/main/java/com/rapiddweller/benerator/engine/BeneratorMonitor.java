@@ -35,6 +35,8 @@
 import javax.management.ObjectName;
 import java.io.Closeable;
 import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * MBean implementation for monitoring Benerator.<br/><br/>
@@ -70,27 +72,33 @@ public class BeneratorMonitor implements BeneratorMonitorMBean, Closeable {
   private boolean active;
   long latestTimeStamp;
   long latestGenerationCount;
-  long totalGenerationCount;
+  final LongAdder totalGenerationCount;
   int currentThroughput;
+  private final AtomicInteger pooledConnectionCount;
+  private final LongAdder sharedPoolConnectionCount;
+  private final LongAdder poolCommitCount;
 
   private BeneratorMonitor() {
     this.active = true;
     this.latestTimeStamp = 0;
     this.latestGenerationCount = 0;
-    this.totalGenerationCount = 0;
+    this.totalGenerationCount = new LongAdder();
     this.currentThroughput = 0;
+    this.pooledConnectionCount = new AtomicInteger();
+    this.sharedPoolConnectionCount = new LongAdder();
+    this.poolCommitCount = new LongAdder();
     BeneratorMonitorThread monitorThread = new BeneratorMonitorThread();
     monitorThread.setDaemon(true);
     monitorThread.start();
   }
 
-  public synchronized void countGenerations(int newGenerations) {
-    totalGenerationCount += newGenerations;
+  public void countGenerations(int newGenerations) {
+    totalGenerationCount.add(newGenerations);
   }
 
   @Override
   public long getTotalGenerationCount() {
-    return totalGenerationCount;
+    return totalGenerationCount.sum();
   }
 
   @Override
@@ -99,7 +107,8 @@ public long getCurrentThroughput() {
   }
 
   public void setTotalGenerationCount(long totalGenerationCount) {
-    this.totalGenerationCount = totalGenerationCount;
+    this.totalGenerationCount.reset();
+    this.totalGenerationCount.add(totalGenerationCount);
   }
 
   @Override
@@ -122,12 +131,50 @@ public int getOpenPreparedStatementCount() {
     return DBUtil.getOpenPreparedStatementCount();
   }
 
+  /** Tracks the number of connections held by database connection pools. */
+  public void countPooledConnections(int delta) {
+    pooledConnectionCount.addAndGet(delta);
+  }
+
+  /** Counts a thread which needed to share a pooled connection with other threads since the pool was exhausted. */
+  public void countSharedPoolConnection() {
+    sharedPoolConnectionCount.increment();
+  }
+
+  /** Counts a coordinated commit of all connections of a pool. */
+  public void countPoolCommit() {
+    poolCommitCount.increment();
+  }
+
+  @Override
+  public int getPooledConnectionCount() {
+    return pooledConnectionCount.get();
+  }
+
+  @Override
+  public long getSharedPoolConnectionCount() {
+    return sharedPoolConnectionCount.sum();
+  }
+
+  @Override
+  public long getPoolCommitCount() {
+    return poolCommitCount.sum();
+  }
+
+  @Override
+  public String[] getProgress() {
+    return ProgressRegistry.getInstance().getActive().stream()
+        .map(GenerationProgress::format).toArray(String[]::new);
+  }
+
   @Override
   public void reset() {
     this.latestTimeStamp = 0;
     this.latestGenerationCount = 0;
-    this.totalGenerationCount = 0;
+    this.totalGenerationCount.reset();
     this.currentThroughput = 0;
+    this.sharedPoolConnectionCount.reset();
+    this.poolCommitCount.reset();
   }
 
   @Override
@@ -157,7 +204,7 @@ public void run() {
     }
 
     public void update() {
-      long currentGenerationCount = totalGenerationCount;
+      long currentGenerationCount = totalGenerationCount.sum();
       long currentTime = System.nanoTime();
       currentThroughput = (int) ((currentGenerationCount - latestGenerationCount) * 1000000000 / (currentTime - latestTimeStamp));
       latestTimeStamp = currentTime;
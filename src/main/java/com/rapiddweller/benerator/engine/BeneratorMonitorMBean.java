@@ -39,5 +39,9 @@ public interface BeneratorMonitorMBean {
   int getOpenResultSetCount();
   int getOpenStatementCount();
   int getOpenPreparedStatementCount();
+  int getPooledConnectionCount();
+  long getSharedPoolConnectionCount();
+  long getPoolCommitCount();
+  String[] getProgress();
   void reset();
 }
@@ -38,8 +38,10 @@ public class BeneratorOpts {
 
   public static final String OPTS_VALIDATE = "benerator.validate";
   public static final String OPTS_CACHE_SIZE = "benerator.cacheSize";
+  public static final String OPTS_PROGRESS_INTERVAL = "benerator.progressInterval";
 
   private static final int DEFAULT_CACHE_SIZE = 100000;
+  private static final int DEFAULT_PROGRESS_INTERVAL = 30;
 
   private BeneratorOpts() {
     // private constructor to prevent instantiation
@@ -57,6 +59,11 @@ public static int getCacheSize() {
     return parseIntProperty(OPTS_CACHE_SIZE, DEFAULT_CACHE_SIZE);
   }
 
+  /** @return the number of seconds between two progress reports of running statements, 0 for no reports */
+  public static int getProgressInterval() {
+    return parseIntProperty(OPTS_PROGRESS_INTERVAL, DEFAULT_PROGRESS_INTERVAL);
+  }
+
   private static int parseIntProperty(String propertyKey, int defaultValue) {
     String propertyValue = System.getProperty(propertyKey);
     return (StringUtil.isEmpty(propertyValue) ? defaultValue : Integer.parseInt(propertyValue));
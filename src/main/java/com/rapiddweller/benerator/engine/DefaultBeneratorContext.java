@@ -102,6 +102,7 @@ public class DefaultBeneratorContext extends AbstractBeneratorContext implements
   protected boolean defaultOneToOne;
   protected boolean defaultImports;
   protected boolean acceptUnknownSimpleTypes;
+  protected boolean descriptorCache;
 
   protected final Map<String, Environment> environments;
   protected ComplexTypeDescriptor defaultComponent;
@@ -142,6 +143,7 @@ public DefaultBeneratorContext(String contextUri) {
     this.defaultOneToOne = false;
     this.defaultImports = true;
     this.acceptUnknownSimpleTypes = false;
+    this.descriptorCache = false;
 
     this.executorService = createExecutorService();
     this.dataModel = new DataModel();
@@ -389,6 +391,16 @@ public void setAcceptUnknownSimpleTypes(boolean acceptUnknownSimpleTypes) {
     dataModel.setAcceptUnknownPrimitives(acceptUnknownSimpleTypes);
   }
 
+  @Override
+  public boolean isDescriptorCache() {
+    return descriptorCache;
+  }
+
+  @Override
+  public void setDescriptorCache(boolean descriptorCache) {
+    this.descriptorCache = descriptorCache;
+  }
+
   public static char getDefaultCellSeparator() {
     String tmp = System.getProperty(CELL_SEPARATOR_SYSPROP);
     if (tmp == null) {
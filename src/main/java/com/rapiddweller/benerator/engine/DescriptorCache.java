@@ -0,0 +1,293 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine;
+
+import com.rapiddweller.common.ConfigUtil;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.TextFileLocation;
+import com.rapiddweller.common.xml.XMLUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+import org.w3c.dom.UserDataHandler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * On-disk cache of parsed descriptor files. Parsing a descriptor with location annotation is
+ * comparably expensive, so the resulting element tree is stored in a compact binary form together with
+ * the element locations used in error messages. A local file is identified by its URI, size and modification time,
+ * so a cache hit does not need to read the descriptor file. A file which was modified too recently
+ * for its modification time to be reliable is not cached. Other resources are read and identified
+ * by the SHA-256 hash of their URI and content. Each included descriptor file is cached separately when it is run.
+ * Only the parsing of the XML is saved, the statements, the data model and database metadata
+ * are created anew in each run.<br/><br/>
+ * Created: 19.10.2026 16:12:45
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class DescriptorCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(DescriptorCache.class);
+
+  static final int MAGIC = 0x42444331; // 'BDC1'
+  static final int FORMAT_VERSION = 1;
+
+  private static final byte ELEMENT = 1;
+  private static final byte TEXT = 2;
+  private static final byte CDATA = 3;
+  private static final byte COMMENT = 4;
+  private static final byte PROCESSING_INSTRUCTION = 5;
+  private static final byte END = 0;
+
+  private static final UserDataHandler LOCATION_COPIER = (operation, key, data, src, dst) -> {
+    if (operation == UserDataHandler.NODE_CLONED || operation == UserDataHandler.NODE_IMPORTED) {
+      dst.setUserData(key, data, DescriptorCache.LOCATION_COPIER);
+    }
+  };
+
+  /** A file modified more recently than this may be changed again without a new modification time,
+   *  since file systems store it with a resolution of up to 2 seconds */
+  static final long RACY_INTERVAL_MILLIS = 2000;
+
+  private final File folder;
+
+  public DescriptorCache(File folder) {
+    this.folder = folder;
+  }
+
+  /** @return the cache in the 'descriptors' sub folder of Benerator's common cache folder
+   *  which is cleared by the '--clearCaches' command line option */
+  public static DescriptorCache getDefaultInstance() {
+    return new DescriptorCache(new File(ConfigUtil.commonCacheFolder(), "descriptors"));
+  }
+
+  public File getFolder() {
+    return folder;
+  }
+
+  /** Provides the parsed document of a descriptor file, either from the cache or by parsing
+   *  and caching it. Failures of reading or writing a cache entry only are logged,
+   *  then the file is parsed in the normal manner.
+   *  @param uri the URI of the descriptor file
+   *  @return the document with the location of each element as user data */
+  public Document parse(String uri) {
+    File descriptorFile = localFile(uri);
+    byte[] content = null;
+    String key;
+    if (descriptorFile != null) {
+      key = fileKey(uri, descriptorFile);
+    } else {
+      content = IOUtil.getBinaryContentOfUri(uri);
+      key = key(uri, content);
+    }
+    File file = new File(folder, key + ".bin");
+    if (file.exists()) {
+      try {
+        Document document = read(file, uri);
+        logger.debug("Using cached descriptor {}", uri);
+        return document;
+      } catch (Exception e) {
+        logger.warn("Ignoring unreadable descriptor cache file {}: {}", file, e.toString());
+      }
+    }
+    if (content == null) {
+      content = IOUtil.getBinaryContentOfUri(uri);
+    }
+    Document document = XMLUtil.parseWithLocators(new ByteArrayInputStream(content), true, null, uri, null, null);
+    if (descriptorFile == null || isStable(descriptorFile, key, uri)) {
+      try {
+        write(document, file);
+      } catch (Exception e) {
+        logger.warn("Failed to write descriptor cache file {}: {}", file, e.toString());
+      }
+    }
+    return document;
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static File localFile(String uri) {
+    if (!IOUtil.isFileUri(uri)) {
+      return null;
+    }
+    File file = new File(IOUtil.stripOffProtocolFromUri(uri));
+    return (file.isFile() ? file : null);
+  }
+
+  static String fileKey(String uri, File file) {
+    return key(uri, ("file:" + file.length() + ":" + file.lastModified()).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Tells if the content which was read belongs to the key and will not change unnoticed */
+  private static boolean isStable(File descriptorFile, String key, String uri) {
+    return (System.currentTimeMillis() - descriptorFile.lastModified() >= RACY_INTERVAL_MILLIS
+        && key.equals(fileKey(uri, descriptorFile)));
+  }
+
+  static String key(String uri, byte[] content) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(uri.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(content);
+      StringBuilder builder = new StringBuilder();
+      for (byte b : digest.digest()) {
+        builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return builder.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not supported", e);
+    }
+  }
+
+  private void write(Document document, File file) throws IOException {
+    Files.createDirectories(folder.toPath());
+    File tempFile = File.createTempFile(file.getName(), ".tmp", folder);
+    try {
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        writeElement(document.getDocumentElement(), out);
+      }
+      Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(tempFile.toPath());
+    }
+  }
+
+  private static void writeElement(Element element, DataOutputStream out) throws IOException {
+    writeString(element.getNamespaceURI(), out);
+    writeString(element.getTagName(), out);
+    NamedNodeMap attributes = element.getAttributes();
+    out.writeInt(attributes.getLength());
+    for (int i = 0; i < attributes.getLength(); i++) {
+      Attr attribute = (Attr) attributes.item(i);
+      writeString(attribute.getNamespaceURI(), out);
+      writeString(attribute.getName(), out);
+      writeString(attribute.getValue(), out);
+    }
+    TextFileLocation location = (TextFileLocation) element.getUserData(TextFileLocation.LOCATION_DATA_KEY);
+    out.writeBoolean(location != null);
+    if (location != null) {
+      out.writeInt(location.getStartLine());
+      out.writeInt(location.getStartColumn());
+      out.writeInt(location.getEndLine());
+      out.writeInt(location.getEndColumn());
+    }
+    for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+      switch (child.getNodeType()) {
+        case Node.ELEMENT_NODE:
+          out.writeByte(ELEMENT);
+          writeElement((Element) child, out);
+          break;
+        case Node.TEXT_NODE:
+          out.writeByte(TEXT);
+          writeString(child.getNodeValue(), out);
+          break;
+        case Node.CDATA_SECTION_NODE:
+          out.writeByte(CDATA);
+          writeString(child.getNodeValue(), out);
+          break;
+        case Node.COMMENT_NODE:
+          out.writeByte(COMMENT);
+          writeString(child.getNodeValue(), out);
+          break;
+        case Node.PROCESSING_INSTRUCTION_NODE:
+          out.writeByte(PROCESSING_INSTRUCTION);
+          writeString(((ProcessingInstruction) child).getTarget(), out);
+          writeString(((ProcessingInstruction) child).getData(), out);
+          break;
+        default:
+          throw new IOException("Unsupported node type: " + child.getNodeType());
+      }
+    }
+    out.writeByte(END);
+  }
+
+  private static Document read(File file, String uri) throws IOException {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+        throw new IOException("Unknown cache file format");
+      }
+      Document document = XMLUtil.createDocument();
+      document.setDocumentURI(uri);
+      document.appendChild(readElement(document, uri, in));
+      return document;
+    }
+  }
+
+  private static Element readElement(Document document, String uri, DataInputStream in) throws IOException {
+    Element element = document.createElementNS(readString(in), readString(in));
+    int attributeCount = in.readInt();
+    for (int i = 0; i < attributeCount; i++) {
+      element.setAttributeNS(readString(in), readString(in), readString(in));
+    }
+    if (in.readBoolean()) {
+      TextFileLocation location = new TextFileLocation(uri, in.readInt(), in.readInt(), in.readInt(), in.readInt());
+      element.setUserData(TextFileLocation.LOCATION_DATA_KEY, location, LOCATION_COPIER);
+    }
+    byte type;
+    while ((type = in.readByte()) != END) {
+      switch (type) {
+        case ELEMENT:
+          element.appendChild(readElement(document, uri, in));
+          break;
+        case TEXT:
+          element.appendChild(document.createTextNode(readString(in)));
+          break;
+        case CDATA:
+          element.appendChild(document.createCDATASection(readString(in)));
+          break;
+        case COMMENT:
+          element.appendChild(document.createComment(readString(in)));
+          break;
+        case PROCESSING_INSTRUCTION:
+          element.appendChild(document.createProcessingInstruction(readString(in), readString(in)));
+          break;
+        default:
+          throw new IOException("Illegal node type in cache file: " + type);
+      }
+    }
+    return element;
+  }
+
+  private static void writeString(String s, DataOutputStream out) throws IOException {
+    if (s == null) {
+      out.writeInt(-1);
+    } else {
+      byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+}
@@ -106,6 +106,8 @@ public class DescriptorConstants {
   public static final String ATT_DRIVER = "driver";
   public static final String ATT_URL = "url";
   public static final String ATT_ID = EL_ID;
+  public static final String ATT_INDEXES = "indexes";
+  public static final String ATT_OFF_HEAP = "offHeap";
   public static final String ATT_MESSAGE = "message";
   public static final String ATT_TARGET_TYPE = "targetType";
   public static final String ATT_SELECTOR = "selector";
@@ -152,8 +154,13 @@ public class DescriptorConstants {
   public static final String ATT_LAZY = "lazy";
   public static final String ATT_ACC_UNK_COL_TYPES = "acceptUnknownColumnTypes";
   public static final String ATT_FETCH_SIZE = "fetchSize";
+  public static final String ATT_PARTITIONS = "partitions";
+  public static final String ATT_PARTITION_FETCH_SIZE = "partitionFetchSize";
+  public static final String ATT_POOL_SIZE = "poolSize";
   public static final String ATT_BATCH = "batch";
   public static final String ATT_META_CACHE = "metaCache";
+  public static final String ATT_TABLE_META_CACHE = "tableMetaCache";
+  public static final String ATT_BULK_LOAD = "bulkLoad";
   public static final String ATT_CATALOG = "catalog";
   public static final String ATT_SCHEMA = "schema";
   public static final String ATT_ENVIRONMENT = "environment";
@@ -213,6 +220,7 @@ public class DescriptorConstants {
   public static final String ATT_NAMESPACE_AWARE = "namespaceAware";
   public static final String ATT_INPUT_URI = "inputUri";
   public static final String ATT_OUTPUT_URI = "outputUri";
+  public static final String ATT_STREAMING = "streaming";
 
   public static final Collection<String> CREATE_ENTITIES_EXT_SETUP = Collections.unmodifiableSet(
       CollectionUtil.toSet(ATT_PAGESIZE, ATT_THREADS, ATT_SENSOR, ATT_CONSUMER, ATT_ON_ERROR));
@@ -108,7 +108,8 @@ public BeneratorRootStatement parseDescriptorFile() {
     }
     Document document;
     try {
-      document = XMLUtil.parseWithLocators(uri);
+      document = (context.isDescriptorCache() ?
+          DescriptorCache.getDefaultInstance().parse(uri) : XMLUtil.parseWithLocators(uri));
     } catch (FileResourceNotFoundException e) {
       throw BeneratorExceptionFactory.getInstance().beneratorFileNotFound(uri);
     }
@@ -0,0 +1,138 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine;
+
+import com.rapiddweller.common.HF;
+import com.rapiddweller.common.time.ElapsedTimeFormatter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the progress of a running &lt;generate&gt;, &lt;iterate&gt; or &lt;transcode&gt; statement.
+ * The count is held in a {@link LongAdder}, so it can be incremented from several threads
+ * without contention.<br/><br/>
+ * Created: 19.10.2026 14:05:33
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class GenerationProgress implements GenerationProgressMBean {
+
+  private final String name;
+  private volatile Long requestedCount;
+  private final long startNanos;
+  private final LongAdder count;
+
+  private long lastSampleNanos;
+  private long lastSampleCount;
+  private volatile double currentThroughput;
+
+  public GenerationProgress(String name, Long requestedCount) {
+    this.name = name;
+    this.requestedCount = requestedCount;
+    this.startNanos = System.nanoTime();
+    this.count = new LongAdder();
+    this.lastSampleNanos = startNanos;
+    this.lastSampleCount = 0;
+    this.currentThroughput = 0;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /** @return the number of data sets to process, or null if it is not known in advance */
+  @Override
+  public Long getRequestedCount() {
+    return requestedCount;
+  }
+
+  /** Sets the number of data sets to process when it becomes known after the start, e.g. by a background query */
+  public void setRequestedCount(Long requestedCount) {
+    this.requestedCount = requestedCount;
+  }
+
+  public void increment() {
+    count.increment();
+  }
+
+  public void add(long n) {
+    count.add(n);
+  }
+
+  @Override
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getElapsedNanos() {
+    return System.nanoTime() - startNanos;
+  }
+
+  /** Calculates the current throughput from the count increase since the previous call.
+   *  This is meant to be called periodically by a single thread. */
+  public synchronized void sample() {
+    long now = System.nanoTime();
+    long currentCount = getCount();
+    long dt = now - lastSampleNanos;
+    if (dt > 0) {
+      currentThroughput = (currentCount - lastSampleCount) * 1E9 / dt;
+    }
+    lastSampleNanos = now;
+    lastSampleCount = currentCount;
+  }
+
+  /** @return the number of data sets processed per second between the two most recent calls to {@link #sample()} */
+  @Override
+  public double getCurrentThroughput() {
+    return currentThroughput;
+  }
+
+  /** @return the average number of data sets processed per second since start */
+  @Override
+  public double getAverageThroughput() {
+    long elapsed = getElapsedNanos();
+    return (elapsed > 0 ? getCount() * 1E9 / elapsed : 0);
+  }
+
+  /** Estimates the remaining time based on the average throughput.
+   *  @return the estimated number of seconds until completion or -1 if it cannot be estimated */
+  @Override
+  public long getEtaSeconds() {
+    if (requestedCount == null) {
+      return -1;
+    }
+    long remaining = requestedCount - getCount();
+    if (remaining <= 0) {
+      return 0;
+    }
+    double throughput = getAverageThroughput();
+    return (throughput > 0 ? (long) (remaining / throughput) : -1);
+  }
+
+  /** @return a human-readable progress report like
+   *  'customer: 1,200,000 of 10,000,000 (12%), 41,000/s current, 40,000/s avg., ETA 3 min 35 s' */
+  public String format() {
+    long currentCount = getCount();
+    StringBuilder builder = new StringBuilder(name).append(": ").append(HF.format(currentCount));
+    if (requestedCount != null) {
+      builder.append(" of ").append(HF.format(requestedCount));
+      if (requestedCount > 0) {
+        builder.append(" (").append(currentCount * 100 / requestedCount).append("%)");
+      }
+    }
+    builder.append(", ").append(HF.format((long) currentThroughput)).append("/s current, ");
+    builder.append(HF.format((long) getAverageThroughput())).append("/s avg.");
+    long eta = getEtaSeconds();
+    if (eta >= 0) {
+      builder.append(", ETA ").append(ElapsedTimeFormatter.format(eta * 1000));
+    }
+    return builder.toString();
+  }
+
+  @Override
+  public String toString() {
+    return name + ": " + getCount() + (requestedCount != null ? "/" + requestedCount : "");
+  }
+
+}
@@ -0,0 +1,18 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine;
+
+/**
+ * MBean interface for monitoring the progress of a running statement.<br/><br/>
+ * Created: 19.10.2026 15:41:07
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public interface GenerationProgressMBean {
+  String getName();
+  long getCount();
+  Long getRequestedCount();
+  double getCurrentThroughput();
+  double getAverageThroughput();
+  long getEtaSeconds();
+}
@@ -0,0 +1,85 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP server which provides Benerator's metrics in OpenMetrics text format
+ * at the path /metrics, so that running jobs can be scraped by Prometheus.<br/><br/>
+ * Created: 19.10.2026 14:52:27
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class MetricsServer implements Closeable {
+
+  private static final Logger logger = LoggerFactory.getLogger(MetricsServer.class);
+
+  public static final String PATH = "/metrics";
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  public MetricsServer(int port) {
+    try {
+      this.server = HttpServer.create(new InetSocketAddress(port), 0);
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Failed to open metrics port " + port, e);
+    }
+    this.executor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "Benerator-Metrics-Thread");
+      thread.setDaemon(true);
+      return thread;
+    });
+    server.setExecutor(executor);
+    server.createContext(PATH, this::handle);
+  }
+
+  public MetricsServer start() {
+    server.start();
+    logger.info("Serving metrics at http://localhost:{}{}", getPort(), PATH);
+    return this;
+  }
+
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try {
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(405, -1);
+        return;
+      }
+      byte[] body = new OpenMetricsFormatter().format().getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", OpenMetricsFormatter.CONTENT_TYPE);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+}
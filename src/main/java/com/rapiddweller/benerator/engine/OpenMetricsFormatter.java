@@ -0,0 +1,167 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine;
+
+import com.rapiddweller.benerator.sensor.CounterRepository;
+import com.rapiddweller.benerator.sensor.LatencyCounter;
+import com.rapiddweller.benerator.sensor.MemorySensor;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.Map;
+
+/**
+ * Renders the state of {@link BeneratorMonitor}, {@link CounterRepository}, {@link MemorySensor}
+ * and the {@link ProgressRegistry} in the OpenMetrics text format which is understood by Prometheus.<br/><br/>
+ * Created: 19.10.2026 14:31:50
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class OpenMetricsFormatter {
+
+  public static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+  private static final int[] PERCENTILES = { 50, 90, 99 };
+
+  private final StringBuilder out;
+
+  public OpenMetricsFormatter() {
+    this.out = new StringBuilder(4096);
+  }
+
+  public String format() {
+    out.setLength(0);
+    formatMonitor();
+    formatMemory();
+    formatLatencies();
+    formatProgress();
+    out.append("# EOF\n");
+    return out.toString();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void formatMonitor() {
+    BeneratorMonitor monitor = BeneratorMonitor.INSTANCE;
+    family("benerator_generated", "counter", "Total number of generated or iterated data sets");
+    sample("benerator_generated_total", null, monitor.getTotalGenerationCount());
+    family("benerator_throughput", "gauge", "Data sets per second, measured over the last half second");
+    sample("benerator_throughput", null, monitor.getCurrentThroughput());
+    family("benerator_jdbc_open", "gauge", "Open JDBC resources");
+    sample("benerator_jdbc_open", labels("resource", "connection"), monitor.getOpenConnectionCount());
+    sample("benerator_jdbc_open", labels("resource", "statement"), monitor.getOpenStatementCount());
+    sample("benerator_jdbc_open", labels("resource", "prepared_statement"), monitor.getOpenPreparedStatementCount());
+    sample("benerator_jdbc_open", labels("resource", "result_set"), monitor.getOpenResultSetCount());
+    family("benerator_jdbc_pool_connections", "gauge", "Connections held by database connection pools");
+    sample("benerator_jdbc_pool_connections", null, monitor.getPooledConnectionCount());
+    family("benerator_jdbc_pool_shared", "counter", "Threads which had to share a pooled connection");
+    sample("benerator_jdbc_pool_shared_total", null, monitor.getSharedPoolConnectionCount());
+    family("benerator_jdbc_pool_commits", "counter", "Coordinated commits of all connections of a pool");
+    sample("benerator_jdbc_pool_commits_total", null, monitor.getPoolCommitCount());
+  }
+
+  private void formatMemory() {
+    MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    MemorySensor sensor = MemorySensor.getInstance();
+    family("benerator_heap_used_bytes", "gauge", "Currently used heap memory");
+    sample("benerator_heap_used_bytes", null, heap.getUsed());
+    family("benerator_heap_committed_bytes", "gauge", "Currently committed heap memory");
+    sample("benerator_heap_committed_bytes", null, heap.getCommitted());
+    family("benerator_heap_max_used_bytes", "gauge", "Maximum used heap memory observed by the MemorySensor");
+    sample("benerator_heap_max_used_bytes", null, sensor.getMaxUsedHeapSize());
+    family("benerator_heap_max_committed_bytes", "gauge", "Maximum committed heap memory observed by the MemorySensor");
+    sample("benerator_heap_max_committed_bytes", null, sensor.getMaxCommittedHeapSize());
+  }
+
+  private void formatLatencies() {
+    family("benerator_latency_seconds", "summary", "Latencies tracked by the CounterRepository");
+    for (Map.Entry<String, LatencyCounter> entry : CounterRepository.getInstance().getCounters()) {
+      String name = entry.getKey();
+      LatencyCounter counter = entry.getValue();
+      for (int percentile : PERCENTILES) {
+        sample("benerator_latency_seconds", labels("name", name, "quantile", String.valueOf(percentile / 100.)),
+            counter.percentileLatencyNanos(percentile) / 1E9);
+      }
+      sample("benerator_latency_seconds_count", labels("name", name), counter.sampleCount());
+      sample("benerator_latency_seconds_sum", labels("name", name), counter.totalLatencyNanos() / 1E9);
+    }
+  }
+
+  private void formatProgress() {
+    Iterable<GenerationProgress> progresses = ProgressRegistry.getInstance().getActive();
+    family("benerator_progress_count", "gauge", "Number of data sets processed by a running statement");
+    for (GenerationProgress progress : progresses) {
+      sample("benerator_progress_count", labels("task", progress.getName()), progress.getCount());
+    }
+    family("benerator_progress_requested", "gauge", "Number of data sets requested from a running statement");
+    for (GenerationProgress progress : progresses) {
+      if (progress.getRequestedCount() != null) {
+        sample("benerator_progress_requested", labels("task", progress.getName()), progress.getRequestedCount());
+      }
+    }
+    family("benerator_progress_current_throughput", "gauge",
+        "Data sets per second of a running statement, measured over the last second");
+    for (GenerationProgress progress : progresses) {
+      sample("benerator_progress_current_throughput", labels("task", progress.getName()),
+          progress.getCurrentThroughput());
+    }
+    family("benerator_progress_throughput", "gauge", "Average data sets per second of a running statement");
+    for (GenerationProgress progress : progresses) {
+      sample("benerator_progress_throughput", labels("task", progress.getName()), progress.getAverageThroughput());
+    }
+    family("benerator_progress_eta_seconds", "gauge", "Estimated remaining time of a running statement");
+    for (GenerationProgress progress : progresses) {
+      long eta = progress.getEtaSeconds();
+      if (eta >= 0) {
+        sample("benerator_progress_eta_seconds", labels("task", progress.getName()), eta);
+      }
+    }
+  }
+
+  private void family(String name, String type, String help) {
+    out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+  }
+
+  private void sample(String name, String labels, long value) {
+    appendName(name, labels).append(value).append('\n');
+  }
+
+  private void sample(String name, String labels, double value) {
+    appendName(name, labels).append(value).append('\n');
+  }
+
+  private StringBuilder appendName(String name, String labels) {
+    out.append(name);
+    if (labels != null) {
+      out.append(labels);
+    }
+    return out.append(' ');
+  }
+
+  static String labels(String... namesAndValues) {
+    StringBuilder builder = new StringBuilder("{");
+    for (int i = 0; i < namesAndValues.length; i += 2) {
+      if (i > 0) {
+        builder.append(',');
+      }
+      builder.append(namesAndValues[i]).append("=\"");
+      escape(namesAndValues[i + 1], builder);
+      builder.append('"');
+    }
+    return builder.append('}').toString();
+  }
+
+  private static void escape(String value, StringBuilder builder) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '\\': builder.append("\\\\"); break;
+        case '"': builder.append("\\\""); break;
+        case '\n': builder.append("\\n"); break;
+        default: builder.append(c);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,145 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine;
+
+import com.rapiddweller.common.ThreadUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps track of the {@link GenerationProgress} of all running statements.
+ * A daemon thread samples their current throughput each second and logs a progress report
+ * at the interval configured by the system property {@value BeneratorOpts#OPTS_PROGRESS_INTERVAL}.
+ * Each progress is registered as MBean with the name 'benerator:type=progress,name=&lt;task&gt;'
+ * while it is running. If several running statements have the same name, the later ones get an
+ * additional key 'instance=&lt;n&gt;', so each progress has its own MBean.<br/><br/>
+ * Created: 19.10.2026 14:12:08
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class ProgressRegistry {
+
+  private static final Logger logger = LoggerFactory.getLogger(ProgressRegistry.class);
+
+  private static final int SAMPLE_INTERVAL_MILLIS = 1000;
+
+  private static final ProgressRegistry INSTANCE = new ProgressRegistry();
+
+  public static ProgressRegistry getInstance() {
+    return INSTANCE;
+  }
+
+  private final List<GenerationProgress> active;
+  private final Map<GenerationProgress, ObjectName> mBeanNames;
+
+  private ProgressRegistry() {
+    this.active = new CopyOnWriteArrayList<>();
+    this.mBeanNames = new ConcurrentHashMap<>();
+    ProgressThread thread = new ProgressThread();
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  public GenerationProgress start(String name, Long requestedCount) {
+    GenerationProgress progress = new GenerationProgress(name, requestedCount);
+    active.add(progress);
+    registerMBean(progress);
+    return progress;
+  }
+
+  public void finish(GenerationProgress progress) {
+    active.remove(progress);
+    unregisterMBean(progress);
+  }
+
+  public List<GenerationProgress> getActive() {
+    return Collections.unmodifiableList(new ArrayList<>(active));
+  }
+
+  public void clear() {
+    for (GenerationProgress progress : active) {
+      finish(progress);
+    }
+  }
+
+  /** Samples the current throughput of all running statements and logs their progress if requested. */
+  void update(boolean log) {
+    for (GenerationProgress progress : active) {
+      progress.sample();
+      if (log) {
+        logger.info("{}", progress.format());
+      }
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private synchronized void registerMBean(GenerationProgress progress) {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = objectName(progress, 1);
+      for (int instance = 2; server.isRegistered(name); instance++) {
+        name = objectName(progress, instance);
+      }
+      server.registerMBean(progress, name);
+      mBeanNames.put(progress, name);
+    } catch (Exception e) {
+      // monitoring must not break data generation
+      logger.debug("Failed to register progress MBean for {}", progress.getName(), e);
+    }
+  }
+
+  private synchronized void unregisterMBean(GenerationProgress progress) {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = mBeanNames.remove(progress);
+      if (name != null && server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+    } catch (Exception e) {
+      logger.debug("Failed to unregister progress MBean for {}", progress.getName(), e);
+    }
+  }
+
+  private static ObjectName objectName(GenerationProgress progress, int instance) throws Exception {
+    String name = "benerator:type=progress,name=" + ObjectName.quote(progress.getName());
+    return new ObjectName(instance > 1 ? name + ",instance=" + instance : name);
+  }
+
+  class ProgressThread extends Thread {
+
+    protected ProgressThread() {
+      super("Benerator-Progress-Thread");
+    }
+
+    @Override
+    public void run() {
+      try {
+        long lastLog = System.currentTimeMillis();
+        while (!isInterrupted()) {
+          ThreadUtil.sleepWithException(SAMPLE_INTERVAL_MILLIS);
+          long interval = BeneratorOpts.getProgressInterval() * 1000L;
+          long now = System.currentTimeMillis();
+          boolean log = (interval > 0 && now - lastLog >= interval);
+          if (log) {
+            lastLog = now;
+          }
+          update(log);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+}
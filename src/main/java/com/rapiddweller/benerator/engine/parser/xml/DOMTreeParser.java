@@ -41,6 +41,7 @@
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_INPUT_URI;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_NAMESPACE_AWARE;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_OUTPUT_URI;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_STREAMING;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.EL_DOMTREE;
 import static com.rapiddweller.benerator.engine.parser.xml.DescriptorParserUtil.getConstantStringAttributeAsExpression;
 import static com.rapiddweller.benerator.engine.parser.xml.DescriptorParserUtil.parseBooleanExpressionAttribute;
@@ -61,6 +62,7 @@ public class DOMTreeParser extends AbstractBeneratorDescriptorParser {
     ATTR_INFO.add(ATT_INPUT_URI, true, BeneratorErrorIds.SYN_BEAN_ID);
     ATTR_INFO.add(ATT_OUTPUT_URI, false, BeneratorErrorIds.SYN_BEAN_CLASS);
     ATTR_INFO.add(ATT_NAMESPACE_AWARE, false, BeneratorErrorIds.SYN_BEAN_SPEC);
+    ATTR_INFO.add(ATT_STREAMING, false, BeneratorErrorIds.SYN_BEAN_SPEC);
   }
 
   public DOMTreeParser() {
@@ -75,7 +77,8 @@ public DefineDOMTreeStatement doParse(
       Expression<String> inputUri = parseScriptableStringAttribute(ATT_INPUT_URI, element);
       Expression<String> outputUri = parseScriptableStringAttribute(ATT_OUTPUT_URI, element);
       Expression<Boolean> namespaceAware = parseBooleanExpressionAttribute(ATT_NAMESPACE_AWARE, element);
-      return new DefineDOMTreeStatement(id, inputUri, outputUri, namespaceAware, context.getResourceManager());
+      Expression<Boolean> streaming = parseBooleanExpressionAttribute(ATT_STREAMING, element);
+      return new DefineDOMTreeStatement(id, inputUri, outputUri, namespaceAware, streaming, context.getResourceManager());
     } catch (ConversionException e) {
       throw BeneratorExceptionFactory.getInstance().configurationError("Error parsing element", e);
     }
@@ -31,6 +31,7 @@
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
 import com.rapiddweller.benerator.factory.GenerationStepFactory;
+import com.rapiddweller.benerator.sensor.TranscodeEvent;
 import com.rapiddweller.common.ArrayBuilder;
 import com.rapiddweller.common.ArrayFormat;
 import com.rapiddweller.common.Context;
@@ -100,12 +101,25 @@ public boolean execute(BeneratorContext context) {
         GenerationStepFactory.createMutatingGenerationSteps(type, true, Uniqueness.NONE, context);
     try (GenerationStepSupport<Entity> support = new GenerationStepSupport<>(tableName, generationSteps)) {
       support.init(context);
+      TranscodeEvent event = new TranscodeEvent();
+      event.begin();
+      long rowCount = 0;
       try (DataIterator<Entity> iterator = ref.resolveReferences(parent.currentEntity(), source, context)) {
         DataContainer<Entity> container = new DataContainer<>();
         while ((container = iterator.next(container)) != null) {
           mutateAndTranscodeEntity(container.getData(), identity, support, context);
+          rowCount++;
         }
       }
+      event.end();
+      if (event.shouldCommit()) {
+        event.table = tableName;
+        event.cascade = true;
+        event.source = source.getId();
+        event.target = getTarget(context).getId();
+        event.rowCount = rowCount;
+        event.commit();
+      }
       return true;
     }
   }
@@ -30,6 +30,7 @@
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.engine.Statement;
+import com.rapiddweller.benerator.sensor.ConsumptionEvent;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 
 /**
@@ -62,12 +63,21 @@ public ConsumptionStatement(Consumer consumer, boolean start, boolean finish) {
   public boolean execute(BeneratorContext context) {
     if (consumer != null) {
       ProductWrapper<?> product = context.getCurrentProduct();
+      ConsumptionEvent event = new ConsumptionEvent();
+      event.begin();
       if (start) {
         consumer.startConsuming(product);
       }
       if (finish) {
         consumer.finishConsuming(product);
       }
+      event.end();
+      if (event.shouldCommit()) {
+        event.consumer = String.valueOf(consumer);
+        event.start = start;
+        event.finish = finish;
+        event.commit();
+      }
     }
     return true;
   }
@@ -30,14 +30,16 @@
 import com.rapiddweller.benerator.engine.ResourceManager;
 import com.rapiddweller.benerator.engine.Statement;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.storage.AbstractStorageSystem;
 import com.rapiddweller.platform.xml.DOMTree;
+import com.rapiddweller.platform.xml.StreamingXMLTree;
 import com.rapiddweller.common.Expression;
 import com.rapiddweller.script.expression.ExpressionUtil;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
 /**
- * {@link Statement} for creating a {@link DOMTree} element
+ * {@link Statement} for creating a {@link DOMTree} element, or a {@link StreamingXMLTree} in streaming mode,
  * and assigning it with context and resource manager.<br/><br/>
  * Created: 16.01.2014 16:07:06
  * @author Volker Bergmann
@@ -53,9 +55,16 @@ public class DefineDOMTreeStatement implements Statement {
   private final Expression<String> inputUri;
   private final Expression<String> outputUri;
   private final Expression<Boolean> namespaceAware;
+  private final Expression<Boolean> streaming;
 
   public DefineDOMTreeStatement(Expression<String> id, Expression<String> inputUri,
                                 Expression<String> outputUri, Expression<Boolean> namespaceAware, ResourceManager resourceManager) {
+    this(id, inputUri, outputUri, namespaceAware, null, resourceManager);
+  }
+
+  public DefineDOMTreeStatement(Expression<String> id, Expression<String> inputUri, Expression<String> outputUri,
+                                Expression<Boolean> namespaceAware, Expression<Boolean> streaming,
+                                ResourceManager resourceManager) {
     if (id == null) {
       throw BeneratorExceptionFactory.getInstance().configurationError("No DOMTree id defined");
     }
@@ -63,6 +72,7 @@ public DefineDOMTreeStatement(Expression<String> id, Expression<String> inputUri
     this.inputUri = inputUri;
     this.outputUri = outputUri;
     this.namespaceAware = namespaceAware;
+    this.streaming = streaming;
     this.resourceManager = resourceManager;
   }
 
@@ -71,15 +81,27 @@ public boolean execute(BeneratorContext context) {
     logger.debug("Instantiating database with id '{}'", id);
     String idValue = id.evaluate(context);
     String inputUriValue = ExpressionUtil.evaluate(inputUri, context);
-    DOMTree domTree = new DOMTree(inputUriValue, context);
-
     String outputUriValue = ExpressionUtil.evaluate(outputUri, context);
-    if (outputUriValue != null) {
-      domTree.setOutputUri(outputUriValue);
-    }
     Boolean namespaceAwareValue = ExpressionUtil.evaluate(namespaceAware, context);
-    if (namespaceAware != null) {
-      domTree.setNamespaceAware(namespaceAwareValue);
+    AbstractStorageSystem domTree;
+    if (Boolean.TRUE.equals(ExpressionUtil.evaluate(streaming, context))) {
+      StreamingXMLTree streamingTree = new StreamingXMLTree(inputUriValue, context);
+      if (outputUriValue != null) {
+        streamingTree.setOutputUri(outputUriValue);
+      }
+      if (namespaceAwareValue != null) {
+        streamingTree.setNamespaceAware(namespaceAwareValue);
+      }
+      domTree = streamingTree;
+    } else {
+      DOMTree tree = new DOMTree(inputUriValue, context);
+      if (outputUriValue != null) {
+        tree.setOutputUri(outputUriValue);
+      }
+      if (namespaceAwareValue != null) {
+        tree.setNamespaceAware(namespaceAwareValue);
+      }
+      domTree = tree;
     }
 
     // register this object on all relevant managers and in the context
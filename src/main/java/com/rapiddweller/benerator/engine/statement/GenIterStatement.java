@@ -29,7 +29,13 @@
 import com.rapiddweller.benerator.Generator;
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.engine.BeneratorMonitor;
+import com.rapiddweller.benerator.engine.GenerationProgress;
+import com.rapiddweller.benerator.engine.ProgressRegistry;
 import com.rapiddweller.benerator.engine.Statement;
+import com.rapiddweller.benerator.sensor.CounterRepository;
+import com.rapiddweller.benerator.sensor.GenerateEvent;
+import com.rapiddweller.benerator.sensor.PageEventListener;
+import com.rapiddweller.benerator.sensor.StopWatch;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 import com.rapiddweller.common.Context;
 import com.rapiddweller.common.ErrorHandler;
@@ -37,11 +43,9 @@
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.StringUtil;
 import com.rapiddweller.common.time.ElapsedTimeFormatter;
-import com.rapiddweller.contiperf.StopWatch;
 import com.rapiddweller.profile.Profiler;
 import com.rapiddweller.profile.Profiling;
 import com.rapiddweller.common.Expression;
-import com.rapiddweller.stat.CounterRepository;
 import com.rapiddweller.task.PageListener;
 import com.rapiddweller.task.TaskExecutor;
 import org.slf4j.Logger;
@@ -150,18 +154,44 @@ public BeneratorContext getChildContext() {
   @Override
   public boolean execute(BeneratorContext context) {
     long c0 = BeneratorMonitor.INSTANCE.getTotalGenerationCount();
+    GenerateEvent event = new GenerateEvent();
+    event.begin();
     StopWatch stopWatch = new StopWatch(sensor);
     if (!beInitialized(context)) {
       task.reset();
     }
     Long requestedCount = generateCount(childContext);
-    executeTask(requestedCount, minCount.evaluate(childContext), pageSize.evaluate(childContext),
-        evaluatePageListeners(childContext), getErrorHandler(childContext));
+    List<PageListener> pageListeners = evaluatePageListeners(childContext);
+    if (PageEventListener.isActive()) {
+      pageListeners.add(new PageEventListener(sensor));
+    }
+    GenerationProgress progress = null;
+    if (!isSubCreator) {
+      progress = ProgressRegistry.getInstance().start(sensor, requestedCount);
+      task.setProgress(progress);
+    }
+    try {
+      executeTask(requestedCount, minCount.evaluate(childContext), pageSize.evaluate(childContext),
+          pageListeners, getErrorHandler(childContext));
+    } finally {
+      if (progress != null) {
+        task.setProgress(null);
+        ProgressRegistry.getInstance().finish(progress);
+      }
+    }
     if (!isSubCreator) {
       close();
     }
     int dt = stopWatch.stop();
     long dc = BeneratorMonitor.INSTANCE.getTotalGenerationCount() - c0;
+    event.end();
+    if (event.shouldCommit()) {
+      event.task = sensor;
+      event.iterate = iterate;
+      event.count = dc;
+      event.throughput = (dt > 0 ? dc * 1000. / dt : 0);
+      event.commit();
+    }
     CounterRepository.getInstance().getCounter(sensor).setSampleCount(dc);
     if (Profiling.isEnabled()) {
       Profiler.defaultInstance().addSample(profilerPath, dt);
@@ -31,6 +31,7 @@
 import com.rapiddweller.benerator.consumer.ConsumerChain;
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.engine.BeneratorMonitor;
+import com.rapiddweller.benerator.engine.GenerationProgress;
 import com.rapiddweller.benerator.engine.CurrentProductGeneration;
 import com.rapiddweller.benerator.engine.LifeCycleHolder;
 import com.rapiddweller.benerator.engine.ResourceManager;
@@ -75,6 +76,7 @@ public class GenIterTask implements Task, PageListener, ResourceManager, Message
   private final AtomicBoolean initialized;
   private Consumer consumer;
   private String message;
+  private volatile GenerationProgress progress;
 
 
   // constructor -------------------------------------------------------------------------------------------------------
@@ -131,6 +133,10 @@ public void init(BeneratorContext context) {
     }
   }
 
+  public void setProgress(GenerationProgress progress) {
+    this.progress = progress;
+  }
+
   public String getProductName() {
     return productName;
   }
@@ -181,6 +187,10 @@ public TaskResult execute(Context ctx, ErrorHandler errorHandler) {
       }
       if (success) {
         BeneratorMonitor.INSTANCE.countGenerations(1);
+        GenerationProgress progress = this.progress;
+        if (progress != null) {
+          progress.increment();
+        }
       }
       enqueueResets();
       Thread.yield();
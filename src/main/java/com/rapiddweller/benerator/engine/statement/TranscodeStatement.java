@@ -29,9 +29,12 @@
 import com.rapiddweller.benerator.composite.GenerationStepSupport;
 import com.rapiddweller.benerator.composite.GenerationStep;
 import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.engine.GenerationProgress;
+import com.rapiddweller.benerator.engine.ProgressRegistry;
 import com.rapiddweller.benerator.engine.Statement;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
 import com.rapiddweller.benerator.factory.GenerationStepFactory;
+import com.rapiddweller.benerator.sensor.TranscodeEvent;
 import com.rapiddweller.common.Context;
 import com.rapiddweller.common.ErrorHandler;
 import com.rapiddweller.format.DataContainer;
@@ -48,6 +51,7 @@
 import com.rapiddweller.model.data.ReferenceDescriptor;
 import com.rapiddweller.model.data.Uniqueness;
 import com.rapiddweller.platform.db.AbstractDBSystem;
+import com.rapiddweller.platform.db.BackgroundCount;
 import com.rapiddweller.common.Expression;
 import com.rapiddweller.script.expression.ExpressionUtil;
 import org.slf4j.LoggerFactory;
@@ -159,33 +163,56 @@ private void transcodeTable(AbstractDBSystem source, AbstractDBSystem target, lo
         GenerationStepFactory.createMutatingGenerationSteps(type, true, Uniqueness.NONE, context);
     try (GenerationStepSupport<Entity> cavs = new GenerationStepSupport<>(tableName, generationSteps)) {
       cavs.init(context);
-      DataIterator<Entity> iterator = iterable.iterator();
-      mapper.registerSource(source.getId(), source.getConnection());
+      TranscodeEvent event = new TranscodeEvent();
+      event.begin();
+      GenerationProgress progress = ProgressRegistry.getInstance().start("transcode " + tableName, null);
+      BackgroundCount count = null;
+      if (selector == null) {
+        count = source.countEntitiesInBackground(tableName, context.getExecutorService(), progress::setRequestedCount);
+      }
       long rowCount = 0;
-      DataContainer<Entity> container = new DataContainer<>();
-      while ((container = iterator.next(container)) != null) {
-        Entity sourceEntity = container.getData();
-        Object sourcePK = sourceEntity.idComponentValues();
-        boolean mapNk = parent.needsNkMapping(tableName);
-        String nk = null;
-        if (mapNk) {
-          nk = mapper.getNaturalKey(source.getId(), identity, sourcePK);
+      try {
+        DataIterator<Entity> iterator = iterable.iterator();
+        mapper.registerSource(source.getId(), source.getConnection());
+        DataContainer<Entity> container = new DataContainer<>();
+        while ((container = iterator.next(container)) != null) {
+          Entity sourceEntity = container.getData();
+          Object sourcePK = sourceEntity.idComponentValues();
+          boolean mapNk = parent.needsNkMapping(tableName);
+          String nk = null;
+          if (mapNk) {
+            nk = mapper.getNaturalKey(source.getId(), identity, sourcePK);
+          }
+          Entity targetEntity = new Entity(sourceEntity);
+          cavs.apply(targetEntity, context);
+          Object targetPK = targetEntity.idComponentValues();
+          transcodeForeignKeys(targetEntity, source, context);
+          mapper.store(source.getId(), identity, nk, sourcePK, targetPK);
+          target.store(targetEntity);
+          logger.debug("transcoded {} to {}", sourceEntity, targetEntity);
+          cascade(sourceEntity, context);
+          rowCount++;
+          progress.increment();
+          if (rowCount % pageSize == 0) {
+            target.flush();
+          }
         }
-        Entity targetEntity = new Entity(sourceEntity);
-        cavs.apply(targetEntity, context);
-        Object targetPK = targetEntity.idComponentValues();
-        transcodeForeignKeys(targetEntity, source, context);
-        mapper.store(source.getId(), identity, nk, sourcePK, targetPK);
-        target.store(targetEntity);
-        logger.debug("transcoded {} to {}", sourceEntity, targetEntity);
-        cascade(sourceEntity, context);
-        rowCount++;
-        if (rowCount % pageSize == 0) {
-          target.flush();
+        target.flush();
+      } finally {
+        if (count != null) {
+          count.cancel();
         }
+        ProgressRegistry.getInstance().finish(progress);
+      }
+      event.end();
+      if (event.shouldCommit()) {
+        event.table = tableName;
+        event.source = source.getId();
+        event.target = target.getId();
+        event.rowCount = rowCount;
+        event.commit();
       }
-      target.flush();
-      logger.info("Finished transcoding {} rows of table {}", source.countEntities(tableName), tableName);
+      logger.info("Finished transcoding {} rows of table {}", rowCount, tableName);
     }
   }
 
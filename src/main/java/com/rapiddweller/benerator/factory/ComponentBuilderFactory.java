@@ -42,9 +42,11 @@
 import com.rapiddweller.benerator.distribution.Distribution;
 import com.rapiddweller.benerator.distribution.SequenceManager;
 import com.rapiddweller.benerator.distribution.sequence.ExpandSequence;
+import com.rapiddweller.benerator.distribution.sequence.RandomSequence;
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.engine.expression.ScriptExpression;
 import com.rapiddweller.benerator.sample.ConstantGenerator;
+import com.rapiddweller.benerator.sample.LongIdPoolGenerator;
 import com.rapiddweller.benerator.wrapper.AsIntegerGeneratorWrapper;
 import com.rapiddweller.benerator.wrapper.DataSourceGenerator;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
@@ -64,6 +66,7 @@
 import com.rapiddweller.model.data.SimpleTypeDescriptor;
 import com.rapiddweller.model.data.TypeDescriptor;
 import com.rapiddweller.model.data.Uniqueness;
+import com.rapiddweller.platform.db.AbstractDBSystem;
 import com.rapiddweller.common.Expression;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
@@ -208,8 +211,8 @@ static ComponentBuilder<?> createReferenceBuilder(ReferenceDescriptor descriptor
       }
     }
 
-    // apply distribution if necessary
-    if (distribution != null) {
+    // apply distribution if necessary (an id pool generator already provides a random distribution)
+    if (distribution != null && !(generator instanceof LongIdPoolGenerator)) {
       generator = new DistributingGenerator(generator, distribution, unique);
     }
 
@@ -278,6 +281,15 @@ private static Generator<?> createRefBuilderForStorageSystem(
       generator = new DataSourceGenerator(sourceSystem.query(selectorToUse, true, context));
     } else {
       String targetTypeName = descriptor.getTargetType();
+      boolean random = (distribution == null ? !context.isDefaultOneToOne() : distribution instanceof RandomSequence);
+      if (selectorToUse == null && random && !DescriptorUtil.isUnique(descriptor, context)
+          && sourceSystem instanceof AbstractDBSystem) {
+        // random references to a table with an integral primary key are served from a shared id pool
+        Generator<?> poolGenerator = ((AbstractDBSystem) sourceSystem).createIdPoolGenerator(targetTypeName);
+        if (poolGenerator != null) {
+          return poolGenerator;
+        }
+      }
       generator = new DataSourceGenerator(sourceSystem.queryEntityIds(
           targetTypeName, selectorToUse, context)); // TODO query by targetComponent
       if (selectorToUse == null && distribution == null) {
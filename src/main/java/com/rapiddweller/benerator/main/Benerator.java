@@ -34,8 +34,11 @@
 import com.rapiddweller.benerator.engine.BeneratorResult;
 import com.rapiddweller.benerator.engine.BeneratorRootContext;
 import com.rapiddweller.benerator.engine.DefaultBeneratorFactory;
+import com.rapiddweller.benerator.engine.DescriptorCache;
 import com.rapiddweller.benerator.engine.DescriptorRunner;
+import com.rapiddweller.benerator.engine.MetricsServer;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.sensor.JfrRecorder;
 import com.rapiddweller.benerator.sensor.Profiling;
 import com.rapiddweller.common.Assert;
 import com.rapiddweller.common.ExceptionUtil;
@@ -96,8 +99,12 @@ public class Benerator {
       "  --list <type>          List the available environments or systems. ",
       "                         <type> may be env, db or kafka.",
       "  --clearCaches          Clear all caches",
+      "  --descriptorCache      Cache parsed descriptor files for faster startup",
       "  --mode <spec>          Activate Benerator mode strict, lenient or turbo ",
-      "                         (default: lenient)"
+      "                         (default: lenient)",
+      "  --jfr <file>           Record a JDK Flight Recorder file with Benerator events",
+      "  --metricsPort <port>   Serve metrics in OpenMetrics format at",
+      "                         http://localhost:<port>/metrics"
   };
 
   private static BeneratorMode mode = BeneratorMode.LENIENT;
@@ -189,7 +196,11 @@ public static void run(BeneratorConfig config) {
     if (run) {
       checkComponents();
       Benerator.setMode(config.getMode());
-      new Benerator().runFile(config.getFile());
+      try (JfrRecorder recorder = (config.getJfr() != null ? new JfrRecorder(config.getJfr()).start() : null);
+           MetricsServer metricsServer =
+               (config.getMetricsPort() != null ? new MetricsServer(config.getMetricsPort()).start() : null)) {
+        new Benerator().runFile(config.getFile(), config.isDescriptorCache());
+      }
     }
   }
 
@@ -247,6 +258,13 @@ private static void checkComponents() {
   }
 
   public void runFile(String filename) {
+    runFile(filename, false);
+  }
+
+  /** Runs a descriptor file.
+   *  @param filename the URI of the file
+   *  @param descriptorCache tells if parsed descriptor files are read from and stored in the {@link DescriptorCache} */
+  public void runFile(String filename, boolean descriptorCache) {
     // log separator in order to distinguish benerator runs in the log file
     logger.info("-------------------------------------------------------------" +
         "-----------------------------------------------------------");
@@ -257,6 +275,7 @@ public void runFile(String filename) {
     printer.printStd("Running file " + filename);
     BeneratorUtil.checkSystem(printer);
     BeneratorRootContext context = BeneratorFactory.getInstance().createRootContext(IOUtil.getParentUri(filename));
+    context.setDescriptorCache(descriptorCache);
     try (DescriptorRunner runner = new DescriptorRunner(filename, context)) {
       runner.run();
       BeneratorUtil.logConfig("Max. committed heap size: " + new KiloFormatter(1024).format(memProfiler.getMaxCommittedHeapSize()) + "B");
@@ -277,8 +296,11 @@ protected static CommandLineParser createCommandLineParser() {
     CommandLineParser p = new CommandLineParser();
     p.addOption("list", "--list", null);
     p.addFlag("clearCaches", "--clearCaches", null);
+    p.addFlag("descriptorCache", "--descriptorCache", null);
     p.addOption("mode", "--mode", "-m");
     p.addFlag("exception", "--exception", null);
+    p.addOption("jfr", "--jfr", null);
+    p.addOption("metricsPort", "--metricsPort", null);
     p.addArgument("file", false);
     return p;
   }
@@ -15,17 +15,23 @@
 public class BeneratorConfig extends CommandLineConfig {
 
   private boolean clearCaches;
+  private boolean descriptorCache;
   private BeneratorMode mode;
   private String list;
   private String file;
   private boolean exception;
+  private String jfr;
+  private Integer metricsPort;
 
   public BeneratorConfig() {
     this.clearCaches = false;
+    this.descriptorCache = false;
     this.mode = BeneratorMode.LENIENT;
     this.list = null;
     this.file = "benerator.xml";
     this.exception = false;
+    this.jfr = null;
+    this.metricsPort = null;
   }
 
   public String getList() {
@@ -49,6 +55,14 @@ public void setClearCaches(boolean clearCaches) {
     this.clearCaches = clearCaches;
   }
 
+  public boolean isDescriptorCache() {
+    return descriptorCache;
+  }
+
+  public void setDescriptorCache(boolean descriptorCache) {
+    this.descriptorCache = descriptorCache;
+  }
+
   public BeneratorMode getMode() {
     return mode;
   }
@@ -65,6 +79,22 @@ public void setException(boolean exception) {
     this.exception = exception;
   }
 
+  public String getJfr() {
+    return jfr;
+  }
+
+  public void setJfr(String jfr) {
+    this.jfr = jfr;
+  }
+
+  public Integer getMetricsPort() {
+    return metricsPort;
+  }
+
+  public void setMetricsPort(Integer metricsPort) {
+    this.metricsPort = metricsPort;
+  }
+
   public String getFile() {
     return file;
   }
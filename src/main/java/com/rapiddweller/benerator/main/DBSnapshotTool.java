@@ -29,6 +29,7 @@
 import com.rapiddweller.benerator.Consumer;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.common.FileUtil;
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.NumberUtil;
 import com.rapiddweller.common.RoundedNumberFormat;
@@ -48,6 +49,25 @@
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
 /**
  * Creates a snapshot of a database schema and exports it in DbUnit XML file format.
  * @author Volker Bergmann
@@ -69,6 +89,10 @@ public class DBSnapshotTool {
   public static final String DB_USER = "dbUser";
   public static final String FORMAT = "format";
   public static final String DIALECT = "dialect";
+  public static final String THREADS = "threads";
+
+  /** Minimum number of rows per thread for splitting a table into key ranges in parallel export */
+  private static final long MIN_PARTITION_ROWS = 100000;
 
   private static final Logger logger = LoggerFactory.getLogger(DBSnapshotTool.class);
 
@@ -101,12 +125,25 @@ public static void main(String[] args) {
     String dbCatalog = System.getProperty(DB_CATALOG);
     String dbSchema = System.getProperty(DB_SCHEMA);
     String dialect = System.getProperty(DIALECT);
+    int threads = parseThreads(System.getProperty(THREADS));
 
     logger.info("Exporting data of database '{}}' with driver '{}' as user '{}'{}'{} in {} format to file {}",
         dbUrl, dbDriver, dbUser, (dbSchema != null ? " using schema '" + dbSchema + "'" : ""),
         (dbCatalog != null ? " using catalog '" + dbCatalog + "'" : ""), format, filename);
 
-	export(dbUrl, dbDriver, dbCatalog, dbSchema, dbUser, dbPassword, filename, format, dialect);
+	export(dbUrl, dbDriver, dbCatalog, dbSchema, dbUser, dbPassword, filename, SystemInfo.getFileEncoding(),
+        format, dialect, null, threads);
+  }
+
+  private static int parseThreads(String spec) {
+    if (StringUtil.isEmpty(spec)) {
+      return 1;
+    }
+    try {
+      return Integer.parseInt(spec.trim());
+    } catch (NumberFormatException e) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("Illegal thread count: " + spec);
+    }
   }
 
   private static String defaultFilename(String format) {
@@ -128,14 +165,28 @@ public static void export(String dbUrl, String dbDriver, String dbCatalog, Strin
   public static void export(String dbUrl, String dbDriver, String dbCatalog, String dbSchema,
                             String dbUser, String dbPassword, String filename, String encoding, String format, String dialect,
                             ProgressMonitor monitor) {
+    export(dbUrl, dbDriver, dbCatalog, dbSchema, dbUser, dbPassword, filename, encoding, format, dialect, monitor, 1);
+  }
+
+  /** Exports a database snapshot. With more than one thread, tables and key ranges of large tables
+   *  are read concurrently on separate connections and written to part files which are merged
+   *  in dependency order afterwards. This is supported for DbUnit and SQL format,
+   *  XLS snapshots are always exported sequentially. Since each connection reads in its own transaction,
+   *  the parts of a parallel export do not share a common snapshot of the database. */
+  public static void export(String dbUrl, String dbDriver, String dbCatalog, String dbSchema,
+                            String dbUser, String dbPassword, String filename, String encoding, String format, String dialect,
+                            ProgressMonitor monitor, int threads) {
     if (dbUser == null) {
       logger.warn("No JDBC user specified");
     }
+    if (threads < 1) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("Illegal thread count: " + threads);
+    }
     String lineSeparator = SystemInfo.getLineSeparator();
     long startTime = System.currentTimeMillis();
 
     Consumer exporter = null;
-    int count = 0;
+    long count = 0;
     try (DefaultDBSystem db = new DefaultDBSystem("db", dbUrl, dbDriver, dbUser, dbPassword, new DataModel())) {
       // connect DB
       if (dbSchema != null) {
@@ -145,47 +196,34 @@ public static void export(String dbUrl, String dbDriver, String dbCatalog, Strin
 		db.setCatalog(dbCatalog);
 	  }
       db.setDynamicQuerySupported(false);
-
-      // create exporter
-      if (DBUNIT_FORMAT.equalsIgnoreCase(format)) {
-        exporter = new DbUnitEntityExporter(filename, encoding);
-      } else if (XLS_FORMAT.equals(format)) {
-        exporter = new XLSEntityExporter(filename);
-      } else if (SQL_FORMAT.equals(format)) {
-        if (dialect == null) {
-          dialect = db.getDialect().getDbType();
-        }
-        exporter = new SQLEntityExporter(filename, dialect, lineSeparator, encoding);
-      } else {
-        throw BeneratorExceptionFactory.getInstance().illegalArgument("Unknown format: " + format);
+      if (SQL_FORMAT.equals(format) && dialect == null) {
+        dialect = db.getDialect().getDbType();
       }
 
       // export data
       TypeDescriptor[] descriptors = db.getTypeDescriptors();
-      logger.info("Starting export");
-      for (TypeDescriptor descriptor : descriptors) {
-        String note = "Exporting table " + descriptor.getName();
-        if (monitor != null) {
-          monitor.setNote(note);
-          if (monitor.isCanceled()) {
-            throw BeneratorExceptionFactory.getInstance().operationCancelled("Export cancelled");
-          }
-        }
-        logger.info(note);
-        Thread.yield();
-        DataIterator<Entity> source = db.queryEntities(descriptor.getName(), null, null).iterator();
-        DataContainer<Entity> container = new DataContainer<>();
-        ProductWrapper<Entity> wrapper = new ProductWrapper<>();
-        while ((container = source.next(container)) != null) {
-          Entity entity = container.getData();
-          wrapper.wrap(entity);
-          exporter.startConsuming(wrapper);
-          wrapper.wrap(entity);
-          exporter.finishConsuming(wrapper);
-          count++;
+      if (threads > 1 && supportsParallelExport(format, encoding)) {
+        logger.info("Starting parallel export with {} threads", threads);
+        count = exportInParallel(db, descriptors, filename, encoding, format, dialect, lineSeparator, threads, monitor);
+      } else {
+        if (threads > 1) {
+          logger.info("Exporting sequentially, since parallel export is not supported for {} format in {} encoding",
+              format, encoding);
         }
-        if (monitor != null) {
-          monitor.advance();
+        exporter = createExporter(filename, encoding, format, dialect, lineSeparator, false);
+        logger.info("Starting export");
+        for (TypeDescriptor descriptor : descriptors) {
+          String note = "Exporting table " + descriptor.getName();
+          if (monitor != null) {
+            monitor.setNote(note);
+            checkCanceled(monitor);
+          }
+          logger.info(note);
+          Thread.yield();
+          count += exportTable(db, descriptor.getName(), null, exporter);
+          if (monitor != null) {
+            monitor.advance();
+          }
         }
       }
       long duration = System.currentTimeMillis() - startTime;
@@ -193,11 +231,219 @@ public static void export(String dbUrl, String dbDriver, String dbCatalog, Strin
         logger.warn("No entities found for snapshot.");
       } else if (logger.isInfoEnabled()) {
         logger.info("Exported {} entities in {} ms ({} p.h.)", NumberUtil.format(count, 0),
-            RoundedNumberFormat.format(duration, 0), RoundedNumberFormat.format(count * 3600000L / duration, 0));
+            RoundedNumberFormat.format(duration, 0), RoundedNumberFormat.format(count * 3600000L / Math.max(1, duration), 0));
       }
     } finally {
       IOUtil.close(exporter);
     }
   }
 
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static Consumer createExporter(String filename, String encoding, String format, String dialect,
+                                         String lineSeparator, boolean fragment) {
+    if (DBUNIT_FORMAT.equalsIgnoreCase(format)) {
+      DbUnitEntityExporter exporter = new DbUnitEntityExporter(filename, encoding);
+      exporter.setFragment(fragment);
+      return exporter;
+    } else if (XLS_FORMAT.equals(format)) {
+      return new XLSEntityExporter(filename);
+    } else if (SQL_FORMAT.equals(format)) {
+      return new SQLEntityExporter(filename, dialect, lineSeparator, encoding);
+    } else {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("Unknown format: " + format);
+    }
+  }
+
+  private static long exportTable(DefaultDBSystem db, String tableName, String condition, Consumer exporter) {
+    long count = 0;
+    DataIterator<Entity> source = db.queryEntities(tableName, condition, null).iterator();
+    try {
+      DataContainer<Entity> container = new DataContainer<>();
+      ProductWrapper<Entity> wrapper = new ProductWrapper<>();
+      while ((container = source.next(container)) != null) {
+        Entity entity = container.getData();
+        wrapper.wrap(entity);
+        exporter.startConsuming(wrapper);
+        wrapper.wrap(entity);
+        exporter.finishConsuming(wrapper);
+        count++;
+      }
+    } finally {
+      IOUtil.close(source);
+    }
+    return count;
+  }
+
+  private static void checkCanceled(ProgressMonitor monitor) {
+    if (monitor != null && monitor.isCanceled()) {
+      throw BeneratorExceptionFactory.getInstance().operationCancelled("Export cancelled");
+    }
+  }
+
+  // parallel export -------------------------------------------------------------------------------------------------
+
+  /** Part files are concatenated byte-wise, so DbUnit parts need an encoding in which the XML markup is ASCII. */
+  private static boolean supportsParallelExport(String format, String encoding) {
+    if (SQL_FORMAT.equals(format)) {
+      return true;
+    } else if (DBUNIT_FORMAT.equalsIgnoreCase(format)) {
+      return (encoding != null && Charset.isSupported(encoding) && "<".getBytes(Charset.forName(encoding)).length == 1);
+    } else {
+      return false;
+    }
+  }
+
+  private static long exportInParallel(DefaultDBSystem db, TypeDescriptor[] descriptors, String filename,
+        String encoding, String format, String dialect, String lineSeparator, int threads, ProgressMonitor monitor) {
+    // the main thread keeps the connection with which it has read the metadata, so each worker needs one more
+    db.setPoolSize(threads + 1);
+    File target = new File(filename).getAbsoluteFile();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<TableExport> tables = new ArrayList<>(descriptors.length);
+    File partDirectory = null;
+    try {
+      partDirectory = Files.createTempDirectory(target.getParentFile().toPath(), target.getName() + ".parts").toFile();
+      // plan all tables concurrently, each table submits its parts when its size is known
+      for (TypeDescriptor descriptor : descriptors) {
+        TableExport table = new TableExport(descriptor.getName(), new File(partDirectory, String.valueOf(tables.size())));
+        table.planning = executor.submit(() -> table.plan(db, threads, executor,
+            () -> createExporter(table.nextPartFile().getPath(), encoding, format, dialect, lineSeparator, true), monitor));
+        tables.add(table);
+      }
+      // wait for all parts and merge them in dependency order
+      long count = 0;
+      List<File> partFiles = new ArrayList<>();
+      for (TableExport table : tables) {
+        await(table.planning, monitor);
+        for (Future<?> part : table.parts) {
+          await(part, monitor);
+        }
+        count += table.rowCount.get();
+        partFiles.addAll(table.partFiles);
+      }
+      merge(partFiles, target, format, encoding);
+      return count;
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error writing snapshot file " + target, e);
+    } finally {
+      executor.shutdownNow();
+      if (partDirectory != null) {
+        FileUtil.deleteDirectory(partDirectory);
+      }
+    }
+  }
+
+  private static void await(Future<?> future, ProgressMonitor monitor) {
+    try {
+      while (true) {
+        checkCanceled(monitor);
+        try {
+          future.get(1, TimeUnit.SECONDS);
+          return;
+        } catch (TimeoutException e) {
+          // check for cancellation and continue waiting
+        }
+      }
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Snapshot export failed", cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw BeneratorExceptionFactory.getInstance().operationCancelled("Export interrupted");
+    }
+  }
+
+  private static void merge(List<File> partFiles, File target, String format, String encoding) throws IOException {
+    boolean dbUnit = DBUNIT_FORMAT.equalsIgnoreCase(format);
+    try (OutputStream out = new BufferedOutputStream(new FileOutputStream(target))) {
+      if (dbUnit) {
+        out.write(DbUnitEntityExporter.fragmentHeader(encoding).getBytes(encoding));
+      }
+      for (File partFile : partFiles) {
+        if (partFile.exists()) {
+          Files.copy(partFile.toPath(), out);
+        }
+      }
+      if (dbUnit) {
+        out.write(DbUnitEntityExporter.fragmentFooter().getBytes(encoding));
+      }
+    }
+  }
+
+  /** Exports a table in one or more parts, tables with at least {@link #MIN_PARTITION_ROWS} rows per thread
+   *  and a single-column integral primary key are split into key ranges. */
+  private static class TableExport {
+
+    final String tableName;
+    final File partPrefix;
+    final List<File> partFiles;
+    final List<Future<?>> parts;
+    final AtomicLong rowCount;
+    final long startTime;
+    Future<?> planning;
+    private int pendingParts;
+
+    TableExport(String tableName, File partPrefix) {
+      this.tableName = tableName;
+      this.partPrefix = partPrefix;
+      this.partFiles = new ArrayList<>();
+      this.parts = new ArrayList<>();
+      this.rowCount = new AtomicLong();
+      this.startTime = System.currentTimeMillis();
+    }
+
+    File nextPartFile() {
+      synchronized (partFiles) {
+        File file = new File(partPrefix.getPath() + '-' + partFiles.size());
+        partFiles.add(file);
+        return file;
+      }
+    }
+
+    void plan(DefaultDBSystem db, int threads, ExecutorService executor, Supplier<Consumer> exporterFactory,
+              ProgressMonitor monitor) {
+      int partitions = (int) Math.min(threads, db.countEntities(tableName) / MIN_PARTITION_ROWS);
+      List<String> conditions = (partitions > 1 ? db.partitionConditions(tableName, partitions) : null);
+      if (conditions == null) {
+        conditions = Collections.singletonList(null);
+      }
+      logger.info("Exporting table {} in {} part(s)", tableName, conditions.size());
+      pendingParts = conditions.size();
+      for (String condition : conditions) {
+        Consumer exporter = exporterFactory.get();
+        parts.add(executor.submit(() -> exportPart(db, condition, exporter, monitor)));
+      }
+    }
+
+    private void exportPart(DefaultDBSystem db, String condition, Consumer exporter, ProgressMonitor monitor) {
+      try {
+        rowCount.addAndGet(exportTable(db, tableName, condition, exporter));
+      } finally {
+        IOUtil.close(exporter);
+      }
+      partFinished(monitor);
+    }
+
+    private void partFinished(ProgressMonitor monitor) {
+      boolean tableFinished;
+      synchronized (this) {
+        tableFinished = (--pendingParts == 0);
+      }
+      if (tableFinished) {
+        logger.info("Exported table {}: {} rows in {} ms", tableName, rowCount.get(),
+            System.currentTimeMillis() - startTime);
+        if (monitor != null) {
+          synchronized (monitor) {
+            monitor.setNote("Exported table " + tableName);
+            monitor.advance();
+          }
+        }
+      }
+    }
+  }
+
 }
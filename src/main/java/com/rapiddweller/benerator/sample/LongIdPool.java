@@ -0,0 +1,141 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sample;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+
+import java.util.Arrays;
+
+/**
+ * Memory-efficient pool of integral ids which supports random access by index.
+ * A dense range of ids is represented by its bounds only, otherwise the ids are held sorted
+ * in a primitive array: as int offsets to the minimum if the id range allows for it, else as longs.
+ * This needs 4 or 8 bytes per id, compared to more than 40 bytes for a list of boxed numbers.<br/><br/>
+ * Created: 19.10.2026 12:40:12
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class LongIdPool {
+
+  private static final long MAX_INT_OFFSET = 0xFFFFFFFFL;
+
+  private final long min;
+  private final long max;
+  private final int size;
+  private final int[] offsets;
+  private final long[] ids;
+
+  private LongIdPool(long min, long max, int size, int[] offsets, long[] ids) {
+    this.min = min;
+    this.max = max;
+    this.size = size;
+    this.offsets = offsets;
+    this.ids = ids;
+  }
+
+  /** Creates a pool for all ids from min to max (inclusive). */
+  public static LongIdPool range(long min, long max) {
+    long size = max - min + 1;
+    if (size < 0 || size > Integer.MAX_VALUE) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("Id range too large: " + min + ".." + max);
+    }
+    return new LongIdPool(min, max, (int) size, null, null);
+  }
+
+  public static LongIdPool empty() {
+    return new LongIdPool(0, -1, 0, null, null);
+  }
+
+  public long getMin() {
+    return min;
+  }
+
+  public long getMax() {
+    return max;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /** @return true if the pool covers a gapless id range and thus does not need to store ids */
+  public boolean isDense() {
+    return (offsets == null && ids == null);
+  }
+
+  /** @return the id at the given index, ids are sorted ascendingly */
+  public long get(int index) {
+    if (offsets != null) {
+      return min + (offsets[index] & MAX_INT_OFFSET);
+    } else if (ids != null) {
+      return ids[index];
+    } else {
+      return min + index;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '[' + (isDense() ? "dense " : "") + size + " ids in " + min + ".." + max + ']';
+  }
+
+  /** Collects ids in a growing primitive array and creates the most compact {@link LongIdPool} for them. */
+  public static class Builder {
+
+    private long[] buffer;
+    private int size;
+
+    public Builder(int expectedSize) {
+      this.buffer = new long[Math.max(16, expectedSize)];
+      this.size = 0;
+    }
+
+    public Builder add(long id) {
+      if (size == buffer.length) {
+        if (size == Integer.MAX_VALUE - 8) {
+          throw BeneratorExceptionFactory.getInstance().illegalOperation("Too many ids for an id pool");
+        }
+        buffer = Arrays.copyOf(buffer, (int) Math.min(Integer.MAX_VALUE - 8, size * 2L));
+      }
+      buffer[size++] = id;
+      return this;
+    }
+
+    public LongIdPool build() {
+      if (size == 0) {
+        return empty();
+      }
+      Arrays.parallelSort(buffer, 0, size);
+      int count = removeDuplicates();
+      long min = buffer[0];
+      long max = buffer[count - 1];
+      // max >= min, so the difference is correct when interpreted as unsigned value
+      long span = max - min;
+      LongIdPool result;
+      if (span == count - 1) {
+        result = range(min, max);
+      } else if (Long.compareUnsigned(span, MAX_INT_OFFSET) <= 0) {
+        int[] offsets = new int[count];
+        for (int i = 0; i < count; i++) {
+          offsets[i] = (int) (buffer[i] - min);
+        }
+        result = new LongIdPool(min, max, count, offsets, null);
+      } else {
+        result = new LongIdPool(min, max, count, null, Arrays.copyOf(buffer, count));
+      }
+      buffer = null;
+      return result;
+    }
+
+    private int removeDuplicates() {
+      int count = 1;
+      for (int i = 1; i < size; i++) {
+        if (buffer[i] != buffer[count - 1]) {
+          buffer[count++] = buffer[i];
+        }
+      }
+      return count;
+    }
+  }
+
+}
@@ -0,0 +1,79 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sample;
+
+import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.GeneratorContext;
+import com.rapiddweller.benerator.InvalidGeneratorSetupException;
+import com.rapiddweller.benerator.RandomProvider;
+import com.rapiddweller.benerator.util.ThreadSafeNonNullGenerator;
+
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Generator which picks ids from a {@link LongIdPool} in a random uniform distribution.
+ * The pool is fetched from a supplier on initialization and on each reset,
+ * so it reflects the data which has been added in the meantime.<br/><br/>
+ * Created: 19.10.2026 13:02:39
+ * @param <E> the id type
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class LongIdPoolGenerator<E> extends ThreadSafeNonNullGenerator<E> {
+
+  private static final RandomProvider random = BeneratorFactory.getInstance().getRandomProvider();
+
+  private final Class<E> idType;
+  private final Supplier<LongIdPool> poolSupplier;
+  private final LongFunction<E> idConverter;
+  private volatile LongIdPool pool;
+
+  /** @param idType the type of the generated ids
+   *  @param poolSupplier provides the pool to choose from
+   *  @param idConverter converts the primitive id to the generated type */
+  public LongIdPoolGenerator(Class<E> idType, Supplier<LongIdPool> poolSupplier, LongFunction<E> idConverter) {
+    this.idType = idType;
+    this.poolSupplier = poolSupplier;
+    this.idConverter = idConverter;
+  }
+
+  public LongIdPool getPool() {
+    return pool;
+  }
+
+  @Override
+  public Class<E> getGeneratedType() {
+    return idType;
+  }
+
+  @Override
+  public void init(GeneratorContext context) {
+    if (poolSupplier == null) {
+      throw new InvalidGeneratorSetupException("poolSupplier", "is null");
+    }
+    this.pool = poolSupplier.get();
+    super.init(context);
+  }
+
+  @Override
+  public E generate() {
+    LongIdPool pool = this.pool;
+    if (pool.size() == 0) {
+      return null;
+    }
+    return idConverter.apply(pool.get(random.randomInt(pool.size())));
+  }
+
+  @Override
+  public void reset() {
+    this.pool = poolSupplier.get();
+    super.reset();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '[' + pool + ']';
+  }
+
+}
@@ -44,7 +44,6 @@
  * @since 1.1.0
  */
 public class GraalScript implements Script {
-    static final PolyglotContext globalPolyglotCtx = new PolyglotContext();
     private final String text;
     private final String language;
 
@@ -57,7 +56,7 @@ public GraalScript(String text, Engine scriptEngine, String languageId) {
 
     @Override
     public Object evaluate(Context context) throws ScriptException {
-        Value returnValue = globalPolyglotCtx.evalScript(context, text, language);
+        Value returnValue = globalPolyglotCtx().evalScript(context, text, language);
         GraalValueConverter converter = new GraalValueConverter();
         return converter.convert(returnValue);
     }
@@ -67,10 +66,20 @@ public void execute(Context context, Writer out) throws ScriptException, IOExcep
         out.write(String.valueOf(evaluate(context)));
     }
 
+    /** Provides the context which is shared by all scripts and languages, so they can access each other's globals */
+    static PolyglotContext globalPolyglotCtx() {
+        return GlobalPolyglotCtxHolder.INSTANCE;
+    }
+
     @Override
     public String toString() {
         return text;
     }
+
+    /** Creates the shared context when the first script is evaluated, since bootstrapping GraalVM is expensive */
+    private static final class GlobalPolyglotCtxHolder {
+        static final PolyglotContext INSTANCE = new PolyglotContext();
+    }
 }
 
 
@@ -33,10 +33,11 @@
 public class GraalJsScriptFactory implements ScriptFactory {
 
   private static final String LANGUAGE = "js";
-  private final Engine jsEngine;
+  private Engine jsEngine;
 
   public GraalJsScriptFactory() {
-    this.jsEngine = Engine.newBuilder().build();
+    // the engine is created on first use, see engine()
+    this.jsEngine = null;
   }
 
   @Override
@@ -46,7 +47,7 @@ public boolean isTemplateEngine() {
 
   @Override
   public Script parseText(String text) {
-    return parseText(text, jsEngine);
+    return parseText(text, engine());
   }
 
   @Override
@@ -55,6 +56,15 @@ public Script readFile(String uri) throws IOException {
     return parseText(text);
   }
 
+  /** Creates the engine on first use, since bootstrapping it is expensive
+   *  and most setups do not use JavaScript at all. */
+  private synchronized Engine engine() {
+    if (jsEngine == null) {
+      jsEngine = Engine.newBuilder().build();
+    }
+    return jsEngine;
+  }
+
   private static Script parseText(String text, Engine generalEngine) {
     if (!generalEngine.getLanguages().containsKey(LANGUAGE)) {
       throw BeneratorExceptionFactory.getInstance().configurationError(
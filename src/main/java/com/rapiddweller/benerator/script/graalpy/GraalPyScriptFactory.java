@@ -32,10 +32,11 @@
 public class GraalPyScriptFactory implements ScriptFactory {
 
   private static final String LANGUAGE = "python";
-  private final Engine pythonEngine;
+  private Engine pythonEngine;
 
   public GraalPyScriptFactory() {
-    this.pythonEngine = Engine.newBuilder().build();
+    // the engine is created on first use, see engine()
+    this.pythonEngine = null;
   }
 
   @Override
@@ -45,7 +46,7 @@ public boolean isTemplateEngine() {
 
   @Override
   public Script parseText(String text) {
-    return parseText(text, pythonEngine);
+    return parseText(text, engine());
   }
 
   @Override
@@ -54,6 +55,15 @@ public Script readFile(String uri) throws IOException {
     return parseText(text);
   }
 
+  /** Creates the engine on first use, since bootstrapping it is expensive
+   *  and most setups do not use Python at all. */
+  private synchronized Engine engine() {
+    if (pythonEngine == null) {
+      pythonEngine = Engine.newBuilder().build();
+    }
+    return pythonEngine;
+  }
+
   private static Script parseText(String text, Engine generalEngine) {
     if (!generalEngine.getLanguages().containsKey("python")) {
       throw BeneratorExceptionFactory.getInstance().configurationError(
@@ -0,0 +1,35 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sensor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event which spans the consumption of a single data set by a consumer.<br/><br/>
+ * Created: 19.10.2026 13:06:52
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+@Name("com.rapiddweller.benerator.Consumption")
+@Label("Consumption")
+@Description("Consumption of a data set")
+@Category({"Benerator", "Consumption"})
+@StackTrace(false)
+public class ConsumptionEvent extends jdk.jfr.Event {
+
+	@Label("Consumer")
+	public String consumer;
+
+	@Label("Start")
+	@Description("Whether startConsuming() was called")
+	public boolean start;
+
+	@Label("Finish")
+	@Description("Whether finishConsuming() was called")
+	public boolean finish;
+
+}
@@ -20,11 +20,11 @@
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Repository that binds {@link LatencyCounter}s to a name and makes them available to clients.<br/><br/>
@@ -42,7 +42,7 @@ public class CounterRepository {
 	private static final CounterRepository INSTANCE = new CounterRepository();
 	
 	private CounterRepository() {
-		counters = new HashMap<>();
+		counters = new ConcurrentHashMap<>();
 	}
 
 	public static CounterRepository getInstance() {
@@ -57,6 +57,15 @@ public void addSample(String name, int latency) {
 		counter.addSample(latency);
 	}
 
+	public void addNanoSample(String name, long latency) {
+		LatencyCounter counter = getOrCreateCounter(name);
+		counter.addNanoSample(latency);
+	}
+
+	public LatencyCounter getOrCreateCounter(String name) {
+		return counters.computeIfAbsent(name, LatencyCounter::new);
+	}
+
 	public LatencyCounter getCounter(String name) {
 		return counters.get(name);
 	}
@@ -78,7 +87,7 @@ public String formatSummary() {
 		List<String[]> list = new ArrayList<>(counters.size());
 		List<LatencyCounter> sortedCounters = new ArrayList<>(counters.values());
 		sortedCounters.sort((c1, c2) -> -Long
-			.compare(c1.totalLatency(), c2.totalLatency()));
+			.compare(c1.totalLatencyNanos(), c2.totalLatencyNanos()));
 		for (LatencyCounter counter : sortedCounters) {
 			list.add(new String[] {
 				counter.getName() + ":",
@@ -92,22 +101,6 @@ public String formatSummary() {
 
 	// helper methods --------------------------------------------------------------------------------------------------
 	
-	private LatencyCounter getOrCreateCounter(String name) {
-		LatencyCounter counter = getCounter(name);
-		if (counter == null)
-			counter = createCounter(name);
-		return counter;
-	}
-
-	private synchronized LatencyCounter createCounter(String name) {
-		LatencyCounter counter = getCounter(name);
-		if (counter == null) {
-			counter = new LatencyCounter(name);
-			counters.put(name, counter);
-		}
-		return counter;
-	}
-
 	private static String formatSummaryTable(List<String[]> list) {
 		StringBuilder result = new StringBuilder();
 		// determine column widths
@@ -0,0 +1,38 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sensor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event which spans the execution of a JDBC batch or the commit of a database connection.<br/><br/>
+ * Created: 19.10.2026 13:09:15
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+@Name("com.rapiddweller.benerator.DbFlush")
+@Label("Database Flush")
+@Description("Execution of a JDBC batch or a commit")
+@Category({"Benerator", "Database"})
+@StackTrace(false)
+public class DbFlushEvent extends jdk.jfr.Event {
+
+	@Label("Database")
+	public String database;
+
+	@Label("Operation")
+	@Description("insert, update or commit")
+	public String operation;
+
+	@Label("Table")
+	public String table;
+
+	@Label("Batch Size")
+	@Description("Number of statements executed in the batch")
+	public int batchSize;
+
+}
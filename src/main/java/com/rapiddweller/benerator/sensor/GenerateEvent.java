@@ -0,0 +1,38 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sensor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event which spans the execution of a &lt;generate&gt; or &lt;iterate&gt; statement.<br/><br/>
+ * Created: 19.10.2026 13:02:11
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+@Name("com.rapiddweller.benerator.Generate")
+@Label("Generate")
+@Description("Execution of a <generate> or <iterate> statement")
+@Category({"Benerator", "Generation"})
+@StackTrace(false)
+public class GenerateEvent extends jdk.jfr.Event {
+
+	@Label("Task")
+	public String task;
+
+	@Label("Iterate")
+	public boolean iterate;
+
+	@Label("Count")
+	@Description("Number of generated or iterated data sets")
+	public long count;
+
+	@Label("Throughput")
+	@Description("Data sets per second")
+	public double throughput;
+
+}
@@ -0,0 +1,63 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sensor;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Records a JDK Flight Recorder file with Benerator's custom events
+ * and the JDK's default event settings.<br/><br/>
+ * Created: 19.10.2026 13:21:48
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class JfrRecorder implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(JfrRecorder.class);
+
+	public static final List<Class<? extends Event>> EVENT_TYPES = List.of(
+			GenerateEvent.class, PageEvent.class, ConsumptionEvent.class, DbFlushEvent.class, TranscodeEvent.class);
+
+	private final Path file;
+	private final Recording recording;
+
+	public JfrRecorder(String file) {
+		this.file = Paths.get(file).toAbsolutePath();
+		try {
+			this.recording = new Recording(Configuration.getConfiguration("default"));
+			recording.setName("Benerator");
+			for (Class<? extends Event> eventType : EVENT_TYPES) {
+				recording.enable(eventType);
+			}
+			recording.setToDisk(true);
+			recording.setDestination(this.file);
+		} catch (Exception e) {
+			throw BeneratorExceptionFactory.getInstance().operationFailed("Error setting up JFR recording " + file, e);
+		}
+	}
+
+	public JfrRecorder start() {
+		recording.start();
+		logger.info("Started JFR recording to {}", file);
+		return this;
+	}
+
+	/** Stops the recording which causes it to be written to the destination file. */
+	@Override
+	public void close() {
+		recording.stop();
+		recording.close();
+		logger.info("Finished JFR recording to {}", file);
+	}
+
+}
@@ -18,178 +18,357 @@
 import com.rapiddweller.contiperf.clock.SystemClock;
 
 import java.io.PrintWriter;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
- * Counts latencies and calculates performance-related statistics.<br/><br/>
+ * Counts latencies and calculates performance-related statistics.
+ * Latencies are recorded with nanosecond precision in logarithmically growing buckets
+ * (similar to HdrHistogram) with a relative error of about 0.1%,
+ * so memory consumption does not depend on the maximum latency.
+ * Each thread records into its own stripe without locking,
+ * the stripes are merged when statistics are queried.<br/><br/>
  * Created: Created: 14.12.2006 18:11:58
  * @since 1.0
  * @author Volker Bergmann
  */
 public final class LatencyCounter {
-	
+
+	private static final long NANOS_PER_MILLI = 1000000L;
+
+	/** Number of bits used for the linear sub-buckets of each power of 2. */
+	private static final int SUB_BUCKET_BITS = 10;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+
+	/** Latencies above this value (about 4.9 hours) fall into the last bucket. */
+	private static final long MAX_TRACKABLE_NANOS = (1L << 44) - 1;
+	private static final int SEGMENT_COUNT = magnitude(MAX_TRACKABLE_NANOS) + 1;
+	private static final int BUCKET_COUNT = SEGMENT_COUNT * SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+
 	private final String name;
 	private final String clockName;
-	
-    private int minLatency;
-    private int maxLatency;
-    private long[] latencyCounts;
-
-    private boolean running;
-    private long startTime;
-    private long endTime;
-    private long sampleCount;
-    private long totalLatency;
-
-    public LatencyCounter(String name) {
-        this(name, SystemClock.NAME, 1000);
-    }
-
-    public LatencyCounter(String name, String clockName, int expectedMaxLatency) {
-    	this.name = name;
-    	this.clockName = clockName;
-        this.latencyCounts = new long[1 + expectedMaxLatency];
-        this.sampleCount = 0;
-        this.totalLatency = 0;
-        this.minLatency = -1;
-        this.maxLatency = -1;
-        this.startTime = -1;
-        this.endTime = -1;
-    }
-    
+
+	private final ThreadLocal<Stripe> localStripe;
+	private final Queue<Stripe> stripes;
+
+	private volatile boolean running;
+	private volatile long startTime;
+	private volatile long endTime;
+	private volatile long sampleCountOverride;
+
+	public LatencyCounter(String name) {
+		this(name, SystemClock.NAME);
+	}
+
+	/** @deprecated the expected maximum latency is not needed any more, use {@link #LatencyCounter(String, String)} */
+	@Deprecated
+	public LatencyCounter(String name, String clockName, int expectedMaxLatency) {
+		this(name, clockName);
+	}
+
+	public LatencyCounter(String name, String clockName) {
+		this.name = name;
+		this.clockName = clockName;
+		this.stripes = new ConcurrentLinkedQueue<>();
+		this.localStripe = ThreadLocal.withInitial(this::createStripe);
+		this.sampleCountOverride = -1;
+		this.startTime = -1;
+		this.endTime = -1;
+	}
+
 	public String getName() {
 		return name;
 	}
-	
+
 	public String getClockName() {
 		return clockName;
 	}
-	
-    // interface -------------------------------------------------------------------------------------------------------
-
-    public void start() {
-    	if (running) {
-          throw BeneratorExceptionFactory.getInstance().illegalOperation(this + " has already been started");
-        }
-    	this.startTime = System.currentTimeMillis();
-    	this.running = true;
-    }
-    
-    public synchronized void addSample(int latency) {
-        if (latency >= latencyCounts.length)
-            resize(latency);
-        latencyCounts[latency]++;
-        sampleCount++;
-        totalLatency += latency;
-        if (minLatency == -1 || latency < minLatency)
-            minLatency = latency;
-        if (latency > maxLatency)
-            maxLatency = latency;
-    }
-
-    public void stop() {
-    	if (!running) {
-          throw BeneratorExceptionFactory.getInstance().programmerStateError(
-              "Stopping " + this + " which is not running");
-        }
-    	this.running = false;
-    	this.endTime = System.currentTimeMillis();
-    }
-    
+
+	// interface -------------------------------------------------------------------------------------------------------
+
+	public void start() {
+		if (running) {
+			throw BeneratorExceptionFactory.getInstance().illegalOperation(this + " has already been started");
+		}
+		this.startTime = System.currentTimeMillis();
+		this.running = true;
+	}
+
+	/** Records a latency in milliseconds.
+	 *  @param latency the latency in milliseconds */
+	public void addSample(int latency) {
+		addNanoSample(latency * NANOS_PER_MILLI);
+	}
+
+	/** Records a latency in nanoseconds.
+	 *  @param latency the latency in nanoseconds */
+	public void addNanoSample(long latency) {
+		localStripe.get().record(Math.max(latency, 0));
+	}
+
+	public void stop() {
+		if (!running) {
+			throw BeneratorExceptionFactory.getInstance().programmerStateError(
+					"Stopping " + this + " which is not running");
+		}
+		this.running = false;
+		this.endTime = System.currentTimeMillis();
+	}
+
 	public boolean isRunning() {
 		return running;
 	}
-    
+
 	public long getStartTime() {
-	    return startTime;
-    }
+		return startTime;
+	}
+
+	/** Tells how many samples had the given latency in milliseconds.
+	 *  @param latency the latency in milliseconds
+	 *  @return the number of samples with the given latency */
+	public long getLatencyCount(long latency) {
+		Snapshot snapshot = snapshot();
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			if (snapshot.counts[i] > 0 && snapshot.valueOf(i) / NANOS_PER_MILLI == latency) {
+				count += snapshot.counts[i];
+			}
+		}
+		return count;
+	}
+
+	public long totalLatency() {
+		return totalLatencyNanos() / NANOS_PER_MILLI;
+	}
+
+	public long totalLatencyNanos() {
+		long total = 0;
+		for (Stripe stripe : stripes) {
+			total += stripe.totalLatency.get();
+		}
+		return total;
+	}
+
+	public double averageLatency() {
+		return (double) totalLatencyNanos() / NANOS_PER_MILLI / sampleCount();
+	}
+
+	public long minLatency() {
+		return minLatencyNanos() / NANOS_PER_MILLI;
+	}
+
+	public long minLatencyNanos() {
+		long min = Long.MAX_VALUE;
+		for (Stripe stripe : stripes) {
+			min = Math.min(min, stripe.minLatency.get());
+		}
+		return (min != Long.MAX_VALUE ? min : 0);
+	}
 
-    public long getLatencyCount(long latency) {
-        if (latency < latencyCounts.length) {
-			return latencyCounts[(int) latency];
-		} else {
+	public long maxLatency() {
+		return maxLatencyNanos() / NANOS_PER_MILLI;
+	}
+
+	public long maxLatencyNanos() {
+		long max = 0;
+		for (Stripe stripe : stripes) {
+			max = Math.max(max, stripe.maxLatency.get());
+		}
+		return max;
+	}
+
+	public long sampleCount() {
+		long override = sampleCountOverride;
+		return (override >= 0 ? override : recordedSampleCount());
+	}
+
+	public void setSampleCount(long sampleCount) {
+		this.sampleCountOverride = sampleCount;
+	}
+
+	public long percentileLatency(int percentile) {
+		return percentileLatencyNanos(percentile) / NANOS_PER_MILLI;
+	}
+
+	public long percentileLatencyNanos(int percentile) {
+		Snapshot snapshot = snapshot();
+		if (snapshot.sampleCount == 0) {
 			return 0;
 		}
-    }
-
-    public long totalLatency() {
-        return totalLatency;
-    }
-
-    public double averageLatency() {
-        return (double) totalLatency / sampleCount;
-    }
-
-    public long minLatency() {
-        return Math.max(minLatency, 0);
-    }
-
-    public long maxLatency() {
-        return Math.max(maxLatency, 0);
-    }
-
-    public long sampleCount() {
-        return sampleCount;
-    }
-
-    public void setSampleCount(long sampleCount) {
-      this.sampleCount = sampleCount;
-    }
-
-    public long percentileLatency(int percentile) {
-        long targetCount = percentile * sampleCount / 100;
-        long count = 0;
-        for (long value = minLatency(); value <= maxLatency; value++) {
-            count += getLatencyCount(value);
-            if (count >= targetCount)
-                return value;
-        }
-        return maxLatency;
-    }
-    
-    public double percentileAboveLatency(int latency) {
-        long count = 0;
-        for (long value = (long) latency + 1; value <= maxLatency; value++)
-            count += getLatencyCount(value);
-        return (count * 100.) / sampleCount;
-    }
-    
-    public double throughput() {
-    	if (startTime == -1 || endTime == -1) {
-          throw BeneratorExceptionFactory.getInstance().illegalOperation(
-              "Invalid call: Use start() and stop() to indicate test start and end!");
-        }
-    	return 1000. * sampleCount / duration();
-    }
+		long targetCount = percentile * snapshot.sampleCount / 100;
+		if (targetCount <= 0) {
+			return snapshot.minLatency;
+		}
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			count += snapshot.counts[i];
+			if (count >= targetCount) {
+				return snapshot.valueOf(i);
+			}
+		}
+		return snapshot.maxLatency;
+	}
+
+	/** Calculates the percentage of samples with a latency above the given value.
+	 *  @param latency the latency in milliseconds
+	 *  @return the percentage of samples with a higher latency */
+	public double percentileAboveLatency(int latency) {
+		Snapshot snapshot = snapshot();
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			if (snapshot.counts[i] > 0 && snapshot.valueOf(i) / NANOS_PER_MILLI > latency) {
+				count += snapshot.counts[i];
+			}
+		}
+		return (count * 100.) / sampleCount();
+	}
+
+	public double throughput() {
+		if (startTime == -1 || endTime == -1) {
+			throw BeneratorExceptionFactory.getInstance().illegalOperation(
+					"Invalid call: Use start() and stop() to indicate test start and end!");
+		}
+		return 1000. * sampleCount() / duration();
+	}
 
 	public long duration() {
-	    return endTime - startTime;
-    }
-    
-    // private helpers -------------------------------------------------------------------------------------------------
-
-    private void resize(int requestedIndex) {
-        int sizingFactor = (requestedIndex + latencyCounts.length) / latencyCounts.length;
-        int newLength = sizingFactor * latencyCounts.length;
-        long[] newLatencyCounts = new long[newLength];
-        System.arraycopy(latencyCounts, 0, newLatencyCounts, 0, latencyCounts.length);
-        latencyCounts = newLatencyCounts;
-    }
+		return endTime - startTime;
+	}
 
 	public void printSummary(PrintWriter out, int... percentiles) {
-    	out.println("samples: " + sampleCount);
-    	out.println("max:     " + maxLatency());
-    	out.println("average: " + averageLatency());
-    	out.println("median:  " + percentileLatency(50));
-    	for (int percentile : percentiles)
-    		out.println(percentile + "%:     " + percentileLatency(percentile));
-    	out.flush();
-    }
-	
+		out.println("samples: " + sampleCount());
+		out.println("max:     " + maxLatency());
+		out.println("average: " + averageLatency());
+		out.println("median:  " + percentileLatency(50));
+		for (int percentile : percentiles)
+			out.println(percentile + "%:     " + percentileLatency(percentile));
+		out.flush();
+	}
+
+	// private helpers -------------------------------------------------------------------------------------------------
+
+	private Stripe createStripe() {
+		Stripe stripe = new Stripe();
+		stripes.add(stripe);
+		return stripe;
+	}
+
+	private long recordedSampleCount() {
+		long count = 0;
+		for (Stripe stripe : stripes) {
+			count += stripe.sampleCount.get();
+		}
+		return count;
+	}
+
+	private Snapshot snapshot() {
+		Snapshot snapshot = new Snapshot();
+		for (Stripe stripe : stripes) {
+			stripe.addTo(snapshot);
+		}
+		return snapshot;
+	}
+
+	static int magnitude(long value) {
+		return Math.max(0, 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1));
+	}
+
+	static int bucketIndex(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		value = Math.min(value, MAX_TRACKABLE_NANOS);
+		int magnitude = magnitude(value);
+		return magnitude * SUB_BUCKET_HALF + (int) (value >>> magnitude);
+	}
+
+	/** Calculates the highest value that falls into the bucket with the given index. */
+	static long highestValueOfBucket(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int magnitude = (index >> (SUB_BUCKET_BITS - 1)) - 1;
+		long subBucket = (index & (SUB_BUCKET_HALF - 1)) + SUB_BUCKET_HALF;
+		return ((subBucket + 1) << magnitude) - 1;
+	}
+
 	// java.lang.Object overrides --------------------------------------------------------------------------------------
-	
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	// helper classes --------------------------------------------------------------------------------------------------
+
+	/** Holds the samples recorded by a single thread. Since there is only one writer,
+	 *  updates do not need atomic read-modify-write operations, only ordered writes. */
+	private static final class Stripe {
+
+		/** Segment 0 holds the values below SUB_BUCKET_COUNT, each further segment holds one magnitude.
+		 *  Segments are created on demand, so only the magnitudes actually used consume memory. */
+		final AtomicReferenceArray<AtomicLongArray> segments = new AtomicReferenceArray<>(SEGMENT_COUNT);
+		final AtomicLong sampleCount = new AtomicLong();
+		final AtomicLong totalLatency = new AtomicLong();
+		final AtomicLong minLatency = new AtomicLong(Long.MAX_VALUE);
+		final AtomicLong maxLatency = new AtomicLong();
+
+		void record(long latency) {
+			int index = bucketIndex(latency);
+			int segmentIndex = (index < SUB_BUCKET_COUNT ? 0 : (index >> (SUB_BUCKET_BITS - 1)) - 1);
+			int offset = (segmentIndex == 0 ? index : index & (SUB_BUCKET_HALF - 1));
+			AtomicLongArray segment = segments.get(segmentIndex);
+			if (segment == null) {
+				segment = new AtomicLongArray(segmentIndex == 0 ? SUB_BUCKET_COUNT : SUB_BUCKET_HALF);
+				segments.set(segmentIndex, segment);
+			}
+			segment.lazySet(offset, segment.get(offset) + 1);
+			totalLatency.lazySet(totalLatency.get() + latency);
+			if (latency < minLatency.get()) {
+				minLatency.lazySet(latency);
+			}
+			if (latency > maxLatency.get()) {
+				maxLatency.lazySet(latency);
+			}
+			sampleCount.lazySet(sampleCount.get() + 1);
+		}
+
+		void addTo(Snapshot snapshot) {
+			for (int s = 0; s < SEGMENT_COUNT; s++) {
+				AtomicLongArray segment = segments.get(s);
+				if (segment != null) {
+					int base = (s == 0 ? 0 : (s + 1) * SUB_BUCKET_HALF);
+					for (int i = 0; i < segment.length(); i++) {
+						long count = segment.get(i);
+						snapshot.counts[base + i] += count;
+						snapshot.sampleCount += count;
+					}
+				}
+			}
+			if (sampleCount.get() > 0) {
+				snapshot.minLatency = Math.min(snapshot.minLatency, minLatency.get());
+				snapshot.maxLatency = Math.max(snapshot.maxLatency, maxLatency.get());
+			}
+		}
+	}
+
+	/** Merged view of all stripes. */
+	private static final class Snapshot {
+
+		final long[] counts = new long[BUCKET_COUNT];
+		long sampleCount = 0;
+		long minLatency = Long.MAX_VALUE;
+		long maxLatency = 0;
+
+		/** Returns the representative value of a bucket: its highest value,
+		 *  but not more than the exact maximum recorded. */
+		long valueOf(int index) {
+			return Math.min(highestValueOfBucket(index), maxLatency);
+		}
+	}
+
 }
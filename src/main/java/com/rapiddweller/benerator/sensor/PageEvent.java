@@ -0,0 +1,35 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sensor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event which spans one page of a &lt;generate&gt; or &lt;iterate&gt; statement.<br/><br/>
+ * Created: 19.10.2026 13:04:37
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+@Name("com.rapiddweller.benerator.Page")
+@Label("Page")
+@Description("Processing of one page of a <generate> or <iterate> statement")
+@Category({"Benerator", "Generation"})
+@StackTrace(false)
+public class PageEvent extends jdk.jfr.Event {
+
+	@Label("Task")
+	public String task;
+
+	@Label("Count")
+	@Description("Number of data sets generated in the page")
+	public long count;
+
+	@Label("Throughput")
+	@Description("Data sets per second")
+	public double throughput;
+
+}
@@ -0,0 +1,60 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sensor;
+
+import com.rapiddweller.benerator.engine.BeneratorMonitor;
+import com.rapiddweller.task.PageListener;
+
+/**
+ * {@link PageListener} which emits a {@link PageEvent} for each page.<br/><br/>
+ * Created: 19.10.2026 13:15:26
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class PageEventListener implements PageListener {
+
+	private final String task;
+	private PageEvent event;
+	private long c0;
+	private long t0;
+
+	public PageEventListener(String task) {
+		this.task = task;
+		this.event = null;
+	}
+
+	/** Tells if a JFR recording is interested in {@link PageEvent}s,
+	 *  so callers can avoid registering the listener otherwise. */
+	public static boolean isActive() {
+		return new PageEvent().isEnabled();
+	}
+
+	@Override
+	public void pageStarting() {
+		event = new PageEvent();
+		if (!event.isEnabled()) {
+			event = null;
+			return;
+		}
+		c0 = BeneratorMonitor.INSTANCE.getTotalGenerationCount();
+		t0 = System.nanoTime();
+		event.begin();
+	}
+
+	@Override
+	public void pageFinished() {
+		if (event == null) {
+			return;
+		}
+		event.end();
+		if (event.shouldCommit()) {
+			long dt = System.nanoTime() - t0;
+			event.task = task;
+			event.count = BeneratorMonitor.INSTANCE.getTotalGenerationCount() - c0;
+			event.throughput = (dt > 0 ? event.count * 1E9 / dt : 0);
+			event.commit();
+		}
+		event = null;
+	}
+
+}
@@ -15,11 +15,9 @@
 package com.rapiddweller.benerator.sensor;
 
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
-import com.rapiddweller.stat.CounterRepository;
-import com.rapiddweller.stat.LatencyCounter;
 
 /**
- * Stopwatch-style access to ContiPerf's {@link LatencyCounter} features.
+ * Stopwatch-style access to {@link LatencyCounter} features.
  * A StopWach is created with a name and immediately starts measuring time.
  * When calling stop(), the elapsed time is registered at a central latency 
  * counter identified by the stopwatch's name.
@@ -70,10 +68,10 @@ public int stop() {
 		if (startTime == -1)
 			throw BeneratorExceptionFactory.getInstance().illegalOperation(
 					"Called stop() on StopWatch '" + name + "' which has already been stopped");
-		int latency = (int) ((System.nanoTime() - startTime) / 1000000L);
+		long nanos = System.nanoTime() - startTime;
 		startTime = -1;
-		CounterRepository.getInstance().addSample(name, latency);
-		return latency;
+		CounterRepository.getInstance().addNanoSample(name, nanos);
+		return (int) (nanos / 1000000L);
 	}
 	
 }
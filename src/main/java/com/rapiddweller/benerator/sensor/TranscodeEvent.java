@@ -0,0 +1,41 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sensor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event which spans the transcoding of a table or the cascaded transcoding of
+ * the rows which reference a single entity.<br/><br/>
+ * Created: 19.10.2026 13:11:40
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+@Name("com.rapiddweller.benerator.Transcode")
+@Label("Transcode")
+@Description("Transcoding of a table or a cascade")
+@Category({"Benerator", "Transcoding"})
+@StackTrace(false)
+public class TranscodeEvent extends jdk.jfr.Event {
+
+	@Label("Table")
+	public String table;
+
+	@Label("Cascade")
+	@Description("Whether the rows were transcoded in a cascade")
+	public boolean cascade;
+
+	@Label("Source")
+	public String source;
+
+	@Label("Target")
+	public String target;
+
+	@Label("Row Count")
+	public long rowCount;
+
+}
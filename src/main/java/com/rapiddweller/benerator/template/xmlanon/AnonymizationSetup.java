@@ -27,6 +27,8 @@
 
 package com.rapiddweller.benerator.template.xmlanon;
 
+import com.rapiddweller.platform.xml.XMLPathPattern;
+
 import java.util.List;
 
 /**
@@ -76,6 +78,23 @@ public List<Anonymization> getAnonymizations() {
     return anonymizations;
   }
 
+  /**
+   * Tells if all locator paths can be evaluated while streaming through the XML files,
+   * so that the files do not need to be loaded into memory completely.
+   *
+   * @return true if the files can be processed in streaming mode
+   */
+  public boolean isStreaming() {
+    for (Anonymization anonymization : anonymizations) {
+      for (Locator locator : anonymization.getLocators()) {
+        if (!XMLPathPattern.isSupported(locator.getPath()) || !XMLPathPattern.isSupported(locator.getEntityPath())) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + anonymizations.toString() + files.toString();
@@ -0,0 +1,184 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.util;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link OutputStream} which collects the written data in large buffers and passes each full buffer
+ * to a background thread which writes it to the target stream. So expensive target streams,
+ * e.g. a compressing one, work concurrently to the producer of the data. The number of buffers is limited,
+ * if all are in use, writing blocks until the background thread has finished one of them.
+ * Since a partially filled buffer is only passed on when full or on {@link #close()},
+ * {@link #flush()} does not guarantee that the data has reached the target;
+ * it only reports errors of the background thread. Instances are not thread-safe.<br/><br/>
+ * Created: 19.10.2026 11:05:31
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class AsyncOutputStream extends OutputStream {
+
+  public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+  public static final int DEFAULT_BUFFER_COUNT = 4;
+
+  private static final Chunk END = new Chunk(null, 0);
+  private static final AtomicInteger threadCount = new AtomicInteger();
+
+  private final OutputStream target;
+  private final String name;
+  private final BlockingQueue<Chunk> filledBuffers;
+  private final BlockingQueue<byte[]> freeBuffers;
+  private final Thread writer;
+  private volatile Throwable error;
+
+  private byte[] buffer;
+  private int count;
+  private boolean closed;
+
+  /** @param target the stream to write to in the background thread
+   *  @param name the name of the target, used in thread names and error messages */
+  public AsyncOutputStream(OutputStream target, String name) {
+    this(target, name, DEFAULT_BUFFER_SIZE, DEFAULT_BUFFER_COUNT);
+  }
+
+  /** @param target the stream to write to in the background thread
+   *  @param name the name of the target, used in thread names and error messages
+   *  @param bufferSize the size of each buffer in bytes
+   *  @param bufferCount the number of buffers, at least 2 */
+  public AsyncOutputStream(OutputStream target, String name, int bufferSize, int bufferCount) {
+    if (bufferCount < 2) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("Illegal buffer count: " + bufferCount);
+    }
+    this.target = target;
+    this.name = name;
+    this.filledBuffers = new ArrayBlockingQueue<>(bufferCount + 1);
+    this.freeBuffers = new ArrayBlockingQueue<>(bufferCount);
+    for (int i = 1; i < bufferCount; i++) {
+      freeBuffers.add(new byte[bufferSize]);
+    }
+    this.buffer = new byte[bufferSize];
+    this.count = 0;
+    this.closed = false;
+    this.writer = new Thread(this::writeChunks, "Benerator-Writer-" + threadCount.incrementAndGet());
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  // OutputStream interface implementation ---------------------------------------------------------------------------
+
+  @Override
+  public void write(int b) throws IOException {
+    if (count == buffer.length) {
+      handOver();
+    }
+    buffer[count++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws IOException {
+    while (length > 0) {
+      if (count == buffer.length) {
+        handOver();
+      }
+      int n = Math.min(length, buffer.length - count);
+      System.arraycopy(bytes, offset, buffer, count, n);
+      count += n;
+      offset += n;
+      length -= n;
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    checkError();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      if (count > 0) {
+        handOver();
+      }
+    } finally {
+      try {
+        filledBuffers.put(END);
+        writer.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted closing " + name);
+      }
+    }
+    checkError();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void handOver() throws IOException {
+    checkError();
+    try {
+      filledBuffers.put(new Chunk(buffer, count));
+      buffer = freeBuffers.take();
+      count = 0;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted writing " + name);
+    }
+  }
+
+  private void checkError() throws IOException {
+    Throwable cause = error;
+    if (cause != null) {
+      throw new IOException("Error writing " + name, cause);
+    }
+  }
+
+  /** Runs in the background thread. After an error, the remaining buffers are only recycled,
+   *  so the producer does not block and receives the error on its next write. */
+  private void writeChunks() {
+    try {
+      Chunk chunk;
+      while ((chunk = filledBuffers.take()) != END) {
+        if (error == null) {
+          try {
+            target.write(chunk.data, 0, chunk.length);
+          } catch (IOException | RuntimeException e) {
+            error = e;
+          }
+        }
+        freeBuffers.add(chunk.data);
+      }
+    } catch (InterruptedException e) {
+      error = e;
+    } finally {
+      try {
+        target.close();
+      } catch (IOException | RuntimeException e) {
+        if (error == null) {
+          error = e;
+        }
+      }
+    }
+  }
+
+  private static final class Chunk {
+    final byte[] data;
+    final int length;
+
+    Chunk(byte[] data, int length) {
+      this.data = data;
+      this.length = length;
+    }
+  }
+
+}
@@ -0,0 +1,193 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.util;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.DescriptorProvider;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.model.data.TypeDescriptor;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.rapiddweller.benerator.util.BinaryProductWriter.*;
+
+/**
+ * Reads the products written by a {@link BinaryProductWriter} from a memory-mapped file.<br/><br/>
+ * Created: 19.10.2026 10:05:52
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class BinaryProductReader implements Closeable {
+
+  private final ObjectInputStream in;
+  private final DescriptorProvider descriptorProvider;
+  private final List<String> symbols;
+  private final Map<String, ComplexTypeDescriptor> entityTypes;
+  private boolean ended;
+
+  public BinaryProductReader(File file, DescriptorProvider descriptorProvider) throws IOException {
+    this.in = new ObjectInputStream(new MappedFileInputStream(file));
+    this.descriptorProvider = descriptorProvider;
+    this.symbols = new ArrayList<>();
+    this.entityTypes = new HashMap<>();
+    this.ended = false;
+  }
+
+  /** Reads the next record into the wrapper.
+   *  @param wrapper the wrapper to receive the product and its tags
+   *  @return the wrapper, or null if all records have been read
+   *  @throws IOException if reading fails */
+  @SuppressWarnings("unchecked")
+  public <E> ProductWrapper<E> readRecord(ProductWrapper<E> wrapper) throws IOException {
+    if (ended) {
+      return null;
+    }
+    byte marker;
+    try {
+      marker = in.readByte();
+    } catch (EOFException e) {
+      // the recording was not closed properly, so provide the records which made it to the file
+      marker = END;
+    }
+    if (marker == END) {
+      ended = true;
+      return null;
+    }
+    wrapper.wrap((E) readValue());
+    int tagCount = in.readInt();
+    for (int i = 0; i < tagCount; i++) {
+      wrapper.setTag(readSymbol(), (String) readValue());
+    }
+    return wrapper;
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private Object readValue() throws IOException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case NULL: return null;
+      case STRING: return in.readUTF();
+      case LONG_STRING: return new String(readBytes(), StandardCharsets.UTF_8);
+      case INTEGER: return in.readInt();
+      case LONG: return in.readLong();
+      case DOUBLE: return in.readDouble();
+      case FLOAT: return in.readFloat();
+      case SHORT: return in.readShort();
+      case BYTE: return in.readByte();
+      case TRUE: return Boolean.TRUE;
+      case FALSE: return Boolean.FALSE;
+      case CHARACTER: return in.readChar();
+      case BIG_DECIMAL: return new BigDecimal(in.readUTF());
+      case BIG_INTEGER: return new BigInteger(in.readUTF());
+      case DATE: return new Date(in.readLong());
+      case SQL_DATE: return new java.sql.Date(in.readLong());
+      case TIMESTAMP: return readTimestamp();
+      case ENUM: return readEnum();
+      case LOCALE: return Locale.forLanguageTag(readSymbol());
+      case BYTE_ARRAY: return readBytes();
+      case ARRAY: return readArray();
+      case ENTITY: return readEntity();
+      case SERIALIZED: return readSerialized();
+      default: throw BeneratorExceptionFactory.getInstance().internalError("Unknown value tag: " + tag, null);
+    }
+  }
+
+  private byte[] readBytes() throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  private Timestamp readTimestamp() throws IOException {
+    Timestamp timestamp = new Timestamp(in.readLong());
+    timestamp.setNanos(in.readInt());
+    return timestamp;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Object readEnum() throws IOException {
+    Class enumType = loadClass(readSymbol());
+    return Enum.valueOf(enumType, readSymbol());
+  }
+
+  private Object readArray() throws IOException {
+    Class<?> componentType = loadClass(readSymbol());
+    int length = in.readInt();
+    Object[] array = (Object[]) Array.newInstance(componentType, length);
+    for (int i = 0; i < length; i++) {
+      array[i] = readValue();
+    }
+    return array;
+  }
+
+  private Entity readEntity() throws IOException {
+    Entity entity = new Entity(getEntityType(readSymbol()));
+    int componentCount = in.readInt();
+    for (int i = 0; i < componentCount; i++) {
+      // the recorded values have already been converted, so they are put into the map directly
+      entity.getComponents().put(readSymbol(), readValue());
+    }
+    return entity;
+  }
+
+  private Object readSerialized() throws IOException {
+    try {
+      return in.readObject();
+    } catch (ClassNotFoundException e) {
+      throw BeneratorExceptionFactory.getInstance().configurationError("Recorded class not found", e);
+    }
+  }
+
+  private ComplexTypeDescriptor getEntityType(String name) {
+    if (name.isEmpty()) {
+      return null;
+    }
+    return entityTypes.computeIfAbsent(name, n -> {
+      TypeDescriptor type = (descriptorProvider != null ? descriptorProvider.getDataModel().getTypeDescriptor(n) : null);
+      return (type instanceof ComplexTypeDescriptor ?
+          (ComplexTypeDescriptor) type : new ComplexTypeDescriptor(n, descriptorProvider));
+    });
+  }
+
+  private String readSymbol() throws IOException {
+    int index = in.readInt();
+    if (index >= 0) {
+      return symbols.get(index);
+    }
+    String symbol = in.readUTF();
+    symbols.add(symbol);
+    return symbol;
+  }
+
+  private static Class<?> loadClass(String name) {
+    try {
+      return Class.forName(name, true, Thread.currentThread().getContextClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw BeneratorExceptionFactory.getInstance().configurationError("Recorded class not found: " + name, e);
+    }
+  }
+
+}
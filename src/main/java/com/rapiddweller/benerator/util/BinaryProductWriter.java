@@ -0,0 +1,217 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.util;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.model.data.Entity;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes generator products to a compact binary file which can be read by a {@link BinaryProductReader}.
+ * Simple types, {@link Entity} objects and arrays are encoded with type tags, recurring type and
+ * component names are written only once and referenced by index afterwards.
+ * Other objects are written with Java serialization, thus they need to implement {@link Serializable}.<br/><br/>
+ * Created: 19.10.2026 09:31:17
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class BinaryProductWriter implements Closeable {
+
+  static final byte RECORD = 1;
+  static final byte END = 2;
+
+  static final byte NULL = 0;
+  static final byte STRING = 1;
+  static final byte LONG_STRING = 2;
+  static final byte INTEGER = 3;
+  static final byte LONG = 4;
+  static final byte DOUBLE = 5;
+  static final byte FLOAT = 6;
+  static final byte SHORT = 7;
+  static final byte BYTE = 8;
+  static final byte TRUE = 9;
+  static final byte FALSE = 10;
+  static final byte CHARACTER = 11;
+  static final byte BIG_DECIMAL = 12;
+  static final byte BIG_INTEGER = 13;
+  static final byte DATE = 14;
+  static final byte SQL_DATE = 15;
+  static final byte TIMESTAMP = 16;
+  static final byte ENUM = 17;
+  static final byte LOCALE = 18;
+  static final byte BYTE_ARRAY = 19;
+  static final byte ARRAY = 20;
+  static final byte ENTITY = 21;
+  static final byte SERIALIZED = 22;
+
+  static final int MAX_UTF_CHARS = 65535 / 3;
+
+  /** Number of records after which the object stream's back-reference table is cleared. */
+  private static final int RESET_INTERVAL = 1000;
+
+  private final ObjectOutputStream out;
+  private final Map<String, Integer> symbols;
+  private int recordsSinceReset;
+
+  public BinaryProductWriter(File file) throws IOException {
+    this.out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16));
+    this.symbols = new HashMap<>();
+    this.recordsSinceReset = 0;
+  }
+
+  /** Writes a product and its tags as one record.
+   *  @param product the product to write
+   *  @param tags the product's tags
+   *  @throws IOException if writing fails */
+  public void writeRecord(Object product, Map<String, String> tags) throws IOException {
+    out.writeByte(RECORD);
+    writeValue(product);
+    out.writeInt(tags.size());
+    for (Map.Entry<String, String> tag : tags.entrySet()) {
+      writeSymbol(tag.getKey());
+      writeValue(tag.getValue());
+    }
+    if (++recordsSinceReset >= RESET_INTERVAL) {
+      out.reset();
+      recordsSinceReset = 0;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.writeByte(END);
+    out.close();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void writeValue(Object value) throws IOException {
+    if (value == null) {
+      out.writeByte(NULL);
+    } else if (value instanceof String) {
+      writeString((String) value);
+    } else if (value instanceof Integer) {
+      out.writeByte(INTEGER);
+      out.writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      out.writeByte(LONG);
+      out.writeLong((Long) value);
+    } else if (value instanceof Double) {
+      out.writeByte(DOUBLE);
+      out.writeDouble((Double) value);
+    } else if (value instanceof Boolean) {
+      out.writeByte((Boolean) value ? TRUE : FALSE);
+    } else if (value instanceof Entity) {
+      writeEntity((Entity) value);
+    } else if (value instanceof Timestamp) {
+      out.writeByte(TIMESTAMP);
+      out.writeLong(((Timestamp) value).getTime());
+      out.writeInt(((Timestamp) value).getNanos());
+    } else if (value instanceof java.sql.Date) {
+      out.writeByte(SQL_DATE);
+      out.writeLong(((java.sql.Date) value).getTime());
+    } else if (value.getClass() == Date.class) {
+      out.writeByte(DATE);
+      out.writeLong(((Date) value).getTime());
+    } else if (value instanceof BigDecimal) {
+      out.writeByte(BIG_DECIMAL);
+      out.writeUTF(value.toString());
+    } else if (value instanceof BigInteger) {
+      out.writeByte(BIG_INTEGER);
+      out.writeUTF(value.toString());
+    } else if (value instanceof Float) {
+      out.writeByte(FLOAT);
+      out.writeFloat((Float) value);
+    } else if (value instanceof Short) {
+      out.writeByte(SHORT);
+      out.writeShort((Short) value);
+    } else if (value instanceof Byte) {
+      out.writeByte(BYTE);
+      out.writeByte((Byte) value);
+    } else if (value instanceof Character) {
+      out.writeByte(CHARACTER);
+      out.writeChar((Character) value);
+    } else if (value instanceof Enum) {
+      out.writeByte(ENUM);
+      writeSymbol(((Enum<?>) value).getDeclaringClass().getName());
+      writeSymbol(((Enum<?>) value).name());
+    } else if (value instanceof Locale) {
+      out.writeByte(LOCALE);
+      writeSymbol(((Locale) value).toLanguageTag());
+    } else if (value instanceof byte[]) {
+      out.writeByte(BYTE_ARRAY);
+      out.writeInt(((byte[]) value).length);
+      out.write((byte[]) value);
+    } else if (value instanceof Object[]) {
+      writeArray((Object[]) value);
+    } else if (value instanceof Serializable) {
+      out.writeByte(SERIALIZED);
+      out.writeObject(value);
+    } else {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument(
+          "Cannot record object of type " + value.getClass().getName() + ". " +
+          "It needs to be an entity, a simple type or Serializable");
+    }
+  }
+
+  private void writeString(String value) throws IOException {
+    if (value.length() <= MAX_UTF_CHARS) {
+      out.writeByte(STRING);
+      out.writeUTF(value);
+    } else {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      out.writeByte(LONG_STRING);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  private void writeEntity(Entity entity) throws IOException {
+    out.writeByte(ENTITY);
+    writeSymbol(entity.type() != null ? entity.type() : "");
+    Map<String, Object> components = entity.getComponents();
+    out.writeInt(components.size());
+    for (Map.Entry<String, Object> component : components.entrySet()) {
+      writeSymbol(component.getKey());
+      writeValue(component.getValue());
+    }
+  }
+
+  private void writeArray(Object[] array) throws IOException {
+    out.writeByte(ARRAY);
+    writeSymbol(array.getClass().getComponentType().getName());
+    out.writeInt(array.length);
+    for (Object element : array) {
+      writeValue(element);
+    }
+  }
+
+  /** Writes a recurring string like a type or component name. On first occurrence, the full string is
+   *  written, afterwards only its index. */
+  private void writeSymbol(String symbol) throws IOException {
+    Integer index = symbols.get(symbol);
+    if (index != null) {
+      out.writeInt(index);
+    } else {
+      out.writeInt(-1);
+      out.writeUTF(symbol);
+      symbols.put(symbol, symbols.size());
+    }
+  }
+
+}
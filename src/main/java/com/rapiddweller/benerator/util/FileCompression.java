@@ -0,0 +1,93 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.util;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression formats of exported files. The format is either configured explicitly by name
+ * or determined by the file suffix, e.g. '.gz' for gzip. Compression takes place in a background thread,
+ * so it runs concurrently to the generation and formatting of the data.<br/><br/>
+ * Created: 19.10.2026 11:32:08
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public enum FileCompression {
+
+  NONE(null),
+  GZIP(".gz");
+
+  private static final int DEFLATER_BUFFER_SIZE = 64 * 1024;
+
+  private final String suffix;
+
+  FileCompression(String suffix) {
+    this.suffix = suffix;
+  }
+
+  /** @return the file suffix of the format including the dot, or null for no compression */
+  public String getSuffix() {
+    return suffix;
+  }
+
+  /** Determines the compression format of a file.
+   *  @param name the configured format name: 'gzip', 'gz' or 'none'.
+   *    If it is null or empty, the format is derived from the suffix of the uri
+   *  @param uri the uri of the file
+   *  @return the compression format */
+  public static FileCompression of(String name, String uri) {
+    if (name == null || name.isEmpty()) {
+      return forUri(uri);
+    }
+    switch (name.toLowerCase(Locale.ROOT)) {
+      case "none":
+        return NONE;
+      case "gzip":
+      case "gz":
+        return GZIP;
+      default:
+        throw BeneratorExceptionFactory.getInstance().configurationError(
+            "Unsupported compression '" + name + "', supported are 'gzip' and 'none'");
+    }
+  }
+
+  /** Derives the compression format from the suffix of a file uri.
+   *  @param uri the uri of the file
+   *  @return the compression format */
+  public static FileCompression forUri(String uri) {
+    if (uri != null) {
+      String lowerCaseUri = uri.toLowerCase(Locale.ROOT);
+      for (FileCompression compression : values()) {
+        if (compression.suffix != null && lowerCaseUri.endsWith(compression.suffix)) {
+          return compression;
+        }
+      }
+    }
+    return NONE;
+  }
+
+  /** Opens a stream for writing a file in this format. The parent directory is expected to exist.
+   *  @param uri the uri of the file
+   *  @param append if true, data is appended to an existing file, with gzip as additional member
+   *  @return the stream, which must be closed for completing the file */
+  public OutputStream openOutputStream(String uri, boolean append) throws IOException {
+    FileOutputStream out = new FileOutputStream(new File(uri), append);
+    if (this == NONE) {
+      return out;
+    }
+    try {
+      return new AsyncOutputStream(new GZIPOutputStream(out, DEFLATER_BUFFER_SIZE), uri);
+    } catch (IOException | RuntimeException e) {
+      out.close();
+      throw e;
+    }
+  }
+
+}
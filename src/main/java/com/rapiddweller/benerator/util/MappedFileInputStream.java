@@ -0,0 +1,101 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link InputStream} which reads a file through a sequence of memory-mapped segments.
+ * Files larger than 2 GB are supported by mapping one segment after the other.<br/><br/>
+ * Created: 19.10.2026 09:12:40
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class MappedFileInputStream extends InputStream {
+
+  public static final int DEFAULT_SEGMENT_SIZE = 256 * 1024 * 1024;
+
+  private final FileChannel channel;
+  private final long fileSize;
+  private final int segmentSize;
+  private long segmentOffset;
+  private MappedByteBuffer buffer;
+
+  public MappedFileInputStream(File file) throws IOException {
+    this(file, DEFAULT_SEGMENT_SIZE);
+  }
+
+  public MappedFileInputStream(File file, int segmentSize) throws IOException {
+    this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    this.fileSize = channel.size();
+    this.segmentSize = segmentSize;
+    this.segmentOffset = 0;
+    this.buffer = null;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!ensureData()) {
+      return -1;
+    }
+    return buffer.get() & 0xff;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+    if (!ensureData()) {
+      return -1;
+    }
+    int count = Math.min(length, buffer.remaining());
+    buffer.get(bytes, offset, count);
+    return count;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = 0;
+    while (skipped < n && ensureData()) {
+      int step = (int) Math.min(n - skipped, buffer.remaining());
+      buffer.position(buffer.position() + step);
+      skipped += step;
+    }
+    return skipped;
+  }
+
+  @Override
+  public int available() {
+    return (buffer != null ? buffer.remaining() : 0);
+  }
+
+  @Override
+  public void close() throws IOException {
+    buffer = null;
+    channel.close();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private boolean ensureData() throws IOException {
+    if (buffer != null && buffer.hasRemaining()) {
+      return true;
+    }
+    if (buffer != null) {
+      segmentOffset += buffer.capacity();
+    }
+    if (segmentOffset >= fileSize) {
+      return false;
+    }
+    long length = Math.min(segmentSize, fileSize - segmentOffset);
+    buffer = channel.map(FileChannel.MapMode.READ_ONLY, segmentOffset, length);
+    return true;
+  }
+
+}
@@ -28,6 +28,7 @@
 
 import com.rapiddweller.benerator.Generator;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -120,6 +121,15 @@ public ProductWrapper<E> setTag(String key, String value) {
     return this;
   }
 
+  /**
+   * Returns all tags of the wrapper.
+   *
+   * @return a map with the tags, or an empty map if no tag was set
+   */
+  public Map<String, String> getTags() {
+    return (tags != null ? tags : Collections.emptyMap());
+  }
+
   @Override
   public String toString() {
     return String.valueOf(product);
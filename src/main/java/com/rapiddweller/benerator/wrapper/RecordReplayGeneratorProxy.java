@@ -0,0 +1,200 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.wrapper;
+
+import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.GeneratorContext;
+import com.rapiddweller.benerator.GeneratorState;
+import com.rapiddweller.benerator.InvalidGeneratorSetupException;
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.util.BinaryProductReader;
+import com.rapiddweller.benerator.util.BinaryProductWriter;
+import com.rapiddweller.common.IOUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * {@link Generator} proxy which records the products of its source generator to a binary file
+ * or replays them from a file recorded before.
+ * In <i>replay</i> mode, the source generator is not initialized at all, so expensive generators
+ * like the PersonGenerator or AddressGenerator do not need to set up their datasets again.
+ * In <i>auto</i> mode, products are replayed if the file exists, otherwise they are recorded.
+ * Product tags of the {@link ProductWrapper} are recorded and replayed as well.<br/><br/>
+ * Created: 19.10.2026 10:41:03
+ * @param <E> the product type
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class RecordReplayGeneratorProxy<E> extends GeneratorProxy<E> {
+
+  public enum Mode {
+    RECORD, REPLAY, AUTO
+  }
+
+  private String uri;
+  private Mode mode;
+
+  private File file;
+  private Mode effectiveMode;
+  private BinaryProductWriter writer;
+  private BinaryProductReader reader;
+
+  // constructors ----------------------------------------------------------------------------------------------------
+
+  public RecordReplayGeneratorProxy() {
+    super((Class<E>) null);
+    this.mode = Mode.AUTO;
+  }
+
+  public RecordReplayGeneratorProxy(Generator<E> source, String uri, Mode mode) {
+    super(source);
+    this.uri = uri;
+    this.mode = mode;
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  public String getUri() {
+    return uri;
+  }
+
+  public void setUri(String uri) {
+    this.uri = uri;
+  }
+
+  public String getMode() {
+    return mode.name().toLowerCase();
+  }
+
+  public void setMode(String mode) {
+    this.mode = Mode.valueOf(mode.toUpperCase());
+  }
+
+  // Generator interface implementation ------------------------------------------------------------------------------
+
+  @Override
+  public boolean isThreadSafe() {
+    return false;
+  }
+
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
+  @Override
+  public void init(GeneratorContext context) {
+    assertNotInitialized();
+    if (uri == null) {
+      throw new InvalidGeneratorSetupException("uri", "is null");
+    }
+    this.file = new File(context.resolveRelativeUri(uri));
+    this.effectiveMode = (mode == Mode.AUTO ? (file.exists() ? Mode.REPLAY : Mode.RECORD) : mode);
+    if (effectiveMode == Mode.REPLAY) {
+      if (!file.exists()) {
+        throw BeneratorExceptionFactory.getInstance().fileNotFound(uri, null);
+      }
+      // the source generator is not initialized, that's what replay is for
+      this.context = context;
+      this.state = GeneratorState.RUNNING;
+      openReader();
+    } else {
+      super.init(context);
+      openWriter();
+    }
+  }
+
+  @Override
+  public ProductWrapper<E> generate(ProductWrapper<E> wrapper) {
+    assertInitialized();
+    try {
+      if (effectiveMode == Mode.REPLAY) {
+        return reader.readRecord(wrapper);
+      }
+      wrapper = getSource().generate(wrapper);
+      if (wrapper != null) {
+        writer.writeRecord(wrapper.unwrap(), wrapper.getTags());
+      } else {
+        finishRecording();
+      }
+      return wrapper;
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error accessing recording " + file, e);
+    }
+  }
+
+  @Override
+  public void reset() {
+    if (effectiveMode == Mode.REPLAY) {
+      IOUtil.close(reader);
+      this.state = GeneratorState.RUNNING;
+      openReader();
+    } else {
+      finishRecording();
+      super.reset();
+      openWriter();
+    }
+  }
+
+  @Override
+  public void close() {
+    if (effectiveMode == Mode.REPLAY) {
+      IOUtil.close(reader);
+      reader = null;
+      this.state = GeneratorState.CLOSED;
+    } else {
+      finishRecording();
+      super.close();
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void openReader() {
+    try {
+      this.reader = new BinaryProductReader(file,
+          (context instanceof BeneratorContext ? ((BeneratorContext) context).getLocalDescriptorProvider() : null));
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error opening recording " + file, e);
+    }
+  }
+
+  private void openWriter() {
+    try {
+      this.writer = new BinaryProductWriter(tempFile());
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().fileCreationFailed("Error creating recording " + file, e);
+    }
+  }
+
+  /** Closes the writer and moves the temporary file to the target location,
+   *  so a crashed run does not leave a truncated recording there. */
+  private void finishRecording() {
+    if (writer == null) {
+      return;
+    }
+    try {
+      writer.close();
+      writer = null;
+      Files.move(tempFile().toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error finishing recording " + file, e);
+    }
+  }
+
+  private File tempFile() {
+    return new File(file.getPath() + ".tmp");
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '[' + mode + ", " + uri + ", " + getSource() + ']';
+  }
+
+}
@@ -31,13 +31,20 @@
 import com.rapiddweller.common.NullSafeComparator;
 import com.rapiddweller.common.bean.HashCodeBuilder;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
 /**
  * Represents an address with phone numbers.<br/><br/>
  * Created: 11.06.2006 08:05:00
  * @author Volker Bergmann
  * @since 0.1
  */
-public class Address {
+public class Address implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   private static final Escalator escalator = new LoggerEscalator();
 
@@ -45,9 +52,9 @@ public class Address {
   private String houseNumber;
   private String street2;
   private String postalCode;
-  private City city;
-  private State state;
-  private Country country;
+  private transient City city;
+  private transient State state;
+  private transient Country country;
 
   private PhoneNumber privatePhone;
   private PhoneNumber officePhone;
@@ -259,5 +266,51 @@ public boolean equals(Object obj) {
     return NullSafeComparator.equals(this.privatePhone, that.privatePhone);
   }
 
+  // serialization ---------------------------------------------------------------------------------------------------
+
+  /** City, state and country are shared instances of the address dataset,
+   *  so they are written by their keys and looked up again when reading. */
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeObject(country != null ? country.getIsoCode() : null);
+    writeStateKey(state, out);
+    writeStateKey(city != null ? city.getState() : null, out);
+    out.writeObject(city != null ? city.getName() : null);
+    out.writeObject(city != null ? city.getNameExtension() : null);
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    String isoCode = (String) in.readObject();
+    this.country = (isoCode != null ? Country.getInstance(isoCode) : null);
+    this.state = readStateKey(in);
+    State cityState = readStateKey(in);
+    String cityName = (String) in.readObject();
+    String cityNameExtension = (String) in.readObject();
+    this.city = (cityState != null && cityName != null ? findCity(cityState, cityName, cityNameExtension) : null);
+  }
+
+  private static void writeStateKey(State state, ObjectOutputStream out) throws IOException {
+    out.writeObject(state != null && state.getCountry() != null ? state.getCountry().getIsoCode() : null);
+    out.writeObject(state != null ? state.getId() : null);
+  }
+
+  private static State readStateKey(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    String isoCode = (String) in.readObject();
+    String stateId = (String) in.readObject();
+    return (isoCode != null && stateId != null ? Country.getInstance(isoCode).getState(stateId) : null);
+  }
+
+  private static City findCity(State state, String name, String nameExtension) {
+    City city = state.getCity(new CityId(name, nameExtension));
+    if (city == null) {
+      for (City candidate : state.getCities()) {
+        if (name.equals(candidate.getName()) && NullSafeComparator.equals(nameExtension, candidate.getNameExtension())) {
+          return candidate;
+        }
+      }
+    }
+    return city;
+  }
 
 }
@@ -29,6 +29,7 @@
 import com.rapiddweller.common.NullSafeComparator;
 import com.rapiddweller.common.StringUtil;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
@@ -37,7 +38,9 @@
  * @author Volker Bergmann
  * @since 0.1
  */
-public class PhoneNumber {
+public class PhoneNumber implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   private String countryCode;
   private String areaCode;
@@ -26,6 +26,8 @@
 
 package com.rapiddweller.domain.organization;
 
+import java.io.Serializable;
+
 /**
  * Assembles the parts of a company name, providing access to full name, short name and name parts
  * like core name (which is the shortName), sector, location and legal form.<br/><br/>
@@ -34,7 +36,9 @@
  * @author Volker Bergmann
  * @since 0.6.4
  */
-public class CompanyName {
+public class CompanyName implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   private String shortName;
   private String sector;
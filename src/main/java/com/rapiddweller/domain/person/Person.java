@@ -26,6 +26,7 @@
 
 package com.rapiddweller.domain.person;
 
+import java.io.Serializable;
 import java.util.Date;
 import java.util.Locale;
 
@@ -36,7 +37,9 @@
  * @author Volker Bergmann
  * @since 0.1
  */
-public class Person {
+public class Person implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   private String givenName;
   private String secondGivenName;
@@ -73,7 +73,7 @@ public void setTarget(Consumer target) {
   @Override
   public void startConsuming(ProductWrapper<?> wrapper) {
     try {
-      getOrCreateTracker().invoke(new Object[] {wrapper});
+      invoke(new Object[] {wrapper});
     } catch (ApplicationException e) {
       throw e;
     } catch (Exception e) {
@@ -104,4 +104,9 @@ protected Invoker getInvoker() {
     return new ConsumerInvoker(id, target);
   }
 
+  @Override
+  protected String getCounterName() {
+    return id;
+  }
+
 }
@@ -57,7 +57,7 @@ public PerfTrackingTaskProxy(Task realTask, PerformanceTracker tracker) {
   @Override
   public TaskResult execute(Context context, ErrorHandler errorHandler) {
     try {
-      return (TaskResult) getOrCreateTracker().invoke(new Object[] {context, errorHandler});
+      return (TaskResult) invoke(new Object[] {context, errorHandler});
     } catch (ApplicationException e) {
       throw e;
     } catch (Exception e) {
@@ -101,4 +101,9 @@ protected TaskInvoker getInvoker() {
     return new TaskInvoker(realTask);
   }
 
+  @Override
+  protected String getCounterName() {
+    return realTask.getTaskName();
+  }
+
 }
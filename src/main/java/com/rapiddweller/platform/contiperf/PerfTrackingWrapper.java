@@ -26,6 +26,8 @@
 
 package com.rapiddweller.platform.contiperf;
 
+import com.rapiddweller.benerator.sensor.CounterRepository;
+import com.rapiddweller.benerator.sensor.LatencyCounter;
 import com.rapiddweller.contiperf.Invoker;
 import com.rapiddweller.contiperf.PerformanceRequirement;
 import com.rapiddweller.contiperf.PerformanceTracker;
@@ -35,7 +37,10 @@
 import java.io.Closeable;
 
 /**
- * Common parent class for Benerator runners that support performance tracking.<br/><br/>
+ * Common parent class for Benerator runners that support performance tracking.
+ * Besides the ContiPerf {@link PerformanceTracker} which checks the performance requirements,
+ * latencies are recorded with nanosecond precision in a {@link LatencyCounter}
+ * of the {@link CounterRepository}.<br/><br/>
  * Created: 14.03.2010 10:59:00
  * @author Volker Bergmann
  * @since 0.6.0
@@ -45,6 +50,7 @@ public abstract class PerfTrackingWrapper implements Closeable {
   private PerformanceTracker tracker;
   private final PerformanceRequirement requirement;
   private ReportContext context;
+  private LatencyCounter latencyCounter;
 
   protected PerfTrackingWrapper() {
     this(null); // allow for lazy PerfromanceTracker initialization
@@ -59,6 +65,8 @@ protected PerfTrackingWrapper(PerformanceTracker tracker) {
 
   protected abstract Invoker getInvoker();
 
+  protected abstract String getCounterName();
+
   public void setMax(int max) {
     requirement.setMax(max);
   }
@@ -81,6 +89,23 @@ public PerformanceTracker getOrCreateTracker() {
     return tracker;
   }
 
+  public LatencyCounter getLatencyCounter() {
+    if (latencyCounter == null) {
+      String name = getCounterName();
+      latencyCounter = CounterRepository.getInstance().getOrCreateCounter(name != null ? name : getClass().getSimpleName());
+    }
+    return latencyCounter;
+  }
+
+  protected Object invoke(Object[] args) throws Exception {
+    long startTime = System.nanoTime();
+    try {
+      return getOrCreateTracker().invoke(args);
+    } finally {
+      getLatencyCounter().addNanoSample(System.nanoTime() - startTime);
+    }
+  }
+
   @Override
   public void close() {
     if (tracker.isTrackingStarted()) {
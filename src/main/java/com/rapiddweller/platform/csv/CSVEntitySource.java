@@ -26,20 +26,31 @@
 
 package com.rapiddweller.platform.csv;
 
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
 import com.rapiddweller.common.ArrayUtil;
 import com.rapiddweller.common.Converter;
 import com.rapiddweller.common.StringUtil;
 import com.rapiddweller.common.SystemInfo;
 import com.rapiddweller.common.Tabular;
+import com.rapiddweller.common.converter.ArrayConverter;
+import com.rapiddweller.common.converter.ConverterChain;
 import com.rapiddweller.common.converter.NoOpConverter;
 import com.rapiddweller.format.DataIterator;
 import com.rapiddweller.format.csv.CSVUtil;
 import com.rapiddweller.model.data.ComplexTypeDescriptor;
 import com.rapiddweller.model.data.Entity;
 import com.rapiddweller.model.data.FileBasedEntitySource;
+import com.rapiddweller.platform.array.Array2EntityConverter;
+import com.rapiddweller.platform.file.MappedChunkEntityIterator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
 
 /**
- * Imports {@link Entity} data from CSV files.<br/><br/>
+ * Imports {@link Entity} data from CSV files.
+ * If 'threads' is set to a value greater than 1, a local file is parsed concurrently
+ * in memory-mapped chunks by a {@link MappedCSVEntityIterator}.<br/><br/>
  * @author Volker Bergmann
  */
 public class CSVEntitySource extends FileBasedEntitySource implements Tabular {
@@ -51,6 +62,9 @@ public class CSVEntitySource extends FileBasedEntitySource implements Tabular {
   private final ComplexTypeDescriptor entityType;
   private String[] columnNames;
   private boolean expectingHeader;
+  private int threads;
+  private boolean ordered;
+  private int chunkSize;
 
 
   // constructors ----------------------------------------------------------------------------------------------------
@@ -92,6 +106,9 @@ public CSVEntitySource(String uri, ComplexTypeDescriptor entityType,
     this.entityType = entityType;
     this.preprocessor = preprocessor;
     this.expectingHeader = true;
+    this.threads = 1;
+    this.ordered = true;
+    this.chunkSize = MappedChunkEntityIterator.DEFAULT_CHUNK_SIZE;
   }
 
   // properties ------------------------------------------------------------------------------------------------------
@@ -114,6 +131,34 @@ public void setEncoding(String encoding) {
     this.encoding = encoding;
   }
 
+  public int getThreads() {
+    return threads;
+  }
+
+  /** Sets the number of threads for parsing the file. With more than one thread,
+   *  a local file is parsed in memory-mapped chunks. */
+  public void setThreads(int threads) {
+    this.threads = threads;
+  }
+
+  public boolean isOrdered() {
+    return ordered;
+  }
+
+  /** Tells if entities must be provided in file order when parsing with multiple threads. */
+  public void setOrdered(boolean ordered) {
+    this.ordered = ordered;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  /** Sets the approximate size of the chunks in bytes which are parsed with multiple threads. */
+  public void setChunkSize(int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
   @Override
   public String[] getColumnNames() {
     if (ArrayUtil.isEmpty(columnNames)) {
@@ -143,8 +188,12 @@ public void setColumns(String[] columns) {
 
   @Override
   public DataIterator<Entity> iterator() {
+    String resolvedUri = resolveUri();
+    if (threads > 1 && isMappable(resolvedUri)) {
+      return createMappedIterator(resolvedUri);
+    }
     CSVEntityIterator iterator =
-        new CSVEntityIterator(resolveUri(), entityType, preprocessor, separator, encoding);
+        new CSVEntityIterator(resolvedUri, entityType, preprocessor, separator, encoding);
     if (!expectingHeader) {
       iterator.setColumns(getColumnNames());
       iterator.setExpectingHeader(false);
@@ -152,6 +201,36 @@ public DataIterator<Entity> iterator() {
     return iterator;
   }
 
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private boolean isMappable(String resolvedUri) {
+    Charset charset = Charset.forName(encoding);
+    return new File(resolvedUri).isFile()
+        && MappedChunkEntityIterator.isSupported(charset)
+        && MappedCSVEntityIterator.isSupported(separator, charset)
+        && (entityType == null || entityType.isRowBased() == null || entityType.isRowBased());
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private DataIterator<Entity> createMappedIterator(String resolvedUri) {
+    File file = new File(resolvedUri);
+    String[] columns = columnNames;
+    long dataStart = 0;
+    if (expectingHeader) {
+      columns = StringUtil.trimAll(CSVUtil.parseHeader(resolvedUri, separator, encoding));
+      try {
+        dataStart = MappedCSVEntityIterator.firstRecordEnd(file, separator);
+      } catch (IOException e) {
+        throw BeneratorExceptionFactory.getInstance().operationFailed("Error reading " + resolvedUri, e);
+      }
+    }
+    Converter<String[], Object[]> arrayConverter = new ArrayConverter(String.class, Object.class, preprocessor);
+    Converter<String[], Entity> converter = new ConverterChain<>(arrayConverter,
+        new Array2EntityConverter(entityType, columns, true));
+    return new MappedCSVEntityIterator(file, dataStart, Charset.forName(encoding), separator,
+        converter, threads, ordered, chunkSize);
+  }
+
   // java.lang.Object overrides --------------------------------------------------------------------------------------
 
   @Override
@@ -0,0 +1,191 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.csv;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.Converter;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.file.MappedChunkEntityIterator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Iterates the entities of a CSV file by parsing memory-mapped chunks of the file concurrently.
+ * A quote starts a quoted cell only at the beginning of a cell, quoted cells may contain separators,
+ * escaped quotes ("") and line breaks. Since a chunk may then start inside of a record,
+ * chunks are validated in file order and entities are always provided in file order.<br/><br/>
+ * Created: 19.10.2026 15:41:27
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class MappedCSVEntityIterator extends MappedChunkEntityIterator {
+
+  private static final byte QUOTE = '"';
+  private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+  private final byte separator;
+
+  public MappedCSVEntityIterator(File file, long dataStart, Charset charset, char separator,
+                                 Converter<String[], Entity> converter, int threads, boolean ordered, int chunkSize) {
+    super(file, dataStart, charset, converter, threads, ordered, chunkSize);
+    if (!isSupported(separator, charset)) {
+      close();
+      throw BeneratorExceptionFactory.getInstance().illegalArgument(
+          "Unsupported separator for memory-mapped parsing: '" + separator + "'");
+    }
+    this.separator = (byte) separator;
+  }
+
+  /** Tells if a separator can be processed by memory-mapped parsing.
+   *  @param separator the cell separator
+   *  @param charset the character encoding of the file
+   *  @return true if the separator is an ASCII character which the charset encodes as the same single byte */
+  public static boolean isSupported(char separator, Charset charset) {
+    return separator < 0x80 && separator != QUOTE && separator != LF && separator != CR
+        && Arrays.equals(new byte[] { (byte) separator }, String.valueOf(separator).getBytes(charset));
+  }
+
+  /** Determines the end of the first record of a file, e.g. for skipping a header row.
+   *  @param file the file to scan
+   *  @param separator the cell separator
+   *  @return the position after the line feed which ends the first record */
+  public static long firstRecordEnd(File file, char separator) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+      boolean cellStart = true;
+      boolean quoted = false;
+      boolean afterQuote = false;
+      long position = 0;
+      int count;
+      while ((count = channel.read(buffer, position)) > 0) {
+        for (int i = 0; i < count; i++) {
+          byte b = buffer.get(i);
+          if (quoted) {
+            afterQuote = (b == QUOTE);
+            quoted = !afterQuote;
+          } else if (b == QUOTE && (cellStart || afterQuote)) {
+            // a quote opens a quoted cell only at its start, directly after a closing quote it is an escaped one
+            quoted = true;
+            cellStart = false;
+            afterQuote = false;
+          } else if (b == LF) {
+            return position + i + 1;
+          } else {
+            cellStart = (b == separator);
+            afterQuote = false;
+          }
+        }
+        position += count;
+        buffer.clear();
+      }
+      return position;
+    }
+  }
+
+  // MappedChunkEntityIterator callback implementations --------------------------------------------------------------
+
+  @Override
+  protected boolean hasExactChunkBoundaries() {
+    return false;
+  }
+
+  @Override
+  protected int parseChunk(ByteBuffer chunk, int end, boolean endOfFile, List<String[]> rows) {
+    int limit = chunk.limit();
+    List<String> cells = new ArrayList<>();
+    int pos = 0;
+    while (pos < end) {
+      // skip empty lines
+      byte first = chunk.get(pos);
+      if (first == LF) {
+        pos++;
+        continue;
+      } else if (first == CR && pos + 1 < limit && chunk.get(pos + 1) == LF) {
+        pos += 2;
+        continue;
+      }
+      cells.clear();
+      while (true) {
+        pos = (pos < limit && chunk.get(pos) == QUOTE ? parseQuotedCell(chunk, pos, cells) : parseCell(chunk, pos, cells));
+        if (pos >= limit) {
+          if (!endOfFile) {
+            return -1; // the record continues after the buffer
+          }
+          break;
+        }
+        if (chunk.get(pos++) == LF) {
+          break;
+        } // otherwise a separator has been found
+      }
+      rows.add(cells.toArray(new String[0]));
+    }
+    return pos;
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** Parses an unquoted cell.
+   *  @return the position of the separator or line feed which ends the cell */
+  private int parseCell(ByteBuffer chunk, int pos, List<String> cells) {
+    int limit = chunk.limit();
+    int start = pos;
+    byte b;
+    while (pos < limit && (b = chunk.get(pos)) != separator && b != LF) {
+      pos++;
+    }
+    int end = pos;
+    if (end > start && chunk.get(end - 1) == CR && (pos == limit || chunk.get(pos) == LF)) {
+      end--;
+    }
+    cells.add(decode(chunk, start, end));
+    return pos;
+  }
+
+  /** Parses a quoted cell, starting at the opening quote.
+   *  @return the position of the separator or line feed which ends the cell */
+  private int parseQuotedCell(ByteBuffer chunk, int pos, List<String> cells) {
+    int limit = chunk.limit();
+    pos++;
+    // find the closing quote for determining the maximum length of the cell content
+    int end = pos;
+    while (end < limit) {
+      if (chunk.get(end) == QUOTE) {
+        if (end + 1 < limit && chunk.get(end + 1) == QUOTE) {
+          end += 2;
+          continue;
+        }
+        break;
+      }
+      end++;
+    }
+    byte[] bytes = scratch(end - pos);
+    int length = 0;
+    while (pos < limit) {
+      byte b = chunk.get(pos++);
+      if (b != QUOTE) {
+        bytes[length++] = b;
+      } else if (pos < limit && chunk.get(pos) == QUOTE) {
+        bytes[length++] = QUOTE;
+        pos++;
+      } else {
+        break;
+      }
+    }
+    cells.add(new String(bytes, 0, length, charset));
+    // skip characters between the closing quote and the end of the cell
+    byte b;
+    while (pos < limit && (b = chunk.get(pos)) != separator && b != LF) {
+      pos++;
+    }
+    return pos;
+  }
+
+}
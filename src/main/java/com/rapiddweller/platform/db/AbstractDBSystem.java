@@ -27,6 +27,7 @@
 package com.rapiddweller.platform.db;
 
 import com.rapiddweller.benerator.Consumer;
+import com.rapiddweller.benerator.Generator;
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.environment.SystemRef;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
@@ -43,7 +44,6 @@
 import com.rapiddweller.common.LoggerEscalator;
 import com.rapiddweller.common.StringUtil;
 import com.rapiddweller.common.collection.OrderedNameMap;
-import com.rapiddweller.common.converter.AnyConverter;
 import com.rapiddweller.common.version.VersionNumber;
 import com.rapiddweller.format.DataSource;
 import com.rapiddweller.format.script.ScriptSpec;
@@ -88,6 +88,7 @@
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -100,7 +101,10 @@
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
 
 import static com.rapiddweller.jdbacl.SQLUtil.createCatSchTabString;
 
@@ -125,6 +129,10 @@ public abstract class AbstractDBSystem extends AbstractStorageSystem implements
   protected static LoggerEscalator escalator = new LoggerEscalator();
   private final TypeMapper driverTypeMapper;
   private final AtomicInteger invalidationCount;
+  private final IdPoolManager idPools;
+  private final Map<ComplexTypeDescriptor, WriteBinding> insertBindings;
+  private final Map<ComplexTypeDescriptor, WriteBinding> updateBindings;
+  private final Map<ComplexTypeDescriptor, ResultSet2EntityConverter> idQueryConverters;
   protected boolean batch;
   protected boolean readOnly;
   protected volatile Database database;
@@ -144,9 +152,17 @@ public abstract class AbstractDBSystem extends AbstractStorageSystem implements
   private String includeTables;
   private String excludeTables;
   private boolean metaCache;
+  private boolean tableMetaCache;
+  private TableMetaDataCache tableMetaDataCache;
+  private volatile String databaseProductName;
+  private boolean bulkLoad;
+  private volatile BulkLoadSession bulkLoadSession;
   private boolean lazy;
   private boolean acceptUnknownColumnTypes;
   protected int fetchSize;
+  private int partitions;
+  private int partitionFetchSize;
+  private int poolSize;
   private OrderedNameMap<TypeDescriptor> typeDescriptors;
   protected boolean dynamicQuerySupported;
   private boolean connectedBefore;
@@ -192,7 +208,11 @@ private AbstractDBSystem(String id, DataModel dataModel) {
     setIncludeTables(".*");
     setExcludeTables(null);
     setFetchSize(DEFAULT_FETCH_SIZE);
+    setPartitions(1);
+    setPartitionFetchSize(0);
+    setPoolSize(1);
     setMetaCache(false);
+    setTableMetaCache(false);
     setBatch(false);
     setReadOnly(false);
     setLazy(true);
@@ -201,6 +221,10 @@ private AbstractDBSystem(String id, DataModel dataModel) {
     this.driverTypeMapper = driverTypeMapper();
     this.connectedBefore = false;
     this.invalidationCount = new AtomicInteger();
+    this.idPools = new IdPoolManager(this);
+    this.insertBindings = new ConcurrentHashMap<>();
+    this.updateBindings = new ConcurrentHashMap<>();
+    this.idQueryConverters = new ConcurrentHashMap<>();
   }
 
 
@@ -350,6 +374,27 @@ public void setMetaCache(boolean metaCache) {
     this.metaCache = metaCache;
   }
 
+  public boolean isTableMetaCache() {
+    return tableMetaCache;
+  }
+
+  /** Activates the per-table metadata cache, see {@link TableMetaDataCache}. In this mode,
+   *  the metadata of a table is read when the table is used for the first time,
+   *  and cached metadata is reused if the table's DDL has not changed. */
+  public void setTableMetaCache(boolean tableMetaCache) {
+    this.tableMetaCache = tableMetaCache;
+  }
+
+  public boolean isBulkLoad() {
+    return bulkLoad;
+  }
+
+  /** Activates automatic bulk loading: Each table is prepared with a {@link BulkLoadSession}
+   *  before the first insert and its constraints and indexes are restored when the system is closed. */
+  public void setBulkLoad(boolean bulkLoad) {
+    this.bulkLoad = bulkLoad;
+  }
+
   public boolean isBatch() {
     return batch;
   }
@@ -366,6 +411,37 @@ public void setFetchSize(int fetchSize) {
     this.fetchSize = fetchSize;
   }
 
+  public int getPartitions() {
+    return partitions;
+  }
+
+  /** Sets the number of concurrent connections with which a table is read in &lt;iterate&gt; and transcoding. */
+  public void setPartitions(int partitions) {
+    this.partitions = partitions;
+  }
+
+  public int getPartitionFetchSize() {
+    return partitionFetchSize;
+  }
+
+  /** Sets the fetch size of each partition's query. If it is 0, the {@link #fetchSize} is used. */
+  public void setPartitionFetchSize(int partitionFetchSize) {
+    this.partitionFetchSize = partitionFetchSize;
+  }
+
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  /** Sets the maximum number of connections which are used concurrently by different threads.
+   *  For n threads which generate data, use n + 1, since the main thread takes a connection too. */
+  public void setPoolSize(int poolSize) {
+    if (poolSize < 1) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("poolSize must be positive, but is " + poolSize);
+    }
+    this.poolSize = poolSize;
+  }
+
   public boolean isReadOnly() {
     return readOnly;
   }
@@ -398,6 +474,14 @@ public void setAcceptUnknownColumnTypes(boolean acceptUnknownColumnTypes) {
   @Override
   public TypeDescriptor[] getTypeDescriptors() {
     logger.debug("getTypeDescriptors()");
+    if (tableMetaCache) {
+      List<String> tableNames = haveTableMetaDataCache().getTableNames();
+      List<TypeDescriptor> result = new ArrayList<>(tableNames.size());
+      for (String tableName : tableNames) {
+        result.add(getCachedTypeDescriptor(tableName));
+      }
+      return CollectionUtil.toArray(result, TypeDescriptor.class);
+    }
     fetchMetadataIfNecessary();
     if (typeDescriptors == null) {
       return EMPTY_TYPE_DESCRIPTOR_ARRAY;
@@ -409,6 +493,9 @@ public TypeDescriptor[] getTypeDescriptors() {
   @Override
   public TypeDescriptor getTypeDescriptor(String tableName) {
     logger.debug("getTypeDescriptor({})", tableName);
+    if (tableMetaCache) {
+      return getCachedTypeDescriptor(tableName);
+    }
     fetchMetadataIfNecessary();
     return typeDescriptors.get(tableName);
   }
@@ -435,26 +522,112 @@ public void update(Entity entity) {
 
   @Override
   public void close() {
-    IOUtil.close(importer);
+    try {
+      endBulkLoad();
+    } finally {
+      IOUtil.close(importer);
+    }
+  }
+
+  // bulk load -------------------------------------------------------------------------------------------------------
+
+  /** Starts a {@link BulkLoadSession} which defers constraint checks and index maintenance
+   *  of the given tables until it is closed. Further tables can be added to the session later.
+   *  @param minimalLogging if true, tables are switched to NOLOGGING (Oracle) or UNLOGGED (PostgreSQL) mode
+   *  @param tableNames the names of the tables to prepare
+   *  @return the session */
+  public BulkLoadSession beginBulkLoad(boolean minimalLogging, String... tableNames) {
+    BulkLoadSession session;
+    synchronized (this) {
+      if (bulkLoadSession != null) {
+        throw BeneratorExceptionFactory.getInstance().illegalOperation("A bulk load session is already active on " + id);
+      }
+      session = new BulkLoadSession(this, minimalLogging);
+      bulkLoadSession = session;
+    }
+    try {
+      for (String tableName : tableNames) {
+        session.addTable(tableName);
+      }
+    } catch (RuntimeException e) {
+      session.close();
+      throw e;
+    }
+    return session;
+  }
+
+  /** Closes the active {@link BulkLoadSession} if there is one. */
+  public void endBulkLoad() {
+    BulkLoadSession session = bulkLoadSession;
+    if (session != null) {
+      session.close();
+    }
+  }
+
+  public BulkLoadSession getBulkLoadSession() {
+    return bulkLoadSession;
+  }
+
+  synchronized void bulkLoadFinished(BulkLoadSession session) {
+    if (bulkLoadSession == session) {
+      bulkLoadSession = null;
+    }
+  }
+
+  private BulkLoadSession haveBulkLoadSession() {
+    BulkLoadSession session = bulkLoadSession;
+    if (session == null) {
+      synchronized (this) {
+        if (bulkLoadSession == null) {
+          bulkLoadSession = new BulkLoadSession(this, false);
+        }
+        session = bulkLoadSession;
+      }
+    }
+    return session;
   }
 
+  /** Queries an entity by its primary key with a prepared statement which is reused for the table.
+   *  @param tableName the name of the table
+   *  @param id the value of the primary key or, for composite keys, an array of the values
+   *      in the order of the primary key columns
+   *  @return the entity or null if there is none with the given id */
   public Entity queryEntityById(String tableName, Object id) {
     try {
       logger.debug("queryEntityById({}, {})", tableName, id);
       ComplexTypeDescriptor descriptor = (ComplexTypeDescriptor) getTypeDescriptor(tableName);
-      PreparedStatement query = getSelectByPKStatement(descriptor);
-      query.setObject(1, id); // TODO support composite keys
-      ResultSet resultSet = query.executeQuery();
-      if (resultSet.next()) {
-        return ResultSet2EntityConverter.convert(resultSet, descriptor);
-      } else {
-        return null;
+      Object[] idValues = (id instanceof Object[] ? (Object[]) id : new Object[] { id });
+      synchronized (statementLock()) {
+        PreparedStatement query = getSelectByPKStatement(descriptor);
+        int pkColumnCount = getTable(tableName).getPKColumnNames().length;
+        if (idValues.length != pkColumnCount) {
+          throw BeneratorExceptionFactory.getInstance().illegalArgument("The primary key of " + tableName +
+              " has " + pkColumnCount + " columns, but " + idValues.length + " values were provided");
+        }
+        for (int i = 0; i < idValues.length; i++) {
+          query.setObject(i + 1, idValues[i]);
+        }
+        try (ResultSet resultSet = query.executeQuery()) {
+          if (resultSet.next()) {
+            return idQueryConverter(descriptor).convert(resultSet);
+          } else {
+            return null;
+          }
+        }
       }
     } catch (SQLException e) {
       throw BeneratorExceptionFactory.getInstance().dbQueryFailed("Error querying " + tableName, e);
     }
   }
 
+  /** Creates a generator which picks random ids of the given table from a {@link IdPoolManager}
+   *  pool which is shared with other references to the table.
+   *  @param tableName the table to reference
+   *  @return a generator or null if the table does not have a single-column integral primary key */
+  public Generator<?> createIdPoolGenerator(String tableName) {
+    return idPools.createGenerator(tableName);
+  }
+
   public long countEntities(String tableName) {
     logger.debug("countEntities({})", tableName);
     String query = "select count(*) from " +
@@ -463,16 +636,74 @@ public long countEntities(String tableName) {
     return DBUtil.queryLong(query, getConnection());
   }
 
+  /** Counts the rows of a table in a task of the given executor on a connection of its own,
+   *  so the count runs concurrently to the queries on the shared connection.
+   *  @param tableName the name of the table
+   *  @param executor the executor which runs the count
+   *  @param receiver receives the number of rows when the count has finished
+   *  @return the count, which needs to be cancelled if its result is not needed any more */
+  public BackgroundCount countEntitiesInBackground(String tableName, ExecutorService executor, LongConsumer receiver) {
+    logger.debug("countEntitiesInBackground({})", tableName);
+    String query = "select count(*) from " +
+        createCatSchTabString(catalogName, schemaName, tableName, dialect);
+    BackgroundCount count = new BackgroundCount(this, tableName, query, receiver);
+    count.submitTo(executor);
+    return count;
+  }
+
   @Override
   @SuppressWarnings({"null", "checkstyle:VariableDeclarationUsageDistance"})
   public DataSource<Entity> queryEntities(String type, String selector, Context context) {
     logger.debug("queryEntities({})", type);
     String tableSpec = createCatSchTabString(catalogName, schemaName, type, getDialect());
+    if (partitions > 1) {
+      DataSource<Entity> partitionedSource = createPartitionedSource(type, tableSpec, selector);
+      if (partitionedSource != null) {
+        return partitionedSource;
+      }
+    }
     String sql = renderSelectorQuery(tableSpec, "*", selector);
     DataSource<ResultSet> source = createQuery(sql, context);
     return new EntityResultSetDataSource(source, (ComplexTypeDescriptor) getTypeDescriptor(type));
   }
 
+  /** Creates a {@link PartitionedEntityDataSource} if the selector is empty or a static WHERE condition
+   *  and the table has a single-column integral primary key, otherwise null. */
+  private DataSource<Entity> createPartitionedSource(String tableName, String tableSpec, String selector) {
+    String condition = null;
+    if (!StringUtil.isEmpty(selector)) {
+      ScriptSpec spec = ScriptUtil.parseSpec(selector);
+      if (spec.isScript() || StringUtil.startsWithIgnoreCase(spec.getText(), SELECT)) {
+        return null;
+      }
+      condition = spec.getText();
+    }
+    DBColumn pkColumn = IdPoolManager.integralIdColumn(getTable(tableName));
+    if (pkColumn == null) {
+      logger.debug("Reading {} unpartitioned, since it does not have a single-column integral primary key", tableName);
+      return null;
+    }
+    return new PartitionedEntityDataSource(this, tableSpec, pkColumn.getName(), condition,
+        (ComplexTypeDescriptor) getTypeDescriptor(tableName), partitions,
+        (partitionFetchSize > 0 ? partitionFetchSize : fetchSize));
+  }
+
+  /** Splits the rows of a table into key ranges which can be read concurrently, for example by parallel exports.
+   *  @param tableName the name of the table
+   *  @param partitions the maximum number of ranges
+   *  @return static WHERE conditions which together cover all rows of the table, or null if the table
+   *      does not have a single-column integral primary key or has no rows */
+  public List<String> partitionConditions(String tableName, int partitions) {
+    DBColumn pkColumn = IdPoolManager.integralIdColumn(getTable(tableName));
+    if (pkColumn == null) {
+      return null;
+    }
+    String tableSpec = createCatSchTabString(catalogName, schemaName, tableName, getDialect());
+    List<String> conditions = PartitionedEntityDataSource.rangeConditions(
+        this, tableSpec, pkColumn.getName(), null, partitions);
+    return (conditions.isEmpty() ? null : conditions);
+  }
+
   @Override
   public DataSource<?> queryEntityIds(String tableName, String selector, Context context) {
     logger.debug("queryEntityIds({}, {})", tableName, selector);
@@ -510,6 +741,13 @@ public Consumer inserter(String tableName) {
 
   protected abstract PreparedStatement getSelectByPKStatement(ComplexTypeDescriptor descriptor);
 
+  /** Provides the monitor which guards the prepared statements that {@link #getStatement(ComplexTypeDescriptor,
+   *  boolean, List)} and {@link #getSelectByPKStatement(ComplexTypeDescriptor)} return to the current thread,
+   *  from obtaining a statement until its execution or addition to the batch. */
+  protected Object statementLock() {
+    return this;
+  }
+
   public boolean tableExists(String tableName) {
     logger.debug("tableExists({})", tableName);
     return (getTypeDescriptor(tableName) != null);
@@ -565,11 +803,19 @@ public void invalidate() {
     database = null;
     typeDescriptors = null;
     tables = null;
+    if (tableMetaDataCache != null) {
+      // only tables whose DDL has changed will be imported again
+      tableMetaDataCache.refresh();
+    }
     if (importer instanceof CachingDBImporter) {
       ((CachingDBImporter) importer).invalidate();
     } else {
       CachingDBImporter.deleteCacheFile(url, user, catalogName, schemaName);
     }
+    idPools.clear();
+    insertBindings.clear();
+    updateBindings.clear();
+    idQueryConverters.clear();
     invalidationCount.incrementAndGet();
   }
 
@@ -688,26 +934,34 @@ protected abstract PreparedStatement getStatement(
       ComplexTypeDescriptor descriptor, boolean insert, List<ColumnInfo> columnInfos);
 
   private void persistOrUpdate(Entity entity, boolean insert) {
-    fetchMetadataIfNecessary();
-    List<ColumnInfo> writeColumnInfos = getWriteColumnInfos(entity, insert);
+    if (!tableMetaCache) {
+      fetchMetadataIfNecessary();
+    }
+    if (insert && bulkLoad) {
+      haveBulkLoadSession().addTable(entity.type());
+    }
+    WriteBinding binding = writeBinding(entity, insert);
     try {
       String tableName = entity.type();
-      PreparedStatement statement = getStatement(entity.descriptor(), insert, writeColumnInfos);
-      for (int i = 0; i < writeColumnInfos.size(); i++) {
-        ColumnInfo info = writeColumnInfos.get(i);
-        Object jdbcValue = entity.getComponent(info.name);
-        if (info.type != null) {
-          jdbcValue = AnyConverter.convert(jdbcValue, info.type);
+      synchronized (statementLock()) {
+        PreparedStatement statement = getStatement(entity.descriptor(), insert, binding.columnInfos);
+        for (int i = 0; i < binding.binders.length; i++) {
+          ColumnInfo info = binding.columnInfos.get(i);
+          try {
+            binding.binders[i].bind(statement, i + 1, entity.getComponent(info.name));
+          } catch (SQLException e) {
+            throw BeneratorExceptionFactory.getInstance().illegalArgument(
+                "error setting column " + tableName + '.' + info.name, e);
+          }
         }
-        handleOracleType(tableName, statement, i, info, jdbcValue);
-      }
-      if (batch) {
-        statement.addBatch();
-      } else {
-        int rowCount = statement.executeUpdate();
-        if (rowCount == 0) {
-          throw BeneratorExceptionFactory.getInstance().illegalArgument(
-              "Update failed because, since there is no database entry with the PK of " + entity);
+        if (batch) {
+          statement.addBatch();
+        } else {
+          int rowCount = statement.executeUpdate();
+          if (rowCount == 0) {
+            throw BeneratorExceptionFactory.getInstance().illegalArgument(
+                "Update failed because, since there is no database entry with the PK of " + entity);
+          }
         }
       }
     } catch (Exception e) {
@@ -715,18 +969,39 @@ private void persistOrUpdate(Entity entity, boolean insert) {
     }
   }
 
-  private void handleOracleType(String tableName, PreparedStatement statement, int i, ColumnInfo info, Object jdbcValue) {
-    try {
-      boolean criticalOracleType =
-          (dialect instanceof OracleDialect && (info.sqlType == Types.NCLOB || info.sqlType == Types.OTHER));
-      if (jdbcValue != null || criticalOracleType) { // Oracle is not able to perform setNull() on NCLOBs and NVARCHAR2
-        statement.setObject(i + 1, jdbcValue);
-      } else {
-        statement.setNull(i + 1, info.sqlType);
+  /** Provides the columns and {@link ColumnBinder}s for writing entities of the entity's descriptor.
+   *  They are determined once per descriptor, like the prepared statements. */
+  private WriteBinding writeBinding(Entity entity, boolean insert) {
+    Map<ComplexTypeDescriptor, WriteBinding> bindings = (insert ? insertBindings : updateBindings);
+    WriteBinding binding = bindings.get(entity.descriptor());
+    if (binding == null) {
+      List<ColumnInfo> columnInfos = getWriteColumnInfos(entity, insert);
+      ColumnBinder[] binders = new ColumnBinder[columnInfos.size()];
+      for (int i = 0; i < binders.length; i++) {
+        ColumnInfo info = columnInfos.get(i);
+        // Oracle is not able to perform setNull() on NCLOBs and NVARCHAR2
+        boolean criticalOracleType =
+            (getDialect() instanceof OracleDialect && (info.sqlType == Types.NCLOB || info.sqlType == Types.OTHER));
+        binders[i] = ColumnBinder.forColumn(info, criticalOracleType);
       }
-    } catch (SQLException e) {
-      throw BeneratorExceptionFactory.getInstance().illegalArgument(
-          "error setting column " + tableName + '.' + info.name, e);
+      binding = new WriteBinding(columnInfos, binders);
+      bindings.put(entity.descriptor(), binding);
+    }
+    return binding;
+  }
+
+  private ResultSet2EntityConverter idQueryConverter(ComplexTypeDescriptor descriptor) {
+    return idQueryConverters.computeIfAbsent(descriptor, ResultSet2EntityConverter::new);
+  }
+
+  private static class WriteBinding {
+
+    final List<ColumnInfo> columnInfos;
+    final ColumnBinder[] binders;
+
+    WriteBinding(List<ColumnInfo> columnInfos, ColumnBinder[] binders) {
+      this.columnInfos = columnInfos;
+      this.binders = binders;
     }
   }
 
@@ -737,6 +1012,35 @@ public Database getDbMetaData() {
     return fetchMetadataIfNecessary();
   }
 
+  /** @return the database product name, which is read from the JDBC metadata without importing the database model */
+  public String getDatabaseProductName() {
+    if (databaseProductName == null) {
+      if (database != null) {
+        databaseProductName = database.getDatabaseProductName();
+      } else {
+        try {
+          databaseProductName = getConnection().getMetaData().getDatabaseProductName();
+        } catch (SQLException e) {
+          throw BeneratorExceptionFactory.getInstance().dbQueryFailed("Error reading the database product name", e);
+        }
+      }
+    }
+    return databaseProductName;
+  }
+
+  /** Uses a per-table metadata cache in the given directory instead of the user's cache directory. */
+  synchronized void setTableMetaDataCacheDirectory(File directory) { // for testing
+    this.tableMetaDataCache = new TableMetaDataCache(this, directory);
+  }
+
+  /** @return the per-table metadata cache, which is created on the first call */
+  public synchronized TableMetaDataCache haveTableMetaDataCache() {
+    if (tableMetaDataCache == null) {
+      tableMetaDataCache = new TableMetaDataCache(this);
+    }
+    return tableMetaDataCache;
+  }
+
   protected Database fetchMetadataIfNecessary() {
     if (this.database != null) {
       return this.database;
@@ -950,7 +1254,7 @@ private boolean ignoreColumn(ComponentDescriptor colDescriptor, ComplexTypeDescr
 
   // get special data type of data system, using later to handle special cases
   private List<String> getSpecialDataTypes() {
-    String dbProductName = getDbMetaData().getDatabaseProductName();
+    String dbProductName = getDatabaseProductName();
 
     List<String> specialTypes = new ArrayList<>();
 
@@ -1004,7 +1308,7 @@ private ColumnInfo getWriteColumnInfo(Entity entity, ComplexTypeDescriptor entit
     Class<?> typeToWrite;
     int sqlType = columnType.getJdbcType();
 
-    String dbProductName = getDbMetaData().getDatabaseProductName();
+    String dbProductName = getDatabaseProductName();
 
     // check is postgresql db
     boolean isPostgres = false;
@@ -1058,6 +1362,9 @@ private ColumnInfo getWriteColumnInfo(Entity entity, ComplexTypeDescriptor entit
   }
 
   public DBTable getTable(String tableName) {
+    if (tableMetaCache) {
+      return getCachedTable(tableName);
+    }
     fetchMetadataIfNecessary();
     DBTable table = findTableInConfiguredCatalogAndSchema(schemaName, tableName);
     if (table != null) {
@@ -1076,6 +1383,10 @@ public DBTable getTable(String tableName) {
   }
 
   public DBTable getTable(String schemaName, String tableName) {
+    if (tableMetaCache) {
+      // the table cache covers the configured schema
+      return getCachedTable(tableName);
+    }
     fetchMetadataIfNecessary();
     DBTable table = findTableInConfiguredCatalogAndSchema(schemaName, tableName);
     if (table != null) {
@@ -1094,6 +1405,42 @@ public DBTable getTable(String schemaName, String tableName) {
     throw BeneratorExceptionFactory.getInstance().objectNotFound("Table " + tableName);
   }
 
+  private synchronized TypeDescriptor getCachedTypeDescriptor(String tableName) {
+    if (typeDescriptors == null) {
+      typeDescriptors = OrderedNameMap.createCaseIgnorantMap();
+    }
+    TypeDescriptor result = typeDescriptors.get(tableName);
+    if (result == null) {
+      String name = haveTableMetaDataCache().resolveTableName(tableName);
+      if (name == null) {
+        return null;
+      }
+      if (lazy) {
+        result = new LazyTableComplexTypeDescriptor(name, this);
+      } else {
+        result = mapTableToComplexTypeDescriptor(getCachedTable(name), new ComplexTypeDescriptor(name, this));
+      }
+      typeDescriptors.put(name, result);
+    }
+    return result;
+  }
+
+  private synchronized DBTable getCachedTable(String tableName) {
+    if (tables == null) {
+      tables = new HashMap<>();
+    }
+    DBTable table = tables.get(tableName.toUpperCase());
+    if (table == null) {
+      TableMetaData metaData = haveTableMetaDataCache().getTable(tableName);
+      if (metaData == null) {
+        throw BeneratorExceptionFactory.getInstance().objectNotFound("Table " + tableName);
+      }
+      table = metaData.toDBTable(schemaName);
+      tables.put(tableName.toUpperCase(), table);
+    }
+    return table;
+  }
+
   private DBTable findAnyTableOfName(String tableName) {
     for (DBCatalog catalog : database.getCatalogs()) {
       for (DBSchema schema : catalog.getSchemas()) {
@@ -0,0 +1,94 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+
+/**
+ * Counts the rows of a table in a task of an {@link ExecutorService} on a connection of its own
+ * and hands the result to a {@link LongConsumer}. A count which is not needed any more is stopped by
+ * {@link #cancel()}, which also cancels the query if it is running, so it does not keep loading the database.<br/><br/>
+ * Created: 19.10.2026 17:52:05
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class BackgroundCount implements Runnable {
+
+  private static final Logger logger = LoggerFactory.getLogger(BackgroundCount.class);
+
+  private final AbstractDBSystem db;
+  private final String tableName;
+  private final String query;
+  private final LongConsumer receiver;
+  private volatile boolean cancelled;
+  private volatile Statement statement;
+  private Future<?> future;
+
+  BackgroundCount(AbstractDBSystem db, String tableName, String query, LongConsumer receiver) {
+    this.db = db;
+    this.tableName = tableName;
+    this.query = query;
+    this.receiver = receiver;
+    this.cancelled = false;
+    this.statement = null;
+  }
+
+  void submitTo(ExecutorService executor) {
+    this.future = executor.submit(this);
+  }
+
+  @Override
+  public void run() {
+    if (cancelled) {
+      return;
+    }
+    try (Connection connection = db.createConnection();
+         Statement countStatement = connection.createStatement()) {
+      this.statement = countStatement;
+      if (cancelled) {
+        return;
+      }
+      try (ResultSet resultSet = countStatement.executeQuery(query)) {
+        resultSet.next();
+        long count = resultSet.getLong(1);
+        if (!cancelled) {
+          receiver.accept(count);
+        }
+      }
+      connection.commit();
+    } catch (SQLException | RuntimeException e) {
+      if (!cancelled) {
+        logger.debug("Counting rows of {} failed", tableName, e);
+      }
+    } finally {
+      this.statement = null;
+    }
+  }
+
+  /** Stops the count: A count which has not started yet is removed from the executor,
+   *  a running query is cancelled and the result of a finished query is discarded. */
+  public void cancel() {
+    cancelled = true;
+    if (future != null) {
+      future.cancel(false);
+    }
+    Statement runningStatement = this.statement;
+    if (runningStatement != null) {
+      try {
+        runningStatement.cancel();
+      } catch (SQLException e) {
+        logger.debug("Error cancelling count of {}", tableName, e);
+      }
+    }
+  }
+
+}
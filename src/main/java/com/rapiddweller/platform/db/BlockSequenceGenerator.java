@@ -0,0 +1,275 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.benerator.GeneratorContext;
+import com.rapiddweller.benerator.InvalidGeneratorSetupException;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.StringUtil;
+import com.rapiddweller.jdbacl.DBUtil;
+import com.rapiddweller.jdbacl.DatabaseDialect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.rapiddweller.jdbacl.SQLUtil.createCatSchTabString;
+
+/**
+ * Generates unique {@link Long} values by reserving blocks of 'blockSize' values in the database
+ * and handing them out locally. Each reservation is committed immediately, so after a crash the
+ * database never lags behind the generated values, and concurrent Benerator processes get disjoint blocks.
+ * Values are handed out lock-free within a block, and the next block is reserved in a background
+ * thread when half of the current block is used. Unused values of the current and the prefetched
+ * block are lost on close, so the generated values may have gaps.<br/>
+ * Blocks are reserved in one of two ways:
+ * <ul>
+ *   <li>If a 'table' is configured, a row of a sequence table like the one of the {@link SequenceTableGenerator}
+ *       is incremented by 'blockSize' with a single update statement, which locks the row until commit.
+ *       The 'column' holds the next free value, the optional 'selector' is a static SQL condition
+ *       that identifies the row. If no row or more than one row is updated, the reservation fails.</li>
+ *   <li>Otherwise, the database sequence 'name' is queried. Its increment must equal the 'blockSize'
+ *       which is checked when the generator is initialized.</li>
+ * </ul>
+ * Created: 19.10.2026 08:12:37
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class BlockSequenceGenerator extends AbstractSequenceGenerator {
+
+  private static final Logger logger = LoggerFactory.getLogger(BlockSequenceGenerator.class);
+
+  public static final long DEFAULT_BLOCK_SIZE = 100;
+
+  private long blockSize;
+  private String table;
+  private String column;
+  private String selector;
+
+  private Connection connection;
+  private String fetchSql;
+  private String reserveSql;
+  private ExecutorService prefetcher;
+  private volatile Block current;
+  private CompletableFuture<Block> next;
+
+  public BlockSequenceGenerator() {
+    this(null, null);
+  }
+
+  public BlockSequenceGenerator(String name, AbstractDBSystem database) {
+    this(name, database, DEFAULT_BLOCK_SIZE);
+  }
+
+  public BlockSequenceGenerator(String name, AbstractDBSystem database, long blockSize) {
+    super(name, database);
+    this.blockSize = blockSize;
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  public long getBlockSize() {
+    return blockSize;
+  }
+
+  public void setBlockSize(long blockSize) {
+    this.blockSize = blockSize;
+  }
+
+  public String getTable() {
+    return table;
+  }
+
+  public void setTable(String table) {
+    this.table = table;
+  }
+
+  public String getColumn() {
+    return column;
+  }
+
+  public void setColumn(String column) {
+    this.column = column;
+  }
+
+  public String getSelector() {
+    return selector;
+  }
+
+  public void setSelector(String selector) {
+    this.selector = selector;
+  }
+
+  // Generator interface implementation ------------------------------------------------------------------------------
+
+  @Override
+  public synchronized void init(GeneratorContext context) {
+    if (blockSize < 1) {
+      throw new InvalidGeneratorSetupException("Illegal blockSize: " + blockSize);
+    }
+    if (table != null) {
+      if (StringUtil.isEmpty(column)) {
+        throw new InvalidGeneratorSetupException("No 'column' defined for sequence table " + table);
+      }
+      // a table-based sequence needs no name, so the check of the parent class is bypassed with the table name
+      if (StringUtil.isEmpty(name)) {
+        name = table;
+      }
+    }
+    super.init(context);
+    // a separate connection makes sure that reservations are committed independently of the data
+    this.connection = database.createConnection();
+    DatabaseDialect dialect = database.getDialect();
+    if (table != null) {
+      // both statements address the table the same way, so they cannot refer to different tables
+      String tableSpec = createCatSchTabString(database.getCatalog(), database.getSchema(), table, dialect);
+      String whereClause = (selector != null ? " where " + selector : "");
+      this.reserveSql = "update " + tableSpec + " set " + column + " = " + column + " + " + blockSize + whereClause;
+      this.fetchSql = "select " + column + " from " + tableSpec + whereClause;
+      try {
+        this.current = reserveBlock();
+      } catch (RuntimeException e) {
+        close();
+        throw e;
+      }
+      this.next = null;
+    } else {
+      this.fetchSql = dialect.renderFetchSequenceValue(name);
+      this.current = reserveBlock();
+      Block second = reserveBlock();
+      if (second.start - current.start < blockSize) {
+        close();
+        throw BeneratorExceptionFactory.getInstance().configurationError("The increment of sequence '" + name +
+            "' is smaller than the blockSize " + blockSize + ". Create the sequence with 'increment by " + blockSize + "'");
+      }
+      this.next = CompletableFuture.completedFuture(second);
+    }
+    this.prefetcher = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "sequence-prefetch-" + name);
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public Long generate() {
+    while (true) {
+      Block block = current;
+      if (block == null) {
+        // the generator has been closed
+        return null;
+      }
+      long value = block.next.getAndIncrement();
+      if (value < block.end) {
+        if (value == block.start + blockSize / 2) {
+          // exactly one thread hands out this value, so exactly one thread triggers the prefetch
+          prefetch();
+        }
+        return value;
+      }
+      switchBlock(block);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    current = null;
+    next = null;
+    if (prefetcher != null) {
+      // let a running reservation finish before closing the connection
+      prefetcher.shutdown();
+      try {
+        prefetcher.awaitTermination(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      prefetcher = null;
+    }
+    DBUtil.close(connection);
+    connection = null;
+    super.close();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + (table != null ? table + '.' + column : name) + ", " + blockSize + "]";
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private synchronized void prefetch() {
+    if (next == null && prefetcher != null) {
+      next = CompletableFuture.supplyAsync(this::reserveBlock, prefetcher);
+    }
+  }
+
+  private synchronized void switchBlock(Block exhausted) {
+    if (current != exhausted) {
+      // another thread has already switched the block
+      return;
+    }
+    Block block;
+    if (next != null) {
+      try {
+        block = next.join();
+      } catch (CompletionException e) {
+        throw (e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e);
+      }
+    } else {
+      // no prefetch has been triggered for the exhausted block
+      block = reserveBlock();
+    }
+    next = null;
+    current = block;
+  }
+
+  private Block reserveBlock() {
+    synchronized (connection) {
+      try {
+        long start;
+        if (reserveSql != null) {
+          int rowCount;
+          try (Statement statement = connection.createStatement()) {
+            rowCount = statement.executeUpdate(reserveSql);
+          }
+          if (rowCount != 1) {
+            connection.rollback();
+            throw BeneratorExceptionFactory.getInstance().configurationError("Sequence table " + table
+                + " must have exactly one row" + (selector != null ? " matching '" + selector + "'" : "")
+                + ", but " + rowCount + " rows were found");
+          }
+          start = DBUtil.queryLong(fetchSql, connection) - blockSize;
+        } else {
+          start = DBUtil.queryLong(fetchSql, connection);
+        }
+        connection.commit();
+        logger.debug("{} reserved values {} to {}", this, start, start + blockSize - 1);
+        return new Block(start, start + blockSize);
+      } catch (SQLException e) {
+        throw BeneratorExceptionFactory.getInstance().dbQueryFailed("Error reserving a block of " + this, e);
+      }
+    }
+  }
+
+  private static class Block {
+
+    final long start;
+    final long end;
+    final AtomicLong next;
+
+    Block(long start, long end) {
+      this.start = start;
+      this.end = end;
+      this.next = new AtomicLong(start);
+    }
+  }
+
+}
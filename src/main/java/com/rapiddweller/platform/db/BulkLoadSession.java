@@ -0,0 +1,418 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.jdbacl.DBUtil;
+import com.rapiddweller.jdbacl.model.DBForeignKeyConstraint;
+import com.rapiddweller.jdbacl.model.DBIndex;
+import com.rapiddweller.jdbacl.model.DBTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.rapiddweller.jdbacl.SQLUtil.createCatSchTabString;
+
+/**
+ * Defers the checking of foreign key constraints and the maintenance of non-unique indexes
+ * while large amounts of data are inserted into database tables.
+ * The plan for each table is derived from its metadata and executed with the means of the database:
+ * Oracle disables constraints and makes indexes unusable, SQL Server disables constraint checks and indexes,
+ * and H2 turns off the referential integrity of the table. On all other databases,
+ * foreign key constraints are dropped and created again, MySQL/MariaDB disable the table's keys,
+ * which only has an effect on MyISAM tables, InnoDB ignores it and maintains its indexes while loading,
+ * and other databases drop non-unique indexes. Table and index names are qualified with the configured
+ * catalog and schema.
+ * Optionally, Oracle tables are switched to NOLOGGING and PostgreSQL tables to UNLOGGED.
+ * The statements are executed on a dedicated connection, so their commits and rollbacks
+ * do not affect the transactions of the data connections. Before a table is prepared, pending data is flushed,
+ * so the statements do not wait for locks of uncommitted rows, and the table is published to other threads
+ * only when its preparation has finished.
+ * When the session is closed, pending data is flushed, indexes are rebuilt and all constraints
+ * are enabled again and validated against the loaded data. If one of these steps fails,
+ * the remaining ones are still executed and the first error is reported afterwards.<br/><br/>
+ * Created: 19.10.2026 13:14:52
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class BulkLoadSession implements Closeable {
+
+  private static final Logger logger = LoggerFactory.getLogger(BulkLoadSession.class);
+
+  enum Platform { ORACLE, SQL_SERVER, POSTGRESQL, MYSQL, H2, GENERIC }
+
+  private final AbstractDBSystem db;
+  private final Platform platform;
+  private final boolean minimalLogging;
+  private final Set<String> tableNames;
+  private final List<Step> restoreSteps;
+  private Connection connection;
+  private boolean closed;
+
+  BulkLoadSession(AbstractDBSystem db, boolean minimalLogging) {
+    this(db, minimalLogging, platform(db.getDatabaseProductName()));
+  }
+
+  BulkLoadSession(AbstractDBSystem db, boolean minimalLogging, Platform platform) {
+    this.db = db;
+    this.platform = platform;
+    this.minimalLogging = minimalLogging;
+    this.tableNames = ConcurrentHashMap.newKeySet();
+    this.restoreSteps = new ArrayList<>();
+    this.connection = null;
+    this.closed = false;
+  }
+
+  /** @return the names of the tables which have been prepared for bulk loading */
+  public Set<String> getTableNames() {
+    return tableNames;
+  }
+
+  /** Prepares a table for bulk loading. Tables which have already been added are ignored.
+   *  Pending data of all connections is committed before. Other threads which add the same table
+   *  wait until its preparation has finished.
+   *  A preparation step which fails is logged and skipped, since it only serves performance.
+   *  @param tableName the name of the table */
+  public void addTable(String tableName) {
+    String key = tableName.toUpperCase();
+    if (tableNames.contains(key)) {
+      return;
+    }
+    synchronized (this) {
+      if (closed) {
+        throw BeneratorExceptionFactory.getInstance().illegalOperation("Bulk load session has already been closed");
+      }
+      if (tableNames.contains(key)) {
+        return;
+      }
+      try {
+        DBTable table = db.getTable(tableName);
+        if (table == null) {
+          throw BeneratorExceptionFactory.getInstance().objectNotFound("Table not found: " + tableName);
+        }
+        logger.info("Preparing table {} for bulk loading", table.getName());
+        db.flush();
+        for (Step step : plan(table)) {
+          if (execute(step.prepare)) {
+            restoreSteps.add(step);
+          }
+        }
+      } finally {
+        tableNames.add(key);
+      }
+    }
+  }
+
+  /** Flushes pending data, rebuilds the indexes and enables and validates the constraints
+   *  of all tables which have been prepared. */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    RuntimeException error = null;
+    try {
+      try {
+        db.flush();
+      } catch (RuntimeException e) {
+        // the tables are restored anyway
+        error = e;
+      }
+      for (Step step : restoreOrder()) {
+        try {
+          executeOrFail(step.restore);
+        } catch (RuntimeException e) {
+          logger.error("Failed to restore the state of table {}: {}", step.tableName, e.getMessage());
+          if (error == null) {
+            error = e;
+          }
+        }
+      }
+    } finally {
+      restoreSteps.clear();
+      DBUtil.close(connection);
+      connection = null;
+      db.bulkLoadFinished(this);
+    }
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  // planning --------------------------------------------------------------------------------------------------------
+
+  static Platform platform(String productName) {
+    String name = (productName != null ? productName.toLowerCase() : "");
+    if (name.startsWith("oracle")) {
+      return Platform.ORACLE;
+    } else if (name.startsWith("microsoft sql server")) {
+      return Platform.SQL_SERVER;
+    } else if (name.startsWith("postgresql")) {
+      return Platform.POSTGRESQL;
+    } else if (name.startsWith("mysql") || name.startsWith("mariadb")) {
+      return Platform.MYSQL;
+    } else if (name.equals("h2")) {
+      return Platform.H2;
+    } else {
+      return Platform.GENERIC;
+    }
+  }
+
+  List<Step> plan(DBTable table) {
+    String tableName = table.getName();
+    String tableSpec = qualifiedTableName(tableName);
+    List<Step> steps = new ArrayList<>();
+    // foreign key constraints
+    List<DBForeignKeyConstraint> fks = new ArrayList<>(table.getForeignKeyConstraints());
+    if (platform == Platform.H2) {
+      if (!fks.isEmpty()) {
+        steps.add(new Step(tableName, StepType.CONSTRAINT,
+            "alter table " + tableSpec + " set referential_integrity false",
+            "alter table " + tableSpec + " set referential_integrity true check"));
+      }
+    } else {
+      Map<String, String> fkRules = (dropsForeignKeys() ? queryForeignKeyRules(tableName) : null);
+      for (DBForeignKeyConstraint fk : fks) {
+        steps.add(foreignKeyStep(tableName, fk, fkRules));
+      }
+    }
+    // non-unique indexes
+    if (platform == Platform.MYSQL) {
+      // only effective for MyISAM tables, InnoDB ignores it
+      steps.add(new Step(tableName, StepType.INDEX,
+          "alter table " + tableSpec + " disable keys", "alter table " + tableSpec + " enable keys"));
+    } else {
+      for (DBIndex index : table.getIndexes()) {
+        if (!index.isUnique() && !backsForeignKey(index, fks)) {
+          steps.add(indexStep(tableName, index));
+        }
+      }
+    }
+    // logging
+    if (minimalLogging && platform == Platform.ORACLE) {
+      steps.add(new Step(tableName, StepType.LOGGING,
+          "alter table " + tableSpec + " nologging", "alter table " + tableSpec + " logging"));
+    } else if (minimalLogging && platform == Platform.POSTGRESQL) {
+      steps.add(new Step(tableName, StepType.LOGGING,
+          "alter table " + tableSpec + " set unlogged", "alter table " + tableSpec + " set logged"));
+    }
+    return steps;
+  }
+
+  private boolean dropsForeignKeys() {
+    return (platform != Platform.ORACLE && platform != Platform.SQL_SERVER);
+  }
+
+  private Step foreignKeyStep(String tableName, DBForeignKeyConstraint fk, Map<String, String> fkRules) {
+    String fkName = fk.getName();
+    String tableSpec = qualifiedTableName(tableName);
+    switch (platform) {
+      case ORACLE:
+        return new Step(tableName, StepType.CONSTRAINT,
+            "alter table " + tableSpec + " disable constraint " + fkName,
+            "alter table " + tableSpec + " enable validate constraint " + fkName);
+      case SQL_SERVER:
+        return new Step(tableName, StepType.CONSTRAINT,
+            "alter table " + tableSpec + " nocheck constraint " + fkName,
+            "alter table " + tableSpec + " with check check constraint " + fkName);
+      default:
+        String rules = fkRules.get(fkName.toUpperCase());
+        String drop = (platform == Platform.MYSQL ? " drop foreign key " : " drop constraint ");
+        return new Step(tableName, StepType.CONSTRAINT,
+            "alter table " + tableSpec + drop + fkName,
+            "alter table " + tableSpec + " add constraint " + fkName
+                + " foreign key (" + String.join(", ", fk.getForeignKeyColumnNames()) + ")"
+                + " references " + qualifiedTableName(fk.getRefereeTable().getName())
+                + " (" + String.join(", ", fk.getRefereeColumnNames()) + ")"
+                + (rules != null ? rules : ""));
+    }
+  }
+
+  private Step indexStep(String tableName, DBIndex index) {
+    String indexName = index.getName();
+    String tableSpec = qualifiedTableName(tableName);
+    String indexSpec = qualifiedIndexName(indexName);
+    switch (platform) {
+      case ORACLE:
+        return new Step(tableName, StepType.INDEX,
+            "alter index " + indexSpec + " unusable", "alter index " + indexSpec + " rebuild");
+      case SQL_SERVER:
+        return new Step(tableName, StepType.INDEX,
+            "alter index " + indexName + " on " + tableSpec + " disable",
+            "alter index " + indexName + " on " + tableSpec + " rebuild");
+      case POSTGRESQL:
+        // recreate the index from its original definition to retain its access method and expressions.
+        // PostgreSQL creates an index in the schema of its table, so the index name must not be qualified
+        String definition = queryPostgresIndexDefinition(tableName, indexName);
+        return new Step(tableName, StepType.INDEX, "drop index " + indexSpec,
+            (definition != null ? definition : createIndex(indexName, tableSpec, index)));
+      default:
+        return new Step(tableName, StepType.INDEX, "drop index " + indexSpec, createIndex(indexSpec, tableSpec, index));
+    }
+  }
+
+  private static String createIndex(String indexSpec, String tableSpec, DBIndex index) {
+    return "create index " + indexSpec + " on " + tableSpec + " (" + String.join(", ", index.getColumnNames()) + ")";
+  }
+
+  private String qualifiedTableName(String tableName) {
+    return createCatSchTabString(db.getCatalog(), db.getSchema(), tableName, db.getDialect());
+  }
+
+  /** Index names are qualified with the schema only, since an index belongs to the schema of its table. */
+  private String qualifiedIndexName(String indexName) {
+    return (db.getSchema() != null ? db.getSchema() + '.' + indexName : indexName);
+  }
+
+  /** Indexes which some databases create automatically for foreign keys cannot be dropped separately. */
+  private static boolean backsForeignKey(DBIndex index, List<DBForeignKeyConstraint> fks) {
+    for (DBForeignKeyConstraint fk : fks) {
+      if (Arrays.equals(index.getColumnNames(), fk.getForeignKeyColumnNames())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Reads the ON DELETE and ON UPDATE rules of the table's foreign keys, which need to be
+   *  restored when the constraints are created again.
+   *  @return a map of the upper-case constraint names to the rule clauses */
+  private Map<String, String> queryForeignKeyRules(String tableName) {
+    Map<String, String> result = new HashMap<>();
+    try {
+      DatabaseMetaData metaData = connection().getMetaData();
+      try (ResultSet resultSet = metaData.getImportedKeys(db.getCatalog(), db.getSchema(), tableName)) {
+        while (resultSet.next()) {
+          String fkName = resultSet.getString("FK_NAME");
+          if (fkName != null) {
+            result.put(fkName.toUpperCase(), renderRule(" on delete", resultSet.getShort("DELETE_RULE"))
+                + renderRule(" on update", resultSet.getShort("UPDATE_RULE")));
+          }
+        }
+      }
+    } catch (SQLException e) {
+      throw BeneratorExceptionFactory.getInstance().dbQueryFailed("Error reading foreign keys of table " + tableName, e);
+    }
+    return result;
+  }
+
+  static String renderRule(String prefix, short rule) {
+    switch (rule) {
+      case DatabaseMetaData.importedKeyCascade: return prefix + " cascade";
+      case DatabaseMetaData.importedKeySetNull: return prefix + " set null";
+      case DatabaseMetaData.importedKeySetDefault: return prefix + " set default";
+      default: return "";
+    }
+  }
+
+  private String queryPostgresIndexDefinition(String tableName, String indexName) {
+    String query = "select indexdef from pg_indexes where tablename = ? and indexname = ?"
+        + (db.getSchema() != null ? " and schemaname = ?" : "");
+    try (PreparedStatement statement = connection().prepareStatement(query)) {
+      statement.setString(1, tableName);
+      statement.setString(2, indexName);
+      if (db.getSchema() != null) {
+        statement.setString(3, db.getSchema());
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return (resultSet.next() ? resultSet.getString(1) : null);
+      }
+    } catch (SQLException e) {
+      logger.warn("Failed to read definition of index {}: {}", indexName, e.getMessage());
+      // PostgreSQL accepts no further statements in a failed transaction
+      rollback();
+      return null;
+    }
+  }
+
+  /** Logging is restored first, since PostgreSQL rewrites the table for that,
+   *  then indexes are rebuilt and finally constraints are enabled and validated. */
+  private List<Step> restoreOrder() {
+    List<Step> result = new ArrayList<>(restoreSteps.size());
+    for (StepType type : new StepType[] { StepType.LOGGING, StepType.INDEX, StepType.CONSTRAINT }) {
+      for (Step step : restoreSteps) {
+        if (step.type == type) {
+          result.add(step);
+        }
+      }
+    }
+    return result;
+  }
+
+  // execution -------------------------------------------------------------------------------------------------------
+
+  private boolean execute(String sql) {
+    try {
+      executeOrFail(sql);
+      return true;
+    } catch (RuntimeException e) {
+      logger.warn("Skipping bulk load preparation '{}': {}", sql, e.getMessage());
+      return false;
+    }
+  }
+
+  private void executeOrFail(String sql) {
+    logger.debug("Executing {}", sql);
+    try {
+      DBUtil.executeUpdate(sql, connection());
+      connection.commit();
+    } catch (SQLException e) {
+      rollback();
+      throw BeneratorExceptionFactory.getInstance().dbQueryFailed("Failed to execute " + sql, e);
+    }
+  }
+
+  /** @return the session's own connection, which is used for all metadata queries and DDL statements */
+  private Connection connection() {
+    if (connection == null) {
+      connection = db.createConnection();
+    }
+    return connection;
+  }
+
+  private void rollback() {
+    try {
+      connection.rollback();
+    } catch (SQLException e) {
+      logger.warn("Rollback failed", e);
+    }
+  }
+
+  enum StepType { CONSTRAINT, INDEX, LOGGING }
+
+  /** A pair of SQL statements which prepares a table for bulk loading and restores its state afterwards. */
+  static class Step {
+
+    final String tableName;
+    final StepType type;
+    final String prepare;
+    final String restore;
+
+    Step(String tableName, StepType type, String prepare, String restore) {
+      this.tableName = tableName;
+      this.type = type;
+      this.prepare = prepare;
+      this.restore = restore;
+    }
+
+    @Override
+    public String toString() {
+      return prepare + " / " + restore;
+    }
+  }
+
+}
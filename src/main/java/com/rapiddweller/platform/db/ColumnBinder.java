@@ -0,0 +1,96 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.common.converter.AnyConverter;
+import com.rapiddweller.jdbacl.ColumnInfo;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * Sets a value as parameter of a {@link PreparedStatement}. A binder is chosen once for each column
+ * based on its {@link ColumnInfo}: Values which already have the column's Java type are passed
+ * to the typed setter without conversion, other values are converted with the {@link AnyConverter}.<br/><br/>
+ * Created: 19.10.2026 11:48:13
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+@FunctionalInterface
+public interface ColumnBinder {
+
+  void bind(PreparedStatement statement, int index, Object value) throws SQLException;
+
+  /** Creates the binder for a column.
+   *  @param column the column's SQL type and the Java type to write
+   *  @param nullAsObject if true, null values are set with setObject() instead of setNull(),
+   *      which is necessary for some Oracle types
+   *  @return the binder */
+  static ColumnBinder forColumn(ColumnInfo column, boolean nullAsObject) {
+    int sqlType = column.sqlType;
+    Class<?> type = column.type;
+    if (nullAsObject || type == null) {
+      return generic(type, sqlType, nullAsObject);
+    } else if (type == String.class) {
+      return typed(String.class, sqlType, PreparedStatement::setString);
+    } else if (type == Integer.class) {
+      return typed(Integer.class, sqlType, PreparedStatement::setInt);
+    } else if (type == Long.class) {
+      return typed(Long.class, sqlType, PreparedStatement::setLong);
+    } else if (type == Double.class) {
+      return typed(Double.class, sqlType, PreparedStatement::setDouble);
+    } else if (type == BigDecimal.class) {
+      return typed(BigDecimal.class, sqlType, PreparedStatement::setBigDecimal);
+    } else if (type == Timestamp.class) {
+      return typed(Timestamp.class, sqlType, PreparedStatement::setTimestamp);
+    } else if (type == java.sql.Date.class) {
+      return typed(java.sql.Date.class, sqlType, PreparedStatement::setDate);
+    } else if (type == Time.class) {
+      return typed(Time.class, sqlType, PreparedStatement::setTime);
+    } else if (type == Short.class) {
+      return typed(Short.class, sqlType, PreparedStatement::setShort);
+    } else if (type == Byte.class) {
+      return typed(Byte.class, sqlType, PreparedStatement::setByte);
+    } else if (type == Float.class) {
+      return typed(Float.class, sqlType, PreparedStatement::setFloat);
+    } else if (type == Boolean.class) {
+      return typed(Boolean.class, sqlType, PreparedStatement::setBoolean);
+    } else if (type == byte[].class) {
+      return typed(byte[].class, sqlType, PreparedStatement::setBytes);
+    } else {
+      return generic(type, sqlType, false);
+    }
+  }
+
+  private static <T> ColumnBinder typed(Class<T> type, int sqlType, TypedSetter<T> setter) {
+    return (statement, index, value) -> {
+      T jdbcValue = (value == null || type.isInstance(value) ? type.cast(value) : AnyConverter.convert(value, type));
+      if (jdbcValue != null) {
+        setter.set(statement, index, jdbcValue);
+      } else {
+        statement.setNull(index, sqlType);
+      }
+    };
+  }
+
+  private static ColumnBinder generic(Class<?> type, int sqlType, boolean nullAsObject) {
+    return (statement, index, value) -> {
+      Object jdbcValue = (value == null || type == null || type.isInstance(value) ? value : AnyConverter.convert(value, type));
+      if (jdbcValue != null || nullAsObject) {
+        statement.setObject(index, jdbcValue);
+      } else {
+        statement.setNull(index, sqlType);
+      }
+    };
+  }
+
+  /** Calls the typed setter method of a {@link PreparedStatement}. */
+  @FunctionalInterface
+  interface TypedSetter<T> {
+    void set(PreparedStatement statement, int index, T value) throws SQLException;
+  }
+
+}
@@ -0,0 +1,80 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.common.converter.AnyConverter;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Reads a column value from a {@link ResultSet}. A reader is chosen once for each column
+ * based on the Benerator type of the column and its JDBC type, so that typed getters are used
+ * where both match and other values are only converted if they do not already have the target type.<br/><br/>
+ * Created: 19.10.2026 12:06:39
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+@FunctionalInterface
+public interface ColumnReader {
+
+  Object read(ResultSet resultSet, int columnIndex) throws SQLException;
+
+  /** Creates the reader for a column.
+   *  @param primitiveType the name of the Benerator type of the column
+   *  @param jdbcType the column's {@link Types} value
+   *  @param javaType the Java type to which values shall be converted or null for the driver's type
+   *  @return the reader */
+  static ColumnReader forColumn(String primitiveType, int jdbcType, Class<?> javaType) {
+    switch (primitiveType) {
+      case "string": return ResultSet::getString;
+      case "date": return ResultSet::getDate;
+      case "timestamp": return ResultSet::getTimestamp;
+      case "binary": return ResultSet::getBytes;
+      case "int":
+        if (jdbcType == Types.INTEGER || jdbcType == Types.SMALLINT || jdbcType == Types.TINYINT) {
+          return (resultSet, index) -> {
+            int value = resultSet.getInt(index);
+            return (resultSet.wasNull() ? null : value);
+          };
+        }
+        break;
+      case "long":
+        if (jdbcType == Types.BIGINT || jdbcType == Types.INTEGER || jdbcType == Types.SMALLINT) {
+          return (resultSet, index) -> {
+            long value = resultSet.getLong(index);
+            return (resultSet.wasNull() ? null : value);
+          };
+        }
+        break;
+      case "double":
+        if (jdbcType == Types.DOUBLE || jdbcType == Types.FLOAT || jdbcType == Types.REAL) {
+          return (resultSet, index) -> {
+            double value = resultSet.getDouble(index);
+            return (resultSet.wasNull() ? null : value);
+          };
+        }
+        break;
+      case "big_decimal":
+        if (jdbcType == Types.DECIMAL || jdbcType == Types.NUMERIC) {
+          return ResultSet::getBigDecimal;
+        }
+        break;
+      default:
+        break;
+    }
+    return generic(javaType);
+  }
+
+  private static ColumnReader generic(Class<?> javaType) {
+    if (javaType == null) {
+      return ResultSet::getObject;
+    }
+    return (resultSet, index) -> {
+      Object value = resultSet.getObject(index);
+      return (value == null || javaType.isInstance(value) ? value : AnyConverter.convert(value, javaType));
+    };
+  }
+
+}
@@ -27,6 +27,7 @@
 package com.rapiddweller.platform.db;
 
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.sensor.DbFlushEvent;
 import com.rapiddweller.common.LogCategoriesConstants;
 import com.rapiddweller.common.OrderedMap;
 import com.rapiddweller.jdbacl.ColumnInfo;
@@ -67,31 +68,50 @@ public ConnectionHolder(AbstractDBSystem db) {
     this.connection = null; // lazily initialized
   }
 
-  public Connection getConnection() {
+  public synchronized Connection getConnection() {
     if (connection == null) {
       this.connection = db.createConnection();
     }
     return connection;
   }
 
-  public void commit() {
+  public synchronized void commit() {
     try {
-      flushStatements(insertStatements);
-      flushStatements(updateStatements);
+      flushStatements(insertStatements, "insert");
+      flushStatements(updateStatements, "update");
       jdbcLogger.debug("Committing connection: {}", connection);
+      DbFlushEvent event = new DbFlushEvent();
+      event.begin();
       getConnection().commit();
+      event.end();
+      if (event.shouldCommit()) {
+        event.database = db.getId();
+        event.operation = "commit";
+        event.commit();
+      }
     } catch (SQLException e) {
       throw BeneratorExceptionFactory.getInstance().operationFailed("Commit failed", e);
     }
   }
 
-  private void flushStatements(Map<ComplexTypeDescriptor, PreparedStatement> statements) throws SQLException {
+  private void flushStatements(Map<ComplexTypeDescriptor, PreparedStatement> statements, String operation)
+      throws SQLException {
     for (Map.Entry<ComplexTypeDescriptor, PreparedStatement> entry : statements.entrySet()) {
       PreparedStatement statement = entry.getValue();
       if (statement != null) {
         // need to finish old statement
         if (db.isBatch()) {
-          statement.executeBatch();
+          DbFlushEvent event = new DbFlushEvent();
+          event.begin();
+          int[] results = statement.executeBatch();
+          event.end();
+          if (event.shouldCommit()) {
+            event.database = db.getId();
+            event.operation = operation;
+            event.table = entry.getKey().getName();
+            event.batchSize = results.length;
+            event.commit();
+          }
         }
         jdbcLogger.debug("Closing statement: {}", statement);
         DBUtil.close(statement);
@@ -100,7 +120,7 @@ private void flushStatements(Map<ComplexTypeDescriptor, PreparedStatement> state
     }
   }
 
-  public PreparedStatement getSelectByPKStatement(ComplexTypeDescriptor descriptor) {
+  public synchronized PreparedStatement getSelectByPKStatement(ComplexTypeDescriptor descriptor) {
     try {
       PreparedStatement statement = selectByPKStatements.get(descriptor);
       if (statement == null) {
@@ -121,16 +141,23 @@ private PreparedStatement createSelectByPKStatement(ComplexTypeDescriptor descri
     if (table == null) {
       throw BeneratorExceptionFactory.getInstance().illegalArgument("Table not found: " + tableName);
     }
-    StringBuilder builder = new StringBuilder("select * from ").append(tableName).append(" where");
-    for (String idColumnName : descriptor.getIdComponentNames()) {
-      builder.append(' ').append(idColumnName).append("=?");
+    String[] idColumnNames = table.getPKColumnNames();
+    if (idColumnNames.length == 0) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("Table has no primary key: " + tableName);
+    }
+    StringBuilder builder = new StringBuilder("select * from ").append(tableName).append(" where ");
+    for (int i = 0; i < idColumnNames.length; i++) {
+      if (i > 0) {
+        builder.append(" and ");
+      }
+      builder.append(idColumnNames[i]).append("=?");
     }
     statement = DBUtil.prepareStatement(getConnection(), builder.toString(), db.isReadOnly());
     selectByPKStatements.put(descriptor, statement);
     return statement;
   }
 
-  public PreparedStatement getStatement(
+  public synchronized PreparedStatement getStatement(
       ComplexTypeDescriptor descriptor, boolean insert, List<ColumnInfo> columnInfos) {
     try {
       PreparedStatement statement =
@@ -170,7 +197,7 @@ private PreparedStatement createStatement(
   }
 
   @Override
-  public void close() {
+  public synchronized void close() {
     commit();
     DBUtil.close(connection);
   }
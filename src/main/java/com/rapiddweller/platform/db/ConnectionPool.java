@@ -0,0 +1,167 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.benerator.engine.BeneratorMonitor;
+import com.rapiddweller.common.IOUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Provides up to a configured number of {@link ConnectionHolder}s, each one with its own connection,
+ * statement cache and batch. Each thread is bound to a holder on its first database access:
+ * It takes over the holder of threads which have terminated, or a new holder is created if the pool
+ * is not yet exhausted, otherwise it shares the holder which serves the least threads.
+ * Holders are used under their own lock, so sharing is safe. Since sharing serializes the threads,
+ * a pool with a size of more than one which needs to share is reported as undersized with a warning
+ * which tells the size required for the number of threads that access the database.
+ * {@link #commit()} and {@link #close()} flush the batches and commit the transactions of all holders.<br/><br/>
+ * Created: 19.10.2026 14:11:45
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class ConnectionPool implements Closeable {
+
+  private static final Logger logger = LoggerFactory.getLogger(ConnectionPool.class);
+
+  private final AbstractDBSystem db;
+  private final List<Slot> slots;
+  private final ThreadLocal<Slot> threadSlot;
+  private boolean undersized;
+
+  public ConnectionPool(AbstractDBSystem db) {
+    this.db = db;
+    this.slots = new ArrayList<>();
+    this.threadSlot = new ThreadLocal<>();
+    this.undersized = false;
+  }
+
+  /** @return the connection holder of the current thread */
+  public ConnectionHolder getHolder() {
+    Slot slot = threadSlot.get();
+    if (slot == null || slot.closed) {
+      slot = assignSlot(Thread.currentThread());
+      threadSlot.set(slot);
+    }
+    return slot.holder;
+  }
+
+  /** @return the number of connection holders which have been created so far */
+  public synchronized int getSize() {
+    return slots.size();
+  }
+
+  /** @return true if a pool with a size of more than one has been too small for the threads
+   *  which accessed the database, so that connections had to be shared */
+  public synchronized boolean isUndersized() {
+    return undersized;
+  }
+
+  /** Flushes and commits all connection holders. If one of them fails, the others are committed anyway
+   *  and the first exception is rethrown afterwards. */
+  public void commit() {
+    RuntimeException error = null;
+    for (Slot slot : snapshot()) {
+      try {
+        slot.holder.commit();
+      } catch (RuntimeException e) {
+        if (error == null) {
+          error = e;
+        } else {
+          error.addSuppressed(e);
+        }
+      }
+    }
+    BeneratorMonitor.INSTANCE.countPoolCommit();
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      commit();
+    } finally {
+      synchronized (this) {
+        for (Slot slot : slots) {
+          slot.closed = true;
+          IOUtil.close(slot.holder);
+        }
+        BeneratorMonitor.INSTANCE.countPooledConnections(-slots.size());
+        slots.clear();
+      }
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private synchronized Slot assignSlot(Thread thread) {
+    Slot best = null;
+    for (Slot slot : slots) {
+      if (slot.removeTerminatedThreads() == 0) {
+        return slot.bind(thread);
+      } else if (best == null || slot.threads.size() < best.threads.size()) {
+        best = slot;
+      }
+    }
+    if (best == null || slots.size() < db.getPoolSize()) {
+      // the first holder is used in unpooled mode too, so it is created for any pool size
+      Slot slot = new Slot(new ConnectionHolder(db));
+      slots.add(slot);
+      BeneratorMonitor.INSTANCE.countPooledConnections(1);
+      logger.debug("Created connection holder #{} of {} for thread {}", slots.size(), db.getId(), thread.getName());
+      return slot.bind(thread);
+    }
+    if (db.getPoolSize() > 1) {
+      BeneratorMonitor.INSTANCE.countSharedPoolConnection();
+      reportUndersized();
+    }
+    return best.bind(thread);
+  }
+
+  private void reportUndersized() {
+    if (!undersized) {
+      undersized = true;
+      int threadCount = 1;
+      for (Slot slot : slots) {
+        threadCount += slot.threads.size();
+      }
+      logger.warn("{} threads access database '{}' concurrently, but its poolSize is {}, so they need to share " +
+          "connections. Use poolSize=\"{}\" to give each of them a connection of its own",
+          threadCount, db.getId(), db.getPoolSize(), threadCount);
+    }
+  }
+
+  private synchronized List<Slot> snapshot() {
+    return new ArrayList<>(slots);
+  }
+
+  private static class Slot {
+
+    final ConnectionHolder holder;
+    final List<Thread> threads;
+    volatile boolean closed;
+
+    Slot(ConnectionHolder holder) {
+      this.holder = holder;
+      this.threads = new ArrayList<>();
+      this.closed = false;
+    }
+
+    Slot bind(Thread thread) {
+      threads.add(thread);
+      return this;
+    }
+
+    int removeTerminatedThreads() {
+      threads.removeIf(thread -> !thread.isAlive());
+      return threads.size();
+    }
+  }
+
+}
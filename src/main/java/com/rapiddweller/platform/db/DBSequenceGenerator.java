@@ -30,7 +30,8 @@
 import com.rapiddweller.benerator.wrapper.NonNullGeneratorProxy;
 
 /**
- * Generates {@link Long} values from a database sequence.<br/><br/>
+ * Generates {@link Long} values from a database sequence.
+ * If a 'blockSize' is set, the sequence values are reserved in blocks by a {@link BlockSequenceGenerator}.<br/><br/>
  * Created at 07.07.2009 18:54:53
  * @author Volker Bergmann
  * @since 0.6.0
@@ -40,6 +41,7 @@ public class DBSequenceGenerator extends NonNullGeneratorProxy<Long> {
   private String name;
   private AbstractDBSystem database;
   private boolean cached;
+  private long blockSize;
 
   public DBSequenceGenerator(String name, AbstractDBSystem source) {
     this(name, source, false);
@@ -50,6 +52,7 @@ public DBSequenceGenerator(String name, AbstractDBSystem database, boolean cache
     this.name = name;
     this.database = database;
     this.cached = cached;
+    this.blockSize = 0;
   }
 
   // properties ------------------------------------------------------------------------------------------------------
@@ -78,6 +81,16 @@ public void setCached(boolean cached) {
     this.cached = cached;
   }
 
+  public long getBlockSize() {
+    return blockSize;
+  }
+
+  /** Makes the generator reserve blocks of the given size. The sequence must have been created with
+   *  an increment of the same size. A value of 0 turns block reservation off. */
+  public void setBlockSize(long blockSize) {
+    this.blockSize = blockSize;
+  }
+
   // Generator interface implementation ------------------------------------------------------------------------------
 
   @Override
@@ -92,9 +105,13 @@ public boolean isParallelizable() {
 
   @Override
   public synchronized void init(GeneratorContext context) {
-    setSource(cached ?
-        new CachedSequenceGenerator(name, database) :
-        new PlainSequenceGenerator(name, database));
+    if (blockSize > 0) {
+      setSource(new BlockSequenceGenerator(name, database, blockSize));
+    } else {
+      setSource(cached ?
+          new CachedSequenceGenerator(name, database) :
+          new PlainSequenceGenerator(name, database));
+    }
     super.init(context);
   }
 
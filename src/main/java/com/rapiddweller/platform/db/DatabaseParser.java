@@ -46,6 +46,7 @@
 import com.rapiddweller.common.parser.BooleanParser;
 import com.rapiddweller.common.parser.FullyQualifiedClassNameParser;
 import com.rapiddweller.common.parser.NonNegativeIntegerParser;
+import com.rapiddweller.common.parser.PositiveIntegerParser;
 import com.rapiddweller.common.parser.StringParser;
 import com.rapiddweller.common.parser.AbstractTypedParser;
 import com.rapiddweller.format.xml.AttrInfo;
@@ -57,6 +58,7 @@
 
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_ACC_UNK_COL_TYPES;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_BATCH;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_BULK_LOAD;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_CATALOG;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_DRIVER;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_ENVIRONMENT;
@@ -66,7 +68,10 @@
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_INCL_TABLES;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_LAZY;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_META_CACHE;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_PARTITIONS;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_PARTITION_FETCH_SIZE;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_PASSWORD;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_POOL_SIZE;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_READ_ONLY;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_SCHEMA;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_SYSTEM;
@@ -129,6 +134,14 @@ public class DatabaseParser extends AbstractBeneratorDescriptorParser {
       ATT_META_CACHE, false, BeneratorErrorIds.SYN_DB_META_CACHE,
       new ScriptableParser<>(new BooleanParser()), FALSE);
 
+  public static final AttrInfo<Expression<Boolean>> TABLE_META_CACHE = new AttrInfo<>(
+      ATT_TABLE_META_CACHE, false, BeneratorErrorIds.SYN_DB_TABLE_META_CACHE,
+      new ScriptableParser<>(new BooleanParser()), FALSE);
+
+  public static final AttrInfo<Expression<Boolean>> BULK_LOAD = new AttrInfo<>(
+      ATT_BULK_LOAD, false, BeneratorErrorIds.SYN_DB_BULK_LOAD,
+      new ScriptableParser<>(new BooleanParser()), FALSE);
+
   public static final AttrInfo<Expression<Boolean>> BATCH = new AttrInfo<>(
       ATT_BATCH, false, BeneratorErrorIds.SYN_DB_BATCH,
       new ScriptableParser<>(new BooleanParser()), FALSE);
@@ -137,6 +150,18 @@ public class DatabaseParser extends AbstractBeneratorDescriptorParser {
       ATT_FETCH_SIZE, false, BeneratorErrorIds.SYN_DB_FETCH_SIZE,
       new ScriptableParser<>(new NonNegativeIntegerParser()), "100");
 
+  public static final AttrInfo<Expression<Integer>> PARTITIONS = new AttrInfo<>(
+      ATT_PARTITIONS, false, BeneratorErrorIds.SYN_DB_PARTITIONS,
+      new ScriptableParser<>(new PositiveIntegerParser()), "1");
+
+  public static final AttrInfo<Expression<Integer>> PARTITION_FETCH_SIZE = new AttrInfo<>(
+      ATT_PARTITION_FETCH_SIZE, false, BeneratorErrorIds.SYN_DB_PARTITION_FETCH_SIZE,
+      new ScriptableParser<>(new PositiveIntegerParser()));
+
+  public static final AttrInfo<Expression<Integer>> POOL_SIZE = new AttrInfo<>(
+      ATT_POOL_SIZE, false, BeneratorErrorIds.SYN_DB_POOL_SIZE,
+      new ScriptableParser<>(new PositiveIntegerParser()), "1");
+
   public static final AttrInfo<Expression<Boolean>> READ_ONLY = new AttrInfo<>(
       ATT_READ_ONLY, false, BeneratorErrorIds.SYN_DB_READ_ONLY,
       new ScriptableParser<>(new BooleanParser()), FALSE);
@@ -151,7 +176,8 @@ public class DatabaseParser extends AbstractBeneratorDescriptorParser {
 
   private static final AttrInfoSupport ATTR_INFO = new AttrInfoSupport(BeneratorErrorIds.SYN_DB_ILLEGAL_ATTR,
       new DatabaseValidator(), ID, ENVIRONMENT, SYSTEM, URL, DRIVER, USER, PASSWORD, CATALOG, SCHEMA,
-      TABLE_FILTER, INCL_TABLES, EXCL_TABLES, META_CACHE, BATCH, FETCH_SIZE, READ_ONLY, LAZY, ACC_UNK_COL_TYPES);
+      TABLE_FILTER, INCL_TABLES, EXCL_TABLES, META_CACHE, TABLE_META_CACHE, BULK_LOAD, BATCH, FETCH_SIZE, PARTITIONS,
+      PARTITION_FETCH_SIZE, POOL_SIZE, READ_ONLY, LAZY, ACC_UNK_COL_TYPES);
 
   public DatabaseParser() {
     super(EL_DATABASE, ATTR_INFO, BeneratorRootStatement.class, IfStatement.class);
@@ -175,16 +201,21 @@ public DefineDatabaseStatement doParse(
       Expression<String> includeTables = INCL_TABLES.parse(element);
       Expression<String> excludeTables = EXCL_TABLES.parse(element);
       Expression<Boolean> metaCache = META_CACHE.parse(element);
+      Expression<Boolean> tableMetaCache = TABLE_META_CACHE.parse(element);
+      Expression<Boolean> bulkLoad = BULK_LOAD.parse(element);
       Expression<Boolean> batch = BATCH.parse(element);
       Expression<Integer> fetchSize = FETCH_SIZE.parse(element);
+      Expression<Integer> partitions = PARTITIONS.parse(element);
+      Expression<Integer> partitionFetchSize = PARTITION_FETCH_SIZE.parse(element);
+      Expression<Integer> poolSize = POOL_SIZE.parse(element);
       Expression<Boolean> readOnly = READ_ONLY.parse(element);
       Expression<Boolean> lazy = LAZY.parse(element);
       Expression<Boolean> acceptUnknownColumnTypes = new FallbackExpression<>(
           ACC_UNK_COL_TYPES.parse(element), new GlobalAcceptUnknownSimpleTypeExpression());
       return createDatabaseStatement(id, environment, system, url, driver, user,
           password, catalog, schema, tableFilter, includeTables,
-          excludeTables, metaCache, batch, fetchSize, readOnly, lazy,
-          acceptUnknownColumnTypes, context);
+          excludeTables, metaCache, tableMetaCache, bulkLoad, batch, fetchSize, partitions, partitionFetchSize, poolSize, readOnly,
+          lazy, acceptUnknownColumnTypes, context);
     } catch (ConversionException e) {
       throw ExceptionFactory.getInstance().configurationError("Error parsing <database>", e);
     }
@@ -196,14 +227,17 @@ protected DefineDatabaseStatement createDatabaseStatement(
       Expression<String> user, Expression<String> password,
       Expression<String> catalog, Expression<String> schema,
       Expression<String> tableFilter, Expression<String> includeTables,
-      Expression<String> excludeTables, Expression<Boolean> metaCache,
+      Expression<String> excludeTables, Expression<Boolean> metaCache, Expression<Boolean> tableMetaCache,
+      Expression<Boolean> bulkLoad,
       Expression<Boolean> batch, Expression<Integer> fetchSize,
+      Expression<Integer> partitions, Expression<Integer> partitionFetchSize, Expression<Integer> poolSize,
       Expression<Boolean> readOnly, Expression<Boolean> lazy,
       Expression<Boolean> acceptUnknownColumnTypes,
       BeneratorParseContext context) {
     return new DefineDatabaseStatement(id, environment, system, url, driver, user, password, catalog, schema,
-        metaCache, tableFilter, includeTables, excludeTables,
-        batch, fetchSize, readOnly, lazy, acceptUnknownColumnTypes, context.getResourceManager());
+        metaCache, tableMetaCache, bulkLoad, tableFilter, includeTables, excludeTables,
+        batch, fetchSize, partitions, partitionFetchSize, poolSize, readOnly, lazy, acceptUnknownColumnTypes,
+        context.getResourceManager());
   }
 
   static class GlobalAcceptUnknownSimpleTypeExpression extends DynamicExpression<Boolean> {
@@ -37,29 +37,35 @@
 import java.util.List;
 
 /**
- * Default implementation of the {@link AbstractDBSystem} class.<br/><br/>
+ * Default implementation of the {@link AbstractDBSystem} class.
+ * It uses a {@link ConnectionPool} which provides each thread with a connection of its own
+ * up to the configured {@link #getPoolSize() pool size}.<br/><br/>
  * Created: 27.06.2007 23:04:19
  * @author Volker Bergmann
  * @since 0.3
  */
 public class DefaultDBSystem extends AbstractDBSystem {
 
-  private final ConnectionHolder connectionHolder;
+  private final ConnectionPool connectionPool;
 
   public DefaultDBSystem(String id, String environment, String system, BeneratorContext context) {
     super(id, environment, system, context);
-    this.connectionHolder = new ConnectionHolder(this);
+    this.connectionPool = new ConnectionPool(this);
   }
 
   public DefaultDBSystem(String id, String url, String driver, String user,
                          String password, DataModel dataModel) {
     super(id, url, driver, user, password, dataModel);
-    this.connectionHolder = new ConnectionHolder(this);
+    this.connectionPool = new ConnectionPool(this);
+  }
+
+  ConnectionPool getConnectionPool() {
+    return connectionPool;
   }
 
   public void commit() {
     logger.debug("commit()");
-    connectionHolder.commit();
+    connectionPool.commit();
   }
 
   @Override
@@ -71,27 +77,36 @@ public void flush() {
   @Override
   public void close() {
     logger.debug("close()");
-    flush();
-    IOUtil.close(connectionHolder);
-    super.close();
+    try {
+      // constraints and indexes are restored while the connections are still open
+      endBulkLoad();
+    } finally {
+      IOUtil.close(connectionPool);
+      super.close();
+    }
   }
 
   @Override
   public Connection getConnection() {
-    return connectionHolder.getConnection();
+    return connectionPool.getHolder().getConnection();
+  }
+
+  @Override
+  protected Object statementLock() {
+    return connectionPool.getHolder();
   }
 
   @Override
   protected PreparedStatement getSelectByPKStatement(
       ComplexTypeDescriptor descriptor) {
-    return connectionHolder.getSelectByPKStatement(descriptor);
+    return connectionPool.getHolder().getSelectByPKStatement(descriptor);
   }
 
   @Override
   protected PreparedStatement getStatement(ComplexTypeDescriptor descriptor,
                                            boolean insert,
                                            List<ColumnInfo> columnInfos) {
-    return connectionHolder.getStatement(descriptor, insert, columnInfos);
+    return connectionPool.getHolder().getStatement(descriptor, insert, columnInfos);
   }
 
 }
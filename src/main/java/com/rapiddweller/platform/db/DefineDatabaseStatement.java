@@ -55,11 +55,16 @@ public class DefineDatabaseStatement implements Statement {
   private final Expression<String> catalog;
   private final Expression<String> schema;
   private final Expression<Boolean> metaCache;
+  private final Expression<Boolean> tableMetaCache;
+  private final Expression<Boolean> bulkLoad;
   private final Expression<String> tableFilter;
   private final Expression<String> includeTables;
   private final Expression<String> excludeTables;
   private final Expression<Boolean> batch;
   private final Expression<Integer> fetchSize;
+  private final Expression<Integer> partitions;
+  private final Expression<Integer> partitionFetchSize;
+  private final Expression<Integer> poolSize;
   private final Expression<Boolean> readOnly;
   private final Expression<Boolean> lazy;
   private final Expression<Boolean> acceptUnknownColumnTypes;
@@ -68,8 +73,11 @@ public class DefineDatabaseStatement implements Statement {
   public DefineDatabaseStatement(Expression<String> id, Expression<String> environment, Expression<String> system,
                                  Expression<String> url, Expression<String> driver, Expression<String> user, Expression<String> password,
                                  Expression<String> catalog, Expression<String> schema, Expression<Boolean> metaCache,
+                                 Expression<Boolean> tableMetaCache, Expression<Boolean> bulkLoad,
                                  Expression<String> tableFilter, Expression<String> includeTables, Expression<String> excludeTables,
-                                 Expression<Boolean> batch, Expression<Integer> fetchSize, Expression<Boolean> readOnly, Expression<Boolean> lazy,
+                                 Expression<Boolean> batch, Expression<Integer> fetchSize,
+                                 Expression<Integer> partitions, Expression<Integer> partitionFetchSize,
+                                 Expression<Integer> poolSize, Expression<Boolean> readOnly, Expression<Boolean> lazy,
                                  Expression<Boolean> acceptUnknownColumnTypes, ResourceManager resourceManager) {
     if (id == null) {
       throw BeneratorExceptionFactory.getInstance().configurationError("No database id defined");
@@ -84,11 +92,16 @@ public DefineDatabaseStatement(Expression<String> id, Expression<String> environ
     this.catalog = catalog;
     this.schema = schema;
     this.metaCache = metaCache;
+    this.tableMetaCache = tableMetaCache;
+    this.bulkLoad = bulkLoad;
     this.tableFilter = tableFilter;
     this.includeTables = includeTables;
     this.excludeTables = excludeTables;
     this.batch = batch;
     this.fetchSize = fetchSize;
+    this.partitions = partitions;
+    this.partitionFetchSize = partitionFetchSize;
+    this.poolSize = poolSize;
     this.readOnly = readOnly;
     this.lazy = lazy;
     this.acceptUnknownColumnTypes = acceptUnknownColumnTypes;
@@ -147,11 +160,19 @@ public boolean execute(BeneratorContext context) {
 
     // apply all other settings without further validation
     db.setMetaCache(ExpressionUtil.evaluate(metaCache, context));
+    db.setTableMetaCache(ExpressionUtil.evaluate(tableMetaCache, context));
+    db.setBulkLoad(ExpressionUtil.evaluate(bulkLoad, context));
     db.setTableFilter(ExpressionUtil.evaluate(tableFilter, context));
     db.setIncludeTables(ExpressionUtil.evaluate(includeTables, context));
     db.setExcludeTables(ExpressionUtil.evaluate(excludeTables, context));
     db.setBatch(ExpressionUtil.evaluate(batch, context));
     db.setFetchSize(ExpressionUtil.evaluate(fetchSize, context));
+    db.setPartitions(ExpressionUtil.evaluate(partitions, context));
+    Integer partitionFetchSizeValue = ExpressionUtil.evaluate(partitionFetchSize, context);
+    if (partitionFetchSizeValue != null) {
+      db.setPartitionFetchSize(partitionFetchSizeValue);
+    }
+    db.setPoolSize(ExpressionUtil.evaluate(poolSize, context));
     db.setReadOnly(ExpressionUtil.evaluate(readOnly, context));
     Boolean isLazy = ExpressionUtil.evaluate(lazy, context);
     db.setLazy(isLazy);
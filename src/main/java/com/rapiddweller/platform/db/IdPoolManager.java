@@ -0,0 +1,179 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.sample.LongIdPool;
+import com.rapiddweller.benerator.sample.LongIdPoolGenerator;
+import com.rapiddweller.jdbacl.model.DBColumn;
+import com.rapiddweller.jdbacl.model.DBTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.rapiddweller.jdbacl.SQLUtil.createCatSchTabString;
+
+/**
+ * Creates and shares {@link LongIdPool}s for the tables of a database which have a single-column
+ * integral primary key. Before a pool is (re)used, the count, minimum and maximum of the table's ids
+ * are queried: If they match the cached pool, it is shared, if they describe a gapless range,
+ * the pool is created without loading a single id.<br/><br/>
+ * Created: 19.10.2026 13:24:51
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class IdPoolManager {
+
+  private static final Logger logger = LoggerFactory.getLogger(IdPoolManager.class);
+
+  /** Maximum precision of a NUMERIC or DECIMAL column which is guaranteed to fit into a long */
+  private static final int MAX_LONG_DIGITS = 18;
+
+  private final AbstractDBSystem db;
+  private final Map<String, Entry> pools;
+
+  public IdPoolManager(AbstractDBSystem db) {
+    this.db = db;
+    this.pools = new HashMap<>();
+  }
+
+  /** Creates a generator which picks random ids of the given table from a shared {@link LongIdPool}.
+   *  @param tableName the name of the table to reference
+   *  @return a generator or null if the table does not have a single-column integral primary key */
+  public Generator<?> createGenerator(String tableName) {
+    DBColumn pkColumn = idColumn(tableName);
+    if (pkColumn == null) {
+      return null;
+    }
+    switch (pkColumn.getType().getJdbcType()) {
+      case Types.BIGINT:
+        return new LongIdPoolGenerator<>(Long.class, () -> getPool(tableName), id -> id);
+      case Types.NUMERIC:
+      case Types.DECIMAL:
+        return new LongIdPoolGenerator<>(BigDecimal.class, () -> getPool(tableName), BigDecimal::valueOf);
+      default:
+        return new LongIdPoolGenerator<>(Integer.class, () -> getPool(tableName), id -> (int) id);
+    }
+  }
+
+  /** Provides an up-to-date pool of the table's ids. */
+  public synchronized LongIdPool getPool(String tableName) {
+    DBColumn pkColumn = idColumn(tableName);
+    if (pkColumn == null) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument(
+          "Table " + tableName + " does not have a single-column integral primary key");
+    }
+    String tableSpec = createCatSchTabString(db.getCatalog(), db.getSchema(), tableName, db.getDialect());
+    String column = pkColumn.getName();
+    try {
+      long[] stats = queryStats(tableSpec, column);
+      Entry entry = pools.get(tableName);
+      if (entry == null || !entry.matches(stats)) {
+        entry = new Entry(stats, createPool(tableSpec, column, stats));
+        pools.put(tableName, entry);
+        logger.debug("Created id pool for {}: {}", tableName, entry.pool);
+      }
+      return entry.pool;
+    } catch (SQLException e) {
+      throw BeneratorExceptionFactory.getInstance().dbQueryFailed("Error loading the ids of table " + tableName, e);
+    }
+  }
+
+  public synchronized void clear() {
+    pools.clear();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private DBColumn idColumn(String tableName) {
+    return integralIdColumn(db.getTable(tableName));
+  }
+
+  /** @return the table's primary key column if it is the only one and has an integral type that fits into a long,
+   *  otherwise null */
+  static DBColumn integralIdColumn(DBTable table) {
+    String[] pkColumnNames = table.getPKColumnNames();
+    if (pkColumnNames.length != 1) {
+      return null;
+    }
+    DBColumn column = table.getColumn(pkColumnNames[0]);
+    return (isIntegral(column) ? column : null);
+  }
+
+  private static boolean isIntegral(DBColumn column) {
+    switch (column.getType().getJdbcType()) {
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+      case Types.BIGINT:
+        return true;
+      case Types.NUMERIC:
+      case Types.DECIMAL:
+        Integer fractionDigits = column.getFractionDigits();
+        Integer size = column.getSize();
+        return (fractionDigits == null || fractionDigits == 0) && size != null && size <= MAX_LONG_DIGITS;
+      default:
+        return false;
+    }
+  }
+
+  /** @return an array with count, minimum and maximum of the id column */
+  private long[] queryStats(String tableSpec, String column) throws SQLException {
+    String sql = "select count(*), min(" + column + "), max(" + column + ") from " + tableSpec;
+    try (Statement statement = db.getConnection().createStatement();
+         ResultSet resultSet = statement.executeQuery(sql)) {
+      resultSet.next();
+      return new long[] { resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3) };
+    }
+  }
+
+  private LongIdPool createPool(String tableSpec, String column, long[] stats) throws SQLException {
+    long count = stats[0];
+    long min = stats[1];
+    long max = stats[2];
+    if (count == 0) {
+      return LongIdPool.empty();
+    } else if (max - min + 1 == count) {
+      // primary key values are unique, so this means there are no gaps
+      return LongIdPool.range(min, max);
+    }
+    if (count > Integer.MAX_VALUE - 8) {
+      throw BeneratorExceptionFactory.getInstance().illegalOperation("Too many ids for an id pool: " + count);
+    }
+    LongIdPool.Builder builder = new LongIdPool.Builder((int) count);
+    try (Statement statement = db.getConnection().createStatement()) {
+      statement.setFetchSize(Math.max(db.getFetchSize(), 1000));
+      try (ResultSet resultSet = statement.executeQuery("select " + column + " from " + tableSpec)) {
+        while (resultSet.next()) {
+          builder.add(resultSet.getLong(1));
+        }
+      }
+    }
+    return builder.build();
+  }
+
+  private static class Entry {
+
+    final long[] stats;
+    final LongIdPool pool;
+
+    Entry(long[] stats, LongIdPool pool) {
+      this.stats = stats;
+      this.pool = pool;
+    }
+
+    boolean matches(long[] otherStats) {
+      return Arrays.equals(stats, otherStats);
+    }
+  }
+
+}
@@ -44,6 +44,7 @@
  */
 public class LazyTableComplexTypeDescriptor extends ComplexTypeDescriptor {
 
+  /** The table model or null if the table is loaded from the {@link TableMetaDataCache} on first access */
   public final DBTable table;
   public final AbstractDBSystem db;
   boolean loaded;
@@ -55,6 +56,13 @@ public LazyTableComplexTypeDescriptor(DBTable table, AbstractDBSystem db) {
     this.loaded = false;
   }
 
+  public LazyTableComplexTypeDescriptor(String tableName, AbstractDBSystem db) {
+    super(tableName, db);
+    this.table = null;
+    this.db = db;
+    this.loaded = false;
+  }
+
   @Override
   public List<InstanceDescriptor> getParts() {
     assureLoaded();
@@ -70,7 +78,7 @@ public void addComponent(ComponentDescriptor component) {
   private void assureLoaded() {
     if (!loaded) {
       loaded = true;
-      db.mapTableToComplexTypeDescriptor(table, this);
+      db.mapTableToComplexTypeDescriptor(table != null ? table : db.getTable(getName()), this);
     }
   }
 
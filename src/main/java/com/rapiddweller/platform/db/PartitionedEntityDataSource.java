@@ -0,0 +1,258 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.model.data.AbstractEntitySource;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads all rows of a table with a single-column integral primary key concurrently:
+ * The range between the minimum and maximum key is split into keyset partitions
+ * ('pk &gt;= lower AND pk &lt; upper'), each one is queried by a dedicated thread on a dedicated connection
+ * and the resulting entities are fed into a bounded queue from which the iterator takes them.
+ * The order of the entities is undefined. Closing the iterator cancels the running queries.<br/><br/>
+ * Created: 19.10.2026 14:02:37
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class PartitionedEntityDataSource extends AbstractEntitySource {
+
+  private static final Logger logger = LoggerFactory.getLogger(PartitionedEntityDataSource.class);
+
+  private static final int MAX_QUEUE_CAPACITY = 10000;
+
+  private final AbstractDBSystem db;
+  private final String tableSpec;
+  private final String pkColumn;
+  private final String condition;
+  private final ComplexTypeDescriptor descriptor;
+  private final int partitions;
+  private final int fetchSize;
+
+  /** @param db the database to read from
+   *  @param tableSpec the (catalog and schema qualified) name of the table
+   *  @param pkColumn the name of the single-column integral primary key
+   *  @param condition an optional static WHERE condition, may be null
+   *  @param descriptor the type descriptor of the entities
+   *  @param partitions the number of partitions to read concurrently
+   *  @param fetchSize the JDBC fetch size to use for each partition */
+  public PartitionedEntityDataSource(AbstractDBSystem db, String tableSpec, String pkColumn, String condition,
+                                     ComplexTypeDescriptor descriptor, int partitions, int fetchSize) {
+    if (partitions < 1) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("Illegal partition count: " + partitions);
+    }
+    this.db = db;
+    this.tableSpec = tableSpec;
+    this.pkColumn = pkColumn;
+    this.condition = condition;
+    this.descriptor = descriptor;
+    this.partitions = partitions;
+    this.fetchSize = fetchSize;
+  }
+
+  @Override
+  public DataIterator<Entity> iterator() {
+    List<String> queries = new ArrayList<>();
+    String baseQuery = "SELECT * FROM " + tableSpec + " WHERE " + (condition != null ? "(" + condition + ") AND " : "");
+    for (String range : rangeConditions(db, tableSpec, pkColumn, condition, partitions)) {
+      queries.add(baseQuery + range);
+    }
+    logger.debug("Reading {} in {} partitions", tableSpec, queries.size());
+    return new PartitionedEntityIterator(queries);
+  }
+
+  /** Splits the key range of a table into conditions of about equal size.
+   *  @return the range conditions, which are empty if the table has no (matching) rows */
+  static List<String> rangeConditions(AbstractDBSystem db, String tableSpec, String pkColumn, String condition,
+                                      int partitions) {
+    List<String> result = new ArrayList<>();
+    long[] bounds = queryBounds(db, tableSpec, pkColumn, condition);
+    if (bounds != null) {
+      long[] lowerBounds = splitRange(bounds[0], bounds[1], partitions);
+      for (int i = 0; i < lowerBounds.length; i++) {
+        // the first and last partition are open, so no row is missed that has been inserted in the meantime
+        String range;
+        if (lowerBounds.length == 1) {
+          range = "1 = 1";
+        } else if (i == 0) {
+          range = pkColumn + " < " + lowerBounds[1];
+        } else if (i < lowerBounds.length - 1) {
+          range = pkColumn + " >= " + lowerBounds[i] + " AND " + pkColumn + " < " + lowerBounds[i + 1];
+        } else {
+          range = pkColumn + " >= " + lowerBounds[i];
+        }
+        result.add(range);
+      }
+    }
+    return result;
+  }
+
+  /** Splits the range from min to max (inclusively) into at most the given number of partitions of equal size.
+   *  @return the lower bounds of the partitions */
+  static long[] splitRange(long min, long max, int partitions) {
+    BigInteger lower = BigInteger.valueOf(min);
+    BigInteger span = BigInteger.valueOf(max).subtract(lower).add(BigInteger.ONE);
+    int count = (int) Math.min(partitions, span.min(BigInteger.valueOf(Integer.MAX_VALUE)).longValue());
+    long[] result = new long[count];
+    for (int i = 0; i < count; i++) {
+      result[i] = lower.add(span.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(count))).longValue();
+    }
+    return result;
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** @return minimum and maximum of the primary key or null if the table has no (matching) rows */
+  private static long[] queryBounds(AbstractDBSystem db, String tableSpec, String pkColumn, String condition) {
+    String sql = "SELECT MIN(" + pkColumn + "), MAX(" + pkColumn + ") FROM " + tableSpec
+        + (condition != null ? " WHERE " + condition : "");
+    try (Statement statement = db.getConnection().createStatement();
+         ResultSet resultSet = statement.executeQuery(sql)) {
+      resultSet.next();
+      long min = resultSet.getLong(1);
+      if (resultSet.wasNull()) {
+        return null;
+      }
+      return new long[] { min, resultSet.getLong(2) };
+    } catch (SQLException e) {
+      throw BeneratorExceptionFactory.getInstance().dbQueryFailed("Error querying the key range of " + tableSpec, e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '[' + tableSpec + ", " + partitions + " partitions]";
+  }
+
+  class PartitionedEntityIterator implements DataIterator<Entity> {
+
+    private final Object endMarker = new Object();
+
+    private final BlockingQueue<Object> queue;
+    private final List<Thread> readers;
+    private final Set<Statement> statements;
+    private volatile boolean closed;
+    private int runningReaders;
+
+    PartitionedEntityIterator(List<String> queries) {
+      this.queue = new ArrayBlockingQueue<>(Math.max(1, Math.min(MAX_QUEUE_CAPACITY, fetchSize * partitions)));
+      this.readers = new ArrayList<>(queries.size());
+      this.statements = ConcurrentHashMap.newKeySet();
+      this.closed = false;
+      for (int i = 0; i < queries.size(); i++) {
+        String query = queries.get(i);
+        Thread reader = new Thread(() -> read(query), "Benerator-Partition-" + descriptor.getName() + "-" + i);
+        reader.setDaemon(true);
+        readers.add(reader);
+      }
+      this.runningReaders = readers.size();
+      for (Thread reader : readers) {
+        reader.start();
+      }
+    }
+
+    @Override
+    public Class<Entity> getType() {
+      return Entity.class;
+    }
+
+    @Override
+    public DataContainer<Entity> next(DataContainer<Entity> container) {
+      try {
+        while (runningReaders > 0) {
+          Object element = queue.take();
+          if (element == endMarker) {
+            runningReaders--;
+          } else if (element instanceof RuntimeException) {
+            close();
+            throw (RuntimeException) element;
+          } else {
+            return container.setData((Entity) element);
+          }
+        }
+        return null;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        close();
+        throw BeneratorExceptionFactory.getInstance().operationFailed("Interrupted reading " + tableSpec, e);
+      }
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+      runningReaders = 0;
+      for (Statement statement : statements) {
+        try {
+          statement.cancel();
+        } catch (SQLException e) {
+          logger.debug("Error cancelling partition query of {}", tableSpec, e);
+        }
+      }
+      for (Thread reader : readers) {
+        reader.interrupt();
+      }
+      queue.clear();
+    }
+
+    private void read(String query) {
+      logger.debug("Reading partition: {}", query);
+      Object result = endMarker;
+      try (Connection connection = db.createConnection();
+           Statement statement = connection.createStatement()) {
+        statements.add(statement);
+        try {
+          if (closed) {
+            return;
+          }
+          statement.setFetchSize(fetchSize);
+          try (ResultSet resultSet = statement.executeQuery(query)) {
+            ResultSet2EntityConverter converter = new ResultSet2EntityConverter(descriptor);
+            while (resultSet.next()) {
+              queue.put(converter.convert(resultSet));
+            }
+          }
+          connection.commit();
+        } finally {
+          statements.remove(statement);
+        }
+      } catch (InterruptedException e) {
+        // the iterator has been closed
+        Thread.currentThread().interrupt();
+        return;
+      } catch (SQLException e) {
+        if (closed) {
+          // the query has been cancelled by close()
+          return;
+        }
+        result = BeneratorExceptionFactory.getInstance().dbQueryFailed("Error reading partition: " + query, e);
+      } catch (RuntimeException e) {
+        result = e;
+      }
+      try {
+        queue.put(result);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+}
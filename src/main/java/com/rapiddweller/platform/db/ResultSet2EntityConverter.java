@@ -26,7 +26,6 @@
 
 package com.rapiddweller.platform.db;
 
-import com.rapiddweller.common.converter.AnyConverter;
 import com.rapiddweller.model.data.ComplexTypeDescriptor;
 import com.rapiddweller.model.data.ComponentDescriptor;
 import com.rapiddweller.model.data.DataModel;
@@ -37,9 +36,13 @@
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.Map;
 
 /**
- * Converts a SQL {@link ResultSet} to a Benerator {@link Entity}.<br/><br/>
+ * Converts a SQL {@link ResultSet} to a Benerator {@link Entity}.
+ * An instance determines the {@link ColumnReader} of each column once from the metadata
+ * of the first result set it converts and is meant to be used for the rows of the same query
+ * or of queries with the same columns. It is thread-safe.<br/><br/>
  * Created: 24.08.2010 12:29:56
  * @author Volker Bergmann
  * @since 0.6.4
@@ -48,57 +51,78 @@ public class ResultSet2EntityConverter {
 
   private static final String STRING_TYPE = "string";
 
-  private ResultSet2EntityConverter() {
-    // private constructor to prevent instantiation
+  private final ComplexTypeDescriptor descriptor;
+  private volatile ColumnMapping[] mappings;
+
+  public ResultSet2EntityConverter(ComplexTypeDescriptor descriptor) {
+    this.descriptor = descriptor;
+    this.mappings = null;
   }
 
   public static Entity convert(ResultSet resultSet, ComplexTypeDescriptor descriptor) throws SQLException {
+    return new ResultSet2EntityConverter(descriptor).convert(resultSet);
+  }
+
+  public Entity convert(ResultSet resultSet) throws SQLException {
+    ColumnMapping[] mappings = this.mappings;
+    if (mappings == null) {
+      mappings = createMappings(resultSet.getMetaData());
+      this.mappings = mappings;
+    }
     Entity entity = new Entity(descriptor);
-    ResultSetMetaData metaData = resultSet.getMetaData();
-    int columnCount = metaData.getColumnCount();
-    for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-      String columnName = metaData.getColumnName(columnIndex);
-      String typeName;
-      if (descriptor != null) {
-        ComponentDescriptor component = descriptor.getComponent(columnName);
-        if (component != null) {
-          SimpleTypeDescriptor type = (SimpleTypeDescriptor) component.getTypeDescriptor();
-          PrimitiveType primitiveType = type.getPrimitiveType();
-          typeName = (primitiveType != null ? primitiveType.getName() : STRING_TYPE);
-        } else {
-          typeName = STRING_TYPE;
-        }
+    Map<String, Object> components = entity.getComponents();
+    for (int i = 0; i < mappings.length; i++) {
+      ColumnMapping mapping = mappings[i];
+      Object javaValue = mapping.reader.read(resultSet, i + 1);
+      if (javaValue == null || mapping.javaType == null || mapping.javaType.isInstance(javaValue)) {
+        // the value already has the type to which the entity would convert it
+        components.put(mapping.componentName, javaValue);
       } else {
-        typeName = STRING_TYPE;
+        entity.setComponent(mapping.columnName, javaValue);
       }
-      DataModel dataModel = (descriptor != null ? descriptor.getDataModel() : null);
-      Object javaValue = javaValue(resultSet, columnIndex, typeName, dataModel);
-      entity.setComponent(columnName, javaValue);
     }
     return entity;
   }
 
-  // TODO perf: use a dedicated converter for each column
-  private static Object javaValue(ResultSet resultSet, int columnIndex,
-                                  String primitiveType, DataModel dataModel)
-      throws SQLException {
-    if ("date".equals(primitiveType)) {
-      return resultSet.getDate(columnIndex);
-    } else if ("timestamp".equals(primitiveType)) {
-      return resultSet.getTimestamp(columnIndex);
-    } else if (STRING_TYPE.equals(primitiveType)) {
-      return resultSet.getString(columnIndex);
-    } else if ("binary".equals(primitiveType)) {
-      return resultSet.getBytes(columnIndex);
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private ColumnMapping[] createMappings(ResultSetMetaData metaData) throws SQLException {
+    int columnCount = metaData.getColumnCount();
+    ColumnMapping[] result = new ColumnMapping[columnCount];
+    DataModel dataModel = (descriptor != null ? descriptor.getDataModel() : null);
+    for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+      String columnName = metaData.getColumnName(columnIndex);
+      String componentName = columnName;
+      String typeName = STRING_TYPE;
+      ComponentDescriptor component = (descriptor != null ? descriptor.getComponent(columnName) : null);
+      if (component != null) {
+        SimpleTypeDescriptor type = (SimpleTypeDescriptor) component.getTypeDescriptor();
+        PrimitiveType primitiveType = type.getPrimitiveType();
+        typeName = (primitiveType != null ? primitiveType.getName() : STRING_TYPE);
+        componentName = component.getName();
+      }
+      Class<?> javaType = (dataModel != null ? dataModel.getBeanDescriptorProvider().concreteType(typeName) : null);
+      ColumnReader reader = ColumnReader.forColumn(typeName, metaData.getColumnType(columnIndex), javaType);
+      // the entity converts only values of declared components
+      result[columnIndex - 1] = new ColumnMapping(columnName, componentName, reader, (component != null ? javaType : null));
     }
-    // try generic conversion
-    Object driverValue = resultSet.getObject(columnIndex);
-    Object javaValue = driverValue;
-    if (dataModel != null) {
-      Class<?> javaType = dataModel.getBeanDescriptorProvider().concreteType(primitiveType);
-      javaValue = AnyConverter.convert(driverValue, javaType);
+    return result;
+  }
+
+  private static class ColumnMapping {
+
+    final String columnName;
+    final String componentName;
+    final ColumnReader reader;
+    /** the Java type to which the entity converts values of the column or null if it stores them as they are */
+    final Class<?> javaType;
+
+    ColumnMapping(String columnName, String componentName, ColumnReader reader, Class<?> javaType) {
+      this.columnName = columnName;
+      this.componentName = componentName;
+      this.reader = reader;
+      this.javaType = javaType;
     }
-    return javaValue;
   }
 
 }
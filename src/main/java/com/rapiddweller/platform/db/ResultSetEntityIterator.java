@@ -45,11 +45,11 @@ public class ResultSetEntityIterator implements DataIterator<Entity> {
 
   private final DataIterator<ResultSet> source;
 
-  private final ComplexTypeDescriptor descriptor;
+  private final ResultSet2EntityConverter converter;
 
   public ResultSetEntityIterator(DataIterator<ResultSet> source, ComplexTypeDescriptor descriptor) {
     this.source = source;
-    this.descriptor = descriptor;
+    this.converter = new ResultSet2EntityConverter(descriptor);
   }
 
   @Override
@@ -65,7 +65,7 @@ public DataContainer<Entity> next(DataContainer<Entity> container) {
         return null;
       }
       ResultSet resultSet = feed.getData();
-      Entity result = ResultSet2EntityConverter.convert(resultSet, descriptor);
+      Entity result = converter.convert(resultSet);
       return container.setData(result);
     } catch (SQLException e) {
       throw BeneratorExceptionFactory.getInstance().dbQueryFailed("Result set access failed", e);
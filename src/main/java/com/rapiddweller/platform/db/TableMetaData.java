@@ -0,0 +1,174 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.jdbacl.model.DBColumn;
+import com.rapiddweller.jdbacl.model.DBDataType;
+import com.rapiddweller.jdbacl.model.DBForeignKeyConstraint;
+import com.rapiddweller.jdbacl.model.DBPrimaryKeyConstraint;
+import com.rapiddweller.jdbacl.model.DBSchema;
+import com.rapiddweller.jdbacl.model.DBTable;
+import com.rapiddweller.jdbacl.model.DBUniqueConstraint;
+import com.rapiddweller.jdbacl.model.TableType;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serializable snapshot of the metadata of a single database table as needed for data generation:
+ * columns, primary key, single-column foreign keys and single-column unique constraints.
+ * The 'fingerprint' identifies the table's DDL state in which the metadata was read.<br/><br/>
+ * Created: 19.10.2026 10:04:52
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class TableMetaData implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String name;
+  private final String fingerprint;
+  private final List<Column> columns;
+  private final List<String> pkColumnNames;
+  private final List<ForeignKey> foreignKeys;
+  private final List<String> uniqueColumnNames;
+
+  public TableMetaData(String name, String fingerprint) {
+    this.name = name;
+    this.fingerprint = fingerprint;
+    this.columns = new ArrayList<>();
+    this.pkColumnNames = new ArrayList<>();
+    this.foreignKeys = new ArrayList<>();
+    this.uniqueColumnNames = new ArrayList<>();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  public List<Column> getColumns() {
+    return columns;
+  }
+
+  public void addColumn(Column column) {
+    columns.add(column);
+  }
+
+  public List<String> getPKColumnNames() {
+    return pkColumnNames;
+  }
+
+  public void addPKColumnName(String columnName) {
+    pkColumnNames.add(columnName);
+  }
+
+  public List<ForeignKey> getForeignKeys() {
+    return foreignKeys;
+  }
+
+  public void addForeignKey(ForeignKey foreignKey) {
+    foreignKeys.add(foreignKey);
+  }
+
+  public List<String> getUniqueColumnNames() {
+    return uniqueColumnNames;
+  }
+
+  public void addUniqueColumnName(String columnName) {
+    uniqueColumnNames.add(columnName);
+  }
+
+  /** Creates a jdbacl table model from the metadata. Referenced tables are represented by
+   *  name-only placeholders, since the model of other tables is not loaded.
+   *  @param schemaName the name of the schema to which the table belongs, may be null
+   *  @return a new {@link DBTable} */
+  public DBTable toDBTable(String schemaName) {
+    DBTable table = new DBTable(name, TableType.TABLE, (schemaName != null ? new DBSchema(schemaName) : null));
+    for (Column metaColumn : columns) {
+      DBColumn column = new DBColumn(metaColumn.name, table,
+          DBDataType.getInstance(metaColumn.jdbcType, metaColumn.typeName));
+      column.setSize(metaColumn.size);
+      column.setFractionDigits(metaColumn.fractionDigits);
+      column.setNullable(metaColumn.nullable);
+      column.setDefaultValue(metaColumn.defaultValue);
+      table.addColumn(column);
+    }
+    if (!pkColumnNames.isEmpty()) {
+      table.setPrimaryKey(new DBPrimaryKeyConstraint(table, null, false, pkColumnNames.toArray(new String[0])));
+    }
+    for (ForeignKey fk : foreignKeys) {
+      table.addForeignKey(new DBForeignKeyConstraint(fk.name, true, table, fk.columnName,
+          new DBTable(fk.refereeTableName), fk.refereeColumnName));
+    }
+    for (String columnName : uniqueColumnNames) {
+      DBUniqueConstraint constraint = new DBUniqueConstraint(table, null, false, columnName);
+      table.addUniqueConstraint(constraint);
+      table.getColumn(columnName).addUkConstraint(constraint);
+    }
+    return table;
+  }
+
+  @Override
+  public String toString() {
+    return name + "[" + fingerprint + "]";
+  }
+
+  /** Metadata of a table column. */
+  public static class Column implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public final String name;
+    public final int jdbcType;
+    public final String typeName;
+    public final Integer size;
+    public final Integer fractionDigits;
+    public final boolean nullable;
+    public final String defaultValue;
+
+    public Column(String name, int jdbcType, String typeName, Integer size, Integer fractionDigits,
+                  boolean nullable, String defaultValue) {
+      this.name = name;
+      this.jdbcType = jdbcType;
+      this.typeName = typeName;
+      this.size = size;
+      this.fractionDigits = fractionDigits;
+      this.nullable = nullable;
+      this.defaultValue = defaultValue;
+    }
+
+    @Override
+    public String toString() {
+      return name + " " + typeName;
+    }
+  }
+
+  /** Metadata of a single-column foreign key. */
+  public static class ForeignKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public final String name;
+    public final String columnName;
+    public final String refereeTableName;
+    public final String refereeColumnName;
+
+    public ForeignKey(String name, String columnName, String refereeTableName, String refereeColumnName) {
+      this.name = name;
+      this.columnName = columnName;
+      this.refereeTableName = refereeTableName;
+      this.refereeColumnName = refereeColumnName;
+    }
+
+    @Override
+    public String toString() {
+      return columnName + " -> " + refereeTableName + '.' + refereeColumnName;
+    }
+  }
+
+}
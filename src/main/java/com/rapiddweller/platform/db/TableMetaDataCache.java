@@ -0,0 +1,402 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.benerator.converter.Hash;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.collection.OrderedNameMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Caches the metadata of single database tables on the local file system, so that only the tables
+ * which are actually used in a run are read from the database, and only if they have changed.
+ * Each table is stored in its own file together with a fingerprint of its DDL state.
+ * On databases with reliable DDL timestamps (Oracle's LAST_DDL_TIME, SQL Server's modify_date and
+ * DB2's ALTER_TIME), the fingerprint is the timestamp, and the timestamps of all tables are read
+ * with a single query. On other databases, the fingerprint is a hash of the table's columns,
+ * primary key, foreign keys and indexes, which takes the same metadata queries as an import.
+ * This applies to MySQL and MariaDB too, since their CREATE_TIME is kept on an 'instant' ALTER TABLE.
+ * A cached table is validated once after creation and after each {@link #refresh()}:
+ * If its fingerprint has changed, it is imported again, all other tables are reused.<br/><br/>
+ * Created: 19.10.2026 10:21:36
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class TableMetaDataCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(TableMetaDataCache.class);
+
+  private static final String FILE_SUFFIX = ".meta";
+
+  private final AbstractDBSystem db;
+  private final File directory;
+  private final Map<String, TableMetaData> tables;
+  private final Set<String> validatedTables;
+  private OrderedNameMap<String> tableNames;
+  private Map<String, String> ddlTimestamps;
+  private int importCount;
+
+  public TableMetaDataCache(AbstractDBSystem db) {
+    this(db, defaultDirectory(db));
+  }
+
+  public TableMetaDataCache(AbstractDBSystem db, File directory) {
+    this.db = db;
+    this.directory = directory;
+    this.tables = new HashMap<>();
+    this.validatedTables = new HashSet<>();
+    this.tableNames = null;
+    this.ddlTimestamps = null;
+    this.importCount = 0;
+  }
+
+  public File getDirectory() {
+    return directory;
+  }
+
+  /** @return the number of tables which have been imported from the database instead of being reused */
+  public synchronized int getImportCount() {
+    return importCount;
+  }
+
+  /** @return the names of all tables which match the database's 'includeTables' and 'excludeTables' settings */
+  public synchronized List<String> getTableNames() {
+    return new ArrayList<>(haveTableNames().values());
+  }
+
+  /** @return the table name in the case used by the database or null if there is no such table */
+  public synchronized String resolveTableName(String tableName) {
+    return haveTableNames().get(tableName);
+  }
+
+  /** Provides the metadata of a table, reading it from the database only if it is not cached
+   *  or has changed since it was cached.
+   *  @param tableName the name of the table, case-insensitive
+   *  @return the table's metadata or null if the table does not exist */
+  public synchronized TableMetaData getTable(String tableName) {
+    String name = resolveTableName(tableName);
+    if (name == null) {
+      return null;
+    }
+    TableMetaData table = tables.get(name);
+    if (table != null && validatedTables.contains(name)) {
+      return table;
+    }
+    String fingerprint = fingerprint(name);
+    if (table == null) {
+      table = readFile(name);
+    }
+    if (table != null && fingerprint.equals(table.getFingerprint())) {
+      logger.debug("Reusing cached metadata of table {}", name);
+    } else {
+      logger.debug("Importing metadata of table {}", name);
+      table = importTable(name, fingerprint);
+      importCount++;
+      writeFile(table);
+    }
+    tables.put(name, table);
+    validatedTables.add(name);
+    return table;
+  }
+
+  /** Makes the cache check all tables for changes when they are accessed the next time.
+   *  Unchanged tables are not imported again. */
+  public synchronized void refresh() {
+    tableNames = null;
+    ddlTimestamps = null;
+    validatedTables.clear();
+  }
+
+  /** Removes all cached metadata, also from the file system. */
+  public synchronized void clear() {
+    refresh();
+    tables.clear();
+    File[] files = directory.listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+    if (files != null) {
+      for (File file : files) {
+        if (!file.delete()) {
+          logger.warn("Failed to delete cache file {}", file);
+        }
+      }
+    }
+  }
+
+  // table list ------------------------------------------------------------------------------------------------------
+
+  private OrderedNameMap<String> haveTableNames() {
+    if (tableNames == null) {
+      String includeTables = db.getIncludeTables();
+      Pattern includePattern = (includeTables != null && !"#all".equals(includeTables) ?
+          Pattern.compile(includeTables, Pattern.CASE_INSENSITIVE) : null);
+      String excludeTables = db.getExcludeTables();
+      Pattern excludePattern = (excludeTables != null ?
+          Pattern.compile(excludeTables, Pattern.CASE_INSENSITIVE) : null);
+      OrderedNameMap<String> names = OrderedNameMap.createCaseIgnorantMap();
+      try (ResultSet resultSet = metaData().getTables(db.getCatalog(), db.getSchema(), null, new String[] { "TABLE" })) {
+        while (resultSet.next()) {
+          String name = resultSet.getString("TABLE_NAME");
+          if ((includePattern == null || includePattern.matcher(name).matches())
+              && (excludePattern == null || !excludePattern.matcher(name).matches())) {
+            names.put(name, name);
+          }
+        }
+      } catch (SQLException e) {
+        throw BeneratorExceptionFactory.getInstance().dbQueryFailed("Error reading table names", e);
+      }
+      tableNames = names;
+    }
+    return tableNames;
+  }
+
+  // fingerprints ----------------------------------------------------------------------------------------------------
+
+  private String fingerprint(String tableName) {
+    if (ddlTimestamps == null) {
+      ddlTimestamps = queryDdlTimestamps();
+    }
+    String timestamp = ddlTimestamps.get(tableName.toUpperCase());
+    return (timestamp != null ? "ddl:" + timestamp : "meta:" + metaDataHash(tableName));
+  }
+
+  /** @return the DDL timestamps of all tables with upper case table names as keys,
+   *  or an empty map if the database does not provide reliable ones */
+  private Map<String, String> queryDdlTimestamps() {
+    Map<String, String> result = new HashMap<>();
+    String query = ddlTimestampQuery(db.getDatabaseProductName());
+    if (query == null) {
+      return result;
+    }
+    String owner = (db.getSchema() != null ? db.getSchema() : db.getCatalog());
+    try (PreparedStatement statement = db.getConnection().prepareStatement(query)) {
+      statement.setString(1, owner);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          result.put(resultSet.getString(1).toUpperCase(), resultSet.getString(2));
+        }
+      }
+      return result;
+    } catch (SQLException e) {
+      // e.g. missing privileges on the system tables
+      logger.warn("Failed to query DDL timestamps, using metadata hashes only: {}", e.getMessage());
+      result.clear();
+      return result;
+    }
+  }
+
+  /** @return a query for the DDL timestamps of all tables of an owner, or null if the database does not
+   *  provide timestamps which are updated on each DDL change of a table, including its indexes.
+   *  MySQL and MariaDB are not supported, since they update CREATE_TIME only if ALTER TABLE rebuilds the table */
+  static String ddlTimestampQuery(String productName) {
+    String lcName = (productName != null ? productName.toLowerCase() : "");
+    if (lcName.contains("oracle")) {
+      return "select OBJECT_NAME, to_char(LAST_DDL_TIME, 'YYYYMMDDHH24MISS') from ALL_OBJECTS " +
+          "where OWNER = ? and OBJECT_TYPE = 'TABLE'";
+    } else if (lcName.contains("microsoft sql server")) {
+      return "select t.name, convert(varchar(23), t.modify_date, 121) from sys.tables t " +
+          "join sys.schemas s on t.schema_id = s.schema_id where s.name = ?";
+    } else if (lcName.startsWith("db2")) {
+      return "select TABNAME, ALTER_TIME from SYSCAT.TABLES where TABSCHEMA = ?";
+    } else {
+      return null;
+    }
+  }
+
+  /** @return a hash of the table's column definitions, primary key, imported foreign keys and indexes */
+  private String metaDataHash(String tableName) {
+    String catalog = db.getCatalog();
+    String schema = db.getSchema();
+    StringBuilder signature = new StringBuilder();
+    try {
+      DatabaseMetaData metaData = metaData();
+      try (ResultSet resultSet = metaData.getColumns(catalog, schema, tableName, null)) {
+        appendRows(resultSet, signature, false, "COLUMN", "COLUMN_NAME", "TYPE_NAME", "COLUMN_SIZE", "DECIMAL_DIGITS",
+            "NULLABLE", "COLUMN_DEF");
+      }
+      try (ResultSet resultSet = metaData.getPrimaryKeys(catalog, schema, tableName)) {
+        appendRows(resultSet, signature, true, "PK", "PK_NAME", "KEY_SEQ", "COLUMN_NAME");
+      }
+      try (ResultSet resultSet = metaData.getImportedKeys(catalog, schema, tableName)) {
+        appendRows(resultSet, signature, true, "FK", "FK_NAME", "KEY_SEQ", "FKCOLUMN_NAME", "PKTABLE_NAME",
+            "PKCOLUMN_NAME");
+      }
+      try (ResultSet resultSet = metaData.getIndexInfo(catalog, schema, tableName, false, true)) {
+        appendRows(resultSet, signature, true, "INDEX", "INDEX_NAME", "NON_UNIQUE", "ORDINAL_POSITION", "COLUMN_NAME");
+      }
+    } catch (SQLException e) {
+      throw BeneratorExceptionFactory.getInstance().dbQueryFailed("Error reading metadata of table " + tableName, e);
+    }
+    return hash("SHA-1", signature.toString());
+  }
+
+  /** Appends the given columns of all rows of a metadata query.
+   *  @param sort tells if the rows shall be sorted, since the order of keys and indexes is not significant
+   *      and drivers do not guarantee an order for them */
+  private static void appendRows(ResultSet resultSet, StringBuilder signature, boolean sort, String prefix,
+                                 String... columns) throws SQLException {
+    List<String> rows = new ArrayList<>();
+    while (resultSet.next()) {
+      StringBuilder row = new StringBuilder(prefix);
+      for (String column : columns) {
+        row.append(' ').append(resultSet.getString(column));
+      }
+      rows.add(row.toString());
+    }
+    if (sort) {
+      Collections.sort(rows);
+    }
+    for (String row : rows) {
+      signature.append(row).append('\n');
+    }
+  }
+
+  // import ----------------------------------------------------------------------------------------------------------
+
+  private TableMetaData importTable(String tableName, String fingerprint) {
+    TableMetaData table = new TableMetaData(tableName, fingerprint);
+    String catalog = db.getCatalog();
+    String schema = db.getSchema();
+    try {
+      DatabaseMetaData metaData = metaData();
+      try (ResultSet resultSet = metaData.getColumns(catalog, schema, tableName, null)) {
+        while (resultSet.next()) {
+          table.addColumn(importColumn(resultSet));
+        }
+      }
+      try (ResultSet resultSet = metaData.getPrimaryKeys(catalog, schema, tableName)) {
+        Map<Short, String> pkColumns = new TreeMap<>();
+        while (resultSet.next()) {
+          pkColumns.put(resultSet.getShort("KEY_SEQ"), resultSet.getString("COLUMN_NAME"));
+        }
+        pkColumns.values().forEach(table::addPKColumnName);
+      }
+      try (ResultSet resultSet = metaData.getImportedKeys(catalog, schema, tableName)) {
+        // composite foreign keys are not mapped to references, so only single-column keys are kept
+        Map<String, List<TableMetaData.ForeignKey>> fks = new TreeMap<>();
+        while (resultSet.next()) {
+          String fkName = resultSet.getString("FK_NAME");
+          String columnName = resultSet.getString("FKCOLUMN_NAME");
+          fks.computeIfAbsent(fkName != null ? fkName : columnName, k -> new ArrayList<>()).add(
+              new TableMetaData.ForeignKey(fkName, columnName,
+                  resultSet.getString("PKTABLE_NAME"), resultSet.getString("PKCOLUMN_NAME")));
+        }
+        fks.values().stream().filter(fk -> fk.size() == 1).forEach(fk -> table.addForeignKey(fk.get(0)));
+      }
+      try (ResultSet resultSet = metaData.getIndexInfo(catalog, schema, tableName, true, true)) {
+        // like for foreign keys, only single-column constraints are used
+        Map<String, List<String>> indexes = new TreeMap<>();
+        while (resultSet.next()) {
+          String indexName = resultSet.getString("INDEX_NAME");
+          String columnName = resultSet.getString("COLUMN_NAME");
+          if (indexName != null && columnName != null) {
+            indexes.computeIfAbsent(indexName, k -> new ArrayList<>()).add(columnName);
+          }
+        }
+        indexes.values().stream().filter(columns -> columns.size() == 1).map(columns -> columns.get(0))
+            .distinct().forEach(table::addUniqueColumnName);
+      }
+      return table;
+    } catch (SQLException e) {
+      throw BeneratorExceptionFactory.getInstance().dbQueryFailed("Error reading metadata of table " + tableName, e);
+    }
+  }
+
+  private static TableMetaData.Column importColumn(ResultSet resultSet) throws SQLException {
+    String name = resultSet.getString("COLUMN_NAME");
+    int jdbcType = resultSet.getInt("DATA_TYPE");
+    String typeName = resultSet.getString("TYPE_NAME");
+    int columnSize = resultSet.getInt("COLUMN_SIZE");
+    Integer size = (resultSet.wasNull() ? null : columnSize);
+    int decimalDigits = resultSet.getInt("DECIMAL_DIGITS");
+    Integer fractionDigits = (resultSet.wasNull() || decimalDigits <= 0 ? null : decimalDigits);
+    boolean nullable = (resultSet.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls);
+    String defaultValue = resultSet.getString("COLUMN_DEF");
+    return new TableMetaData.Column(name, jdbcType, typeName, size, fractionDigits, nullable, defaultValue);
+  }
+
+  // file handling ---------------------------------------------------------------------------------------------------
+
+  private TableMetaData readFile(String tableName) {
+    File file = file(tableName);
+    if (!file.exists()) {
+      return null;
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(file))) {
+      return (TableMetaData) in.readObject();
+    } catch (InvalidClassException e) {
+      logger.debug("Ignoring cache file of an older format: {}", file);
+      return null;
+    } catch (IOException | ClassNotFoundException | ClassCastException e) {
+      logger.warn("Ignoring unreadable cache file {}: {}", file, e.getMessage());
+      return null;
+    }
+  }
+
+  private void writeFile(TableMetaData table) {
+    File file = file(table.getName());
+    if (!directory.exists() && !directory.mkdirs()) {
+      logger.warn("Failed to create cache directory {}", directory);
+      return;
+    }
+    // write to a temporary file first, so that concurrent processes never read incomplete files
+    File tempFile = new File(directory, file.getName() + ".tmp" + System.nanoTime());
+    try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(tempFile))) {
+      out.writeObject(table);
+    } catch (IOException e) {
+      logger.warn("Failed to write cache file {}: {}", file, e.getMessage());
+      tempFile.delete();
+      return;
+    }
+    if (!tempFile.renameTo(file) && (!file.delete() || !tempFile.renameTo(file))) {
+      logger.warn("Failed to write cache file {}", file);
+      tempFile.delete();
+    }
+  }
+
+  private File file(String tableName) {
+    // table names may contain characters which are not allowed in file names
+    String fileName = tableName.replaceAll("[^A-Za-z0-9_$#.-]", "_");
+    if (!fileName.equals(tableName)) {
+      fileName += '-' + hash("MD5", tableName).substring(0, 8);
+    }
+    return new File(directory, fileName + FILE_SUFFIX);
+  }
+
+  private static File defaultDirectory(AbstractDBSystem db) {
+    String key = db.getUrl() + '|' + db.getUser() + '|' + db.getCatalog() + '|' + db.getSchema();
+    File root = new File(System.getProperty("user.home"), "rapiddweller" + File.separator + "cache");
+    return new File(new File(root, "tables"), hash("SHA-1", key));
+  }
+
+  private static String hash(String type, String text) {
+    try (Hash hash = new Hash(type, Hash.HashFormat.hex)) {
+      return hash.convert(text);
+    }
+  }
+
+  private DatabaseMetaData metaData() throws SQLException {
+    return db.getConnection().getMetaData();
+  }
+
+}
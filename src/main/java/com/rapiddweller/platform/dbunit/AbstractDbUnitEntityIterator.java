@@ -38,9 +38,14 @@
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * Abstract parent class for classes that iterate DbUnit files and provide their content as {@link Entity}.<br/><br/>
+ * Abstract parent class for classes that iterate DbUnit files and provide their content as {@link Entity}.
+ * The file is read by a StAX cursor, so only the current row is held in memory.<br/><br/>
  * Created: 20.09.2011 08:07:44
  * @author Volker Bergmann
  * @since 0.7.1
@@ -52,14 +57,20 @@ public abstract class AbstractDbUnitEntityIterator implements DataIterator<Entit
   protected final String uri;
   protected final BeneratorContext context;
 
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Map<String, ComplexTypeDescriptor> types;
+  private InputStream in;
   protected XMLStreamReader reader;
 
   protected AbstractDbUnitEntityIterator(String uri, BeneratorContext context) {
     try {
       this.uri = uri;
       this.context = context;
+      this.types = new HashMap<>();
+      this.in = new BufferedInputStream(IOUtil.getInputStreamForURI(uri), BUFFER_SIZE);
       XMLInputFactory factory = XMLInputFactory.newInstance();
-      this.reader = factory.createXMLStreamReader(IOUtil.getInputStreamForURI(uri));
+      this.reader = factory.createXMLStreamReader(in);
     } catch (Exception e) {
       throw BeneratorExceptionFactory.getInstance().fileCreationFailed("Failed to create XML file " + uri, e);
     }
@@ -82,17 +93,22 @@ public void close() {
       }
     }
     this.reader = null;
+    // closing the XMLStreamReader does not close its underlying stream
+    IOUtil.close(in);
+    this.in = null;
   }
 
   // non-public helpers ----------------------------------------------------------------------------------------------
 
-  protected ComplexTypeDescriptor getType(Row row) {
-    String name = row.getTableName();
-    ComplexTypeDescriptor type = (ComplexTypeDescriptor) context.getDataModel().getTypeDescriptor(name);
-    if (type == null) {
-      type = new ComplexTypeDescriptor(name, context.getLocalDescriptorProvider());
-    }
-    return type;
+  /** Provides the type descriptor of a table, looking it up only once per table. */
+  protected ComplexTypeDescriptor getType(String tableName) {
+    return types.computeIfAbsent(tableName, name -> {
+      ComplexTypeDescriptor type = (ComplexTypeDescriptor) context.getDataModel().getTypeDescriptor(name);
+      if (type == null) {
+        type = new ComplexTypeDescriptor(name, context.getLocalDescriptorProvider());
+      }
+      return type;
+    });
   }
 
 }
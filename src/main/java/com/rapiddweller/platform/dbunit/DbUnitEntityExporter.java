@@ -28,29 +28,29 @@
 
 import com.rapiddweller.benerator.consumer.AbstractConsumer;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
-import com.rapiddweller.common.ConfigurationError;
 import com.rapiddweller.common.Encodings;
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.SystemInfo;
 import com.rapiddweller.common.converter.ToStringConverter;
 import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.xml.XMLEscaper;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
-import org.xml.sax.SAXException;
-import org.xml.sax.helpers.AttributesImpl;
-
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerConfigurationException;
-import javax.xml.transform.sax.SAXTransformerFactory;
-import javax.xml.transform.sax.TransformerHandler;
-import javax.xml.transform.stream.StreamResult;
+
+import java.io.BufferedWriter;
 import java.io.FileOutputStream;
-import java.io.OutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Exports entities in DbUnit XML file format.<br/><br/>
+ * Exports entities in DbUnit XML file format.
+ * Rows are streamed to a buffered writer: The start tag of each table and the attribute prefix
+ * of each column are rendered only once and attribute values are escaped in a single pass,
+ * so the exporter's memory footprint does not grow with the file size.<br/><br/>
  * @author Volker Bergmann
  * @since 0.3.04
  */
@@ -66,14 +66,23 @@ public class DbUnitEntityExporter extends AbstractConsumer {
   private static final String DATE_PATTERN = "yyyy-MM-dd";
   private static final String TIMESTAMP_PATTERN = "yyyy-MM-dd HH:mm:ss.SSSSSS";
 
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final char[] FRAGMENT_INDENT = "    ".toCharArray();
+  private static final char[] ROW_END = "/>\n".toCharArray();
+
   private final ToStringConverter toStringConverter;
+  private final Map<String, char[]> startTags;
+  private final Map<String, char[]> attributePrefixes;
 
   private String uri;
   private String encoding;
+  private boolean fragment;
 
   private State state;
-  private OutputStream out;
-  private TransformerHandler handler;
+  private Writer out;
+  private XMLEscaper escaper;
+  private boolean datasetStarted;
 
 
   // constructors ----------------------------------------------------------------------------------------------------
@@ -90,6 +99,8 @@ public DbUnitEntityExporter(String uri, String encoding) {
     setUri(uri);
     setEncoding(encoding);
     this.toStringConverter = new ToStringConverter(null, DATE_PATTERN, TIMESTAMP_PATTERN);
+    this.startTags = new HashMap<>();
+    this.attributePrefixes = new HashMap<>();
     this.state = State.CREATED;
   }
 
@@ -114,6 +125,27 @@ public void setEncoding(String encoding) {
     }
   }
 
+  public boolean isFragment() {
+    return fragment;
+  }
+
+  /** If set to true, only the row elements are written, without XML declaration and 'dataset' element.
+   *  Fragments which have been written concurrently can be concatenated to a DbUnit file
+   *  with {@link #fragmentHeader(String)} and {@link #fragmentFooter()}. */
+  public void setFragment(boolean fragment) {
+    this.fragment = fragment;
+  }
+
+  /** @return the text which precedes concatenated fragments in a DbUnit file */
+  public static String fragmentHeader(String encoding) {
+    return "<?xml version=\"1.0\" encoding=\"" + encoding + "\"?>\n<dataset>\n";
+  }
+
+  /** @return the text which follows concatenated fragments in a DbUnit file */
+  public static String fragmentFooter() {
+    return "</dataset>\n";
+  }
+
   // Consumer interface ----------------------------------------------------------------------------------------------
 
   @Override
@@ -125,7 +157,13 @@ public void startProductConsumption(Object object) {
     try {
       logger.debug("exporting {}", entity);
       initializeIfCreated();
-      AttributesImpl atts = new AttributesImpl();
+      if (fragment) {
+        out.write(FRAGMENT_INDENT);
+      } else if (!datasetStarted) {
+        out.write("<dataset>\n");
+        datasetStarted = true;
+      }
+      out.write(startTags.computeIfAbsent(entity.type(), type -> ('<' + type).toCharArray()));
       for (Map.Entry<String, Object> entry : entity.getComponents().entrySet()) {
         Object value = entry.getValue();
         if (value == null) {
@@ -133,13 +171,14 @@ public void startProductConsumption(Object object) {
         }
         String s = toStringConverter.convert(value);
         if (s != null) {
-          atts.addAttribute("", "", entry.getKey(), "CDATA", s);
+          out.write(attributePrefixes.computeIfAbsent(entry.getKey(), name -> (' ' + name + "=\"").toCharArray()));
+          escaper.writeAttributeValue(s, out);
+          out.write('"');
         }
       }
-      handler.startElement("", "", entity.type(), atts);
-      handler.endElement("", "", entity.type());
-    } catch (SAXException e) {
-      throw BeneratorExceptionFactory.getInstance().configurationError("Error in processing element: " + entity, e);
+      out.write(ROW_END);
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().fileAccessException("Error writing " + entity + " to " + uri, e);
     }
   }
 
@@ -156,17 +195,16 @@ public void close() {
     if (state == State.CLOSED) {
       return;
     }
-    if (handler != null) {
-      try {
-        handler.endElement("", "", "dataset");
-        handler.endDocument();
-        handler = null;
-      } catch (SAXException e) {
-        throw BeneratorExceptionFactory.getInstance().configurationError("Error closing XML file.", e);
-      } finally {
-        IOUtil.close(out);
-        out = null;
+    try {
+      if (!fragment) {
+        out.write(datasetStarted ? "</dataset>\n" : "<dataset/>\n");
       }
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().fileAccessException("Error closing XML file " + uri, e);
+    } finally {
+      IOUtil.close(out);
+      out = null;
+      state = State.CLOSED;
     }
   }
 
@@ -180,31 +218,15 @@ private void initializeIfCreated() {
 
   private void initialize() {
     try {
-      // create file and write header
-      SAXTransformerFactory tf = (SAXTransformerFactory) SAXTransformerFactory.newInstance();
-      handler = tf.newTransformerHandler();
-
-      Transformer serializer = handler.getTransformer();
-      serializer.setOutputProperty(OutputKeys.ENCODING, encoding);
-      serializer.setOutputProperty(OutputKeys.INDENT, "yes");
-
-      out = new FileOutputStream(uri);
-      handler.setResult(new StreamResult(out));
-
-      // bug fix: the following extra call to start/endDocument fixes the bug,
-      // that in normal invocation no line separator is inserted after the <?xml?> header
-      handler.startDocument();
-      handler.endDocument();
-      // end of bug fix
-
-      handler.startDocument();
-      handler.startElement("", "", "dataset", null);
-
+      Charset charset = Charset.forName(encoding);
+      this.escaper = new XMLEscaper(charset);
+      this.out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(uri), charset), BUFFER_SIZE);
+      if (!fragment) {
+        out.write("<?xml version=\"1.0\" encoding=\"" + encoding + "\"?>\n");
+      }
       this.state = State.INITIALIZED;
-    } catch (TransformerConfigurationException e) {
-      throw BeneratorExceptionFactory.getInstance().configurationError("Error in transformer configuration", e);
     } catch (Exception e) {
-      throw BeneratorExceptionFactory.getInstance().configurationError("Error in initializing XML file", e);
+      throw BeneratorExceptionFactory.getInstance().fileCreationFailed("Error in initializing XML file " + uri, e);
     }
   }
 
@@ -35,6 +35,7 @@
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
 
 /**
  * Imports entities from a DbUnit XML file.<br/><br/>
@@ -51,12 +52,14 @@ public DbUnitEntitySource(String uri, BeneratorContext context) {
   }
 
   private static Boolean isFlat(String uri) {
-    try {
+    try (InputStream in = IOUtil.getInputStreamForURI(uri)) {
       XMLInputFactory factory = XMLInputFactory.newInstance();
-      XMLStreamReader reader = factory.createXMLStreamReader(IOUtil.getInputStreamForURI(uri));
+      XMLStreamReader reader = factory.createXMLStreamReader(in);
       DbUnitUtil.skipRootElement(reader);
       DbUnitUtil.skipNonStartTags(reader);
-      return !"table".equals(reader.getLocalName());
+      boolean flat = !"table".equals(reader.getLocalName());
+      reader.close();
+      return flat;
     } catch (Exception e) {
       throw BeneratorExceptionFactory.getInstance().fileAccessException("Error processing uri", e);
     }
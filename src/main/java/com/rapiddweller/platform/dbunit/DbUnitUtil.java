@@ -62,9 +62,6 @@ public static void skipNonStartTags(XMLStreamReader reader) {
     try {
       while (reader != null && reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
         // empty loop
-        if (reader.getEventType() == XMLStreamConstants.START_ELEMENT) {
-          System.out.println(reader.getLocalName());
-        }
       }
     } catch (XMLStreamException e) {
       throw ExceptionFactory.getInstance().internalError("Error processing XML", e);
@@ -29,10 +29,8 @@
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.format.DataContainer;
 import com.rapiddweller.format.script.ScriptUtil;
-import com.rapiddweller.model.data.ComplexTypeDescriptor;
 import com.rapiddweller.model.data.Entity;
 
-import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamConstants;
 
 /**
@@ -57,35 +55,21 @@ public DataContainer<Entity> next(DataContainer<Entity> container) {
       return null;
     }
     // map element to entity
-    QName name = reader.getName();
-    Row row = parseDataset(name.getLocalPart());
-    Entity result = mapToEntity(row);
+    Entity result = mapToEntity(reader.getLocalName());
     return container.setData(result);
   }
 
   // private helpers -------------------------------------------------------------------------------------------------
 
-  private Row parseDataset(String tableName) {
+  /** Maps the attributes of the current element directly to an entity */
+  protected Entity mapToEntity(String tableName) {
+    Entity result = new Entity(getType(tableName));
     int columnCount = reader.getAttributeCount();
-    String[] columnNames = new String[columnCount];
-    String[] cellValues = new String[columnCount];
     for (int i = 0; i < columnCount; i++) {
-      columnNames[i] = reader.getAttributeLocalName(i);
-      cellValues[i] = reader.getAttributeValue(i);
-    }
-    Row row = new Row(tableName, columnNames, cellValues);
-    logger.debug("parsed row {}", row);
-    return row;
-  }
-
-  protected Entity mapToEntity(Row row) {
-    String[] cells = row.getValues();
-    ComplexTypeDescriptor descriptor = getType(row);
-    Entity result = new Entity(descriptor);
-    for (int i = 0; i < cells.length; i++) {
-      String rowValue = String.valueOf(ScriptUtil.evaluate(cells[i], context));
-      result.setComponent(row.getColumnName(i), rowValue);
+      String rowValue = String.valueOf(ScriptUtil.evaluate(reader.getAttributeValue(i), context));
+      result.setComponent(reader.getAttributeLocalName(i), rowValue);
     }
+    logger.debug("parsed row {}", result);
     return result;
   }
 
@@ -28,9 +28,6 @@
 
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
-import com.rapiddweller.common.ArrayBuilder;
-import com.rapiddweller.common.ArrayFormat;
-import com.rapiddweller.common.ArrayUtil;
 import com.rapiddweller.format.DataContainer;
 import com.rapiddweller.format.DataIterator;
 import com.rapiddweller.format.script.ScriptUtil;
@@ -39,6 +36,8 @@
 
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Reads the nested form of a DbUnit XML dataset file and provides its content as Entities
@@ -62,29 +61,22 @@ public NestedDbUnitEntityIterator(String uri, BeneratorContext context) {
   @Override
   public DataContainer<Entity> next(DataContainer<Entity> container) {
     try {
-      DbUnitUtil.skipNonStartTags(reader);
-      if (reader.getEventType() == XMLStreamConstants.END_DOCUMENT) {
-        return null;
-      }
-      String elementName = reader.getLocalName();
-      Row row;
-      if ("table".equals(elementName)) {
-        row = parseTableAndFirstRow();
-      } else if ("row".equals(elementName) || "column".equals(elementName)) {
-        row = parseRow();
-      } else {
-        throw BeneratorExceptionFactory.getInstance().syntaxErrorForText(
-            "<" + elementName + ">", "Not an allowed element");
-      }
-      if (row == null) {
-        return null;
-      }
-      ComplexTypeDescriptor descriptor = getType(row);
-      Entity result = new Entity(descriptor);
-      String[] cells = row.getValues();
-      for (int i = 0; i < cells.length; i++) {
-        String rowValue = String.valueOf(ScriptUtil.evaluate(cells[i], context));
-        result.setComponent(row.getColumnName(i), rowValue);
+      Entity result = null;
+      while (result == null) {
+        DbUnitUtil.skipNonStartTags(reader);
+        if (reader.getEventType() == XMLStreamConstants.END_DOCUMENT) {
+          return null;
+        }
+        String elementName = reader.getLocalName();
+        if ("table".equals(elementName)) {
+          // a table without rows yields null, then parsing continues with the next table
+          result = parseTableAndFirstRow();
+        } else if ("row".equals(elementName) || "column".equals(elementName)) {
+          result = parseRow();
+        } else {
+          throw BeneratorExceptionFactory.getInstance().syntaxErrorForText(
+              "<" + elementName + ">", "Not an allowed element");
+        }
       }
       return container.setData(result);
     } catch (XMLStreamException e) {
@@ -94,9 +86,9 @@ public DataContainer<Entity> next(DataContainer<Entity> container) {
 
   // private helpers -------------------------------------------------------------------------------------------------
 
-  private Row parseTableAndFirstRow() throws XMLStreamException {
+  private Entity parseTableAndFirstRow() throws XMLStreamException {
     String tableName = reader.getAttributeValue(null, "name");
-    currentTable = new Table(tableName);
+    currentTable = new Table(tableName, getType(tableName));
     parseColumns();
     return parseRow();
   }
@@ -110,73 +102,66 @@ protected void parseColumns() throws XMLStreamException {
 
   private String parseColumn() throws XMLStreamException {
     // format: <column>column_name</column>
-    // parse <column>
     reader.nextTag();
     if (!"column".equals(reader.getLocalName())) {
       return null;
     }
-    reader.next();
-    // parse column_name
-    String columnName = reader.getText();
-    // parse </column>
-    reader.next();
-    return columnName;
+    // parse column_name and </column>
+    return reader.getElementText();
   }
 
-  private Row parseRow() throws XMLStreamException {
+  private Entity parseRow() throws XMLStreamException {
     if (reader.getEventType() != XMLStreamConstants.START_ELEMENT) {
       return null;
     }
-    if ("row".equals(reader.getLocalName())) {
-      reader.next();
-    }
+    // parseValues() moves from <row> to the first <value> by nextTag()
     return parseValues();
   }
 
-  private Row parseValues() throws XMLStreamException {
+  private Entity parseValues() throws XMLStreamException {
+    // map the values directly to the components of the entity
+    Entity result = new Entity(currentTable.type);
     String value;
-    ArrayBuilder<String> builder = new ArrayBuilder<>(String.class);
+    int column = 0;
     while ((value = parseValue()) != null) {
-      builder.add(value);
+      String rowValue = String.valueOf(ScriptUtil.evaluate(value, context));
+      result.setComponent(currentTable.getColumnName(column++), rowValue);
     }
-    return new Row(currentTable.name, currentTable.getColumnNames(), builder.toArray());
+    return result;
   }
 
   private String parseValue() throws XMLStreamException {
-    // <value>cell_value</value>
-    // parse <value>
+    // format: <value>cell_value</value>
     reader.nextTag();
     if (!"value".equals(reader.getLocalName())) {
       return null;
     }
-    reader.next();
-    // parse cell_value
-    String columnName = reader.getText();
-    // parse </value>
-    reader.next();
-    return columnName;
+    // parse cell_value and </value>
+    return reader.getElementText();
   }
 
   private static class Table {
     protected final String name;
-    private String[] columnNames;
+    protected final ComplexTypeDescriptor type;
+    private final List<String> columnNames;
 
-    public Table(String name) {
+    public Table(String name, ComplexTypeDescriptor type) {
       this.name = name;
-      this.columnNames = null;
+      this.type = type;
+      this.columnNames = new ArrayList<>();
     }
 
     public void addColumn(String column) {
-      this.columnNames = ArrayUtil.append(column, this.columnNames);
+      this.columnNames.add(column);
     }
 
-    @Override
-    public String toString() {
-      return name + '[' + ArrayFormat.format(columnNames) + ']';
+    public String getColumnName(int index) {
+      return columnNames.get(index);
     }
 
-    public String[] getColumnNames() {
-      return columnNames;
+    @Override
+    public String toString() {
+      return name + columnNames;
     }
   }
 
@@ -1,90 +0,0 @@
-/*
- * (c) Copyright 2006-2020 by rapiddweller GmbH & Volker Bergmann. All rights reserved.
- *
- * Redistribution and use in source and binary forms, with or without
- * modification, is permitted under the terms of the
- * GNU General Public License.
- *
- * For redistributing this software or a derivative work under a license other
- * than the GPL-compatible Free Software License as defined by the Free
- * Software Foundation or approved by OSI, you must first obtain a commercial
- * license to this software product from rapiddweller GmbH & Volker Bergmann.
- *
- * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
- * WITHOUT A WARRANTY OF ANY KIND. ALL EXPRESS OR IMPLIED CONDITIONS,
- * REPRESENTATIONS AND WARRANTIES, INCLUDING ANY IMPLIED WARRANTY OF
- * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE OR NON-INFRINGEMENT, ARE
- * HEREBY EXCLUDED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
- * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
- * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
- * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
- * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
- * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
- * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
- * POSSIBILITY OF SUCH DAMAGE.
- */
-
-package com.rapiddweller.platform.dbunit;
-
-import com.rapiddweller.common.ArrayFormat;
-
-/**
- * Provides the data of a database row with meta information.<br/><br/>
- * Created: 20.09.2011 08:06:13
- *
- * @author Volker Bergmann
- * @since 0.7.1
- */
-class Row {
-
-  private final String tableName;
-  private final String[] columnNames;
-  private final String[] values;
-
-  /**
-   * Instantiates a new Row.
-   *
-   * @param tableName   the table name
-   * @param columnNames the column names
-   * @param values      the values
-   */
-  public Row(String tableName, String[] columnNames, String[] values) {
-    this.tableName = tableName;
-    this.columnNames = columnNames;
-    this.values = values;
-  }
-
-  /**
-   * Gets table name.
-   *
-   * @return the table name
-   */
-  public String getTableName() {
-    return tableName;
-  }
-
-  /**
-   * Get values string [ ].
-   *
-   * @return the string [ ]
-   */
-  public String[] getValues() {
-    return values;
-  }
-
-  /**
-   * Gets column name.
-   *
-   * @param i the
-   * @return the column name
-   */
-  public String getColumnName(int i) {
-    return columnNames[i];
-  }
-
-  @Override
-  public String toString() {
-    return tableName + '[' + ArrayFormat.format(values) + ']';
-  }
-
-}
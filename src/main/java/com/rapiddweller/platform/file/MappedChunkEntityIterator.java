@@ -0,0 +1,353 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.file;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.Converter;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.model.data.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parent class for iterators which read a line-based text file through memory-mapped, line-aligned chunks
+ * and parse the chunks concurrently. The chunks are parsed into String arrays and converted to entities
+ * in the worker threads, unless the converter is not thread-safe, then conversion happens in the iterating thread.
+ * Entities are provided in file order if 'ordered' is true, otherwise in the order in which chunks are finished.
+ * Chunk boundaries are determined without reading the data before them, so in formats whose records may span
+ * several lines, a boundary may be speculative: Each worker parses the records which start in its chunk,
+ * including the remainder of the last one, and the iterating thread accepts a chunk only if it starts
+ * where its predecessor's last record ended, otherwise the chunk is parsed again from that position.
+ * Only charsets are supported which encode a line feed as the single byte 0x0A and never use that byte
+ * otherwise, e.g. ASCII, ISO-8859-x and UTF-8.<br/><br/>
+ * Created: 19.10.2026 15:10:55
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public abstract class MappedChunkEntityIterator implements DataIterator<Entity> {
+
+  private static final Logger logger = LoggerFactory.getLogger(MappedChunkEntityIterator.class);
+
+  public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+  protected static final byte LF = '\n';
+  protected static final byte CR = '\r';
+
+  private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+  private static final AtomicInteger instanceCount = new AtomicInteger();
+
+  protected final File file;
+  protected final Charset charset;
+  private final FileChannel channel;
+  private final long fileSize;
+  private final int chunkSize;
+  private final boolean ordered;
+  private final int maxPendingChunks;
+  private final Converter<String[], Entity> converter;
+  private final boolean convertInWorkers;
+
+  private final ThreadLocal<byte[]> scratch = ThreadLocal.withInitial(() -> new byte[256]);
+
+  private final ExecutorService executor;
+  private final CompletionService<ChunkResult> completionService;
+  private final Deque<Future<ChunkResult>> pendingChunks;
+  private long nextChunkStart;
+  private long recordsEnd;
+  private List<Object> currentChunk;
+  private int currentIndex;
+
+  /** @param file the file to read
+   *  @param dataStart the offset of the first data line, e.g. after a header line
+   *  @param charset the character encoding of the file
+   *  @param converter converts the parsed cells of a line to an entity
+   *  @param threads the number of threads for parsing
+   *  @param ordered tells if the entities must be provided in the order of the file
+   *  @param chunkSize the approximate size of a chunk in bytes */
+  protected MappedChunkEntityIterator(File file, long dataStart, Charset charset, Converter<String[], Entity> converter,
+                                      int threads, boolean ordered, int chunkSize) {
+    if (threads < 1) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("Illegal thread count: " + threads);
+    }
+    if (!isSupported(charset)) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument("Unsupported charset for memory-mapped parsing: " + charset);
+    }
+    this.file = file;
+    this.charset = charset;
+    try {
+      this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+      this.fileSize = channel.size();
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error opening file " + file, e);
+    }
+    this.chunkSize = chunkSize;
+    this.ordered = ordered;
+    this.maxPendingChunks = threads * 2;
+    this.converter = converter;
+    this.convertInWorkers = converter.isThreadSafe();
+    int instance = instanceCount.incrementAndGet();
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "Benerator-Chunk-" + instance + "-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.completionService = new ExecutorCompletionService<>(executor);
+    this.pendingChunks = new ArrayDeque<>();
+    this.nextChunkStart = dataStart;
+    this.recordsEnd = dataStart;
+    this.currentChunk = null;
+    this.currentIndex = 0;
+    logger.debug("Parsing {} with {} threads", file, threads);
+  }
+
+  /** Tells if a charset can be processed by memory-mapped parsing.
+   *  @param charset the charset to check
+   *  @return true if the charset encodes line feeds and all other ASCII characters as single bytes */
+  public static boolean isSupported(Charset charset) {
+    return charset.canEncode() && Arrays.equals(new byte[] { LF }, "\n".getBytes(charset))
+        && Arrays.equals(new byte[] { 'a', ',', '"' }, "a,\"".getBytes(charset));
+  }
+
+  // DataIterator interface implementation ---------------------------------------------------------------------------
+
+  @Override
+  public Class<Entity> getType() {
+    return Entity.class;
+  }
+
+  @Override
+  public DataContainer<Entity> next(DataContainer<Entity> container) {
+    while (currentChunk == null || currentIndex >= currentChunk.size()) {
+      submitChunks();
+      if (pendingChunks.isEmpty()) {
+        return null;
+      }
+      currentChunk = takeChunk();
+      currentIndex = 0;
+    }
+    Object item = currentChunk.get(currentIndex);
+    currentChunk.set(currentIndex++, null); // release the entity for garbage collection
+    return container.setData(convertInWorkers ? (Entity) item : converter.convert((String[]) item));
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    pendingChunks.clear();
+    currentChunk = null;
+    try {
+      channel.close();
+    } catch (IOException e) {
+      logger.warn("Error closing {}", file, e);
+    }
+  }
+
+  // interface for child classes -------------------------------------------------------------------------------------
+
+  /** Parses the records which start in a chunk.
+   *  @param chunk the chunk data, starting at the beginning of a line. It may extend beyond the end of the chunk
+   *  @param end the end of the chunk in the buffer, which is after a line feed or at the end of the buffer.
+   *      All records which start before it are parsed, even if they extend beyond it
+   *  @param endOfFile tells if the buffer ends at the end of the file
+   *  @param rows receives the cells of each parsed record
+   *  @return the position after the last parsed record or -1 if that record continues after the end of the buffer */
+  protected abstract int parseChunk(ByteBuffer chunk, int end, boolean endOfFile, List<String[]> rows);
+
+  /** Tells if each chunk end is the end of a record. This is the case for line-based formats,
+   *  child classes whose records may span several lines return false, then a chunk is only accepted
+   *  after its predecessor and entities are always provided in file order. */
+  protected boolean hasExactChunkBoundaries() {
+    return true;
+  }
+
+  /** Determines the end of a chunk. This implementation returns the position after the first line feed
+   *  which is found after the target position.
+   *  @param start the start of the chunk
+   *  @param target the desired end of the chunk
+   *  @return the actual end of the chunk */
+  protected long chunkEnd(long start, long target) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+    long position = target;
+    while (position < fileSize) {
+      buffer.clear();
+      int count = channel.read(buffer, position);
+      if (count <= 0) {
+        break;
+      }
+      for (int i = 0; i < count; i++) {
+        if (buffer.get(i) == LF) {
+          return position + i + 1;
+        }
+      }
+      position += count;
+    }
+    return fileSize;
+  }
+
+  protected FileChannel getChannel() {
+    return channel;
+  }
+
+  protected long getFileSize() {
+    return fileSize;
+  }
+
+  /** Decodes a range of bytes to a String.
+   *  @param buffer the buffer to read from
+   *  @param from the index of the first byte
+   *  @param to the index after the last byte
+   *  @return the decoded text */
+  protected String decode(ByteBuffer buffer, int from, int to) {
+    byte[] bytes = scratch(to - from);
+    for (int i = from; i < to; i++) {
+      bytes[i - from] = buffer.get(i);
+    }
+    return new String(bytes, 0, to - from, charset);
+  }
+
+  /** Provides a reusable byte array of the calling thread.
+   *  @param minLength the minimum length of the array */
+  protected byte[] scratch(int minLength) {
+    byte[] result = scratch.get();
+    if (result.length < minLength) {
+      result = new byte[Math.max(minLength, result.length * 2)];
+      scratch.set(result);
+    }
+    return result;
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void submitChunks() {
+    try {
+      while (pendingChunks.size() < maxPendingChunks && nextChunkStart < fileSize) {
+        long start = nextChunkStart;
+        long end = chunkEnd(start, Math.min(fileSize, start + chunkSize));
+        // in ordered mode, the completion service is bypassed since its queue of finished chunks would not be drained
+        Future<ChunkResult> future = (isOrdered() ? executor.submit(() -> processChunk(start, end, true))
+            : completionService.submit(() -> processChunk(start, end, true)));
+        pendingChunks.add(future);
+        nextChunkStart = end;
+      }
+    } catch (IOException e) {
+      close();
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error reading " + file, e);
+    }
+  }
+
+  private boolean isOrdered() {
+    return ordered || !hasExactChunkBoundaries();
+  }
+
+  private List<Object> takeChunk() {
+    try {
+      if (!isOrdered()) {
+        Future<ChunkResult> future = completionService.take();
+        pendingChunks.remove(future);
+        return future.get().items;
+      }
+      while (!pendingChunks.isEmpty()) {
+        ChunkResult result = pendingChunks.removeFirst().get();
+        if (result.start == recordsEnd && result.recordsEnd >= 0) {
+          recordsEnd = result.recordsEnd;
+          return result.items;
+        } else if (result.end > recordsEnd) {
+          // the chunk does not start with a record or its last record has not been completed,
+          // so it is parsed again from the end of the previous record
+          long start = recordsEnd;
+          pendingChunks.addFirst(executor.submit(() -> processChunk(start, result.end, false)));
+        } // otherwise the chunk is part of the previous chunk's last record
+      }
+      return Collections.emptyList();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Interrupted reading " + file, e);
+    } catch (ExecutionException e) {
+      close();
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error parsing " + file, e.getCause());
+    }
+  }
+
+  /** Parses a chunk, mapping more data after its end as long as its last record continues.
+   *  @param speculative if true, the chunk may not start with a record, so parsing gives up
+   *      if the last record extends more than a chunk size beyond the end */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private ChunkResult processChunk(long start, long end, boolean speculative) throws IOException {
+    long overhang = 0;
+    while (true) {
+      long mapEnd = Math.min(fileSize, end + overhang);
+      if (mapEnd - start > Integer.MAX_VALUE) {
+        throw BeneratorExceptionFactory.getInstance().operationFailed(
+            "Record too large in " + file + " at position " + start, null);
+      }
+      MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, mapEnd - start);
+      List<String[]> rows = new ArrayList<>();
+      int parsedEnd = parseChunk(chunk, (int) (end - start), mapEnd == fileSize, rows);
+      if (parsedEnd >= 0) {
+        return new ChunkResult(start, end, start + parsedEnd, convertInWorkers ? convert(rows) : (List) rows);
+      } else if (speculative && overhang >= chunkSize) {
+        return new ChunkResult(start, end, -1, null);
+      }
+      overhang = Math.max(SCAN_BUFFER_SIZE, overhang * 2);
+    }
+  }
+
+  private List<Object> convert(List<String[]> rows) {
+    List<Object> entities = new ArrayList<>(rows.size());
+    for (String[] row : rows) {
+      entities.add(converter.convert(row));
+    }
+    return entities;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '[' + file + ']';
+  }
+
+  // helper classes --------------------------------------------------------------------------------------------------
+
+  /** The result of parsing a chunk. */
+  private static final class ChunkResult {
+    final long start;
+    final long end;
+    final long recordsEnd;
+    final List<Object> items;
+
+    ChunkResult(long start, long end, long recordsEnd, List<Object> items) {
+      this.start = start;
+      this.end = end;
+      this.recordsEnd = recordsEnd;
+      this.items = items;
+    }
+  }
+
+}
@@ -0,0 +1,167 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.fixedwidth;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.Assert;
+import com.rapiddweller.common.bean.ArrayPropertyExtractor;
+import com.rapiddweller.common.converter.ToStringConverter;
+import com.rapiddweller.common.format.Alignment;
+import com.rapiddweller.common.format.PadFormat;
+import com.rapiddweller.format.fixedwidth.FixedWidthColumnDescriptor;
+import com.rapiddweller.format.fixedwidth.FixedWidthUtil;
+import com.rapiddweller.model.data.Entity;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.text.ParseException;
+import java.util.Locale;
+
+/**
+ * Compiled form of a fixed-width column format list. Each column is resolved once to its offset, width,
+ * alignment and pad character, so a record is rendered by filling a reusable character array at fixed
+ * positions and encoding it into a byte buffer in one step. Columns without a number or date pattern are
+ * padded in place, the others are rendered by their {@link PadFormat}. The output is the same as the one
+ * of the {@link FWRecordFormatter}. Instances are not thread-safe.<br/><br/>
+ * Created: 19.10.2026 14:05:12
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class FWRecordLayout {
+
+  private final ColumnWriter[] columns;
+  private final char[] record;
+  private final CharBuffer recordBuffer;
+  private final CharsetEncoder encoder;
+  private final int maxRecordBytes;
+
+  public FWRecordLayout(String columnFormatList, String nullString, Locale locale, String lineSeparator, Charset charset) {
+    Assert.notNull(columnFormatList, "columnFormatList");
+    FixedWidthColumnDescriptor[] descriptors;
+    try {
+      descriptors = FixedWidthUtil.parseBeanColumnsSpec(columnFormatList, "", nullString, locale).getColumnDescriptors();
+    } catch (ParseException e) {
+      throw BeneratorExceptionFactory.getInstance().configurationError("Invalid column definition: " + columnFormatList, e);
+    }
+    String[] names = ArrayPropertyExtractor.convert(descriptors, "name", String.class);
+    PadFormat[] formats = ArrayPropertyExtractor.convert(descriptors, "format", PadFormat.class);
+    this.columns = new ColumnWriter[descriptors.length];
+    int offset = 0;
+    for (int i = 0; i < descriptors.length; i++) {
+      columns[i] = new ColumnWriter(names[i], formats[i], nullString, offset);
+      offset += formats[i].getLength();
+    }
+    this.record = new char[offset + lineSeparator.length()];
+    lineSeparator.getChars(0, lineSeparator.length(), record, offset);
+    this.recordBuffer = CharBuffer.wrap(record);
+    this.encoder = charset.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.maxRecordBytes = (int) Math.ceil(record.length * (double) encoder.maxBytesPerChar());
+  }
+
+  /** @return the maximum number of bytes a record including the line separator can take */
+  public int getMaxRecordBytes() {
+    return maxRecordBytes;
+  }
+
+  /** Renders an entity and appends its encoded bytes including the line separator to a buffer.
+   *  @param entity the entity to render
+   *  @param out a buffer with at least {@link #getMaxRecordBytes()} bytes remaining */
+  public void write(Entity entity, ByteBuffer out) {
+    for (ColumnWriter column : columns) {
+      column.write(entity, record);
+    }
+    recordBuffer.clear();
+    encoder.reset();
+    try {
+      CoderResult result = encoder.encode(recordBuffer, out, true);
+      if (result.isUnderflow()) {
+        result = encoder.flush(out);
+      }
+      if (!result.isUnderflow()) {
+        result.throwException();
+      }
+    } catch (CharacterCodingException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error encoding fixed-width record " + entity, e);
+    }
+  }
+
+  /** Tells if a column format only pads its values, having no nested number or date format.
+   *  @param format the column format
+   *  @param nullString the null string the format has been created with */
+  static boolean isPlain(PadFormat format, String nullString) {
+    // a PadFormat without a nested format equals a plain one with the same padding and null string
+    return format.equals(new PadFormat(null, nullString, format.getLength(), format.getAlignment(), format.getPadChar()));
+  }
+
+  // helper class ----------------------------------------------------------------------------------------------------
+
+  private static final class ColumnWriter {
+
+    private final String name;
+    private final PadFormat format;
+    private final String nullString;
+    private final boolean plain;
+    private final int offset;
+    private final int width;
+    private final Alignment alignment;
+    private final char padChar;
+
+    ColumnWriter(String name, PadFormat format, String nullString, int offset) {
+      this.name = name;
+      this.format = format;
+      this.nullString = nullString;
+      this.offset = offset;
+      this.width = format.getLength();
+      this.alignment = format.getAlignment();
+      this.padChar = format.getPadChar();
+      this.plain = isPlain(format, nullString);
+    }
+
+    void write(Entity entity, char[] record) {
+      Object value = entity.getComponent(name);
+      if (!plain) {
+        format.format(value).getChars(0, width, record, offset);
+        return;
+      }
+      String text = (value != null ? ToStringConverter.convert(value, nullString) : nullString);
+      int length = text.length();
+      int delta = width - length;
+      if (delta < 0) {
+        throw BeneratorExceptionFactory.getInstance().illegalArgument(
+            "Value of column '" + name + "' is longer than its width " + width + ": " + text);
+      }
+      int start;
+      switch (alignment) {
+        case LEFT:
+          start = offset;
+          break;
+        case RIGHT:
+          start = offset + delta;
+          break;
+        default:
+          start = offset + delta / 2;
+      }
+      int end = start + length;
+      for (int i = offset; i < start; i++) {
+        record[i] = padChar;
+      }
+      text.getChars(0, length, record, start);
+      for (int i = end; i < offset + width; i++) {
+        record[i] = padChar;
+      }
+      if (alignment == Alignment.RIGHT && padChar == '0' && length > 0 && text.charAt(0) == '-') {
+        // a negative number gets its sign before the leading zeros
+        record[start] = '0';
+        record[offset] = '-';
+      }
+    }
+  }
+
+}
@@ -28,18 +28,31 @@
 
 import com.rapiddweller.benerator.consumer.TextFileExporter;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.util.FileCompression;
 import com.rapiddweller.common.ArrayFormat;
+import com.rapiddweller.common.FileUtil;
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.collection.OrderedNameMap;
 import com.rapiddweller.model.data.Entity;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.util.Locale;
 import java.util.Map;
 
 /**
- * Exports Entities to fixed-width files.<br/><br/>
+ * Exports Entities to fixed-width files.
+ * In 'compiled' mode, the column formats are compiled to {@link FWRecordLayout}s
+ * and the records are encoded into a byte buffer which is written to a {@link FileChannel},
+ * or to a compressing stream if the file is compressed.<br/><br/>
  * Created: 26.08.2007 06:17:41
  * @author Volker Bergmann
  */
@@ -47,10 +60,17 @@ public class FixedWidthEntityExporter extends TextFileExporter {
 
   private static final Logger logger = LoggerFactory.getLogger(FixedWidthEntityExporter.class);
 
+  private static final int BUFFER_SIZE = 65536;
+
   private final Map<String, String> formats;
   private Map<String, FWRecordFormatter> formatters;
+  private Map<String, FWRecordLayout> layouts;
 
   private Locale locale;
+  private boolean compiled;
+
+  private WritableByteChannel channel;
+  private ByteBuffer buffer;
 
   public FixedWidthEntityExporter() {
     this("export.fcw", null);
@@ -65,7 +85,9 @@ public FixedWidthEntityExporter(String uri, String encoding, String columnFormat
     this.uri = uri;
     this.formats = OrderedNameMap.createCaseInsensitiveMap();
     this.formatters = null;
+    this.layouts = null;
     this.locale = Locale.US;
+    this.compiled = false;
     setColumns(columnFormatList);
     setDecimalPattern("0.##");
   }
@@ -76,6 +98,16 @@ public void setLocale(Locale locale) {
     this.locale = locale;
   }
 
+  public boolean isCompiled() {
+    return compiled;
+  }
+
+  /** Activates the compiled layout mode which renders records into a byte buffer
+   *  and writes it to a {@link FileChannel} instead of a PrintWriter. */
+  public void setCompiled(boolean compiled) {
+    this.compiled = compiled;
+  }
+
   public void setColumns(String columnFormatList) {
     if (columnFormatList != null) {
       this.formats.put("*", columnFormatList);
@@ -91,19 +123,39 @@ public Map<String, String> getFormats() {
   // Consumer interface ----------------------------------------------------------------------------------------------
 
   @Override
-  public void flush() {
+  public synchronized void flush() {
     if (printer != null) {
       printer.flush();
     }
+    if (channel != null) {
+      writeBuffer();
+    }
   }
 
   @Override
-  public void close() {
+  public synchronized void close() {
     IOUtil.close(printer);
+    if (channel != null) {
+      try {
+        writeBuffer();
+      } finally {
+        IOUtil.close(channel);
+        channel = null;
+      }
+    }
   }
 
   // Callback methods for TextFileExporter ---------------------------------------------------------------------------
 
+  @Override
+  protected void initPrinter(Object data) {
+    if (!compiled) {
+      super.initPrinter(data);
+    } else if (channel == null) {
+      openChannel(data);
+    }
+  }
+
   @Override
   protected void postInitPrinter(Object object) {
     if (this.formats.isEmpty()) {
@@ -118,12 +170,80 @@ protected void startConsumingImpl(Object object) {
       throw BeneratorExceptionFactory.getInstance().illegalArgument("Expected Entity");
     }
     Entity entity = (Entity) object;
-    getFormatter(entity.type()).format(entity, printer);
-    printer.print(lineSeparator);
+    if (compiled) {
+      FWRecordLayout layout = getLayout(entity.type());
+      if (buffer.remaining() < layout.getMaxRecordBytes()) {
+        writeBuffer();
+      }
+      layout.write(entity, buffer);
+    } else {
+      getFormatter(entity.type()).format(entity, printer);
+      printer.print(lineSeparator);
+    }
   }
 
   // private helpers -------------------------------------------------------------------------------------------------
 
+  private void openChannel(Object data) {
+    if (uri == null) {
+      throw BeneratorExceptionFactory.getInstance().configurationError("Property 'uri' not set on bean " + getClass().getName());
+    }
+    File file = new File(uri);
+    wasAppended = (append && file.exists());
+    if (file.getParentFile() != null) {
+      FileUtil.ensureDirectoryExists(file.getParentFile());
+    }
+    try {
+      FileCompression fileCompression = FileCompression.of(compression, uri);
+      if (fileCompression == FileCompression.NONE) {
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            (append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING));
+      } else {
+        this.channel = Channels.newChannel(fileCompression.openOutputStream(uri, append));
+      }
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error opening file " + uri, e);
+    }
+    postInitPrinter(data);
+    initLayouts();
+  }
+
+  private void writeBuffer() {
+    buffer.flip();
+    try {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error writing file " + uri, e);
+    } finally {
+      buffer.clear();
+    }
+  }
+
+  private FWRecordLayout getLayout(String type) {
+    FWRecordLayout layout = layouts.get(type);
+    if (layout == null) {
+      layout = layouts.get("*");
+    }
+    if (layout == null) {
+      throw BeneratorExceptionFactory.getInstance().configurationError("No format defined for type " + type);
+    }
+    return layout;
+  }
+
+  private void initLayouts() {
+    this.layouts = OrderedNameMap.createCaseInsensitiveMap();
+    Charset charset = Charset.forName(encoding);
+    int bufferSize = BUFFER_SIZE;
+    for (Map.Entry<String, String> entry : this.formats.entrySet()) {
+      FWRecordLayout layout = new FWRecordLayout(entry.getValue(), getNullString(), locale, lineSeparator, charset);
+      this.layouts.put(entry.getKey(), layout);
+      bufferSize = Math.max(bufferSize, layout.getMaxRecordBytes());
+    }
+    this.buffer = ByteBuffer.allocateDirect(bufferSize);
+  }
+
   private FWRecordFormatter getFormatter(String type) {
     if (this.formatters == null) {
       initFormatters();
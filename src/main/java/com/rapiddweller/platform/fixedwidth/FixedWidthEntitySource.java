@@ -50,12 +50,17 @@
 import com.rapiddweller.model.data.Entity;
 import com.rapiddweller.model.data.FileBasedEntitySource;
 import com.rapiddweller.platform.array.Array2EntityConverter;
+import com.rapiddweller.platform.file.MappedChunkEntityIterator;
 
+import java.io.File;
+import java.nio.charset.Charset;
 import java.text.ParseException;
 import java.util.Locale;
 
 /**
- * Reads Entities from a fixed-width file.<br/><br/>
+ * Reads Entities from a fixed-width file.
+ * If 'threads' is set to a value greater than 1 and no line filter is used, a local file is parsed
+ * concurrently in memory-mapped chunks by a {@link MappedFixedWidthEntityIterator}.<br/><br/>
  * Created at 07.11.2008 18:18:24
  * @author Volker Bergmann
  * @since 0.5.6
@@ -73,6 +78,9 @@ public class FixedWidthEntitySource extends FileBasedEntitySource {
   private String lineFilter;
   private final boolean initialized;
   private final Converter<String, String> preprocessor;
+  private int threads;
+  private boolean ordered;
+  private int chunkSize;
 
   public FixedWidthEntitySource() {
     this(null, null, SystemInfo.getFileEncoding(), null);
@@ -99,6 +107,9 @@ public FixedWidthEntitySource(String uri, ComplexTypeDescriptor entityDescriptor
     this.preprocessor = preprocessor;
     this.initialized = false;
     this.lineFilter = lineFilter;
+    this.threads = 1;
+    this.ordered = true;
+    this.chunkSize = MappedChunkEntityIterator.DEFAULT_CHUNK_SIZE;
   }
 
   // properties ------------------------------------------------------------------------------------------------------
@@ -111,6 +122,34 @@ public void setEncoding(String encoding) {
     this.encoding = encoding;
   }
 
+  public int getThreads() {
+    return threads;
+  }
+
+  /** Sets the number of threads for parsing the file. With more than one thread,
+   *  a local file is parsed in memory-mapped chunks. */
+  public void setThreads(int threads) {
+    this.threads = threads;
+  }
+
+  public boolean isOrdered() {
+    return ordered;
+  }
+
+  /** Tells if entities must be provided in file order when parsing with multiple threads. */
+  public void setOrdered(boolean ordered) {
+    this.ordered = ordered;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  /** Sets the approximate size of the chunks in bytes which are parsed with multiple threads. */
+  public void setChunkSize(int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
   public String getEntity() {
     return entityTypeName;
   }
@@ -151,6 +190,13 @@ public DataIterator<Entity> iterator() {
     if (!initialized) {
       init();
     }
+    String resolvedUri = resolveUri();
+    if (threads > 1 && lineFilter == null && new File(resolvedUri).isFile()
+        && MappedChunkEntityIterator.isSupported(Charset.forName(encoding))) {
+      PadFormat[] formats = ArrayPropertyExtractor.convert(descriptors, "format", PadFormat.class);
+      return new MappedFixedWidthEntityIterator(new File(resolvedUri), Charset.forName(encoding), formats,
+          converter, threads, ordered, chunkSize);
+    }
     return new ConvertingDataIterator<>(this.source.iterator(), converter);
   }
 
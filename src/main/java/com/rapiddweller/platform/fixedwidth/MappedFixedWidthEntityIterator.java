@@ -0,0 +1,139 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.fixedwidth;
+
+import com.rapiddweller.common.Converter;
+import com.rapiddweller.common.converter.ToStringConverter;
+import com.rapiddweller.common.format.Alignment;
+import com.rapiddweller.common.format.PadFormat;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.file.MappedChunkEntityIterator;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.text.ParsePosition;
+import java.util.List;
+
+/**
+ * Iterates the entities of a fixed-width file by parsing memory-mapped chunks of the file concurrently.
+ * With a single-byte charset, the columns are sliced from the mapped bytes by their offsets and
+ * their padding is removed before decoding, so no String is created for a whole line.
+ * With a multibyte charset like UTF-8, each line is decoded before slicing its columns.<br/><br/>
+ * Created: 19.10.2026 16:07:14
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class MappedFixedWidthEntityIterator extends MappedChunkEntityIterator {
+
+  private final PadFormat[] formats;
+  private final boolean[] plain;
+  private final int[] offsets;
+  private final byte[] padBytes;
+  private final boolean singleByte;
+
+  public MappedFixedWidthEntityIterator(File file, Charset charset, PadFormat[] formats,
+                                        Converter<String[], Entity> converter, int threads, boolean ordered, int chunkSize) {
+    super(file, 0, charset, converter, threads, ordered, chunkSize);
+    this.formats = formats;
+    this.plain = new boolean[formats.length];
+    this.offsets = new int[formats.length];
+    this.padBytes = new byte[formats.length];
+    this.singleByte = (charset.newEncoder().maxBytesPerChar() == 1);
+    int offset = 0;
+    for (int i = 0; i < formats.length; i++) {
+      plain[i] = isPlain(formats[i]);
+      offsets[i] = offset;
+      padBytes[i] = String.valueOf(formats[i].getPadChar()).getBytes(charset)[0];
+      offset += formats[i].getLength();
+    }
+  }
+
+  // MappedChunkEntityIterator callback implementation ---------------------------------------------------------------
+
+  @Override
+  protected int parseChunk(ByteBuffer chunk, int end, boolean endOfFile, List<String[]> rows) {
+    int limit = chunk.limit();
+    int pos = 0;
+    while (pos < end) {
+      int lineStart = pos;
+      while (pos < limit && chunk.get(pos) != LF) {
+        pos++;
+      }
+      int lineEnd = pos;
+      pos++; // skip the line feed
+      if (lineEnd > lineStart && chunk.get(lineEnd - 1) == CR) {
+        lineEnd--;
+      }
+      if (lineEnd > lineStart) {
+        rows.add(singleByte ? sliceBytes(chunk, lineStart, lineEnd) : sliceChars(decode(chunk, lineStart, lineEnd)));
+      }
+    }
+    return Math.min(pos, limit);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private String[] sliceBytes(ByteBuffer chunk, int lineStart, int lineEnd) {
+    String[] cells = new String[formats.length];
+    for (int i = 0; i < formats.length; i++) {
+      int from = Math.min(lineStart + offsets[i], lineEnd);
+      int to = Math.min(from + formats[i].getLength(), lineEnd);
+      if (!plain[i]) {
+        cells[i] = parse(formats[i], decode(chunk, from, to));
+        continue;
+      }
+      byte pad = padBytes[i];
+      boolean negative = false;
+      switch (formats[i].getAlignment()) {
+        case LEFT:
+          while (to > from && chunk.get(to - 1) == pad) {
+            to--;
+          }
+          break;
+        case RIGHT:
+          // a negative number with leading zeros has its sign before the zeros
+          if (pad == '0' && to > from && chunk.get(from) == '-') {
+            negative = true;
+            from++;
+          }
+          while (from < to && chunk.get(from) == pad) {
+            from++;
+          }
+          break;
+        default:
+          while (from < to && chunk.get(from) == pad) {
+            from++;
+          }
+          while (to > from && chunk.get(to - 1) == pad) {
+            to--;
+          }
+      }
+      String text = decode(chunk, from, to);
+      cells[i] = (negative ? "-" + text : text);
+    }
+    return cells;
+  }
+
+  private String[] sliceChars(String line) {
+    String[] cells = new String[formats.length];
+    for (int i = 0; i < formats.length; i++) {
+      int from = Math.min(offsets[i], line.length());
+      int to = Math.min(from + formats[i].getLength(), line.length());
+      cells[i] = parse(formats[i], line.substring(from, to));
+    }
+    return cells;
+  }
+
+  /** Tells if a format can be parsed by stripping its pad characters. The formats of a
+   *  {@link FixedWidthEntitySource} are created with a null or empty null string, which both parse to an empty one. */
+  private static boolean isPlain(PadFormat format) {
+    return FWRecordLayout.isPlain(format, "") || FWRecordLayout.isPlain(format, null);
+  }
+
+  private static String parse(PadFormat format, String text) {
+    Object value = format.parseObject(text, new ParsePosition(0));
+    return (value instanceof String ? (String) value : ToStringConverter.convert(value, null));
+  }
+
+}
@@ -0,0 +1,62 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.memstore;
+
+import java.util.Arrays;
+
+/**
+ * Immutable key made up of several values, for use in hash maps.
+ * Unlike an array, it implements {@link #equals(Object)} and {@link #hashCode()} based on its values.<br/><br/>
+ * Created: 19.10.2026 13:14:50
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public final class CompositeKey {
+
+  private final Object[] values;
+  private final int hashCode;
+
+  public CompositeKey(Object... values) {
+    this.values = values.clone();
+    this.hashCode = Arrays.hashCode(this.values);
+  }
+
+  /** Creates a key for a single value or a {@link CompositeKey} for an array of values. */
+  public static Object of(Object value) {
+    return (value instanceof Object[] ? new CompositeKey((Object[]) value) : value);
+  }
+
+  /** Provides the original representation of a key created by {@link #of(Object)}. */
+  public static Object unwrap(Object key) {
+    return (key instanceof CompositeKey ? ((CompositeKey) key).getValues() : key);
+  }
+
+  public Object[] getValues() {
+    return values.clone();
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    CompositeKey that = (CompositeKey) o;
+    return hashCode == that.hashCode && Arrays.equals(values, that.values);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(values);
+  }
+
+}
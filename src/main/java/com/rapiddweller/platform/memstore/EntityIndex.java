@@ -0,0 +1,193 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.memstore;
+
+import com.rapiddweller.model.data.Entity;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parent class for secondary indexes of an {@link EntityStore}.
+ * Numbers are normalized so that e.g. an Integer 4 and a Long 4 are considered equal.
+ * The index remembers the key under which each entity has been added, so an entity which has been
+ * modified in place is moved to its new key when it is removed and added again,
+ * which {@link EntityStore}s do when the entity is stored or updated again.<br/><br/>
+ * Created: 19.10.2026 13:22:05
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public abstract class EntityIndex {
+
+  protected final String[] columns;
+
+  private final Map<Entity, Object> indexedKeys;
+  private final Class<?>[] valueKinds;
+
+  protected EntityIndex(String... columns) {
+    this.columns = columns;
+    this.indexedKeys = new IdentityHashMap<>();
+    this.valueKinds = new Class<?>[columns.length];
+  }
+
+  public String[] getColumns() {
+    return columns.clone();
+  }
+
+  /** Adds an entity to the index. If the entity has already been added, it is moved to its current key. */
+  public void add(Entity entity) {
+    if (indexedKeys.containsKey(entity)) {
+      removeEntry(indexedKeys.get(entity), entity);
+    }
+    Object[] values = new Object[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      values[i] = normalize(entity.get(columns[i]));
+      registerKind(i, values[i]);
+    }
+    Object key = (columns.length == 1 ? values[0] : new CompositeKey(values));
+    addEntry(key, entity);
+    indexedKeys.put(entity, key);
+  }
+
+  /** Removes an entity from the index, using the key under which it has been added. */
+  public void remove(Entity entity) {
+    if (indexedKeys.containsKey(entity)) {
+      removeEntry(indexedKeys.remove(entity), entity);
+    }
+  }
+
+  public void clear() {
+    indexedKeys.clear();
+    Arrays.fill(valueKinds, null);
+    clearEntries();
+  }
+
+  /** @return the entities of which the indexed column(s) have the given key */
+  public abstract List<Entity> find(Object key);
+
+  /** Checks if a (normalized) lookup value can be compared with the values of an indexed column.
+   *  @param column the index of the column in {@link #getColumns()}
+   *  @param value the lookup value
+   *  @throws ClassCastException if the column contains values of another kind, e.g. strings for a numerical value */
+  public void checkComparable(int column, Object value) {
+    Class<?> columnKind = valueKinds[column];
+    if (value != null && columnKind != null && columnKind != kindOf(value)) {
+      throw new ClassCastException("Cannot compare " + value.getClass().getName() + " value " + value
+          + " with the values of " + this);
+    }
+  }
+
+  public void rebuild(Iterable<Entity> entities) {
+    clear();
+    for (Entity entity : entities) {
+      add(entity);
+    }
+  }
+
+  // helpers for child classes ---------------------------------------------------------------------------------------
+
+  protected abstract void addEntry(Object key, Entity entity);
+
+  protected abstract void removeEntry(Object key, Entity entity);
+
+  protected abstract void clearEntries();
+
+  // static helpers --------------------------------------------------------------------------------------------------
+
+  /** Maps integral numbers to Long and other finite numbers to a BigDecimal without trailing zeros,
+   *  so that equal numbers of different type have equal keys, e.g. a Double 10.5 and a BigDecimal 10.50.
+   *  Infinite and NaN floating point values are mapped to Double. */
+  public static Object normalize(Object value) {
+    if (!(value instanceof Number)) {
+      return value;
+    }
+    if (value instanceof Long) {
+      return value;
+    } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      return ((Number) value).longValue();
+    }
+    BigDecimal decimal;
+    if (value instanceof Double || value instanceof Float) {
+      double d = ((Number) value).doubleValue();
+      if (Double.isNaN(d) || Double.isInfinite(d)) {
+        return d;
+      }
+      // the shortest decimal representation, so that e.g. the Float 0.1f is mapped to 0.1
+      decimal = new BigDecimal(value.toString());
+    } else {
+      decimal = (value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString()));
+    }
+    try {
+      return decimal.longValueExact();
+    } catch (ArithmeticException e) {
+      return decimal.stripTrailingZeros();
+    }
+  }
+
+  /** Compares normalized values: numbers numerically, dates chronologically and other
+   *  comparable values of the same class naturally.
+   *  @throws ClassCastException if the values are not comparable with each other */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static int compare(Object v1, Object v2) {
+    if (v1 instanceof Number && v2 instanceof Number) {
+      if (v1 instanceof Long && v2 instanceof Long) {
+        return Long.compare((Long) v1, (Long) v2);
+      } else if (v1 instanceof Double || v2 instanceof Double) {
+        return Double.compare(((Number) v1).doubleValue(), ((Number) v2).doubleValue());
+      }
+      return toBigDecimal((Number) v1).compareTo(toBigDecimal((Number) v2));
+    } else if (v1 instanceof Date && v2 instanceof Date) {
+      return Long.compare(((Date) v1).getTime(), ((Date) v2).getTime());
+    } else if (v1 instanceof Comparable && v1.getClass() == v2.getClass()) {
+      return ((Comparable) v1).compareTo(v2);
+    }
+    throw new ClassCastException("Cannot compare " + v1.getClass().getName() + " value " + v1
+        + " with " + v2.getClass().getName() + " value " + v2);
+  }
+
+  /** @return the class which represents the values comparable to the given one: Number, Date or its own class */
+  static Class<?> kindOf(Object value) {
+    if (value instanceof Number) {
+      return Number.class;
+    } else if (value instanceof Date) {
+      return Date.class;
+    }
+    return value.getClass();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void registerKind(int column, Object value) {
+    if (value != null) {
+      Class<?> kind = kindOf(value);
+      if (valueKinds[column] == null) {
+        valueKinds[column] = kind;
+      } else if (valueKinds[column] != kind) {
+        // values of mixed kinds cannot be compared with any lookup value
+        valueKinds[column] = Object.class;
+      }
+    }
+  }
+
+  private static BigDecimal toBigDecimal(Number number) {
+    if (number instanceof BigDecimal) {
+      return (BigDecimal) number;
+    } else if (number instanceof Long) {
+      return BigDecimal.valueOf(number.longValue());
+    } else if (number instanceof BigInteger) {
+      return new BigDecimal((BigInteger) number);
+    }
+    return BigDecimal.valueOf(number.doubleValue());
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + '(' + String.join(",", columns) + ')';
+  }
+
+}
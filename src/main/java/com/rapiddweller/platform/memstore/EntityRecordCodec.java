@@ -0,0 +1,312 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.memstore;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.DescriptorProvider;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.model.data.TypeDescriptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes {@link Entity} objects to compact binary records and decodes them.
+ * Values are written with type tags, type and component names are replaced with the index
+ * of a symbol table which is kept on the heap, so each record can be decoded on its own.
+ * Values of other types than the common simple types, entities and arrays are written
+ * with Java serialization, thus they need to implement {@link Serializable}.<br/><br/>
+ * Created: 19.10.2026 14:18:40
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class EntityRecordCodec {
+
+  private static final byte NULL = 0;
+  private static final byte STRING = 1;
+  private static final byte INTEGER = 2;
+  private static final byte LONG = 3;
+  private static final byte DOUBLE = 4;
+  private static final byte FLOAT = 5;
+  private static final byte SHORT = 6;
+  private static final byte BYTE = 7;
+  private static final byte TRUE = 8;
+  private static final byte FALSE = 9;
+  private static final byte CHARACTER = 10;
+  private static final byte BIG_DECIMAL = 11;
+  private static final byte BIG_INTEGER = 12;
+  private static final byte DATE = 13;
+  private static final byte SQL_DATE = 14;
+  private static final byte TIMESTAMP = 15;
+  private static final byte BYTE_ARRAY = 16;
+  private static final byte ARRAY = 17;
+  private static final byte ENTITY = 18;
+  private static final byte SERIALIZED = 19;
+
+  private final ComplexTypeDescriptor rootType;
+  private final DescriptorProvider descriptorProvider;
+  private final Map<String, Integer> symbolIndexes;
+  private final List<String> symbols;
+  private final Map<String, ComplexTypeDescriptor> entityTypes;
+  private final ByteArrayOutputStream buffer;
+  private final DataOutputStream out;
+
+  public EntityRecordCodec(ComplexTypeDescriptor rootType, DescriptorProvider descriptorProvider) {
+    this.rootType = rootType;
+    this.descriptorProvider = descriptorProvider;
+    this.symbolIndexes = new HashMap<>();
+    this.symbols = new ArrayList<>();
+    this.entityTypes = new HashMap<>();
+    this.buffer = new ByteArrayOutputStream(256);
+    this.out = new DataOutputStream(buffer);
+  }
+
+  /** Encodes an entity.
+   *  @param entity the entity to encode
+   *  @return a buffer with the record between its position and limit */
+  public synchronized ByteBuffer encode(Entity entity) {
+    try {
+      buffer.reset();
+      writeEntity(entity);
+      out.flush();
+      return ByteBuffer.wrap(buffer.toByteArray());
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error encoding " + entity, e);
+    }
+  }
+
+  /** Decodes an entity from the data between position and limit of the buffer. */
+  public Entity decode(ByteBuffer record) {
+    if (record.get() != ENTITY) {
+      throw BeneratorExceptionFactory.getInstance().internalError("Not an entity record", null);
+    }
+    return readEntity(record);
+  }
+
+  // encoding --------------------------------------------------------------------------------------------------------
+
+  private void writeValue(Object value) throws IOException {
+    if (value == null) {
+      out.writeByte(NULL);
+    } else if (value instanceof String) {
+      out.writeByte(STRING);
+      writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+    } else if (value instanceof Integer) {
+      out.writeByte(INTEGER);
+      out.writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      out.writeByte(LONG);
+      out.writeLong((Long) value);
+    } else if (value instanceof Double) {
+      out.writeByte(DOUBLE);
+      out.writeDouble((Double) value);
+    } else if (value instanceof Boolean) {
+      out.writeByte((Boolean) value ? TRUE : FALSE);
+    } else if (value instanceof Entity) {
+      writeEntity((Entity) value);
+    } else if (value instanceof Timestamp) {
+      out.writeByte(TIMESTAMP);
+      out.writeLong(((Timestamp) value).getTime());
+      out.writeInt(((Timestamp) value).getNanos());
+    } else if (value instanceof java.sql.Date) {
+      out.writeByte(SQL_DATE);
+      out.writeLong(((java.sql.Date) value).getTime());
+    } else if (value.getClass() == Date.class) {
+      out.writeByte(DATE);
+      out.writeLong(((Date) value).getTime());
+    } else if (value instanceof BigDecimal) {
+      out.writeByte(BIG_DECIMAL);
+      writeBytes(value.toString().getBytes(StandardCharsets.US_ASCII));
+    } else if (value instanceof BigInteger) {
+      out.writeByte(BIG_INTEGER);
+      writeBytes(((BigInteger) value).toByteArray());
+    } else if (value instanceof Float) {
+      out.writeByte(FLOAT);
+      out.writeFloat((Float) value);
+    } else if (value instanceof Short) {
+      out.writeByte(SHORT);
+      out.writeShort((Short) value);
+    } else if (value instanceof Byte) {
+      out.writeByte(BYTE);
+      out.writeByte((Byte) value);
+    } else if (value instanceof Character) {
+      out.writeByte(CHARACTER);
+      out.writeChar((Character) value);
+    } else if (value instanceof byte[]) {
+      out.writeByte(BYTE_ARRAY);
+      writeBytes((byte[]) value);
+    } else if (value instanceof Object[]) {
+      writeArray((Object[]) value);
+    } else if (value instanceof Serializable) {
+      out.writeByte(SERIALIZED);
+      writeBytes(serialize(value));
+    } else {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument(
+          "Cannot store object of type " + value.getClass().getName() + " off-heap. " +
+          "It needs to be an entity, a simple type or Serializable");
+    }
+  }
+
+  private void writeEntity(Entity entity) throws IOException {
+    out.writeByte(ENTITY);
+    writeSymbol(entity.type() != null ? entity.type() : "");
+    Map<String, Object> components = entity.getComponents();
+    out.writeInt(components.size());
+    for (Map.Entry<String, Object> component : components.entrySet()) {
+      writeSymbol(component.getKey());
+      writeValue(component.getValue());
+    }
+  }
+
+  private void writeArray(Object[] array) throws IOException {
+    out.writeByte(ARRAY);
+    writeSymbol(array.getClass().getComponentType().getName());
+    out.writeInt(array.length);
+    for (Object element : array) {
+      writeValue(element);
+    }
+  }
+
+  private void writeBytes(byte[] bytes) throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private void writeSymbol(String symbol) throws IOException {
+    Integer index = symbolIndexes.get(symbol);
+    if (index == null) {
+      index = symbols.size();
+      synchronized (symbols) {
+        symbols.add(symbol);
+      }
+      symbolIndexes.put(symbol, index);
+    }
+    out.writeInt(index);
+  }
+
+  private static byte[] serialize(Object value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+      objectOut.writeObject(value);
+    }
+    return bytes.toByteArray();
+  }
+
+  // decoding --------------------------------------------------------------------------------------------------------
+
+  private Object readValue(ByteBuffer in) {
+    byte tag = in.get();
+    switch (tag) {
+      case NULL: return null;
+      case STRING: return new String(readBytes(in), StandardCharsets.UTF_8);
+      case INTEGER: return in.getInt();
+      case LONG: return in.getLong();
+      case DOUBLE: return in.getDouble();
+      case FLOAT: return in.getFloat();
+      case SHORT: return in.getShort();
+      case BYTE: return in.get();
+      case TRUE: return Boolean.TRUE;
+      case FALSE: return Boolean.FALSE;
+      case CHARACTER: return in.getChar();
+      case BIG_DECIMAL: return new BigDecimal(new String(readBytes(in), StandardCharsets.US_ASCII));
+      case BIG_INTEGER: return new BigInteger(readBytes(in));
+      case DATE: return new Date(in.getLong());
+      case SQL_DATE: return new java.sql.Date(in.getLong());
+      case TIMESTAMP: return readTimestamp(in);
+      case BYTE_ARRAY: return readBytes(in);
+      case ARRAY: return readArray(in);
+      case ENTITY: return readEntity(in);
+      case SERIALIZED: return deserialize(readBytes(in));
+      default: throw BeneratorExceptionFactory.getInstance().internalError("Unknown value tag: " + tag, null);
+    }
+  }
+
+  private Entity readEntity(ByteBuffer in) {
+    Entity entity = new Entity(getEntityType(readSymbol(in)));
+    int componentCount = in.getInt();
+    for (int i = 0; i < componentCount; i++) {
+      // the stored values have already been converted, so they are put into the map directly
+      entity.getComponents().put(readSymbol(in), readValue(in));
+    }
+    return entity;
+  }
+
+  private Object readArray(ByteBuffer in) {
+    Class<?> componentType = loadClass(readSymbol(in));
+    int length = in.getInt();
+    Object[] array = (Object[]) Array.newInstance(componentType, length);
+    for (int i = 0; i < length; i++) {
+      array[i] = readValue(in);
+    }
+    return array;
+  }
+
+  private static Timestamp readTimestamp(ByteBuffer in) {
+    Timestamp timestamp = new Timestamp(in.getLong());
+    timestamp.setNanos(in.getInt());
+    return timestamp;
+  }
+
+  private static byte[] readBytes(ByteBuffer in) {
+    byte[] bytes = new byte[in.getInt()];
+    in.get(bytes);
+    return bytes;
+  }
+
+  private String readSymbol(ByteBuffer in) {
+    int index = in.getInt();
+    synchronized (symbols) {
+      return symbols.get(index);
+    }
+  }
+
+  private ComplexTypeDescriptor getEntityType(String name) {
+    if (name.isEmpty()) {
+      return null;
+    } else if (rootType != null && name.equals(rootType.getName())) {
+      return rootType;
+    }
+    synchronized (entityTypes) {
+      return entityTypes.computeIfAbsent(name, n -> {
+        TypeDescriptor type = (descriptorProvider != null && descriptorProvider.getDataModel() != null ?
+            descriptorProvider.getDataModel().getTypeDescriptor(n) : null);
+        return (type instanceof ComplexTypeDescriptor ?
+            (ComplexTypeDescriptor) type : new ComplexTypeDescriptor(n, descriptorProvider));
+      });
+    }
+  }
+
+  private static Object deserialize(byte[] bytes) {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return in.readObject();
+    } catch (IOException | ClassNotFoundException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error deserializing stored value", e);
+    }
+  }
+
+  private static Class<?> loadClass(String name) {
+    try {
+      return Class.forName(name, true, Thread.currentThread().getContextClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw BeneratorExceptionFactory.getInstance().configurationError("Stored class not found: " + name, e);
+    }
+  }
+
+}
@@ -5,11 +5,20 @@
 import com.rapiddweller.model.data.ComplexTypeDescriptor;
 import com.rapiddweller.model.data.Entity;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
- * Abstract parent class for in-memory entity storage.<br/><br/>
+ * Abstract parent class for in-memory entity storage.
+ * It maintains the secondary {@link EntityIndex}es declared with {@link #addIndex(EntityIndex)}
+ * and uses them for evaluating {@link MemStoreSelector}s.<br/><br/>
  * Created: 22.11.2021 15:00:07
  * @author Volker Bergmann
  * @since 3.0.0
@@ -17,9 +26,11 @@
 public abstract class EntityStore implements Iterable<Entity> {
 
   private final ComplexTypeDescriptor type;
+  private final List<EntityIndex> indexes;
 
   protected EntityStore(ComplexTypeDescriptor type) {
     this.type = type;
+    this.indexes = new ArrayList<>();
   }
 
   public ComplexTypeDescriptor getType() {
@@ -31,4 +42,176 @@ public ComplexTypeDescriptor getType() {
   public abstract int size();
   public abstract Map<Object, Entity> idMap();
 
+  /** @return the ids of the stored entities, composite ids being represented as arrays */
+  public abstract Collection<Object> ids();
+
+  /** Removes all entities which match the filter and updates the indexes. */
+  public abstract void removeIf(Predicate<Entity> filter);
+
+  /** Releases resources held outside the Java heap. The default implementation does nothing. */
+  public void close() {
+    // nothing to do for heap-based stores
+  }
+
+  // secondary indexes -----------------------------------------------------------------------------------------------
+
+  /** Adds an index, indexing all entities which have already been stored. */
+  public void addIndex(EntityIndex index) {
+    index.rebuild(this);
+    indexes.add(index);
+  }
+
+  public List<EntityIndex> getIndexes() {
+    return indexes;
+  }
+
+  /** Tells if one of the indexes can be used for evaluating a selector.
+   *  @param selector the selector to check
+   *  @return true if {@link #query(MemStoreSelector)} will look up the selector's candidates in an index */
+  public boolean isIndexed(MemStoreSelector selector) {
+    return (chooseIndex(equalities(selector), rangeColumns(selector)) != null);
+  }
+
+  /** Finds the entities matching a selector, using the most selective applicable index.
+   *  @param selector the selector to evaluate
+   *  @return the matching entities, in the order of the index used or in storage order if no index applies
+   *  @throws ClassCastException if a value of the selector cannot be compared with the values of its column */
+  public List<Entity> query(MemStoreSelector selector) {
+    // candidates are checked against all conditions, since entities may have been modified in place after indexing
+    List<Entity> candidates = candidates(selector);
+    List<Entity> result = new ArrayList<>();
+    for (Entity candidate : candidates) {
+      if (selector.matches(candidate)) {
+        result.add(candidate);
+      }
+    }
+    return result;
+  }
+
+  // helpers for child classes ---------------------------------------------------------------------------------------
+
+  protected void indexAdded(Entity entity) {
+    for (EntityIndex index : indexes) {
+      index.add(entity);
+    }
+  }
+
+  protected void indexRemoved(Entity entity) {
+    for (EntityIndex index : indexes) {
+      index.remove(entity);
+    }
+  }
+
+  protected void rebuildIndexes() {
+    for (EntityIndex index : indexes) {
+      index.rebuild(this);
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private List<Entity> candidates(MemStoreSelector selector) {
+    Map<String, Object> equalities = equalities(selector);
+    EntityIndex index = chooseIndex(equalities, rangeColumns(selector));
+    if (index instanceof HashEntityIndex) {
+      for (int i = 0; i < index.columns.length; i++) {
+        index.checkComparable(i, equalities.get(index.columns[i]));
+      }
+      return index.find(lookupKey(index, equalities));
+    } else if (index != null) {
+      String column = index.columns[0];
+      if (equalities.containsKey(column)) {
+        index.checkComparable(0, equalities.get(column));
+        return index.find(equalities.get(column));
+      }
+      return range((SortedEntityIndex) index, selector);
+    }
+    return entities();
+  }
+
+  private EntityIndex chooseIndex(Map<String, Object> equalities, Set<String> rangeColumns) {
+    // prefer the hash index which covers most equality conditions
+    HashEntityIndex bestHashIndex = null;
+    for (EntityIndex index : indexes) {
+      if (index instanceof HashEntityIndex && equalities.keySet().containsAll(Arrays.asList(index.columns))
+          && (bestHashIndex == null || index.columns.length > bestHashIndex.columns.length)) {
+        bestHashIndex = (HashEntityIndex) index;
+      }
+    }
+    if (bestHashIndex != null) {
+      return bestHashIndex;
+    }
+    // then a sorted index with an equality or range condition
+    for (EntityIndex index : indexes) {
+      if (index instanceof SortedEntityIndex
+          && (equalities.containsKey(index.columns[0]) || rangeColumns.contains(index.columns[0]))) {
+        return index;
+      }
+    }
+    return null;
+  }
+
+  private static Map<String, Object> equalities(MemStoreSelector selector) {
+    Map<String, Object> equalities = new HashMap<>();
+    for (MemStoreSelector.Condition condition : selector.getConditions()) {
+      if (condition.getOperator() == MemStoreSelector.Operator.EQ) {
+        equalities.putIfAbsent(condition.getColumn(), condition.getValue());
+      }
+    }
+    return equalities;
+  }
+
+  private static Set<String> rangeColumns(MemStoreSelector selector) {
+    Set<String> rangeColumns = new HashSet<>();
+    for (MemStoreSelector.Condition condition : selector.getConditions()) {
+      if (condition.getOperator() != MemStoreSelector.Operator.EQ
+          && condition.getOperator() != MemStoreSelector.Operator.NE) {
+        rangeColumns.add(condition.getColumn());
+      }
+    }
+    return rangeColumns;
+  }
+
+  private static Object lookupKey(EntityIndex index, Map<String, Object> equalities) {
+    if (index.columns.length == 1) {
+      return equalities.get(index.columns[0]);
+    }
+    Object[] values = new Object[index.columns.length];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = equalities.get(index.columns[i]);
+    }
+    return new CompositeKey(values);
+  }
+
+  private static List<Entity> range(SortedEntityIndex index, MemStoreSelector selector) {
+    String column = index.columns[0];
+    Object min = null;
+    boolean minInclusive = true;
+    Object max = null;
+    boolean maxInclusive = true;
+    for (MemStoreSelector.Condition condition : selector.getConditions()) {
+      if (!column.equals(condition.getColumn()) || condition.getValue() == null) {
+        continue;
+      }
+      Object value = condition.getValue();
+      index.checkComparable(0, value);
+      switch (condition.getOperator()) {
+        case GT:
+        case GE:
+          // the other conditions are checked anyway, so the bounds need not be the tightest ones
+          min = value;
+          minInclusive = (condition.getOperator() == MemStoreSelector.Operator.GE);
+          break;
+        case LT:
+        case LE:
+          max = value;
+          maxInclusive = (condition.getOperator() == MemStoreSelector.Operator.LE);
+          break;
+        default:
+          break;
+      }
+    }
+    return index.range(min, minInclusive, max, maxInclusive);
+  }
+
 }
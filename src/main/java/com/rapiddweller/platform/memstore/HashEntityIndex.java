@@ -0,0 +1,61 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.memstore;
+
+import com.rapiddweller.model.data.Entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link EntityIndex} which maps the values of one or more columns to the entities which have them.
+ * Lookups of a composite index take a {@link CompositeKey} of the column values.<br/><br/>
+ * Created: 19.10.2026 13:31:40
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class HashEntityIndex extends EntityIndex {
+
+  private final Map<Object, List<Entity>> map;
+
+  public HashEntityIndex(String... columns) {
+    super(columns);
+    this.map = new HashMap<>();
+  }
+
+  @Override
+  protected void addEntry(Object key, Entity entity) {
+    map.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entity);
+  }
+
+  @Override
+  protected void removeEntry(Object key, Entity entity) {
+    List<Entity> entities = map.get(key);
+    if (entities != null) {
+      entities.removeIf(candidate -> candidate == entity);
+      if (entities.isEmpty()) {
+        map.remove(key);
+      }
+    }
+  }
+
+  @Override
+  protected void clearEntries() {
+    map.clear();
+  }
+
+  @Override
+  public List<Entity> find(Object key) {
+    List<Entity> result = map.get(key);
+    return (result != null ? Collections.unmodifiableList(result) : Collections.emptyList());
+  }
+
+  /** @return the number of distinct keys */
+  public int keyCount() {
+    return map.size();
+  }
+
+}
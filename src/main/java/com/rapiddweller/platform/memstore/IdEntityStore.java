@@ -6,9 +6,12 @@
 import com.rapiddweller.model.data.ComplexTypeDescriptor;
 import com.rapiddweller.model.data.Entity;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * {@link EntityStore} for entities with an id.<br/><br/>
@@ -27,13 +30,24 @@ public IdEntityStore(ComplexTypeDescriptor type) {
 
   @Override
   public void store(Entity entity) {
-    // TODO the current implementation of Entity.idComponentValues() uses an array for composite ids,
-    // thus map.get() fails for entity types with more than 1 id component
+    // Entity.idComponentValues() uses an array for composite ids, so it is wrapped with a CompositeKey
+    // in order to make map.get() work for entity types with more than 1 id component
     Object idComponentValues = entity.idComponentValues();
     if (idComponentValues == null) {
       idComponentValues = entity.getComponents().values();
     }
-    entities.put(idComponentValues, entity);
+    Entity replaced = entities.put(CompositeKey.of(idComponentValues), entity);
+    if (replaced != null) {
+      indexRemoved(replaced);
+    }
+    indexAdded(entity);
+  }
+
+  /** Looks up an entity by its id.
+   *  @param id the id value or, for composite ids, an array of the id component values
+   *  @return the entity or null if there is none with the given id */
+  public Entity get(Object id) {
+    return entities.get(CompositeKey.of(id));
   }
 
   @Override
@@ -51,6 +65,35 @@ public Map<Object, Entity> idMap() {
     return entities;
   }
 
+  @Override
+  public Collection<Object> ids() {
+    List<Object> result = new ArrayList<>(entities.size());
+    for (Object key : entities.keySet()) {
+      result.add(CompositeKey.unwrap(key));
+    }
+    return result;
+  }
+
+  @Override
+  public void removeIf(Predicate<Entity> filter) {
+    // rebuilding the map is O(n), while removing single entries from an OrderedMap is O(n) each
+    List<Object> retainedKeys = new ArrayList<>(entities.size());
+    List<Entity> retainedEntities = new ArrayList<>(entities.size());
+    for (Map.Entry<Object, Entity> entry : entities.entrySet()) {
+      if (!filter.test(entry.getValue())) {
+        retainedKeys.add(entry.getKey());
+        retainedEntities.add(entry.getValue());
+      }
+    }
+    if (retainedKeys.size() < entities.size()) {
+      entities.clear();
+      for (int i = 0; i < retainedKeys.size(); i++) {
+        entities.put(retainedKeys.get(i), retainedEntities.get(i));
+      }
+      rebuildIndexes();
+    }
+  }
+
   @Override
   public Iterator<Entity> iterator() {
     return entities.values().iterator();
@@ -0,0 +1,134 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.memstore;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only store of binary records in a sequence of memory-mapped segment files.
+ * Each record is written as its length followed by its bytes and is addressed by a location
+ * which combines the segment index (high 32 bits) and the offset in the segment (low 32 bits).
+ * The page cache holds the data, so it does not occupy Java heap and the operating system
+ * can write it to disk when memory gets short. The files are deleted on {@link #close()}.<br/><br/>
+ * Created: 19.10.2026 14:02:18
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class MappedRecordFile implements Closeable {
+
+  private static final Logger logger = LoggerFactory.getLogger(MappedRecordFile.class);
+
+  public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  private final File directory;
+  private final String prefix;
+  private final int segmentSize;
+  private final List<Segment> segments;
+  private long byteCount;
+
+  public MappedRecordFile(File directory, String prefix, int segmentSize) {
+    this.directory = directory;
+    this.prefix = prefix;
+    this.segmentSize = segmentSize;
+    this.segments = new ArrayList<>();
+    this.byteCount = 0;
+  }
+
+  /** Appends a record.
+   *  @param record a buffer with the record data between its position and limit
+   *  @return the location of the record */
+  public synchronized long append(ByteBuffer record) {
+    int length = record.remaining();
+    Segment segment = (segments.isEmpty() ? null : segments.get(segments.size() - 1));
+    if (segment == null || segment.buffer.remaining() < 4 + length) {
+      segment = createSegment(Math.max(segmentSize, 4 + length));
+    }
+    int offset = segment.buffer.position();
+    segment.buffer.putInt(length);
+    segment.buffer.put(record);
+    byteCount += 4 + length;
+    return ((long) (segments.size() - 1) << 32) | offset;
+  }
+
+  /** @return a read-only buffer with the data of the record at the given location between position and limit */
+  public ByteBuffer read(long location) {
+    Segment segment;
+    synchronized (this) {
+      segment = segments.get((int) (location >>> 32));
+    }
+    ByteBuffer buffer = segment.buffer.asReadOnlyBuffer();
+    int offset = (int) location;
+    int length = buffer.getInt(offset);
+    buffer.limit(offset + 4 + length);
+    buffer.position(offset + 4);
+    return buffer;
+  }
+
+  /** @return the number of bytes written, including the length prefixes of the records */
+  public synchronized long getByteCount() {
+    return byteCount;
+  }
+
+  public synchronized int getSegmentCount() {
+    return segments.size();
+  }
+
+  @Override
+  public synchronized void close() {
+    for (Segment segment : segments) {
+      segment.close();
+    }
+    segments.clear();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private Segment createSegment(int size) {
+    try {
+      File file = File.createTempFile(prefix, ".seg", directory);
+      file.deleteOnExit();
+      try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+        // the mapping stays valid after the channel has been closed
+        MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+        Segment segment = new Segment(file, buffer);
+        segments.add(segment);
+        logger.debug("Created segment #{} of {} MB in {}", segments.size(), size >> 20, file);
+        return segment;
+      }
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error creating segment file in " + directory, e);
+    }
+  }
+
+  private static class Segment {
+
+    final File file;
+    final MappedByteBuffer buffer;
+
+    Segment(File file, MappedByteBuffer buffer) {
+      this.file = file;
+      this.buffer = buffer;
+    }
+
+    void close() {
+      // the mapping is released by the garbage collector, so deletion may fail on Windows,
+      // in which case the file is deleted on exit
+      if (!file.delete()) {
+        logger.debug("Segment file {} will be deleted on exit", file);
+      }
+    }
+  }
+
+}
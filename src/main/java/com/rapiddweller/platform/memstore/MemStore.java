@@ -33,6 +33,7 @@
 import com.rapiddweller.benerator.util.FilterExDataSource;
 import com.rapiddweller.common.ArrayUtil;
 import com.rapiddweller.common.CollectionUtil;
+import com.rapiddweller.common.ConfigurationError;
 import com.rapiddweller.common.Context;
 import com.rapiddweller.common.Expression;
 import com.rapiddweller.common.StringUtil;
@@ -53,12 +54,23 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
- * Simple heap-based implementation of the AbstractStorageSystem interface.<br/><br/>
+ * Simple heap-based implementation of the AbstractStorageSystem interface.
+ * Secondary indexes can be declared per type with {@link #addIndex(String, boolean, String...)}
+ * or {@link #setIndexes(String)}. They are used for selectors which follow the
+ * {@link MemStoreSelector} syntax, other selectors are evaluated as script for each entity.
+ * In {@link #setOffHeap(boolean) off-heap} mode, entities are kept in memory-mapped files
+ * by {@link OffHeapEntityStore}s, which makes it possible to stage more entities than fit into the heap.<br/><br/>
  * Created: 07.03.2011 14:41:40
  *
  * @author Volker Bergmann
@@ -73,12 +85,48 @@ public class MemStore extends AbstractStorageSystem {
   private final String id;
   private final OrderedNameMap<ComplexTypeDescriptor> types;
   private final Map<String, EntityStore> entitiesByType;
+  private final Map<String, List<Supplier<EntityIndex>>> indexDeclarations;
+  private boolean offHeap;
+  private File spillDirectory;
+  private int segmentSize;
 
   public MemStore(String id, DataModel dataModel) {
     this.setDataModel(dataModel);
     this.types = OrderedNameMap.createCaseInsensitiveMap();
     this.entitiesByType = OrderedNameMap.createCaseInsensitiveMap();
+    this.indexDeclarations = OrderedNameMap.createCaseInsensitiveMap();
     this.id = id;
+    this.offHeap = false;
+    this.spillDirectory = null;
+    this.segmentSize = MappedRecordFile.DEFAULT_SEGMENT_SIZE;
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  public boolean isOffHeap() {
+    return offHeap;
+  }
+
+  /** Makes entity types which are stored after this call keep their entities in memory-mapped segment files
+   *  instead of the heap. Secondary indexes cannot be used in this mode. */
+  public void setOffHeap(boolean offHeap) {
+    if (offHeap && !indexDeclarations.isEmpty()) {
+      throw offHeapIndexError(indexDeclarations.keySet().iterator().next());
+    }
+    this.offHeap = offHeap;
+  }
+
+  public File getSpillDirectory() {
+    return spillDirectory;
+  }
+
+  /** Sets the directory for the segment files of off-heap storage. By default, the system's temp directory is used. */
+  public void setSpillDirectory(File spillDirectory) {
+    this.spillDirectory = spillDirectory;
+  }
+
+  void setSegmentSize(int segmentSize) { // for testing
+    this.segmentSize = segmentSize;
   }
 
   // interface -------------------------------------------------------------------------------------------------------
@@ -117,19 +165,62 @@ public int entityCount(String type) {
     return entitiesByType.get(type).size();
   }
 
+  /** Declares a secondary index for an entity type. If entities of the type have already been stored,
+   *  they are indexed immediately.
+   *  @param type the entity type
+   *  @param sorted true for a {@link SortedEntityIndex} which supports range queries on a single column,
+   *      false for a {@link HashEntityIndex} on one or more columns
+   *  @param columns the indexed columns */
+  public void addIndex(String type, boolean sorted, String... columns) {
+    if (columns.length == 0 || (sorted && columns.length > 1)) {
+      throw BeneratorExceptionFactory.getInstance().illegalArgument(
+          "Illegal index columns for " + type + ": " + String.join(",", columns) + (sorted ? " (sorted)" : ""));
+    }
+    if (offHeap) {
+      throw offHeapIndexError(type);
+    }
+    Supplier<EntityIndex> factory = (sorted ? () -> new SortedEntityIndex(columns[0]) : () -> new HashEntityIndex(columns));
+    indexDeclarations.computeIfAbsent(type, k -> new ArrayList<>()).add(factory);
+    EntityStore entityStore = entitiesByType.get(type);
+    if (entityStore != null) {
+      entityStore.addIndex(factory.get());
+    }
+  }
+
+  /** Declares secondary indexes in the form
+   *  <code>product(category); order(customer_id, region); product(price) sorted</code>. */
+  public void setIndexes(String spec) {
+    for (String declaration : StringUtil.tokenize(spec, ';')) {
+      declaration = declaration.trim();
+      if (declaration.isEmpty()) {
+        continue;
+      }
+      int open = declaration.indexOf('(');
+      int close = declaration.indexOf(')');
+      String modifier = (close > 0 ? declaration.substring(close + 1).trim() : "");
+      if (open <= 0 || close < open || !(modifier.isEmpty() || "sorted".equals(modifier))) {
+        throw BeneratorExceptionFactory.getInstance().configurationError("Illegal index declaration: " + declaration);
+      }
+      String type = declaration.substring(0, open).trim();
+      String[] columns = StringUtil.tokenize(declaration.substring(open + 1, close), ',');
+      StringUtil.trimAll(columns);
+      addIndex(type, !modifier.isEmpty(), columns);
+    }
+  }
+
   public void filter(String entityName, String filterColumn, DataSource<Entity> list) {
-    ArrayList<Object> filterList = new ArrayList<>();
+    Set<Object> filterList = new HashSet<>();
     DataIterator<Entity> iterator = list.iterator();
     DataContainer<Entity> container = new DataContainer<>();
     while ((container = iterator.next(container)) != null) {
       Entity entity = container.getData();
       filterList.add(entity.get(filterColumn));
     }
-    this.getEntities(entityName).removeIf(entity -> !filterList.contains(entity.get(filterColumn)));
+    removeIf(entityName, entity -> !filterList.contains(entity.get(filterColumn)));
   }
 
   public void removeNotExistingIds(String entityName, String filterColumn, String filterTable, Object db) {
-    ArrayList<Object> filterList = new ArrayList<>();
+    Set<Object> filterList = new HashSet<>();
     DataIterator<Entity> iterator = null;
     if (db.getClass() == DefaultDBSystem.class) {
       iterator = ((AbstractStorageSystem) db).queryEntities("1", String.format("SELECT DISTINCT \"%s\" FROM \"%s\"", filterColumn, filterTable), null)
@@ -143,7 +234,7 @@ public void removeNotExistingIds(String entityName, String filterColumn, String
         Entity entity = container.getData();
         filterList.add(entity.get(filterColumn));
       }
-      this.getEntities(entityName).removeIf(entity -> !filterList.contains(entity.get(filterColumn)));
+      removeIf(entityName, entity -> !filterList.contains(entity.get(filterColumn)));
     }
   }
 
@@ -181,22 +272,27 @@ public int sumEntityColumn(String type, String column) {
 
   @Override
   public DataSource<Entity> queryEntities(String entityType, String selector, Context context) {
-    DataSource<Entity> result = new DataSourceFromIterable<>(entitiesByType.get(entityType), Entity.class);
-    if (!StringUtil.isEmpty(selector)) {
-      Expression<Boolean> filterEx = new ScriptExpression<>(ScriptUtil.parseScriptText(selector));
-      result = new FilterExDataSource<>(result, filterEx, context);
+    EntityStore entityStore = entitiesByType.get(entityType);
+    if (!StringUtil.isEmpty(selector) && entityStore != null) {
+      MemStoreSelector simpleSelector = MemStoreSelector.parse(selector, entityStore.getType());
+      // a selector in script syntax is evaluated as script unless an index can serve it
+      if (simpleSelector != null && (!simpleSelector.isScriptSyntax() || entityStore.isIndexed(simpleSelector))) {
+        // the query is performed on each iterator() call, so it reflects the current content of the store
+        return new DataSourceFromIterable<>(
+            () -> selectEntities(entityStore, simpleSelector, selector, context).iterator(), Entity.class);
+      }
     }
-    return result;
+    return scriptQuery(entityStore, selector, context);
   }
 
   @Override
   @SuppressWarnings({"rawtypes", "unchecked"})
   public DataSource<?> queryEntityIds(String entityType, String filter, Context context) {
-    Map<Object, Entity> idMap = entitiesByType.get(entityType).idMap();
-    if (idMap == null) { // if the queried entityType has no id, then return null
+    Collection<Object> ids = entitiesByType.get(entityType).ids();
+    if (ids == null) { // if the queried entityType has no id, then return null
       return null;
     }
-    DataSource<?> result = new DataSourceProxy(new DataSourceFromIterable(idMap.keySet(), Object.class));
+    DataSource<?> result = new DataSourceProxy(new DataSourceFromIterable(ids, Object.class));
     if (!StringUtil.isEmpty(filter)) {
       Expression<Boolean> filterEx = new ScriptExpression<>(ScriptUtil.parseScriptText(filter));
       result = new FilterExDataSource(result, filterEx, context);
@@ -246,6 +342,9 @@ public void flush() {
   public void close() {
     logger.debug("close()");
     if (!ignoreClose) {
+      for (EntityStore entityStore : entitiesByType.values()) {
+        entityStore.close();
+      }
       entitiesByType.clear();
     }
   }
@@ -267,13 +366,64 @@ public List<Entity> getEntities(String entityType) {
 
   // private helpers -------------------------------------------------------------------------------------------------
 
+  private void removeIf(String entityType, Predicate<Entity> filter) {
+    EntityStore entityStore = entitiesByType.get(entityType);
+    if (entityStore != null) {
+      entityStore.removeIf(filter);
+    }
+  }
+
+  /** Evaluates a simple selector. If it compares values of incomparable types and is in script syntax,
+   *  it is evaluated as script instead, which may convert values, otherwise it is rejected. */
+  private static List<Entity> selectEntities(
+      EntityStore entityStore, MemStoreSelector simpleSelector, String selector, Context context) {
+    try {
+      return entityStore.query(simpleSelector);
+    } catch (ClassCastException e) {
+      if (!simpleSelector.isScriptSyntax()) {
+        throw BeneratorExceptionFactory.getInstance().illegalArgument(
+            "Illegal selector '" + selector + "': " + e.getMessage());
+      }
+      logger.debug("Evaluating selector '{}' as script: {}", selector, e.getMessage());
+      List<Entity> result = new ArrayList<>();
+      try (DataIterator<Entity> iterator = scriptQuery(entityStore, selector, context).iterator()) {
+        DataContainer<Entity> container = new DataContainer<>();
+        while ((container = iterator.next(container)) != null) {
+          result.add(container.getData());
+        }
+      }
+      return result;
+    }
+  }
+
+  private static DataSource<Entity> scriptQuery(EntityStore entityStore, String selector, Context context) {
+    DataSource<Entity> result = new DataSourceFromIterable<>(entityStore, Entity.class);
+    if (!StringUtil.isEmpty(selector)) {
+      Expression<Boolean> filterEx = new ScriptExpression<>(ScriptUtil.parseScriptText(selector));
+      result = new FilterExDataSource<>(result, filterEx, context);
+    }
+    return result;
+  }
+
+  private static ConfigurationError offHeapIndexError(String type) {
+    return BeneratorExceptionFactory.getInstance().configurationError(
+        "Secondary indexes are not supported for off-heap storage of '" + type + "'");
+  }
+
   private EntityStore createEntityStore(ComplexTypeDescriptor type) {
     String[] idComponentNames = type.getIdComponentNames();
-    if (ArrayUtil.isEmpty(idComponentNames)) {
-      return new UnidentifiedEntityStore(type);
+    EntityStore result;
+    if (offHeap) {
+      result = new OffHeapEntityStore(type, this, spillDirectory, segmentSize);
+    } else if (ArrayUtil.isEmpty(idComponentNames)) {
+      result = new UnidentifiedEntityStore(type);
     } else {
-      return new IdEntityStore(type);
+      result = new IdEntityStore(type);
+    }
+    for (Supplier<EntityIndex> factory : indexDeclarations.getOrDefault(type.getName(), new ArrayList<>())) {
+      result.addIndex(factory.get());
     }
+    return result;
   }
 
 }
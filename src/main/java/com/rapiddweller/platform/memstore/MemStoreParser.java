@@ -43,6 +43,8 @@
 import java.util.Map;
 
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_ID;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_INDEXES;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_OFF_HEAP;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.EL_MEMSTORE;
 import static com.rapiddweller.benerator.engine.parser.xml.DescriptorParserUtil.getAttributeAsString;
 
@@ -58,6 +60,8 @@ public class MemStoreParser extends AbstractBeneratorDescriptorParser {
   static {
     ATTR_INFO = new AttrInfoSupport(BeneratorErrorIds.SYN_MEMSTORE_ILLEGAL_ATTR);
     ATTR_INFO.add(ATT_ID, true, BeneratorErrorIds.SYN_MEMSTORE_ID);
+    ATTR_INFO.add(ATT_INDEXES, false, BeneratorErrorIds.SYN_MEMSTORE_INDEXES);
+    ATTR_INFO.add(ATT_OFF_HEAP, false, BeneratorErrorIds.SYN_MEMSTORE_OFF_HEAP);
   }
 
   public MemStoreParser() {
@@ -69,7 +73,12 @@ public MemStoreStatement doParse(Element element, Element[] parentXmlPath, State
     checkAttributeSupport(XMLUtil.getAttributes(element));
     try {
       String id = DescriptorParserUtil.getAttributeAsString(ATT_ID, element);
-      return new MemStoreStatement(id, context.getResourceManager());
+      String indexes = DescriptorParserUtil.getAttributeAsString(ATT_INDEXES, element);
+      String offHeap = DescriptorParserUtil.getAttributeAsString(ATT_OFF_HEAP, element);
+      if (!StringUtil.isEmpty(offHeap) && !"true".equals(offHeap) && !"false".equals(offHeap)) {
+        throw BeneratorExceptionFactory.getInstance().configurationError("Illegal value for " + ATT_OFF_HEAP + ": " + offHeap);
+      }
+      return new MemStoreStatement(id, indexes, "true".equals(offHeap), context.getResourceManager());
     } catch (ConversionException e) {
       throw BeneratorExceptionFactory.getInstance().configurationError("Error parsing memstore definition", e);
     }
@@ -80,7 +89,7 @@ private static void checkAttributeSupport(Map<String, String> attributes) {
       throw BeneratorExceptionFactory.getInstance().configurationError("No id specified for <store>");
     }
     for (String key : attributes.keySet()) {
-      if (!"id".equals(key)) {
+      if (!ATT_ID.equals(key) && !ATT_INDEXES.equals(key) && !ATT_OFF_HEAP.equals(key)) {
         throw BeneratorExceptionFactory.getInstance().configurationError("Not a supported attribute of <store>: " + key);
       }
     }
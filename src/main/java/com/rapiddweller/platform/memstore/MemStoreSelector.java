@@ -0,0 +1,296 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.memstore;
+
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Simple selector for {@link MemStore} queries which can be evaluated with the help of {@link EntityIndex}es.
+ * It is a conjunction of comparisons of a column with a literal, e.g.
+ * <code>_candidate.category == 'A' &amp;&amp; _candidate.price &gt;= 10</code>
+ * or, in short form, <code>category = 'A' and price &gt;= 10</code>.
+ * Supported operators are =, ==, !=, &lt;&gt;, &lt;, &lt;=, &gt; and &gt;=,
+ * literals may be numbers, quoted strings, true, false or null.
+ * Selectors which do not follow this syntax are evaluated as scripts.
+ * Values of a column are compared with a literal only if both are numbers, both are dates
+ * or both are of the same class, otherwise evaluation fails with a {@link ClassCastException}.<br/><br/>
+ * Created: 19.10.2026 13:49:33
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class MemStoreSelector {
+
+  private static final String CANDIDATE_PREFIX = "_candidate.";
+
+  public enum Operator {
+    EQ, NE, LT, LE, GT, GE
+  }
+
+  private final List<Condition> conditions;
+  private final boolean scriptSyntax;
+
+  private MemStoreSelector(List<Condition> conditions, boolean scriptSyntax) {
+    this.conditions = conditions;
+    this.scriptSyntax = scriptSyntax;
+  }
+
+  public List<Condition> getConditions() {
+    return Collections.unmodifiableList(conditions);
+  }
+
+  /** Tells if the selector is written in script syntax, using the '_candidate.' prefix and the operators
+   *  ==, !=, &lt;, &lt;=, &gt;, &gt;= and &amp;&amp; only. Such a selector can be evaluated as script as well,
+   *  while the short form, e.g. <code>category = 'A' and price &gt;= 10</code>, can only be evaluated by this class.
+   *  @return true if the selector is a valid script expression */
+  public boolean isScriptSyntax() {
+    return scriptSyntax;
+  }
+
+  public boolean matches(Entity entity) {
+    for (Condition condition : conditions) {
+      if (!condition.matches(entity)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Parses a selector text.
+   *  @param text the selector text
+   *  @param type the type of the queried entities. Columns without the '_candidate.' prefix
+   *      are only accepted if the type declares them
+   *  @return a selector or null if the text does not follow the simple selector syntax */
+  public static MemStoreSelector parse(String text, ComplexTypeDescriptor type) {
+    Tokenizer tokenizer = new Tokenizer(text);
+    List<Condition> conditions = new ArrayList<>();
+    do {
+      Condition condition = parseCondition(tokenizer, type);
+      if (condition == null) {
+        return null;
+      }
+      conditions.add(condition);
+    } while (tokenizer.skipConjunction());
+    return (tokenizer.atEnd() ? new MemStoreSelector(conditions, tokenizer.scriptSyntax) : null);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static Condition parseCondition(Tokenizer tokenizer, ComplexTypeDescriptor type) {
+    String column = tokenizer.identifier();
+    if (column == null) {
+      return null;
+    }
+    if (column.startsWith(CANDIDATE_PREFIX)) {
+      column = column.substring(CANDIDATE_PREFIX.length());
+    } else if (type == null || type.getComponent(column) == null) {
+      return null;
+    } else {
+      tokenizer.scriptSyntax = false;
+    }
+    if (column.isEmpty() || column.indexOf('.') >= 0) {
+      return null;
+    }
+    Operator operator = tokenizer.operator();
+    if (operator == null) {
+      return null;
+    }
+    Object[] literal = tokenizer.literal();
+    if (literal == null) {
+      return null;
+    }
+    return new Condition(column, operator, literal[0]);
+  }
+
+  @Override
+  public String toString() {
+    return conditions.toString();
+  }
+
+  /** Compares a column of an entity with a value. */
+  public static class Condition {
+
+    private final String column;
+    private final Operator operator;
+    private final Object value;
+
+    public Condition(String column, Operator operator, Object value) {
+      this.column = column;
+      this.operator = operator;
+      this.value = EntityIndex.normalize(value);
+    }
+
+    public String getColumn() {
+      return column;
+    }
+
+    public Operator getOperator() {
+      return operator;
+    }
+
+    /** @return the normalized value to compare with */
+    public Object getValue() {
+      return value;
+    }
+
+    public boolean matches(Entity entity) {
+      Object actual = EntityIndex.normalize(entity.get(column));
+      switch (operator) {
+        case EQ: return equal(actual, value);
+        case NE: return !equal(actual, value);
+        default:
+          if (actual == null || value == null) {
+            return false;
+          }
+          int comparison = EntityIndex.compare(actual, value);
+          switch (operator) {
+            case LT: return comparison < 0;
+            case LE: return comparison <= 0;
+            case GT: return comparison > 0;
+            default: return comparison >= 0;
+          }
+      }
+    }
+
+    private static boolean equal(Object actual, Object expected) {
+      if (actual == null || expected == null) {
+        return (actual == expected);
+      } else if (actual instanceof Number || actual instanceof Date || actual.getClass() != expected.getClass()) {
+        return EntityIndex.compare(actual, expected) == 0;
+      }
+      return actual.equals(expected);
+    }
+
+    @Override
+    public String toString() {
+      return column + ' ' + operator + ' ' + value;
+    }
+  }
+
+  static class Tokenizer {
+
+    private final String text;
+    private int pos;
+    boolean scriptSyntax;
+
+    Tokenizer(String text) {
+      this.text = text;
+      this.pos = 0;
+      this.scriptSyntax = true;
+    }
+
+    boolean atEnd() {
+      skipWhitespace();
+      return pos >= text.length();
+    }
+
+    String identifier() {
+      skipWhitespace();
+      int start = pos;
+      while (pos < text.length()
+          && (Character.isJavaIdentifierPart(text.charAt(pos)) || text.charAt(pos) == '.')) {
+        pos++;
+      }
+      if (pos == start || !Character.isJavaIdentifierStart(text.charAt(start))) {
+        return null;
+      }
+      return text.substring(start, pos);
+    }
+
+    Operator operator() {
+      skipWhitespace();
+      if (consume("==")) {
+        return Operator.EQ;
+      } else if (consume("!=")) {
+        return Operator.NE;
+      } else if (consume("<>")) {
+        scriptSyntax = false;
+        return Operator.NE;
+      } else if (consume("=")) {
+        scriptSyntax = false;
+        return Operator.EQ;
+      } else if (consume("<=")) {
+        return Operator.LE;
+      } else if (consume("<")) {
+        return Operator.LT;
+      } else if (consume(">=")) {
+        return Operator.GE;
+      } else if (consume(">")) {
+        return Operator.GT;
+      }
+      return null;
+    }
+
+    /** @return a one-element array with the literal value or null if there is no literal at the current position */
+    Object[] literal() {
+      skipWhitespace();
+      if (pos >= text.length()) {
+        return null;
+      }
+      char c = text.charAt(pos);
+      if (c == '\'' || c == '"') {
+        int end = text.indexOf(c, pos + 1);
+        if (end < 0) {
+          return null;
+        }
+        String value = text.substring(pos + 1, end);
+        pos = end + 1;
+        return new Object[] { value };
+      }
+      int start = pos;
+      if (c == '-' || c == '+') {
+        pos++;
+      }
+      while (pos < text.length() && (Character.isLetterOrDigit(text.charAt(pos)) || text.charAt(pos) == '.')) {
+        pos++;
+      }
+      String token = text.substring(start, pos);
+      switch (token) {
+        case "true": return new Object[] { Boolean.TRUE };
+        case "false": return new Object[] { Boolean.FALSE };
+        case "null": return new Object[] { null };
+        default:
+          try {
+            return new Object[] { new BigDecimal(token) };
+          } catch (NumberFormatException e) {
+            return null;
+          }
+      }
+    }
+
+    boolean skipConjunction() {
+      skipWhitespace();
+      if (consume("&&")) {
+        return true;
+      }
+      if (text.regionMatches(true, pos, "and", 0, 3)
+          && pos + 3 < text.length() && Character.isWhitespace(text.charAt(pos + 3))) {
+        pos += 3;
+        scriptSyntax = false;
+        return true;
+      }
+      return false;
+    }
+
+    private boolean consume(String token) {
+      if (text.startsWith(token, pos)) {
+        pos += token.length();
+        return true;
+      }
+      return false;
+    }
+
+    private void skipWhitespace() {
+      while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+        pos++;
+      }
+    }
+  }
+
+}
@@ -30,6 +30,7 @@
 import com.rapiddweller.benerator.engine.ResourceManager;
 import com.rapiddweller.benerator.engine.Statement;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.StringUtil;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
@@ -45,13 +46,21 @@ public class MemStoreStatement implements Statement {
   private static final Logger logger = LoggerFactory.getLogger(MemStoreStatement.class);
 
   private final String id;
+  private final String indexes;
+  private final boolean offHeap;
   ResourceManager resourceManager;
 
   public MemStoreStatement(String id, ResourceManager resourceManager) {
+    this(id, null, false, resourceManager);
+  }
+
+  public MemStoreStatement(String id, String indexes, boolean offHeap, ResourceManager resourceManager) {
     if (id == null) {
       throw BeneratorExceptionFactory.getInstance().configurationError("No store id defined");
     }
     this.id = id;
+    this.indexes = indexes;
+    this.offHeap = offHeap;
     this.resourceManager = resourceManager;
   }
 
@@ -59,6 +68,10 @@ public MemStoreStatement(String id, ResourceManager resourceManager) {
   public boolean execute(BeneratorContext context) {
     logger.debug("Instantiating store with id '{}'", id);
     MemStore store = new MemStore(id, context.getDataModel());
+    store.setOffHeap(offHeap);
+    if (!StringUtil.isEmpty(indexes)) {
+      store.setIndexes(indexes);
+    }
     // register this object on all relevant managers and in the context
     context.setGlobal(id, store);
     context.getDataModel().addDescriptorProvider(store);
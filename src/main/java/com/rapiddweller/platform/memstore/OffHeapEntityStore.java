@@ -0,0 +1,247 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.memstore;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.common.ArrayUtil;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.DescriptorProvider;
+import com.rapiddweller.model.data.Entity;
+
+import java.io.File;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * {@link EntityStore} which keeps the entities as binary records in memory-mapped segment files
+ * instead of the Java heap. Only the record locations and, for entity types with an id,
+ * an id index are held on the heap. Entities are deserialized lazily when they are accessed,
+ * so each access returns a new copy: Changes to a stored entity need to be stored again.
+ * Replacing or removing entities leaves unused records in the segments until the next
+ * {@link #removeIf(Predicate)} call compacts them.
+ * Secondary indexes are not supported, since they would hold the entities on the heap.
+ * Reading an entity holds the read lock of a {@link ReadWriteLock}, compacting and closing the store
+ * the write lock, so a reader never accesses segments which have been closed in the meantime.<br/><br/>
+ * Created: 19.10.2026 14:41:07
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class OffHeapEntityStore extends EntityStore {
+
+  private final File directory;
+  private final int segmentSize;
+  private final EntityRecordCodec codec;
+  private final Map<Object, Integer> slotsById;
+  private final List<Object> ids;
+  private final ReadWriteLock segmentLock;
+  private MappedRecordFile records;
+  private long[] locations;
+  private int size;
+
+  public OffHeapEntityStore(ComplexTypeDescriptor type, DescriptorProvider descriptorProvider,
+                            File directory, int segmentSize) {
+    super(type);
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.codec = new EntityRecordCodec(type, descriptorProvider);
+    boolean identified = !ArrayUtil.isEmpty(type.getIdComponentNames());
+    this.slotsById = (identified ? new HashMap<>() : null);
+    this.ids = (identified ? new ArrayList<>() : null);
+    this.segmentLock = new ReentrantReadWriteLock();
+    this.records = createRecordFile();
+    this.locations = new long[1024];
+    this.size = 0;
+  }
+
+  @Override
+  public synchronized void store(Entity entity) {
+    long location = records.append(codec.encode(entity));
+    if (slotsById != null) {
+      // like in the IdEntityStore, composite ids are wrapped with a CompositeKey
+      Object idComponentValues = entity.idComponentValues();
+      if (idComponentValues == null) {
+        idComponentValues = entity.getComponents().values();
+      }
+      Object key = CompositeKey.of(idComponentValues);
+      Integer slot = slotsById.get(key);
+      if (slot != null) {
+        locations[slot] = location;
+        return;
+      }
+      slotsById.put(key, size);
+      ids.add(key);
+    }
+    addLocation(location);
+  }
+
+  /** Looks up an entity by its id.
+   *  @param id the id value or, for composite ids, an array of the id component values
+   *  @return the entity or null if there is none with the given id */
+  public Entity get(Object id) {
+    Integer slot;
+    synchronized (this) {
+      slot = (slotsById != null ? slotsById.get(CompositeKey.of(id)) : null);
+    }
+    return (slot != null ? entityAt(slot) : null);
+  }
+
+  /** @return a read-only view of the stored entities which deserializes them on access */
+  @Override
+  public List<Entity> entities() {
+    return new EntityList();
+  }
+
+  @Override
+  public synchronized int size() {
+    return size;
+  }
+
+  /** @return null, since the entities are not held on the heap. Use {@link #get(Object)} for lookups by id */
+  @Override
+  public Map<Object, Entity> idMap() {
+    return null;
+  }
+
+  @Override
+  public synchronized Collection<Object> ids() {
+    if (ids == null) {
+      return null;
+    }
+    List<Object> result = new ArrayList<>(ids.size());
+    for (Object key : ids) {
+      result.add(CompositeKey.unwrap(key));
+    }
+    return result;
+  }
+
+  @Override
+  public void removeIf(Predicate<Entity> filter) {
+    // the segment lock is acquired before the monitor, like in entityAt()
+    segmentLock.writeLock().lock();
+    try {
+      synchronized (this) {
+        compact(filter);
+      }
+    } finally {
+      segmentLock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void addIndex(EntityIndex index) {
+    throw BeneratorExceptionFactory.getInstance().configurationError(
+        "Secondary indexes are not supported for off-heap storage of '" + getType().getName() + "'");
+  }
+
+  @Override
+  public Iterator<Entity> iterator() {
+    return entities().iterator();
+  }
+
+  /** Deletes the segment files. */
+  @Override
+  public void close() {
+    segmentLock.writeLock().lock();
+    try {
+      synchronized (this) {
+        records.close();
+        size = 0;
+        if (slotsById != null) {
+          slotsById.clear();
+          ids.clear();
+        }
+      }
+    } finally {
+      segmentLock.writeLock().unlock();
+    }
+  }
+
+  /** @return the number of bytes used in the segment files, including unused records */
+  public synchronized long getByteCount() {
+    return records.getByteCount();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void compact(Predicate<Entity> filter) {
+    // copies the retained records to new segments, which also drops the records of replaced entities
+    MappedRecordFile retainedRecords = createRecordFile();
+    long[] retainedLocations = new long[Math.max(size, 16)];
+    List<Object> retainedIds = (ids != null ? new ArrayList<>() : null);
+    int retainedSize = 0;
+    for (int slot = 0; slot < size; slot++) {
+      if (!filter.test(codec.decode(records.read(locations[slot])))) {
+        retainedLocations[retainedSize++] = retainedRecords.append(records.read(locations[slot]));
+        if (ids != null) {
+          retainedIds.add(ids.get(slot));
+        }
+      }
+    }
+    records.close();
+    records = retainedRecords;
+    locations = retainedLocations;
+    size = retainedSize;
+    if (ids != null) {
+      ids.clear();
+      ids.addAll(retainedIds);
+      slotsById.clear();
+      for (int slot = 0; slot < size; slot++) {
+        slotsById.put(ids.get(slot), slot);
+      }
+    }
+  }
+
+  private MappedRecordFile createRecordFile() {
+    return new MappedRecordFile(directory, "ben-" + getType().getName() + "-", segmentSize);
+  }
+
+  private void addLocation(long location) {
+    if (size == locations.length) {
+      locations = Arrays.copyOf(locations, size * 2);
+    }
+    locations[size++] = location;
+  }
+
+  private Entity entityAt(int slot) {
+    // the read lock keeps removeIf() and close() from closing the segments while the record is decoded
+    segmentLock.readLock().lock();
+    try {
+      long location;
+      MappedRecordFile source;
+      synchronized (this) {
+        if (slot >= size) {
+          throw new IndexOutOfBoundsException("Index: " + slot + ", size: " + size);
+        }
+        location = locations[slot];
+        source = records;
+      }
+      return codec.decode(source.read(location));
+    } finally {
+      segmentLock.readLock().unlock();
+    }
+  }
+
+  private class EntityList extends AbstractList<Entity> implements RandomAccess {
+
+    @Override
+    public Entity get(int index) {
+      return entityAt(index);
+    }
+
+    @Override
+    public int size() {
+      return OffHeapEntityStore.this.size();
+    }
+  }
+
+}
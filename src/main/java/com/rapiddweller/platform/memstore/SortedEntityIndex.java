@@ -0,0 +1,90 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.memstore;
+
+import com.rapiddweller.model.data.Entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * {@link EntityIndex} which keeps the entities sorted by the value of a single column,
+ * supporting equality and range lookups. Entities with a null value are not indexed.
+ * All non-null values of the column must be comparable with each other, see {@link EntityIndex#compare(Object, Object)}.<br/><br/>
+ * Created: 19.10.2026 13:38:17
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class SortedEntityIndex extends EntityIndex {
+
+  private final TreeMap<Object, List<Entity>> map;
+
+  public SortedEntityIndex(String column) {
+    super(column);
+    this.map = new TreeMap<>(EntityIndex::compare);
+  }
+
+  @Override
+  protected void addEntry(Object key, Entity entity) {
+    if (key != null) {
+      map.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entity);
+    }
+  }
+
+  @Override
+  protected void removeEntry(Object key, Entity entity) {
+    if (key == null) {
+      return;
+    }
+    List<Entity> entities = map.get(key);
+    if (entities != null) {
+      entities.removeIf(candidate -> candidate == entity);
+      if (entities.isEmpty()) {
+        map.remove(key);
+      }
+    }
+  }
+
+  @Override
+  protected void clearEntries() {
+    map.clear();
+  }
+
+  @Override
+  public List<Entity> find(Object key) {
+    if (key == null) {
+      return Collections.emptyList();
+    }
+    List<Entity> result = map.get(key);
+    return (result != null ? Collections.unmodifiableList(result) : Collections.emptyList());
+  }
+
+  /** Finds all entities of which the indexed column value lies in a range.
+   *  @param min the lower bound, or null for an open range
+   *  @param minInclusive tells if the lower bound itself matches
+   *  @param max the upper bound, or null for an open range
+   *  @param maxInclusive tells if the upper bound itself matches
+   *  @return the matching entities in the order of their column values */
+  public List<Entity> range(Object min, boolean minInclusive, Object max, boolean maxInclusive) {
+    NavigableMap<Object, List<Entity>> range = map;
+    if (min != null && max != null) {
+      if (compare(min, max) > 0) {
+        return Collections.emptyList();
+      }
+      range = map.subMap(min, minInclusive, max, maxInclusive);
+    } else if (min != null) {
+      range = map.tailMap(min, minInclusive);
+    } else if (max != null) {
+      range = map.headMap(max, maxInclusive);
+    }
+    List<Entity> result = new ArrayList<>();
+    for (List<Entity> entities : range.values()) {
+      result.addAll(entities);
+    }
+    return result;
+  }
+
+}
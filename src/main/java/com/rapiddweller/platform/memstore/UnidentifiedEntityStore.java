@@ -6,9 +6,11 @@
 import com.rapiddweller.model.data.Entity;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * {@link EntityStore} for entity types without id.<br/><br/>
@@ -28,6 +30,7 @@ public UnidentifiedEntityStore(ComplexTypeDescriptor type) {
   @Override
   public void store(Entity entity) {
     entities.add(entity);
+    indexAdded(entity);
   }
 
   @Override
@@ -45,6 +48,18 @@ public Map<Object, Entity> idMap() {
     return null;
   }
 
+  @Override
+  public Collection<Object> ids() {
+    return null;
+  }
+
+  @Override
+  public void removeIf(Predicate<Entity> filter) {
+    if (entities.removeIf(filter)) {
+      rebuildIndexes();
+    }
+  }
+
   @Override
   public Iterator<Entity> iterator() {
     return entities.iterator();
@@ -34,6 +34,7 @@
 import com.rapiddweller.common.Context;
 import com.rapiddweller.common.FileUtil;
 import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.SystemInfo;
 import com.rapiddweller.common.accessor.FeatureAccessor;
 import com.rapiddweller.common.context.ContextAware;
 import com.rapiddweller.common.context.DefaultContext;
@@ -47,7 +48,12 @@
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -55,7 +61,12 @@
 
 /**
  * Exports generated data using template files,
- * for example based on the FreeMarker Template Language.<br/><br/>
+ * for example based on the FreeMarker Template Language.
+ * By default, all records are collected and rendered with the {@link #templateUri} on {@link #close()}.
+ * If a {@link #recordTemplateUri} is set, the exporter works in streaming mode: It renders the header template
+ * first, then the record template for each top-level record as soon as it has been completely consumed,
+ * providing it as 'record' and its 1-based position as 'recordNumber', and the footer template
+ * with the 'recordCount' on close. Nested records are still collected in their top-level record.<br/><br/>
  * Created: 27.06.2014 16:50:44
  * @author Volker Bergmann
  * @since 0.9.7
@@ -70,9 +81,15 @@ public class TemplateFileEntityExporter implements Consumer, ContextAware {
   private String uri;
   private String encoding;
   private Class<? extends TemplateRecord> recordType;
+  private String headerTemplateUri;
+  private String recordTemplateUri;
+  private String footerTemplateUri;
 
   private TemplateRecord root;
   private Stack<TemplateRecord> stack;
+  private Script recordTemplate;
+  private Writer out;
+  private long recordCount;
 
   private BeneratorContext context;
 
@@ -136,6 +153,34 @@ public void setRecordType(Class<? extends TemplateRecord> recordType) {
     this.recordType = recordType;
   }
 
+  public String getHeaderTemplateUri() {
+    return headerTemplateUri;
+  }
+
+  public void setHeaderTemplateUri(String headerTemplateUri) {
+    this.headerTemplateUri = headerTemplateUri;
+  }
+
+  public String getRecordTemplateUri() {
+    return recordTemplateUri;
+  }
+
+  public void setRecordTemplateUri(String recordTemplateUri) {
+    this.recordTemplateUri = recordTemplateUri;
+  }
+
+  public String getFooterTemplateUri() {
+    return footerTemplateUri;
+  }
+
+  public void setFooterTemplateUri(String footerTemplateUri) {
+    this.footerTemplateUri = footerTemplateUri;
+  }
+
+  public boolean isStreaming() {
+    return (recordTemplateUri != null);
+  }
+
 
   // Consumer interface implementation -------------------------------------------------------------------------------
 
@@ -158,7 +203,9 @@ public void startConsuming(ProductWrapper<?> wrapper) {
     TemplateRecord productRecord = entityToRecord(product);
     String featureName = product.type();
     TemplateRecord parentRecord = stack.peek();
-    updateFeature(featureName, parentRecord, productRecord);
+    if (!isStreaming() || parentRecord != root) {
+      updateFeature(featureName, parentRecord, productRecord);
+    }
     stack.push(productRecord);
   }
 
@@ -169,29 +216,22 @@ public void finishConsuming(ProductWrapper<?> wrapper) {
       throw ExceptionFactory.getInstance().configurationError(
           "Trying to pop product from empty stack: '" + product + "'");
     }
-    stack.pop();
+    TemplateRecord record = stack.pop();
+    if (isStreaming() && stack.peek() == root) {
+      writeRecord(record);
+    }
   }
 
   @Override
   public void close() {
-    if (root != null) {
+    if (isStreaming()) {
+      closeStream();
+    } else if (root != null) {
       logger.debug("Writing file {}", uri);
-      try {
-        Script template = ScriptUtil.readFile(context.resolveRelativeUri(templateUri));
-        mapRootToContext();
-        Context subContext = new DefaultContext(context);
-        String text = ToStringConverter.convert(template.evaluate(subContext), "");
-        String targetUri = context.resolveRelativeUri(uri);
-        String targetPath = targetUri.replace('/', File.separatorChar);
-        File folder = new File(targetPath).getParentFile();
-        if (folder != null) {
-          folder.mkdirs();
-        }
-        IOUtil.writeTextFile(targetPath, text, encoding);
-      } catch (ScriptException e) {
-        throw ExceptionFactory.getInstance().configurationError(
-            "Error evaluating template " + templateUri, e);
-      }
+      Script template = readTemplate(templateUri);
+      mapRootToContext();
+      String text = render(template, new DefaultContext(context), templateUri);
+      IOUtil.writeTextFile(targetPath(), text, encoding);
     } else {
       logger.error("Unable to write file {}", uri);
     }
@@ -202,13 +242,99 @@ public void close() {
 
   @Override
   public void flush() {
-    // nothing to do for this class
+    if (out != null) {
+      try {
+        out.flush();
+      } catch (IOException e) {
+        throw ExceptionFactory.getInstance().operationFailed("Error writing " + uri, e);
+      }
+    }
   }
 
   private void init() {
     this.root = BeanUtil.newInstance(recordType);
     this.stack = new Stack<>();
     this.stack.push(root);
+    if (isStreaming()) {
+      openStream();
+    }
+  }
+
+  private void openStream() {
+    logger.debug("Writing file {} in streaming mode", uri);
+    this.recordTemplate = readTemplate(recordTemplateUri);
+    this.recordCount = 0;
+    String fileEncoding = (encoding != null ? encoding : SystemInfo.getFileEncoding());
+    try {
+      this.out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(targetPath()), fileEncoding));
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().operationFailed("Error creating file " + uri, e);
+    }
+    if (headerTemplateUri != null) {
+      write(render(readTemplate(headerTemplateUri), new DefaultContext(context), headerTemplateUri));
+    }
+  }
+
+  private void writeRecord(TemplateRecord record) {
+    recordCount++;
+    Context subContext = new DefaultContext(context);
+    subContext.set("record", record);
+    subContext.set("recordNumber", recordCount);
+    write(render(recordTemplate, subContext, recordTemplateUri));
+  }
+
+  private void closeStream() {
+    if (root == null) {
+      init();
+    }
+    if (out == null) {
+      return;
+    }
+    try {
+      if (footerTemplateUri != null) {
+        Context subContext = new DefaultContext(context);
+        subContext.set("recordCount", recordCount);
+        write(render(readTemplate(footerTemplateUri), subContext, footerTemplateUri));
+      }
+    } finally {
+      IOUtil.close(out);
+      out = null;
+    }
+    logger.debug("Wrote {} records to {}", recordCount, uri);
+  }
+
+  private void write(String text) {
+    try {
+      out.write(text);
+    } catch (IOException e) {
+      throw ExceptionFactory.getInstance().operationFailed("Error writing " + uri, e);
+    }
+  }
+
+  private Script readTemplate(String resourceUri) {
+    try {
+      return ScriptUtil.readFile(context.resolveRelativeUri(resourceUri));
+    } catch (ScriptException e) {
+      throw ExceptionFactory.getInstance().configurationError("Error reading template " + resourceUri, e);
+    }
+  }
+
+  private static String render(Script template, Context context, String templateUri) {
+    try {
+      return ToStringConverter.convert(template.evaluate(context), "");
+    } catch (ScriptException e) {
+      throw ExceptionFactory.getInstance().configurationError("Error evaluating template " + templateUri, e);
+    }
+  }
+
+  private String targetPath() {
+    String targetUri = context.resolveRelativeUri(uri);
+    String targetPath = targetUri.replace('/', File.separatorChar);
+    File folder = new File(targetPath).getParentFile();
+    if (folder != null) {
+      folder.mkdirs();
+    }
+    return targetPath;
   }
 
   private TemplateRecord entityToRecord(Entity entity) {
@@ -0,0 +1,674 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xml;
+
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.storage.AbstractStorageSystem;
+import com.rapiddweller.common.CollectionUtil;
+import com.rapiddweller.common.Context;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.NullSafeComparator;
+import com.rapiddweller.common.collection.OrderedNameMap;
+import com.rapiddweller.common.context.ContextAware;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.format.DataSource;
+import com.rapiddweller.format.util.AbstractDataSource;
+import com.rapiddweller.model.data.AbstractEntitySource;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.model.data.TypeDescriptor;
+import com.rapiddweller.script.PrimitiveType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Attr;
+import org.w3c.dom.CDATASection;
+import org.w3c.dom.Comment;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.w3c.dom.ProcessingInstruction;
+import org.w3c.dom.Text;
+
+import javax.xml.namespace.QName;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.Characters;
+import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.StartDocument;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming alternative to the {@link DOMTree} for documents which are too large to be held in memory.
+ * Each iteration over the result of {@link #queryEntities(String, String, Context)} is one pass
+ * through the document: Elements matching the query's {@link XMLPathPattern} are provided as entities
+ * and written back with the changes from {@link #update(Entity)}, all other content is copied unchanged
+ * to a temporary file, which is the input of the next pass. On {@link #close()}, the result of the last pass
+ * is moved to the {@link #outputUri}.
+ * Only one pass can be active at a time, starting a new one completes the previous one.
+ * Elements nested in a matching element are not reported separately.
+ * Each entity query thus reads and writes the complete document, with memory bounded by one matching element.
+ * The changes of different queries cannot be combined into one pass, since Benerator executes
+ * the statements which iterate the queries one after the other, each one to its end.<br/><br/>
+ * Created: 19.10.2026 15:41:07
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class StreamingXMLTree extends AbstractStorageSystem implements ContextAware {
+
+  private static final Logger logger = LoggerFactory.getLogger(StreamingXMLTree.class);
+
+  private static final XMLEventFactory EVENT_FACTORY = XMLEventFactory.newInstance();
+
+  private String id;
+  private String inputUri;
+  private String outputUri;
+  private boolean namespaceAware;
+
+  private Context context;
+  private final OrderedNameMap<ComplexTypeDescriptor> types;
+
+  private File currentFile;
+  private StreamingPass activePass;
+
+
+  public StreamingXMLTree() {
+    this(null, null);
+  }
+
+  public StreamingXMLTree(String inOutUri, BeneratorContext context) {
+    this.id = inOutUri;
+    this.inputUri = inOutUri;
+    this.outputUri = inOutUri;
+    this.namespaceAware = true;
+    this.types = OrderedNameMap.createCaseInsensitiveMap();
+    this.currentFile = null;
+    this.activePass = null;
+    setContext(context);
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getInputUri() {
+    return inputUri;
+  }
+
+  public void setInputUri(String inputUri) {
+    this.inputUri = inputUri;
+  }
+
+  public String getOutputUri() {
+    return outputUri;
+  }
+
+  public void setOutputUri(String outputUri) {
+    this.outputUri = outputUri;
+  }
+
+  public boolean isNamespaceAware() {
+    return namespaceAware;
+  }
+
+  public void setNamespaceAware(boolean namespaceAware) {
+    this.namespaceAware = namespaceAware;
+  }
+
+  @Override
+  public void setContext(Context context) {
+    this.context = context;
+    if (context instanceof BeneratorContext) {
+      setDataModel(((BeneratorContext) context).getDataModel());
+    }
+  }
+
+  @Override
+  public DataSource<Entity> queryEntities(String type, String selector, Context context) {
+    logger.debug("queryEntities({}, {}, context)", type, selector);
+    XMLPathPattern pattern = XMLPathPattern.parse(selector);
+    if (pattern.selectsValue()) {
+      throw BeneratorExceptionFactory.getInstance().configurationError(
+          "Entity queries must select elements, but found: " + selector);
+    }
+    return new AbstractEntitySource() {
+      @Override
+      public DataIterator<Entity> iterator() {
+        return new StreamingEntityIterator(startPass(pattern));
+      }
+    };
+  }
+
+  @Override
+  public DataSource<?> queryEntityIds(String type, String selector, Context context) {
+    throw BeneratorExceptionFactory.getInstance().programmerUnsupported(getClass().getSimpleName() +
+        " does not support queries for entity ids");
+  }
+
+  /** Queries attribute values, element text or the text content of elements without modifying the document.
+   *  While a pass is active, the query reads the document state from before that pass. */
+  @Override
+  public DataSource<?> query(String selector, boolean simplify, Context context) {
+    logger.debug("query({}, {}, context)", selector, simplify);
+    XMLPathPattern pattern = XMLPathPattern.parse(selector);
+    return new AbstractDataSource<Object>(Object.class) {
+      @Override
+      public DataIterator<Object> iterator() {
+        return new StreamingValueIterator(pattern);
+      }
+    };
+  }
+
+  @Override
+  public void store(Entity entity) {
+    throw BeneratorExceptionFactory.getInstance().programmerUnsupported(getClass().getSimpleName() + " does not support storing entities");
+  }
+
+  @Override
+  public synchronized void update(Entity entity) {
+    Element element = (entity instanceof XmlEntity ? ((XmlEntity) entity).getSourceElement() : null);
+    if (element == null || activePass == null || activePass.pending != element) {
+      throw BeneratorExceptionFactory.getInstance().illegalOperation(getClass().getSimpleName() +
+          " can only update the entity which has been read last: " + entity);
+    }
+    XMLPlatformUtil.mapEntityToElement(entity, element);
+  }
+
+  @Override
+  public void flush() {
+    // nothing to do
+  }
+
+  /** Completes the active pass and writes the result to the {@link #outputUri}. If no pass has been run,
+   *  the unchanged input is written, like the {@link DOMTree} does. */
+  @Override
+  public synchronized void close() {
+    if (activePass != null) {
+      activePass.finish();
+    }
+    if (currentFile == null) {
+      copyInputToOutput();
+    } else {
+      File target = new File(resolveUri(outputUri));
+      try {
+        Files.move(currentFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      } catch (IOException e) {
+        throw BeneratorExceptionFactory.getInstance().operationFailed("Error writing " + target, e);
+      }
+      currentFile = null;
+    }
+  }
+
+  @Override
+  public TypeDescriptor[] getTypeDescriptors() {
+    return CollectionUtil.toArray(types.values(), TypeDescriptor.class);
+  }
+
+  @Override
+  public TypeDescriptor getTypeDescriptor(String typeName) {
+    if (PrimitiveType.getInstance(typeName) != null) {
+      return null;
+    }
+    return types.computeIfAbsent(typeName, k -> new ComplexTypeDescriptor(typeName, this));
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void copyInputToOutput() {
+    File source = new File(resolveUri(inputUri)).getAbsoluteFile();
+    File target = new File(resolveUri(outputUri)).getAbsoluteFile();
+    if (source.equals(target)) {
+      return;
+    }
+    try (InputStream in = openCurrent(); OutputStream out = new BufferedOutputStream(new FileOutputStream(target))) {
+      IOUtil.transfer(in, out);
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error writing " + target, e);
+    }
+  }
+
+  private synchronized StreamingPass startPass(XMLPathPattern pattern) {
+    if (activePass != null) {
+      logger.debug("Completing the pass for {} before starting a new one", activePass.pattern);
+      activePass.finish();
+    }
+    activePass = new StreamingPass(pattern);
+    return activePass;
+  }
+
+  synchronized void passFinished(StreamingPass pass, File result) {
+    if (currentFile != null && !currentFile.delete()) {
+      logger.warn("Unable to delete temporary file {}", currentFile);
+    }
+    currentFile = result;
+    if (activePass == pass) {
+      activePass = null;
+    }
+  }
+
+  InputStream openCurrent() {
+    try {
+      return (currentFile != null ?
+          new BufferedInputStream(new FileInputStream(currentFile)) : IOUtil.getInputStreamForURI(resolveUri(inputUri)));
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().operationFailed("Error opening " + inputUri, e);
+    }
+  }
+
+  XMLEventReader createReader(InputStream in) throws XMLStreamException {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, namespaceAware);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    return factory.createXMLEventReader(in);
+  }
+
+  static XMLPathPattern.Node childNode(XMLPathPattern.Node parent, StartElement start) {
+    Map<String, String> attributes = new LinkedHashMap<>();
+    Iterator<Attribute> iterator = start.getAttributes();
+    while (iterator.hasNext()) {
+      Attribute attribute = iterator.next();
+      attributes.put(qualifiedName(attribute.getName()), attribute.getValue());
+    }
+    return parent.child(qualifiedName(start.getName()), attributes);
+  }
+
+  static String qualifiedName(QName name) {
+    String prefix = name.getPrefix();
+    return (prefix == null || prefix.isEmpty() ? name.getLocalPart() : prefix + ':' + name.getLocalPart());
+  }
+
+  private String resolveUri(String uri) {
+    return (context instanceof BeneratorContext ?
+        ((BeneratorContext) context).resolveRelativeUri(uri) : uri);
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + inputUri +
+        (NullSafeComparator.equals(inputUri, outputUri) ? "" : " -> " + outputUri) + "]";
+  }
+
+  // helper classes --------------------------------------------------------------------------------------------------
+
+  /** One pass through the document which copies all content and provides the matching elements as DOM elements. */
+  class StreamingPass {
+
+    final XMLPathPattern pattern;
+    private final File target;
+    private final InputStream in;
+    private final OutputStream out;
+    private final XMLEventReader reader;
+    private final XMLEventWriter writer;
+    private final Document document;
+    private final List<XMLPathPattern.Node> stack;
+    private final Map<Element, StartElement> startElements;
+    Element pending;
+    private boolean finished;
+
+    StreamingPass(XMLPathPattern pattern) {
+      this.pattern = pattern;
+      this.stack = new ArrayList<>();
+      this.stack.add(XMLPathPattern.Node.document());
+      this.startElements = new IdentityHashMap<>();
+      this.pending = null;
+      this.finished = false;
+      File output = new File(resolveUri(outputUri)).getAbsoluteFile();
+      this.in = openCurrent();
+      try {
+        this.target = File.createTempFile(output.getName(), ".tmp", output.getParentFile());
+        this.reader = createReader(in);
+        String encoding = "UTF-8";
+        XMLEvent first = reader.peek();
+        if (first instanceof StartDocument && ((StartDocument) first).encodingSet()) {
+          encoding = ((StartDocument) first).getCharacterEncodingScheme();
+        }
+        this.out = new BufferedOutputStream(new FileOutputStream(target));
+        this.writer = XMLOutputFactory.newInstance().createXMLEventWriter(out, encoding);
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(namespaceAware);
+        this.document = factory.newDocumentBuilder().newDocument();
+      } catch (IOException | XMLStreamException | ParserConfigurationException e) {
+        IOUtil.close(in);
+        throw BeneratorExceptionFactory.getInstance().operationFailed("Error starting to stream " + inputUri, e);
+      }
+      logger.debug("Started pass for {} on {}", pattern, StreamingXMLTree.this);
+    }
+
+    /** Writes back the previous match and returns the next one.
+     *  @return the next matching element or null if the end of the document has been reached */
+    Element nextMatch() {
+      if (finished) {
+        return null;
+      }
+      try {
+        writePending();
+        while (reader.hasNext()) {
+          XMLEvent event = reader.nextEvent();
+          if (event.isStartElement()) {
+            StartElement start = event.asStartElement();
+            stack.add(childNode(stack.get(stack.size() - 1), start));
+            if (pattern.matches(stack.subList(1, stack.size()))) {
+              pending = readElement(start);
+              return pending;
+            }
+          } else if (event.isEndElement()) {
+            stack.remove(stack.size() - 1);
+          }
+          writer.add(event);
+        }
+      } catch (XMLStreamException e) {
+        abort();
+        throw BeneratorExceptionFactory.getInstance().operationFailed("Error streaming " + inputUri, e);
+      }
+      finish();
+      return null;
+    }
+
+    /** Copies the rest of the document and makes the result the input of the next pass. */
+    void finish() {
+      if (finished) {
+        return;
+      }
+      try {
+        writePending();
+        while (reader.hasNext()) {
+          writer.add(reader.nextEvent());
+        }
+        writer.close();
+        reader.close();
+      } catch (XMLStreamException e) {
+        abort();
+        throw BeneratorExceptionFactory.getInstance().operationFailed("Error streaming " + inputUri, e);
+      } finally {
+        IOUtil.close(in);
+        IOUtil.close(out);
+      }
+      finished = true;
+      passFinished(this, target);
+      logger.debug("Finished pass for {} on {}", pattern, StreamingXMLTree.this);
+    }
+
+    private void abort() {
+      finished = true;
+      IOUtil.close(in);
+      IOUtil.close(out);
+      if (!target.delete()) {
+        logger.warn("Unable to delete temporary file {}", target);
+      }
+      synchronized (StreamingXMLTree.this) {
+        if (activePass == this) {
+          activePass = null;
+        }
+      }
+    }
+
+    /** Reads the events up to the end of the started element into a DOM element. */
+    private Element readElement(StartElement start) throws XMLStreamException {
+      Element root = createElement(start);
+      Element current = root;
+      while (current != null) {
+        XMLEvent event = reader.nextEvent();
+        if (event.isStartElement()) {
+          Element child = createElement(event.asStartElement());
+          current.appendChild(child);
+          current = child;
+        } else if (event.isEndElement()) {
+          current = (current == root ? null : (Element) current.getParentNode());
+        } else if (event.isCharacters()) {
+          Characters characters = event.asCharacters();
+          current.appendChild(characters.isCData() ?
+              document.createCDATASection(characters.getData()) : document.createTextNode(characters.getData()));
+        } else if (event.getEventType() == XMLEvent.COMMENT) {
+          current.appendChild(document.createComment(((javax.xml.stream.events.Comment) event).getText()));
+        } else if (event.isProcessingInstruction()) {
+          javax.xml.stream.events.ProcessingInstruction pi = (javax.xml.stream.events.ProcessingInstruction) event;
+          current.appendChild(document.createProcessingInstruction(pi.getTarget(), pi.getData()));
+        }
+      }
+      stack.remove(stack.size() - 1);
+      root.normalize();
+      return root;
+    }
+
+    private Element createElement(StartElement start) {
+      String name = qualifiedName(start.getName());
+      Element element = (namespaceAware ?
+          document.createElementNS(emptyToNull(start.getName().getNamespaceURI()), name) : document.createElement(name));
+      Iterator<Attribute> attributes = start.getAttributes();
+      while (attributes.hasNext()) {
+        Attribute attribute = attributes.next();
+        String attName = qualifiedName(attribute.getName());
+        if (namespaceAware) {
+          element.setAttributeNS(emptyToNull(attribute.getName().getNamespaceURI()), attName, attribute.getValue());
+        } else {
+          element.setAttribute(attName, attribute.getValue());
+        }
+      }
+      startElements.put(element, start);
+      return element;
+    }
+
+    private void writePending() throws XMLStreamException {
+      if (pending != null) {
+        writeElement(pending);
+        pending = null;
+        startElements.clear();
+      }
+    }
+
+    /** Writes a DOM element with its current attributes and content. Elements and attributes
+     *  which have been read keep the names and namespace declarations of their original start element,
+     *  added ones are written with the names of their DOM nodes. */
+    private void writeElement(Element element) throws XMLStreamException {
+      StartElement start = startElements.get(element);
+      List<Attribute> attributes = new ArrayList<>();
+      Set<String> originalNames = new HashSet<>();
+      if (start != null) {
+        Iterator<Attribute> iterator = start.getAttributes();
+        while (iterator.hasNext()) {
+          QName name = iterator.next().getName();
+          String qualifiedName = qualifiedName(name);
+          originalNames.add(qualifiedName);
+          if (element.hasAttribute(qualifiedName)) {
+            attributes.add(EVENT_FACTORY.createAttribute(name, element.getAttribute(qualifiedName)));
+          }
+        }
+      }
+      NamedNodeMap domAttributes = element.getAttributes();
+      for (int i = 0; i < domAttributes.getLength(); i++) {
+        Attr attribute = (Attr) domAttributes.item(i);
+        if (!originalNames.contains(attribute.getName())) {
+          attributes.add(EVENT_FACTORY.createAttribute(qName(attribute), attribute.getValue()));
+        }
+      }
+      QName elementName = (start != null ? start.getName() : qName(element));
+      Iterator<Namespace> namespaces = (start != null ? start.getNamespaces() : null);
+      writer.add(EVENT_FACTORY.createStartElement(elementName, attributes.iterator(), namespaces));
+      NodeList children = element.getChildNodes();
+      for (int i = 0; i < children.getLength(); i++) {
+        Node child = children.item(i);
+        if (child instanceof Element) {
+          writeElement((Element) child);
+        } else if (child instanceof CDATASection) {
+          writer.add(EVENT_FACTORY.createCData(((CDATASection) child).getData()));
+        } else if (child instanceof Text) {
+          writer.add(EVENT_FACTORY.createCharacters(((Text) child).getData()));
+        } else if (child instanceof Comment) {
+          writer.add(EVENT_FACTORY.createComment(((Comment) child).getData()));
+        } else if (child instanceof ProcessingInstruction) {
+          ProcessingInstruction pi = (ProcessingInstruction) child;
+          writer.add(EVENT_FACTORY.createProcessingInstruction(pi.getTarget(), pi.getData()));
+        }
+      }
+      writer.add(EVENT_FACTORY.createEndElement(elementName, (start != null ? start.getNamespaces() : null)));
+    }
+
+    private QName qName(Node node) {
+      String namespaceUri = node.getNamespaceURI();
+      String localName = node.getLocalName();
+      if (namespaceUri == null || localName == null) {
+        return new QName(node.getNodeName());
+      }
+      String prefix = node.getPrefix();
+      return new QName(namespaceUri, localName, (prefix != null ? prefix : ""));
+    }
+
+    private String emptyToNull(String s) {
+      return (s == null || s.isEmpty() ? null : s);
+    }
+  }
+
+  /** Provides the matches of a {@link StreamingPass} as entities. */
+  class StreamingEntityIterator implements DataIterator<Entity> {
+
+    private final StreamingPass pass;
+
+    StreamingEntityIterator(StreamingPass pass) {
+      this.pass = pass;
+    }
+
+    @Override
+    public Class<Entity> getType() {
+      return Entity.class;
+    }
+
+    @Override
+    public DataContainer<Entity> next(DataContainer<Entity> container) {
+      Element element = pass.nextMatch();
+      return (element != null ? container.setData(XMLPlatformUtil.convertElement2Entity(element, StreamingXMLTree.this)) : null);
+    }
+
+    @Override
+    public void close() {
+      pass.finish();
+    }
+  }
+
+  /** Reads the values selected by a pattern without writing anything. */
+  class StreamingValueIterator implements DataIterator<Object> {
+
+    private final XMLPathPattern pattern;
+    private final List<XMLPathPattern.Node> stack;
+    private InputStream in;
+    private XMLEventReader reader;
+
+    StreamingValueIterator(XMLPathPattern pattern) {
+      this.pattern = pattern;
+      this.stack = new ArrayList<>();
+      this.stack.add(XMLPathPattern.Node.document());
+      this.in = openCurrent();
+      try {
+        this.reader = createReader(in);
+      } catch (XMLStreamException e) {
+        close();
+        throw BeneratorExceptionFactory.getInstance().operationFailed("Error starting to stream " + inputUri, e);
+      }
+    }
+
+    @Override
+    public Class<Object> getType() {
+      return Object.class;
+    }
+
+    @Override
+    public DataContainer<Object> next(DataContainer<Object> container) {
+      if (reader == null) {
+        return null;
+      }
+      try {
+        while (reader.hasNext()) {
+          XMLEvent event = reader.nextEvent();
+          if (event.isStartElement()) {
+            XMLPathPattern.Node node = childNode(stack.get(stack.size() - 1), event.asStartElement());
+            stack.add(node);
+            if (pattern.matches(stack.subList(1, stack.size()))) {
+              if (pattern.getAttribute() == null) {
+                return container.setData(readText(pattern.isText()));
+              } else if (node.attributes.containsKey(pattern.getAttribute())) {
+                return container.setData(node.attributes.get(pattern.getAttribute()));
+              }
+            }
+          } else if (event.isEndElement()) {
+            stack.remove(stack.size() - 1);
+          }
+        }
+      } catch (XMLStreamException e) {
+        close();
+        throw BeneratorExceptionFactory.getInstance().operationFailed("Error streaming " + inputUri, e);
+      }
+      close();
+      return null;
+    }
+
+    @Override
+    public void close() {
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (XMLStreamException e) {
+          logger.warn("Error closing reader for {}", inputUri, e);
+        }
+        reader = null;
+      }
+      IOUtil.close(in);
+      in = null;
+    }
+
+    /** Reads the text of the current element.
+     *  @param direct if true, only the text which is a direct child of the element is read,
+     *      otherwise the text content of all descendants */
+    private String readText(boolean direct) throws XMLStreamException {
+      StringBuilder builder = new StringBuilder();
+      int depth = 0;
+      while (depth >= 0) {
+        XMLEvent event = reader.nextEvent();
+        if (event.isStartElement()) {
+          depth++;
+        } else if (event.isEndElement()) {
+          depth--;
+        } else if (event.isCharacters() && (depth == 0 || !direct)) {
+          builder.append(event.asCharacters().getData());
+        }
+      }
+      stack.remove(stack.size() - 1);
+      return builder.toString();
+    }
+  }
+
+}
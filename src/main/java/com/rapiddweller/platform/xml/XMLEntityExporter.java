@@ -29,6 +29,7 @@
 import com.rapiddweller.benerator.consumer.AbstractConsumer;
 import com.rapiddweller.benerator.consumer.FileExporter;
 import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.util.FileCompression;
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.StringUtil;
 import com.rapiddweller.common.SystemInfo;
@@ -46,13 +47,25 @@
 import javax.xml.transform.sax.SAXTransformerFactory;
 import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamResult;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Writes Entities to an XML file.<br/><br/>
+ * Writes Entities to an XML file.
+ * By default, the document is serialized by a SAX {@link TransformerHandler}. In 'compiled' mode,
+ * the start and end tags of each type and the attribute prefixes are rendered only once
+ * and the document is written directly to a buffered writer, which is significantly faster.
+ * Both modes indent nested elements by the configured number of spaces.
+ * If a 'rootElement' is set, all exported entities are wrapped in an element of that name,
+ * otherwise each file should receive a single top-level entity for being well-formed.
+ * The file is compressed if a 'compression' is configured or its uri ends with a compression suffix like '.gz'.<br/><br/>
  * Created: 20.02.2008 15:39:23
  * @author Volker Bergmann
  * @since 0.5.0
@@ -65,6 +78,9 @@ public class XMLEntityExporter extends AbstractConsumer implements FileExporter
 
   private static final String DEFAULT_ENCODING = SystemInfo.getFileEncoding();
   private static final String DEFAULT_URI = "export.xml";
+  private static final int DEFAULT_INDENT = 2;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
 
   private static final ToStringConverter converter = new ToStringConverter("", "yyyy-MM-dd", "yyyy-MM-dd'T'hh:mm:ss.SSS");
 
@@ -72,10 +88,26 @@ public class XMLEntityExporter extends AbstractConsumer implements FileExporter
 
   private String uri;
   private String encoding;
+  private int indent;
+  private boolean compiled;
+  private String rootElement;
+  private String compression;
 
   private OutputStream out;
   private TransformerHandler handler;
 
+  // state of the compiled mode
+  private Writer writer;
+  private XMLEscaper escaper;
+  private final Map<String, char[]> startTags;
+  private final Map<String, char[]> endTags;
+  private final Map<String, char[]> attributePrefixes;
+  private char[] indentation;
+  private boolean[] childElements;
+  private int depth;
+  private boolean startTagOpen;
+  private boolean atLineStart;
+
   // constructors ----------------------------------------------------------------------------------------------------
 
   /**
@@ -103,6 +135,13 @@ public XMLEntityExporter(String uri) {
   public XMLEntityExporter(String uri, String encoding) {
     this.uri = uri;
     this.encoding = encoding;
+    this.indent = DEFAULT_INDENT;
+    this.compiled = false;
+    this.rootElement = null;
+    this.compression = null;
+    this.startTags = new HashMap<>();
+    this.endTags = new HashMap<>();
+    this.attributePrefixes = new HashMap<>();
   }
 
   // properties ------------------------------------------------------------------------------------------------------
@@ -125,8 +164,6 @@ public void setUri(String uri) {
     this.uri = uri;
   }
 
-  // Consumer interface ----------------------------------------------------------------------------------------------
-
   /**
    * Sets encoding.
    *
@@ -136,20 +173,72 @@ public void setEncoding(String encoding) {
     this.encoding = encoding;
   }
 
+  public int getIndent() {
+    return indent;
+  }
+
+  /** Sets the number of spaces by which nested elements are indented. */
+  public void setIndent(int indent) {
+    this.indent = indent;
+  }
+
+  public boolean isCompiled() {
+    return compiled;
+  }
+
+  /** Activates the compiled mode which writes the document directly to a buffered writer
+   *  with tags and attribute prefixes rendered once per type. */
+  public void setCompiled(boolean compiled) {
+    this.compiled = compiled;
+  }
+
+  public String getRootElement() {
+    return rootElement;
+  }
+
+  /** Sets the name of an element which encloses all exported entities. */
+  public void setRootElement(String rootElement) {
+    this.rootElement = rootElement;
+  }
+
+  public String getCompression() {
+    return compression;
+  }
+
+  /** Sets the compression format of the file: 'gzip' or 'none'.
+   *  If it is not set, the file is compressed according to the suffix of its uri. */
+  public void setCompression(String compression) {
+    this.compression = compression;
+  }
+
+  // Consumer interface ----------------------------------------------------------------------------------------------
+
   @Override
   public void startProductConsumption(Object object) {
     logger.debug("startConsuming({})", object);
     if (out == null) {
-      initHandler();
+      if (compiled) {
+        initWriter();
+      } else {
+        initHandler();
+      }
     }
     Entity entity = (Entity) object;
-    renderElementStart(entity);
+    if (compiled) {
+      writeElementStart(entity);
+    } else {
+      renderElementStart(entity);
+    }
   }
 
   @Override
   public void finishProductConsumption(Object object) {
     logger.debug("finishConsuming({})", object);
     Entity entity = (Entity) object;
+    if (compiled) {
+      writeElementEnd(entity.type());
+      return;
+    }
     try {
       handler.endElement("", "", entity.type());
     } catch (SAXException e) {
@@ -159,16 +248,25 @@ public void finishProductConsumption(Object object) {
 
   @Override
   public void flush() {
-    IOUtil.flush(out);
+    if (writer != null) {
+      IOUtil.flush(writer);
+    } else {
+      IOUtil.flush(out);
+    }
   }
 
   // private helpers -------------------------------------------------------------------------------------------------
 
   @Override
   public void close() {
-    if (out != null) {
+    if (writer != null) {
+      closeWriter();
+    } else if (out != null) {
       try {
         if (handler != null) {
+          if (rootElement != null) {
+            handler.endElement("", "", rootElement);
+          }
           handler.endDocument();
           handler = null;
         }
@@ -221,9 +319,9 @@ private void initHandler() {
       Transformer transformer = handler.getTransformer();
       transformer.setOutputProperty(OutputKeys.ENCODING, encoding);
       transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-      transformer.setOutputProperty("{http://xml.apache.org/xslt}" + "indent-amount", "2");
+      transformer.setOutputProperty("{http://xml.apache.org/xslt}" + "indent-amount", String.valueOf(indent));
 
-      out = new FileOutputStream(uri);
+      out = FileCompression.of(compression, uri).openOutputStream(uri, false);
       handler.setResult(new StreamResult(out));
 
       // bug fix: the following extra call to start/endDocument fixes the bug,
@@ -233,15 +331,136 @@ private void initHandler() {
       // end of bug fix
 
       handler.startDocument();
+      if (rootElement != null) {
+        handler.startElement("", "", rootElement, new AttributesImpl());
+      }
     } catch (TransformerConfigurationException e) {
       throw BeneratorExceptionFactory.getInstance().configurationError("Error in Transformer configuration", e);
     } catch (SAXException e) {
       throw BeneratorExceptionFactory.getInstance().configurationError("Error in initializing XML file", e);
-    } catch (FileNotFoundException e) {
+    } catch (IOException e) {
       throw BeneratorExceptionFactory.getInstance().fileCreationFailed("Error writing file " + uri, e);
     }
   }
 
+  // compiled mode ---------------------------------------------------------------------------------------------------
+
+  private void initWriter() {
+    logger.debug("Initializing {} in compiled mode", uri);
+    try {
+      Charset charset = Charset.forName(encoding);
+      out = FileCompression.of(compression, uri).openOutputStream(uri, false);
+      writer = new BufferedWriter(new OutputStreamWriter(out, charset), BUFFER_SIZE);
+      escaper = new XMLEscaper(charset);
+      indentation = new char[0];
+      childElements = new boolean[16];
+      depth = 0;
+      startTagOpen = false;
+      writer.write("<?xml version=\"1.0\" encoding=\"" + encoding + "\"?>\n");
+      atLineStart = true;
+      if (rootElement != null) {
+        writeLineStart();
+        writer.write('<' + rootElement);
+        pushElement();
+      }
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().fileCreationFailed("Error writing file " + uri, e);
+    }
+  }
+
+  private void writeElementStart(Entity entity) {
+    try {
+      writeChildLineStart();
+      writer.write(startTags.computeIfAbsent(entity.type(), type -> ('<' + type).toCharArray()));
+      for (Map.Entry<String, Object> entry : entity.getComponents().entrySet()) {
+        String key = entry.getKey();
+        Object value = entry.getValue();
+        if (value != null && key != null && !ComplexTypeDescriptor.__SIMPLE_CONTENT.equals(key) && hasSimpleType(value)) {
+          writer.write(attributePrefixes.computeIfAbsent(key, name -> (' ' + name + "=\"").toCharArray()));
+          escaper.writeAttributeValue(converter.convert(value), writer);
+          writer.write('"');
+        }
+      }
+      pushElement();
+      Object content = entity.getComponent(ComplexTypeDescriptor.__SIMPLE_CONTENT);
+      if (content != null) {
+        writer.write('>');
+        startTagOpen = false;
+        escaper.writeText(converter.convert(content), writer);
+      }
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().fileAccessException("Error writing " + entity + " to " + uri, e);
+    }
+  }
+
+  private void writeElementEnd(String type) {
+    try {
+      depth--;
+      if (startTagOpen) {
+        writer.write("/>");
+        startTagOpen = false;
+      } else {
+        if (childElements[depth]) {
+          writeLineStart();
+        }
+        writer.write(endTags.computeIfAbsent(type, name -> ("</" + name + '>').toCharArray()));
+      }
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().fileAccessException("Error writing end of " + type + " to " + uri, e);
+    }
+  }
+
+  /** Closes a pending start tag and starts the line of a new child element of the current element */
+  private void writeChildLineStart() throws IOException {
+    if (startTagOpen) {
+      writer.write('>');
+      startTagOpen = false;
+    }
+    if (depth > 0) {
+      childElements[depth - 1] = true;
+    }
+    writeLineStart();
+  }
+
+  /** Makes the element whose start tag has just been written the current one */
+  private void pushElement() {
+    if (depth == childElements.length) {
+      childElements = Arrays.copyOf(childElements, depth * 2);
+    }
+    childElements[depth++] = false;
+    startTagOpen = true;
+  }
+
+  /** Starts a new line and indents it according to the current depth */
+  private void writeLineStart() throws IOException {
+    if (!atLineStart) {
+      writer.write('\n');
+    }
+    atLineStart = false;
+    int length = depth * indent;
+    if (length > indentation.length) {
+      indentation = new char[length];
+      Arrays.fill(indentation, ' ');
+    }
+    writer.write(indentation, 0, length);
+  }
+
+  private void closeWriter() {
+    try {
+      if (rootElement != null) {
+        writeElementEnd(rootElement);
+      }
+      if (!atLineStart) {
+        writer.write('\n');
+      }
+    } catch (IOException e) {
+      throw BeneratorExceptionFactory.getInstance().fileAccessException("Error closing XML file " + uri, e);
+    } finally {
+      IOUtil.close(writer);
+      writer = null;
+    }
+  }
+
   // java.lang.Object overrides --------------------------------------------------------------------------------------
 
   @Override
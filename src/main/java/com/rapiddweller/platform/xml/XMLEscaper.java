@@ -0,0 +1,88 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xml;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+
+/**
+ * Writes attribute values and text content to an XML document in a single pass,
+ * escaping them the same way as the JDK's XML serializer: Markup characters are replaced by entity references,
+ * control characters and characters which cannot be encoded in the document's charset by character references.
+ * Line breaks and tabs in attribute values are written as character references too,
+ * so they are not normalized to spaces when parsing the document. Instances are not thread-safe.<br/><br/>
+ * Created: 19.10.2026 15:14:38
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class XMLEscaper {
+
+  private final CharsetEncoder encoder;
+
+  /** @param charset the charset of the document */
+  public XMLEscaper(Charset charset) {
+    // with a Unicode charset, any character can be written without character reference
+    this.encoder = (charset.name().startsWith("UTF-") ? null : charset.newEncoder());
+  }
+
+  /** Writes an attribute value without the enclosing quotes. */
+  public void writeAttributeValue(String s, Writer out) throws IOException {
+    write(s, true, out);
+  }
+
+  /** Writes the text content of an element. */
+  public void writeText(String s, Writer out) throws IOException {
+    write(s, false, out);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void write(String s, boolean attribute, Writer out) throws IOException {
+    int length = s.length();
+    int start = 0;
+    for (int i = 0; i < length; i++) {
+      char c = s.charAt(i);
+      String replacement;
+      int next = i + 1;
+      switch (c) {
+        case '&':
+          replacement = "&amp;";
+          break;
+        case '<':
+          replacement = "&lt;";
+          break;
+        case '>':
+          replacement = "&gt;";
+          break;
+        case '"':
+          if (!attribute) {
+            continue;
+          }
+          replacement = "&quot;";
+          break;
+        case '\n':
+        case '\t':
+          if (!attribute) {
+            continue;
+          }
+          replacement = "&#" + (int) c + ';';
+          break;
+        default:
+          if (c >= ' ' && (c < 0x80 || encoder == null || encoder.canEncode(c))) {
+            continue;
+          }
+          int codePoint = s.codePointAt(i);
+          replacement = "&#" + codePoint + ';';
+          next = i + Character.charCount(codePoint);
+      }
+      out.write(s, start, i - start);
+      out.write(replacement);
+      start = next;
+      i = next - 1;
+    }
+    out.write(s, start, length - start);
+  }
+
+}
@@ -0,0 +1,248 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xml;
+
+import com.rapiddweller.benerator.factory.BeneratorExceptionFactory;
+import com.rapiddweller.benerator.template.xmlanon.XPathTokenizer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Restricted XPath expression which can be evaluated while streaming through an XML document,
+ * since it only refers to an element, its ancestors and their attributes.
+ * It supports the path forms which are split by {@link XPathTokenizer}: absolute and relative paths
+ * of element names or '*', the descendant axis '//', position predicates like [2] and attribute predicates
+ * like [@type='private'] or [@id]. A path may end with '@attribute' or 'text()' for querying values.<br/><br/>
+ * Created: 19.10.2026 15:02:31
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class XMLPathPattern {
+
+  private final String path;
+  private final Step[] steps;
+  private final String attribute;
+  private final boolean text;
+
+  private XMLPathPattern(String path, Step[] steps, String attribute, boolean text) {
+    this.path = path;
+    this.steps = steps;
+    this.attribute = attribute;
+    this.text = text;
+  }
+
+  /** Parses a path.
+   *  @param path the XPath expression
+   *  @return the pattern
+   *  @throws com.rapiddweller.common.ConfigurationError if the path uses XPath features which are not supported */
+  public static XMLPathPattern parse(String path) {
+    if (path == null || path.trim().isEmpty()) {
+      throw BeneratorExceptionFactory.getInstance().configurationError("Empty XML path");
+    }
+    List<String> tokens = XPathTokenizer.tokenize(path.trim());
+    List<Step> steps = new ArrayList<>();
+    String attribute = null;
+    boolean text = false;
+    boolean descendant = false;
+    for (int i = 0; i < tokens.size(); i++) {
+      String token = tokens.get(i).trim();
+      boolean last = (i == tokens.size() - 1);
+      if (token.isEmpty()) {
+        // a leading '/' selects the document root, a '//' the descendant axis
+        descendant = (i > 0);
+        if (last) {
+          throw unsupported(path);
+        }
+      } else if (token.startsWith("@") && last && !steps.isEmpty()) {
+        attribute = token.substring(1);
+      } else if ("text()".equals(token) && last && !steps.isEmpty()) {
+        text = true;
+      } else {
+        steps.add(parseStep(token, descendant, path));
+        descendant = false;
+      }
+    }
+    if (steps.isEmpty()) {
+      throw unsupported(path);
+    }
+    return new XMLPathPattern(path, steps.toArray(new Step[0]), attribute, text);
+  }
+
+  /** @return true if the path can be evaluated in streaming mode */
+  public static boolean isSupported(String path) {
+    try {
+      parse(path);
+      return true;
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  /** @return the name of the attribute whose value is selected, or null if the path does not end with '@attribute' */
+  public String getAttribute() {
+    return attribute;
+  }
+
+  /** @return true if the path ends with 'text()' */
+  public boolean isText() {
+    return text;
+  }
+
+  /** @return true if the path selects an attribute or text value instead of an element */
+  public boolean selectsValue() {
+    return (attribute != null || text);
+  }
+
+  /** Tells if the element path matches the current element.
+   *  @param stack the open elements from the root element to the current one */
+  public boolean matches(List<Node> stack) {
+    return !stack.isEmpty() && matches(stack, steps.length - 1, stack.size() - 1);
+  }
+
+  private boolean matches(List<Node> stack, int step, int frame) {
+    if (!steps[step].matches(stack.get(frame))) {
+      return false;
+    }
+    if (step == 0) {
+      return steps[0].descendant || frame == 0;
+    }
+    if (steps[step].descendant) {
+      for (int k = frame - 1; k >= step - 1; k--) {
+        if (matches(stack, step - 1, k)) {
+          return true;
+        }
+      }
+      return false;
+    }
+    return frame > 0 && matches(stack, step - 1, frame - 1);
+  }
+
+  // parsing helpers -------------------------------------------------------------------------------------------------
+
+  private static Step parseStep(String token, boolean descendant, String path) {
+    String name = XPathTokenizer.nodeName(token).trim();
+    if (name.isEmpty() || name.startsWith(".") || name.startsWith("@") || name.contains("(") || name.contains("::")) {
+      throw unsupported(path);
+    }
+    List<Predicate> predicates = new ArrayList<>();
+    int bracket = token.indexOf('[');
+    String rest = (bracket >= 0 ? token.substring(bracket) : "");
+    while (!rest.isEmpty()) {
+      int end = rest.indexOf(']');
+      if (rest.charAt(0) != '[' || end < 0) {
+        throw unsupported(path);
+      }
+      predicates.add(parsePredicate(rest.substring(1, end).trim(), name, path));
+      rest = rest.substring(end + 1).trim();
+    }
+    return new Step(name, descendant, predicates.toArray(new Predicate[0]));
+  }
+
+  private static Predicate parsePredicate(String spec, String name, String path) {
+    if (spec.matches("\\d+") && !"*".equals(name)) {
+      int position = Integer.parseInt(spec);
+      return node -> node.position == position;
+    } else if (spec.startsWith("@")) {
+      int eq = spec.indexOf('=');
+      if (eq < 0) {
+        String attribute = spec.substring(1).trim();
+        return node -> node.attributes.containsKey(attribute);
+      }
+      String attribute = spec.substring(1, eq).trim();
+      String literal = spec.substring(eq + 1).trim();
+      if (literal.length() < 2 || (literal.charAt(0) != '\'' && literal.charAt(0) != '"')
+          || literal.charAt(literal.length() - 1) != literal.charAt(0)) {
+        throw unsupported(path);
+      }
+      String value = literal.substring(1, literal.length() - 1);
+      return node -> value.equals(node.attributes.get(attribute));
+    } else {
+      throw unsupported(path);
+    }
+  }
+
+  private static RuntimeException unsupported(String path) {
+    return BeneratorExceptionFactory.getInstance().configurationError(
+        "XML path is not supported in streaming mode: " + path);
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return path;
+  }
+
+  // helper classes --------------------------------------------------------------------------------------------------
+
+  private static class Step {
+
+    final String name;
+    final boolean descendant;
+    final Predicate[] predicates;
+
+    Step(String name, boolean descendant, Predicate[] predicates) {
+      this.name = name;
+      this.descendant = descendant;
+      this.predicates = predicates;
+    }
+
+    boolean matches(Node node) {
+      if (!"*".equals(name) && !name.equals(node.name)) {
+        return false;
+      }
+      for (Predicate predicate : predicates) {
+        if (!predicate.test(node)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  @FunctionalInterface
+  private interface Predicate {
+    boolean test(Node node);
+  }
+
+  /** An open element with the information needed for matching: its name, its attributes
+   *  and its position among the siblings of the same name. */
+  public static final class Node {
+
+    final String name;
+    final Map<String, String> attributes;
+    final int position;
+    private final Map<String, Integer> childCounts;
+
+    private Node(String name, Map<String, String> attributes, int position) {
+      this.name = name;
+      this.attributes = attributes;
+      this.position = position;
+      this.childCounts = new HashMap<>();
+    }
+
+    /** @return the parent of the document's root element */
+    public static Node document() {
+      return new Node(null, Collections.emptyMap(), 0);
+    }
+
+    /** Creates the node of the next child element of this node. */
+    public Node child(String name, Map<String, String> attributes) {
+      int position = childCounts.merge(name, 1, Integer::sum);
+      return new Node(name, attributes, position);
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
+
+}
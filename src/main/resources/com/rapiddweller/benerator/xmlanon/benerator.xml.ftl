@@ -5,7 +5,7 @@
         <echo>{'Parsing file ' + ${file}}</echo>
         <domtree id="dom_${file}" inputUri="{${file}}"
                  outputUri="{com.rapiddweller.common.FileUtil.prependFilePrefix('anon_', ${file})}"
-                 namespaceAware="false"/>
+                 namespaceAware="false" streaming="${setup.streaming?c}"/>
     </#list>
 
     <memstore id="memdb"/>
@@ -1530,6 +1530,15 @@ public void test_1022_db_url_and_env_group() {
             "File test_1022_syn_db_url_and_env_group.ben.xml, line 5", ExitCodes.SYNTAX_ERROR, result);
   }
 
+  @Test
+  public void test_1025_syn_db_ill_partitions() {
+    BeneratorResult result = runFile("test_1025_syn_db_ill_partitions.ben.xml");
+    assertResult(BeneratorErrorIds.SYN_DB_PARTITIONS,
+        "Illegal attribute value for database.partitions: '0'. " +
+            "File test_1025_syn_db_ill_partitions.ben.xml, line 4",
+        ExitCodes.SYNTAX_ERROR, result);
+  }
+
   @Test
   public void test_2400_syn_mongo_ill_attr() {
     BeneratorResult result = runFile("test_2400_syn_mongo_ill_attr.ben.xml");
@@ -0,0 +1,123 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.consumer;
+
+import com.rapiddweller.benerator.test.ModelTest;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.common.FileUtil;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.model.data.Entity;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link ShardedFileExporter}.<br/><br/>
+ * Created: 19.10.2026 10:02:18
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class ShardedFileExporterTest extends ModelTest {
+
+  private static final String FOLDER = "target" + File.separator + ShardedFileExporterTest.class.getSimpleName();
+  private static final String URI = FOLDER + File.separator + "persons.csv";
+
+  @Test
+  public void testFileUri() {
+    assertEquals("export-002-00001.csv", ShardedFileExporter.fileUri("export.csv", 2, 1));
+    assertEquals("out/export-000-00000", ShardedFileExporter.fileUri("out/export", 0, 0));
+    assertEquals("out.d/export-000-00000", ShardedFileExporter.fileUri("out.d/export", 0, 0));
+    assertEquals("out/export.manifest.json", ShardedFileExporter.defaultManifestUri("out/export.csv"));
+    assertEquals("export-000-00003.csv.gz", ShardedFileExporter.fileUri("export.csv.gz", 0, 3));
+    assertEquals("export-000-00003.gz", ShardedFileExporter.fileUri("export.gz", 0, 3));
+    assertEquals("export.manifest.json", ShardedFileExporter.defaultManifestUri("export.csv.gz"));
+  }
+
+  @Test
+  public void testRoundRobinWithRollover() throws IOException {
+    FileUtil.deleteDirectoryIfExists(new File(FOLDER));
+    ShardedFileExporter exporter = createExporter();
+    exporter.setShards(2);
+    exporter.setMaxRows(3);
+    export(exporter, 10);
+    assertEquals("id,name\r\n0,p0\r\n2,p2\r\n4,p4\r\n", content(0, 0));
+    assertEquals("id,name\r\n6,p6\r\n8,p8\r\n", content(0, 1));
+    assertEquals("id,name\r\n1,p1\r\n3,p3\r\n5,p5\r\n", content(1, 0));
+    assertEquals("id,name\r\n7,p7\r\n9,p9\r\n", content(1, 1));
+    assertFalse(new File(ShardedFileExporter.fileUri(URI, 0, 2)).exists());
+    String manifest = IOUtil.getContentOfURI(FOLDER + File.separator + "persons.manifest.json", "UTF-8");
+    assertTrue(manifest.contains("\"shards\": 2,"));
+    assertTrue(manifest.contains("\"rows\": 10,"));
+    assertTrue(manifest.contains("\"shard\": 0, \"part\": 1, \"rows\": 2, \"bytes\": 21 }"));
+    assertTrue(manifest.contains("\"shard\": 1, \"part\": 1, \"rows\": 2, \"bytes\": 21 }"));
+    FileUtil.deleteDirectoryIfExists(new File(FOLDER));
+  }
+
+  @Test
+  public void testKey() throws IOException {
+    FileUtil.deleteDirectoryIfExists(new File(FOLDER));
+    ShardedFileExporter exporter = createExporter();
+    exporter.setShards(3);
+    exporter.setKey("id");
+    export(exporter, 7);
+    assertEquals("id,name\r\n0,p0\r\n3,p3\r\n6,p6\r\n", content(0, 0));
+    assertEquals("id,name\r\n1,p1\r\n4,p4\r\n", content(1, 0));
+    assertEquals("id,name\r\n2,p2\r\n5,p5\r\n", content(2, 0));
+    FileUtil.deleteDirectoryIfExists(new File(FOLDER));
+  }
+
+  @Test
+  public void testUnfinishedProducts() throws IOException {
+    FileUtil.deleteDirectoryIfExists(new File(FOLDER));
+    ShardedFileExporter exporter = createExporter();
+    ProductWrapper<Entity> wrapper = new ProductWrapper<>();
+    ProductWrapper<Entity> nestedWrapper = new ProductWrapper<>();
+    try {
+      // a nested product which is not finished is discarded
+      Entity p0 = createEntity("person", "id", 0, "name", "p0");
+      exporter.startConsuming(wrapper.wrap(p0));
+      exporter.startConsuming(nestedWrapper.wrap(createEntity("person", "id", 10, "name", "nested")));
+      exporter.finishConsuming(wrapper.wrap(p0));
+      // a top-level product which is not finished is discarded when its generation continues
+      exporter.startConsuming(wrapper.wrap(createEntity("person", "id", 1, "name", "p1")));
+      Entity p2 = createEntity("person", "id", 2, "name", "p2");
+      exporter.startConsuming(wrapper.wrap(p2));
+      exporter.finishConsuming(wrapper.wrap(p2));
+    } finally {
+      exporter.close();
+    }
+    assertEquals("id,name\r\n0,p0\r\n2,p2\r\n", content(0, 0));
+    FileUtil.deleteDirectoryIfExists(new File(FOLDER));
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private ShardedFileExporter createExporter() {
+    ShardedFileExporter exporter = new ShardedFileExporter(URI, "new CSVEntityExporter('x.csv', 'id,name')");
+    exporter.setContext(context);
+    return exporter;
+  }
+
+  private void export(ShardedFileExporter exporter, int count) {
+    ProductWrapper<Entity> wrapper = new ProductWrapper<>();
+    try {
+      for (int i = 0; i < count; i++) {
+        Entity person = createEntity("person", "id", i, "name", "p" + i);
+        exporter.startConsuming(wrapper.wrap(person));
+        exporter.finishConsuming(wrapper.wrap(person));
+      }
+    } finally {
+      exporter.close();
+    }
+  }
+
+  private static String content(int shard, int part) throws IOException {
+    return IOUtil.getContentOfURI(ShardedFileExporter.fileUri(URI, shard, part));
+  }
+
+}
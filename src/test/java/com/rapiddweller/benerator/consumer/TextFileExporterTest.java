@@ -26,12 +26,21 @@
 
 package com.rapiddweller.benerator.consumer;
 
+import com.rapiddweller.benerator.util.AsyncOutputStream;
 import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.OperationFailed;
 import com.rapiddweller.common.SystemInfo;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.Assert.assertEquals;
 
@@ -61,4 +70,40 @@ public void test() throws IOException {
     assertEquals("test" + SystemInfo.getLineSeparator(), content);
   }
 
+  @Test
+  public void testGzip() throws IOException {
+    String uri = "target" + File.separator + getClass().getSimpleName() + ".txt.gz";
+    TextFileExporter exporter = new TextFileExporter(uri, "UTF-8", "\r\n");
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 100000; i++) {
+      exporter.startProductConsumption("line " + i);
+      expected.append("line ").append(i).append("\r\n");
+    }
+    exporter.close();
+    try (InputStream in = new GZIPInputStream(new FileInputStream(uri))) {
+      assertEquals(expected.toString(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+    new File(uri).delete();
+  }
+
+  @Test(expected = OperationFailed.class)
+  public void testFailingCompressionTarget() {
+    OutputStream failingTarget = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("No space left on device");
+      }
+    };
+    TextFileExporter exporter = new TextFileExporter("failing.txt.gz") {
+      @Override
+      protected void initPrinter(Object data) {
+        // the target receives the data in a background thread like with compression
+        OutputStream out = new AsyncOutputStream(failingTarget, uri, 16, 2);
+        printer = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+      }
+    };
+    exporter.startProductConsumption("test");
+    exporter.close();
+  }
+
 }
@@ -0,0 +1,161 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine;
+
+import com.rapiddweller.common.FileUtil;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.TextFileLocation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Objects;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link DescriptorCache}.<br/><br/>
+ * Created: 19.10.2026 16:40:08
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class DescriptorCacheTest {
+
+  private static final String DESCRIPTOR =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+      "<setup xmlns=\"https://www.benerator.de/schema/3.0.0\"\n" +
+      "       xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">\n" +
+      "  <!-- a comment -->\n" +
+      "  <generate type=\"person\" count=\"3\" consumer=\"ConsoleExporter\">\n" +
+      "    <attribute name=\"name\" values=\"'Alice','Bob'\"/>\n" +
+      "  </generate>\n" +
+      "  <execute type=\"js\"><![CDATA[if (1 < 2) x = '\u00e4';]]></execute>\n" +
+      "</setup>\n";
+
+  private static final long ONE_HOUR_AGO = System.currentTimeMillis() / 1000 * 1000 - 3600000;
+
+  private File root;
+  private DescriptorCache cache;
+
+  @Before
+  public void setUp() {
+    root = new File("target", getClass().getSimpleName());
+    FileUtil.deleteDirectoryIfExists(root);
+    FileUtil.ensureDirectoryExists(root);
+    cache = new DescriptorCache(new File(root, "cache"));
+  }
+
+  @After
+  public void tearDown() {
+    FileUtil.deleteDirectoryIfExists(root);
+  }
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    String uri = writeDescriptor(DESCRIPTOR);
+    Document parsed = cache.parse(uri);
+    assertEquals(1, cacheFileCount());
+    Document cached = cache.parse(uri);
+    assertNotSame(parsed, cached);
+    assertEquals(1, cacheFileCount());
+    assertSameTree(parsed.getDocumentElement(), cached.getDocumentElement());
+    Element execute = (Element) cached.getDocumentElement().getElementsByTagName("execute").item(0);
+    assertEquals("if (1 < 2) x = '\u00e4';", execute.getTextContent());
+    TextFileLocation location = TextFileLocation.of(execute);
+    assertEquals(uri, location.getSystemId());
+    assertEquals(8, location.getStartLine());
+  }
+
+  @Test
+  public void testChangedContent() throws IOException {
+    String uri = writeDescriptor(DESCRIPTOR);
+    cache.parse(uri);
+    writeDescriptor(DESCRIPTOR.replace("count=\"3\"", "count=\"5\""), ONE_HOUR_AGO + 1000);
+    Document document = cache.parse(uri);
+    assertEquals(2, cacheFileCount());
+    Element generate = (Element) document.getDocumentElement().getElementsByTagName("generate").item(0);
+    assertEquals("5", generate.getAttribute("count"));
+  }
+
+  @Test
+  public void testRecentlyModifiedFile() throws IOException {
+    String uri = writeDescriptor(DESCRIPTOR, System.currentTimeMillis());
+    Document document = cache.parse(uri);
+    assertEquals("setup", document.getDocumentElement().getLocalName());
+    assertFalse(cache.getFolder().exists());
+  }
+
+  @Test
+  public void testContextSetting() {
+    DefaultBeneratorContext context = new DefaultBeneratorContext();
+    assertFalse(context.isDescriptorCache());
+    context.setDescriptorCache(true);
+    assertTrue(context.createSubContext("sub").isDescriptorCache());
+    assertFalse(new DefaultBeneratorContext().isDescriptorCache());
+  }
+
+  @Test
+  public void testCorruptCacheFile() throws IOException {
+    String uri = writeDescriptor(DESCRIPTOR);
+    cache.parse(uri);
+    File cacheFile = Objects.requireNonNull(cache.getFolder().listFiles())[0];
+    IOUtil.writeTextFile(cacheFile.getPath(), "garbage");
+    Document document = cache.parse(uri);
+    assertEquals("setup", document.getDocumentElement().getLocalName());
+    assertTrue(cacheFile.length() > "garbage".length());
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private String writeDescriptor(String content) throws IOException {
+    return writeDescriptor(content, ONE_HOUR_AGO);
+  }
+
+  private String writeDescriptor(String content, long lastModified) throws IOException {
+    File file = new File(root, "test.ben.xml");
+    IOUtil.writeTextFile(file.getPath(), content, "UTF-8");
+    assertTrue(file.setLastModified(lastModified));
+    return file.getPath();
+  }
+
+  private int cacheFileCount() {
+    return Objects.requireNonNull(cache.getFolder().listFiles()).length;
+  }
+
+  private static void assertSameTree(Node expected, Node actual) {
+    assertEquals(expected.getNodeType(), actual.getNodeType());
+    assertEquals(expected.getNodeName(), actual.getNodeName());
+    assertEquals(expected.getNamespaceURI(), actual.getNamespaceURI());
+    assertEquals(expected.getNodeValue(), actual.getNodeValue());
+    if (expected instanceof Element) {
+      Element expectedElement = (Element) expected;
+      Element actualElement = (Element) actual;
+      assertEquals(expectedElement.getAttributes().getLength(), actualElement.getAttributes().getLength());
+      for (int i = 0; i < expectedElement.getAttributes().getLength(); i++) {
+        Node attribute = expectedElement.getAttributes().item(i);
+        assertEquals(attribute.getNodeValue(), actualElement.getAttribute(attribute.getNodeName()));
+      }
+      TextFileLocation expectedLocation = TextFileLocation.of(expectedElement);
+      TextFileLocation actualLocation = TextFileLocation.of(actualElement);
+      assertEquals(expectedLocation.getStartLine(), actualLocation.getStartLine());
+      assertEquals(expectedLocation.getStartColumn(), actualLocation.getStartColumn());
+      assertEquals(expectedLocation.getEndLine(), actualLocation.getEndLine());
+      assertEquals(expectedLocation.getEndColumn(), actualLocation.getEndColumn());
+    }
+    Node expectedChild = expected.getFirstChild();
+    Node actualChild = actual.getFirstChild();
+    while (expectedChild != null) {
+      assertNotNull(actualChild);
+      assertSameTree(expectedChild, actualChild);
+      expectedChild = expectedChild.getNextSibling();
+      actualChild = actualChild.getNextSibling();
+    }
+    assertNull(actualChild);
+  }
+
+}
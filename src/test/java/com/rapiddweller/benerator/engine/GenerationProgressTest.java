@@ -0,0 +1,85 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine;
+
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link GenerationProgress} and its management by the {@link ProgressRegistry}.<br/><br/>
+ * Created: 19.10.2026 16:02:45
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class GenerationProgressTest {
+
+  @Test
+  public void testThroughputAndEta() throws InterruptedException {
+    GenerationProgress progress = new GenerationProgress("customer", 1000L);
+    assertEquals(-1, progress.getEtaSeconds());
+    Thread.sleep(50);
+    progress.add(500);
+    progress.sample();
+    assertEquals(500, progress.getCount());
+    assertTrue(progress.getCurrentThroughput() > 0);
+    assertTrue(progress.getAverageThroughput() > 0);
+    assertTrue(progress.getEtaSeconds() >= 0);
+    assertTrue(progress.format().startsWith("customer: 500 of 1,000 (50%), "));
+    progress.add(500);
+    assertEquals(0, progress.getEtaSeconds());
+  }
+
+  @Test
+  public void testUnknownRequestedCount() {
+    GenerationProgress progress = new GenerationProgress("customer", null);
+    progress.increment();
+    assertNull(progress.getRequestedCount());
+    assertEquals(-1, progress.getEtaSeconds());
+    assertFalse(progress.format().contains("ETA"));
+  }
+
+  @Test
+  public void testRegistry() throws Exception {
+    ProgressRegistry registry = ProgressRegistry.getInstance();
+    GenerationProgress progress = registry.start("registry-test", 10L);
+    ObjectName name = new ObjectName("benerator:type=progress,name=" + ObjectName.quote("registry-test"));
+    try {
+      assertTrue(registry.getActive().contains(progress));
+      assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+      progress.add(3);
+      assertEquals(3L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Count"));
+    } finally {
+      registry.finish(progress);
+    }
+    assertFalse(registry.getActive().contains(progress));
+    assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+  }
+
+  @Test
+  public void testRegistryWithDuplicateNames() throws Exception {
+    ProgressRegistry registry = ProgressRegistry.getInstance();
+    ObjectName name1 = new ObjectName("benerator:type=progress,name=" + ObjectName.quote("duplicate-test"));
+    ObjectName name2 = new ObjectName("benerator:type=progress,name=" + ObjectName.quote("duplicate-test") + ",instance=2");
+    GenerationProgress progress1 = registry.start("duplicate-test", 10L);
+    GenerationProgress progress2 = registry.start("duplicate-test", 20L);
+    try {
+      progress2.add(5);
+      assertEquals(5L, ManagementFactory.getPlatformMBeanServer().getAttribute(name2, "Count"));
+      registry.finish(progress1);
+      assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name1));
+      assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name2));
+    } finally {
+      registry.finish(progress1);
+      registry.finish(progress2);
+    }
+    assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name2));
+  }
+
+}
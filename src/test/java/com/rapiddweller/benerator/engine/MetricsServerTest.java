@@ -0,0 +1,57 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine;
+
+import com.rapiddweller.benerator.sensor.CounterRepository;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link MetricsServer}.<br/><br/>
+ * Created: 19.10.2026 15:10:42
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class MetricsServerTest {
+
+  @Test
+  public void testScrape() throws IOException {
+    CounterRepository.getInstance().addNanoSample("metrics-test", 2_000_000);
+    GenerationProgress progress = ProgressRegistry.getInstance().start("customer", 1000L);
+    progress.add(250);
+    try (MetricsServer server = new MetricsServer(0).start()) {
+      HttpURLConnection connection = (HttpURLConnection)
+          new URL("http://localhost:" + server.getPort() + MetricsServer.PATH).openConnection();
+      assertEquals(200, connection.getResponseCode());
+      assertEquals(OpenMetricsFormatter.CONTENT_TYPE, connection.getContentType());
+      String text;
+      try (InputStream in = connection.getInputStream()) {
+        text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      }
+      assertTrue(text.contains("# TYPE benerator_generated counter\n"));
+      assertTrue(text.contains("\nbenerator_generated_total "));
+      assertTrue(text.contains("\nbenerator_jdbc_open{resource=\"connection\"} "));
+      assertTrue(text.contains("\nbenerator_latency_seconds_count{name=\"metrics-test\"} 1\n"));
+      assertTrue(text.contains("\nbenerator_progress_count{task=\"customer\"} 250\n"));
+      assertTrue(text.contains("\nbenerator_progress_requested{task=\"customer\"} 1000\n"));
+      assertTrue(text.endsWith("# EOF\n"));
+    } finally {
+      ProgressRegistry.getInstance().finish(progress);
+      CounterRepository.getInstance().clear();
+    }
+  }
+
+  @Test
+  public void testLabelEscaping() {
+    assertEquals("{name=\"a\\\"b\\\\c\\nd\"}", OpenMetricsFormatter.labels("name", "a\"b\\c\nd"));
+  }
+
+}
@@ -33,6 +33,9 @@
 import com.rapiddweller.platform.template.TemplateFileEntityExporter;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 /**
  * Tests the {@link TemplateFileEntityExporter}.<br/><br/>
  * Created: 27.06.2014 17:42:34
@@ -66,6 +69,35 @@ public void testCountries() {
     System.out.println(content);
   }
 
+  @Test
+  public void testStreaming() {
+    String uri = "target/" + getClass().getName() + "-streaming.txt";
+    String path = "com/rapiddweller/benerator/engine/template/";
+    BeneratorContext context = parseAndExecuteXmlString(
+        "<setup>" +
+            "<bean id='con' class='TemplateFileEntityExporter'>" +
+            "	<property name='uri' value='" + uri + "'/>" +
+            "	<property name='headerTemplateUri' value='" + path + "countries_header.ftl'/>" +
+            "	<property name='recordTemplateUri' value='" + path + "country.ftl'/>" +
+            "	<property name='footerTemplateUri' value='" + path + "countries_footer.ftl'/>" +
+            "</bean>" +
+            "<generate type='countries' count='3' consumer='con'>" +
+            "	<attribute name='name' pattern='[A-Z]{5,10}' />" +
+            "   <generate type='states' count='2' consumer='con'>" +
+            "      <attribute name='name' pattern='[a-z]{5,10}' />" +
+            "   </generate>" +
+            "</generate>" +
+            "</setup>");
+    closeCon(context);
+    String[] lines = IOUtil.getContentOfURI(uri).split("\\r?\\n");
+    assertEquals(11, lines.length);
+    assertEquals("Countries", lines[0]);
+    assertTrue(lines[1].startsWith("1. "));
+    assertTrue(lines[2].startsWith("    - "));
+    assertTrue(lines[7].startsWith("3. "));
+    assertEquals("3 countries", lines[10]);
+  }
+
   @Test
   public void testIFTDGN1() {
     BeneratorContext context = parseAndExecuteFile("com/rapiddweller/benerator/engine/template/IFTDGN1.ben.xml");
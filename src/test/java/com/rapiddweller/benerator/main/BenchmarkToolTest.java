@@ -89,7 +89,7 @@ public void testEeFlagOnCe() {
 
   @Test
   public void testBenchmarkCount() {
-    assertEquals(17, Benchmark.getInstances().length);
+    assertEquals(18, Benchmark.getInstances().length);
   }
 
   @Test
@@ -126,6 +126,7 @@ public void testDatabaseBenchmarks_environment() throws IOException {
   public void testFileBenchmarks() throws IOException {
     runBenchmark("file-csv");
     runBenchmark("file-dbunit");
+    runBenchmark("file-dbunit-typed");
     runBenchmark("file-json");
     runBenchmark("file-fixedwidth");
     runBenchmark("file-out-xml");
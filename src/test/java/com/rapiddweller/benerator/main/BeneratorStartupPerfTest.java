@@ -0,0 +1,77 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.main;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Measures the startup time of Benerator from parsing a minimal descriptor file to the generation of its
+ * first entity, once for a descriptor which only uses rapiddwellerScript and once for one which uses JavaScript
+ * and thus bootstraps GraalVM. Each measurement starts a new JVM in order to include class loading and static
+ * initialization like in a command line run, see {@link FirstEntityTimer}. The test is only executed in the
+ * 'perf' profile.<br/><br/>
+ * Created: 19.10.2026 16:12:37
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class BeneratorStartupPerfTest {
+
+  private static final Logger logger = LoggerFactory.getLogger(BeneratorStartupPerfTest.class);
+
+  private static final String FOLDER = "src/test/resources/com/rapiddweller/benerator/main/";
+  private static final int RUNS = 3;
+
+  @Test
+  public void testStartup() throws Exception {
+    long plainNanos = minStartupNanos(FOLDER + "startup.ben.xml");
+    long graalNanos = minStartupNanos(FOLDER + "startup_js.ben.xml");
+    logger.info("Startup to first entity: {} ms without GraalVM, {} ms with GraalVM",
+        plainNanos / 1000000, graalNanos / 1000000);
+    assertTrue("A descriptor without JavaScript should not bootstrap GraalVM", plainNanos < graalNanos);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private long minStartupNanos(String descriptor) throws Exception {
+    long min = Long.MAX_VALUE;
+    for (int i = 0; i < RUNS; i++) {
+      min = Math.min(min, startupNanos(descriptor));
+    }
+    return min;
+  }
+
+  private long startupNanos(String descriptor) throws Exception {
+    String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    // surefire runs tests in an isolated class loader and provides their class path in a property
+    String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+    Process process = new ProcessBuilder(java, "-cp", classPath,
+        FirstEntityTimer.class.getName(), descriptor)
+        .redirectErrorStream(true)
+        .start();
+    String result = null;
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.startsWith(FirstEntityTimer.RESULT_PREFIX)) {
+          result = line.substring(FirstEntityTimer.RESULT_PREFIX.length());
+        }
+      }
+    }
+    assertEquals(0, process.waitFor());
+    assertNotNull("No entity generated by " + descriptor, result);
+    return Long.parseLong(result);
+  }
+
+}
@@ -10,6 +10,7 @@
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 
 /**
  * Tests the {@link Benerator} main class.<br/><br/>
@@ -57,6 +58,14 @@ public void testAll() {
     checkExecution(BeneratorMode.TURBO, "my.ben.xml", "--mode", "turbo", "my.ben.xml");
   }
 
+  @Test
+  public void testJfr() {
+    BeneratorConfig config = Benerator.parseCommandLine("--jfr", "target/benerator.jfr", "my.ben.xml");
+    assertEquals("target/benerator.jfr", config.getJfr());
+    assertEquals("my.ben.xml", config.getFile());
+    assertNull(Benerator.parseCommandLine("my.ben.xml").getJfr());
+  }
+
   @Test(expected = CLIIllegalArgumentException.class)
   public void testModeFlagTypo() {
     checkExecution(BeneratorMode.STRICT, "test.ben.xml", "mode", "strict", "test.ben.xml");
@@ -62,6 +62,7 @@ public class DBSnaphotToolTest {
   private static final String CREATION_SCRIPT = "com/rapiddweller/benerator/main/create_tables.hsql.sql";
   private static final String DBUNIT_SNAPSHOT_FILE = "target/test.snapshot.dbunit.xml";
   private static final String XLS_SNAPSHOT_FILE = "target/test.snapshot.xls";
+  private static final String PARALLEL_SNAPSHOT_FILE = "target/test.parallel.snapshot.dbunit.xml";
   private static final String ENCODING = "iso-8859-15";
 
   private static final String defaultEncoding = SystemInfo.getFileEncoding();
@@ -76,6 +77,7 @@ public void clearSystemProperties() {
     System.clearProperty(DBSnapshotTool.DB_PASSWORD);
     System.clearProperty(DBSnapshotTool.DB_SCHEMA);
     System.clearProperty(DBSnapshotTool.FORMAT);
+    System.clearProperty(DBSnapshotTool.THREADS);
     SystemInfo.setFileEncoding(defaultEncoding);
   }
 
@@ -128,6 +130,40 @@ public void testHsqlDbUnitSnapshot() throws Exception {
     assertEquals("R&B", child.getAttribute("NAME"));
   }
 
+  @Test
+  public void testHsqlParallelDbUnitSnapshot() throws Exception {
+    Assume.assumeTrue(isLinux());
+    // prepare DB
+    Connection connection = HSQLUtil.connectInMemoryDB(dbName);
+    DBUtil.executeScriptFile(CREATION_SCRIPT, ENCODING, connection, true, new ErrorHandler(getClass()));
+    DBUtil.executeUpdate("drop table T2 if exists", connection);
+    DBUtil.executeUpdate("create table T2 (ID int not null, T1_ID int, constraint T2_PK primary key (ID), " +
+        "constraint T2_T1_FK foreign key (T1_ID) references T1 (ID))", connection);
+    DBUtil.executeUpdate("insert into T2 values (1, 1)", connection);
+    DBUtil.executeUpdate("insert into T2 values (2, 1)", connection);
+    // create snapshot
+    setUpSystemProperties(DBSnapshotTool.DBUNIT_FORMAT);
+    System.setProperty(DBSnapshotTool.THREADS, "3");
+    try {
+      DBSnapshotTool.main(new String[] {PARALLEL_SNAPSHOT_FILE});
+    } finally {
+      DBUtil.executeUpdate("drop table T2", connection);
+    }
+    Document document = XMLUtil.parse(PARALLEL_SNAPSHOT_FILE);
+    assertTrue(ENCODING.equalsIgnoreCase(document.getXmlEncoding()));
+    Element root = document.getDocumentElement();
+    assertEquals("dataset", root.getNodeName());
+    // tables are merged in dependency order
+    Element[] rows = XMLUtil.getChildElements(root);
+    assertEquals(3, rows.length);
+    assertEquals("T1", rows[0].getNodeName());
+    assertEquals("R&B", rows[0].getAttribute("NAME"));
+    assertEquals("T2", rows[1].getNodeName());
+    assertEquals("T2", rows[2].getNodeName());
+    File[] remainingParts = new File("target").listFiles((dir, name) -> name.contains(".parts"));
+    assertEquals(0, remainingParts.length);
+  }
+
   @Test
   public void testHsqlXlsSnapshot() throws Exception {
     Assume.assumeTrue(isLinux());
@@ -0,0 +1,37 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.main;
+
+import com.rapiddweller.benerator.consumer.AbstractConsumer;
+
+/**
+ * Runs a descriptor file and prints the time from the start of its parsing to the first entity
+ * which is consumed by an instance of this class. It is started in a new JVM by {@link BeneratorStartupPerfTest},
+ * so the measurement includes class loading and static initialization like in a command line run.<br/><br/>
+ * Created: 19.10.2026 18:02:44
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class FirstEntityTimer extends AbstractConsumer {
+
+  static final String RESULT_PREFIX = "First entity after ns: ";
+
+  private static long startNanos;
+  private static boolean reported = false;
+
+  public static void main(String[] args) {
+    startNanos = System.nanoTime();
+    new Benerator().runFile(args[0]);
+  }
+
+  @Override
+  public void startProductConsumption(Object object) {
+    synchronized (FirstEntityTimer.class) {
+      if (!reported) {
+        System.out.println(RESULT_PREFIX + (System.nanoTime() - startNanos));
+        reported = true;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,62 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.sample;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link LongIdPool}.<br/><br/>
+ * Created: 19.10.2026 13:12:03
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class LongIdPoolTest {
+
+  @Test
+  public void testEmpty() {
+    LongIdPool pool = new LongIdPool.Builder(0).build();
+    assertEquals(0, pool.size());
+  }
+
+  @Test
+  public void testDenseIsDetected() {
+    LongIdPool pool = new LongIdPool.Builder(4).add(13).add(11).add(12).add(10).add(12).build();
+    assertTrue(pool.isDense());
+    assertEquals(4, pool.size());
+    assertEquals(10, pool.get(0));
+    assertEquals(13, pool.get(3));
+  }
+
+  @Test
+  public void testSparseIntOffsets() {
+    long base = 5_000_000_000L;
+    LongIdPool pool = new LongIdPool.Builder(3).add(base + 4_000_000_000L).add(base).add(base + 7).build();
+    assertFalse(pool.isDense());
+    assertEquals(3, pool.size());
+    assertEquals(base, pool.get(0));
+    assertEquals(base + 7, pool.get(1));
+    assertEquals(base + 4_000_000_000L, pool.get(2));
+  }
+
+  @Test
+  public void testSparseLongs() {
+    LongIdPool pool = new LongIdPool.Builder(2).add(Long.MAX_VALUE).add(-1).add(0).build();
+    assertFalse(pool.isDense());
+    assertEquals(-1, pool.get(0));
+    assertEquals(0, pool.get(1));
+    assertEquals(Long.MAX_VALUE, pool.get(2));
+  }
+
+  @Test
+  public void testRange() {
+    LongIdPool pool = LongIdPool.range(100, 199);
+    assertTrue(pool.isDense());
+    assertEquals(100, pool.size());
+    assertEquals(150, pool.get(50));
+  }
+
+}
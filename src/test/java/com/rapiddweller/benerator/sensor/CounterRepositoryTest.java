@@ -25,7 +25,7 @@
 import static org.junit.Assert.assertSame;
 
 /**
- * Tests the {@link com.rapiddweller.stat.CounterRepository}.<br/><br/>
+ * Tests the {@link CounterRepository}.<br/><br/>
  * Created: 14.01.2011 11:34:25
  * @since 1.08
  * @author Volker Bergmann
@@ -31,7 +31,7 @@
 import static org.junit.Assert.assertTrue;
 
 /**
- * Tests the {@link com.rapiddweller.stat.LatencyCounter}.<br/><br/>
+ * Tests the {@link LatencyCounter}.<br/><br/>
  * Created: 26.02.2012 18:31:16
  * @since 3.0.0
  * @author Volker Bergmann
@@ -164,4 +164,38 @@ public void testPrintSummary() {
 		assertEquals("samples: 4\nmax:     13\naverage: 11.5\nmedian:  11\n50%:     11\n", text);
 	}
 
+	@Test
+	public void testNanoPrecision() {
+		LatencyCounter counter = new LatencyCounter("test");
+		for (int i = 1; i <= 100; i++)
+			counter.addNanoSample(i * 1000L);
+		assertEquals(100, counter.sampleCount());
+		assertEquals(0, counter.maxLatency());
+		assertEquals(1000L, counter.minLatencyNanos());
+		assertEquals(100000L, counter.maxLatencyNanos());
+		assertEquals(5050000L, counter.totalLatencyNanos());
+		assertEquals(0.0505, counter.averageLatency(), 0.00001);
+		long median = counter.percentileLatencyNanos(50);
+		assertTrue("median was " + median, median >= 50000 && median <= 50000 * 1.001);
+		assertEquals(100000L, counter.percentileLatencyNanos(100));
+	}
+
+	@Test
+	public void testConcurrentSamples() throws InterruptedException {
+		LatencyCounter counter = new LatencyCounter("test");
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 10000; i++)
+					counter.addNanoSample(i);
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(40000, counter.sampleCount());
+		assertEquals(4 * 49995000L, counter.totalLatencyNanos());
+		assertEquals(9999L, counter.maxLatencyNanos());
+	}
+
 }
@@ -0,0 +1,71 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.util;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests the {@link AsyncOutputStream}.<br/><br/>
+ * Created: 19.10.2026 12:20:47
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class AsyncOutputStreamTest {
+
+  @Test
+  public void testWrite() throws IOException {
+    ByteArrayOutputStream target = new ByteArrayOutputStream();
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    try (AsyncOutputStream out = new AsyncOutputStream(target, "test", 100, 2)) {
+      for (int i = 0; i < 1000; i++) {
+        byte[] bytes = ("line " + i + "\n").getBytes();
+        if (i % 2 == 0) {
+          out.write(bytes);
+        } else {
+          for (byte b : bytes) {
+            out.write(b);
+          }
+        }
+        expected.write(bytes);
+      }
+    }
+    assertArrayEquals(expected.toByteArray(), target.toByteArray());
+  }
+
+  @Test
+  public void testWriteError() {
+    OutputStream target = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("disk full");
+      }
+    };
+    AsyncOutputStream out = new AsyncOutputStream(target, "test", 100, 2);
+    IOException error = null;
+    try {
+      for (int i = 0; i < 1000; i++) {
+        out.write(new byte[10]);
+      }
+    } catch (IOException e) {
+      error = e;
+    }
+    try {
+      out.close();
+    } catch (IOException e) {
+      if (error == null) {
+        error = e;
+      }
+    }
+    assertNotNull(error);
+    assertEquals("disk full", error.getCause().getMessage());
+  }
+
+}
@@ -0,0 +1,79 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.wrapper;
+
+import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.SequenceTestGenerator;
+import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.benerator.wrapper.RecordReplayGeneratorProxy.Mode;
+import com.rapiddweller.model.data.Entity;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link RecordReplayGeneratorProxy}.<br/><br/>
+ * Created: 19.10.2026 11:20:36
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class RecordReplayGeneratorProxyTest extends GeneratorTest {
+
+  @Test
+  public void testRecordAndReplay() throws IOException {
+    File file = createTempFile();
+    SequenceTestGenerator<Object> source = new SequenceTestGenerator<>(
+        "Alice", 42, 4711L, new BigDecimal("1.5"), new Date(1000), true);
+    Generator<Object> recorder = new RecordReplayGeneratorProxy<>(source, file.getPath(), Mode.RECORD);
+    recorder.init(context);
+    expectGeneratedSequence(recorder, "Alice", 42, 4711L, new BigDecimal("1.5"), new Date(1000), true)
+        .withCeasedAvailability();
+    assertTrue(file.exists());
+    // replay without ever touching the source
+    SequenceTestGenerator<Object> unused = new SequenceTestGenerator<>();
+    Generator<Object> player = new RecordReplayGeneratorProxy<>(unused, file.getPath(), Mode.REPLAY);
+    player.init(context);
+    expectGeneratedSequence(player, "Alice", 42, 4711L, new BigDecimal("1.5"), new Date(1000), true)
+        .withCeasedAvailability();
+    assertEquals(0, unused.generateCount);
+  }
+
+  @Test
+  public void testEntitiesAndTags() throws IOException {
+    File file = createTempFile();
+    Entity alice = createEntity("person", "name", "Alice", "age", 23);
+    Entity bob = createEntity("person", "name", "Bob", "age", 34);
+    Generator<Entity> tagger = new GeneratorProxy<>(new SequenceTestGenerator<>(alice, bob)) {
+      @Override
+      public ProductWrapper<Entity> generate(ProductWrapper<Entity> wrapper) {
+        wrapper = super.generate(wrapper);
+        return (wrapper != null ? wrapper.setTag("region", "DE") : null);
+      }
+    };
+    Generator<Entity> recorder = new RecordReplayGeneratorProxy<>(tagger, file.getPath(), Mode.AUTO);
+    recorder.init(context);
+    expectGeneratedSequence(recorder, alice, bob).withCeasedAvailability();
+    Generator<Entity> player = new RecordReplayGeneratorProxy<>(tagger, file.getPath(), Mode.AUTO);
+    player.init(context);
+    ProductWrapper<Entity> wrapper = player.generate(new ProductWrapper<>());
+    assertEquals(alice, wrapper.unwrap());
+    assertEquals("DE", wrapper.getTag("region"));
+    assertEquals(bob, player.generate(wrapper).unwrap());
+    assertNull(player.generate(wrapper));
+    player.close();
+  }
+
+  private File createTempFile() throws IOException {
+    File file = File.createTempFile(getClass().getSimpleName(), ".bin", new File("target"));
+    file.delete();
+    return file;
+  }
+
+}
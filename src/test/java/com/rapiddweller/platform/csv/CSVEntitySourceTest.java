@@ -28,13 +28,23 @@
 
 import com.rapiddweller.benerator.engine.DefaultBeneratorContext;
 import com.rapiddweller.common.Encodings;
+import com.rapiddweller.common.FileUtil;
+import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.format.DataIterator;
 import com.rapiddweller.model.data.ComplexTypeDescriptor;
 import com.rapiddweller.model.data.Entity;
 import com.rapiddweller.platform.AbstractEntityIteratorTest;
 import org.junit.Test;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests the {@link CSVEntitySource}.<br/><br/>
@@ -72,6 +82,39 @@ public void testWithoutHeaders() {
     checkIteration(source.iterator(), "c1", "c2", false);
   }
 
+  @Test
+  public void testParallel() {
+    List<Entity> expected = new ArrayList<>();
+    File file = createLargeFile(expected);
+    CSVEntitySource source = new CSVEntitySource(file.getAbsolutePath(), createPersonDescriptor(), Encodings.UTF_8);
+    source.setContext(new DefaultBeneratorContext());
+    source.setThreads(4);
+    source.setChunkSize(256);
+    DataIterator<Entity> iterator = source.iterator();
+    assertEquals(MappedCSVEntityIterator.class, iterator.getClass());
+    assertEquals(expected, readAll(iterator));
+    source.setOrdered(false);
+    List<Entity> unordered = readAll(source.iterator());
+    unordered.sort(Comparator.comparing(entity -> Integer.parseInt((String) entity.getComponent("age"))));
+    assertEquals(expected, unordered);
+  }
+
+  @Test
+  public void testParallelWithNonAsciiSeparator() {
+    File file = new File("target/CSVEntitySourceTest-separator.csv");
+    FileUtil.ensureDirectoryExists(file.getParentFile());
+    IOUtil.writeTextFile(file.getAbsolutePath(), "name\u00A7age\nAlice\u00A723\nBob\u00A734\nCharly\u00A745\n", Encodings.UTF_8);
+    CSVEntitySource source = new CSVEntitySource(file.getAbsolutePath(), createPersonDescriptor(), Encodings.UTF_8);
+    source.setContext(new DefaultBeneratorContext());
+    source.setSeparator('\u00A7');
+    source.setThreads(4);
+    DataIterator<Entity> iterator = source.iterator();
+    assertFalse(iterator instanceof MappedCSVEntityIterator);
+    checkIteration(iterator, "name", "age", false);
+    assertFalse(MappedCSVEntityIterator.isSupported('\u00A7', StandardCharsets.ISO_8859_1));
+    assertTrue(MappedCSVEntityIterator.isSupported(';', StandardCharsets.UTF_8));
+  }
+
   // private helpers -------------------------------------------------------------------------------------------------
 
   private void checkIteration(DataIterator<Entity> iterator, String col1, String col2, boolean headersAsEntityExpected) {
@@ -85,6 +128,40 @@ private void checkIteration(DataIterator<Entity> iterator, String col1, String c
     assertUnavailable(iterator);
   }
 
+  private File createLargeFile(List<Entity> expected) {
+    ComplexTypeDescriptor descriptor = createPersonDescriptor();
+    StringBuilder builder = new StringBuilder("name,age\r\n");
+    for (int i = 0; i < 1000; i++) {
+      if (i % 3 == 0) {
+        // quoted cell with an escaped quote, a separator and a line break
+        builder.append("\"Person \"\"").append(i).append("\"\",\nline 2\"");
+        expected.add(new Entity(descriptor, "name", "Person \"" + i + "\",\nline 2", "age", String.valueOf(i)));
+      } else if (i % 3 == 1) {
+        // a quote inside an unquoted cell is a plain character
+        builder.append("Per\"son").append(i);
+        expected.add(new Entity(descriptor, "name", "Per\"son" + i, "age", String.valueOf(i)));
+      } else {
+        builder.append("Person").append(i);
+        expected.add(new Entity(descriptor, "name", "Person" + i, "age", String.valueOf(i)));
+      }
+      builder.append(',').append(i).append(i % 2 == 0 ? "\r\n" : "\n");
+    }
+    File file = new File("target/CSVEntitySourceTest.csv");
+    FileUtil.ensureDirectoryExists(file.getParentFile());
+    IOUtil.writeTextFile(file.getAbsolutePath(), builder.toString(), Encodings.UTF_8);
+    return file;
+  }
+
+  private static List<Entity> readAll(DataIterator<Entity> iterator) {
+    List<Entity> result = new ArrayList<>();
+    Entity entity;
+    while ((entity = nextOf(iterator)) != null) {
+      result.add(entity);
+    }
+    iterator.close();
+    return result;
+  }
+
   private ComplexTypeDescriptor createPersonDescriptor() {
     ComplexTypeDescriptor countryDescriptor = createComplexType("Country");
     countryDescriptor.setComponent(createPart("isoCode", "string"));
@@ -0,0 +1,169 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.jdbacl.DBUtil;
+import com.rapiddweller.model.data.DataModel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.rapiddweller.jdbacl.dialect.H2Util.*;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link BlockSequenceGenerator}.<br/><br/>
+ * Created: 19.10.2026 08:51:16
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class BlockSequenceGeneratorTest extends GeneratorTest {
+
+  private static final int BLOCK_SIZE = 10;
+
+  private DefaultDBSystem db;
+
+  @Before
+  public void setUp() throws Exception {
+    db = new DefaultDBSystem("db", IN_MEMORY_URL_PREFIX + "benerator", DRIVER, DEFAULT_USER, DEFAULT_PASSWORD, new DataModel());
+    db.setSchema("PUBLIC");
+    Connection connection = db.createConnection();
+    try {
+      DBUtil.executeUpdate("drop sequence BSG_SEQ if exists", connection);
+      DBUtil.executeUpdate("create sequence BSG_SEQ start with 1 increment by " + BLOCK_SIZE, connection);
+      DBUtil.executeUpdate("drop sequence BSG_SEQ1 if exists", connection);
+      DBUtil.executeUpdate("create sequence BSG_SEQ1 start with 1 increment by 1", connection);
+      DBUtil.executeUpdate("drop table BSG_TABLE if exists", connection);
+      DBUtil.executeUpdate("create table BSG_TABLE (SEQ_ID varchar(16), SEQ_VALUE bigint)", connection);
+      DBUtil.executeUpdate("insert into BSG_TABLE (SEQ_ID, SEQ_VALUE) values ('PERSON', 1000)", connection);
+      DBUtil.executeUpdate("insert into BSG_TABLE (SEQ_ID, SEQ_VALUE) values ('ORDER', 1)", connection);
+      connection.commit();
+    } finally {
+      DBUtil.close(connection);
+    }
+  }
+
+  @After
+  public void tearDown() {
+    db.close();
+  }
+
+  @Test
+  public void testConcurrentGenerators() throws Exception {
+    // two generators simulate two processes, each one being used by two threads
+    BlockSequenceGenerator generator1 = new BlockSequenceGenerator("BSG_SEQ", db, BLOCK_SIZE);
+    BlockSequenceGenerator generator2 = new BlockSequenceGenerator("BSG_SEQ", db, BLOCK_SIZE);
+    generator1.init(context);
+    generator2.init(context);
+    Set<Long> values = Collections.synchronizedSet(new HashSet<>());
+    List<Thread> threads = new ArrayList<>();
+    for (BlockSequenceGenerator generator : new BlockSequenceGenerator[] { generator1, generator2, generator1, generator2 }) {
+      threads.add(new Thread(() -> {
+        for (int i = 0; i < 100; i++) {
+          assertTrue(values.add(generator.generate()));
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(400, values.size());
+    // the database sequence is ahead of all generated values
+    assertTrue(db.nextSequenceValue("BSG_SEQ") > Collections.max(values));
+    generator1.close();
+    generator2.close();
+    assertNull(generator1.generate());
+  }
+
+  @Test
+  public void testSequenceTable() throws Exception {
+    BlockSequenceGenerator generator = new BlockSequenceGenerator();
+    generator.setDatabase(db);
+    generator.setTable("BSG_TABLE");
+    generator.setColumn("SEQ_VALUE");
+    generator.setSelector("SEQ_ID = 'PERSON'");
+    generator.setBlockSize(BLOCK_SIZE);
+    generator.init(context);
+    for (long expected = 1000; expected < 1025; expected++) {
+      assertEquals(expected, generator.generate().longValue());
+    }
+    Connection connection = db.createConnection();
+    try {
+      assertTrue(DBUtil.queryLong("select SEQ_VALUE from BSG_TABLE where SEQ_ID = 'PERSON'", connection) >= 1030);
+      assertEquals(1, DBUtil.queryLong("select SEQ_VALUE from BSG_TABLE where SEQ_ID = 'ORDER'", connection));
+    } finally {
+      DBUtil.close(connection);
+    }
+    generator.close();
+  }
+
+  @Test
+  public void testSequenceTableInSchema() throws Exception {
+    // a table of the same name in the default schema must not be updated
+    DefaultDBSystem schemaDb = new DefaultDBSystem("db2", IN_MEMORY_URL_PREFIX + "benerator", DRIVER,
+        DEFAULT_USER, DEFAULT_PASSWORD, new DataModel());
+    schemaDb.setSchema("BSG_SCHEMA");
+    Connection connection = db.createConnection();
+    try {
+      DBUtil.executeUpdate("create schema if not exists BSG_SCHEMA", connection);
+      DBUtil.executeUpdate("drop table BSG_SCHEMA.BSG_TABLE if exists", connection);
+      DBUtil.executeUpdate("create table BSG_SCHEMA.BSG_TABLE (SEQ_ID varchar(16), SEQ_VALUE bigint)", connection);
+      DBUtil.executeUpdate("insert into BSG_SCHEMA.BSG_TABLE (SEQ_ID, SEQ_VALUE) values ('PERSON', 5000)", connection);
+      connection.commit();
+      BlockSequenceGenerator generator = new BlockSequenceGenerator();
+      generator.setDatabase(schemaDb);
+      generator.setTable("BSG_TABLE");
+      generator.setColumn("SEQ_VALUE");
+      generator.setSelector("SEQ_ID = 'PERSON'");
+      generator.setBlockSize(BLOCK_SIZE);
+      generator.init(context);
+      assertEquals(5000, generator.generate().longValue());
+      generator.close();
+      assertEquals(5010, DBUtil.queryLong("select SEQ_VALUE from BSG_SCHEMA.BSG_TABLE", connection));
+      assertEquals(1000, DBUtil.queryLong("select SEQ_VALUE from BSG_TABLE where SEQ_ID = 'PERSON'", connection));
+    } finally {
+      DBUtil.close(connection);
+      schemaDb.close();
+    }
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testSequenceTableWithoutMatchingRow() {
+    BlockSequenceGenerator generator = new BlockSequenceGenerator();
+    generator.setDatabase(db);
+    generator.setTable("BSG_TABLE");
+    generator.setColumn("SEQ_VALUE");
+    generator.setSelector("SEQ_ID = 'INVOICE'");
+    generator.init(context);
+  }
+
+  @Test
+  public void testDBSequenceGeneratorBlockSize() {
+    DBSequenceGenerator generator = new DBSequenceGenerator("BSG_SEQ", db);
+    generator.setBlockSize(BLOCK_SIZE);
+    generator.init(context);
+    long first = generator.generate();
+    for (int i = 1; i < 25; i++) {
+      assertEquals(first + i, generator.generate().longValue());
+    }
+    generator.close();
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testIncrementSmallerThanBlockSize() {
+    new BlockSequenceGenerator("BSG_SEQ1", db, BLOCK_SIZE).init(context);
+  }
+
+}
@@ -0,0 +1,185 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.jdbacl.DBUtil;
+import com.rapiddweller.model.data.DataModel;
+import com.rapiddweller.model.data.Entity;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static com.rapiddweller.jdbacl.dialect.H2Util.*;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link BulkLoadSession}.<br/><br/>
+ * Created: 19.10.2026 13:58:20
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class BulkLoadSessionTest extends GeneratorTest {
+
+  private DefaultDBSystem db;
+
+  @Before
+  public void setUp() throws Exception {
+    db = new DefaultDBSystem("db", IN_MEMORY_URL_PREFIX + "benerator", DRIVER, DEFAULT_USER, DEFAULT_PASSWORD, new DataModel());
+    db.setSchema("PUBLIC");
+    db.setIncludeTables("BLK_.*");
+    Connection connection = db.createConnection();
+    try {
+      DBUtil.executeUpdate("drop table BLK_ORDER if exists", connection);
+      DBUtil.executeUpdate("drop table BLK_CUSTOMER if exists", connection);
+      DBUtil.executeUpdate("create table BLK_CUSTOMER (ID int primary key, NAME varchar(30))", connection);
+      DBUtil.executeUpdate("create table BLK_ORDER (ID int primary key, CUSTOMER_ID int, NOTE varchar(30), " +
+          "constraint BLK_ORDER_FK foreign key (CUSTOMER_ID) references BLK_CUSTOMER (ID))", connection);
+      DBUtil.executeUpdate("create index BLK_ORDER_NOTE_IDX on BLK_ORDER (NOTE)", connection);
+      connection.commit();
+    } finally {
+      DBUtil.close(connection);
+    }
+    db.invalidate();
+  }
+
+  @After
+  public void tearDown() {
+    db.close();
+  }
+
+  @Test
+  public void testDeferredConstraintsAndIndexes() throws Exception {
+    try (BulkLoadSession session = db.beginBulkLoad(false, "BLK_ORDER")) {
+      assertSame(session, db.getBulkLoadSession());
+      assertFalse(hasIndex("BLK_ORDER", "BLK_ORDER_NOTE_IDX"));
+      // children may be inserted before their parents
+      db.store(new Entity("BLK_ORDER", db, "ID", 1, "CUSTOMER_ID", 7, "NOTE", "first"));
+      db.store(new Entity("BLK_CUSTOMER", db, "ID", 7, "NAME", "Alice"));
+    }
+    assertNull(db.getBulkLoadSession());
+    assertTrue(hasIndex("BLK_ORDER", "BLK_ORDER_NOTE_IDX"));
+    assertEquals(1, db.countEntities("BLK_ORDER"));
+    // the foreign key constraint is active again
+    try {
+      db.store(new Entity("BLK_ORDER", db, "ID", 2, "CUSTOMER_ID", 8, "NOTE", "second"));
+      db.flush();
+      fail("Foreign key violation expected");
+    } catch (RuntimeException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testViolationReportedOnClose() throws Exception {
+    BulkLoadSession session = db.beginBulkLoad(false, "BLK_ORDER");
+    db.store(new Entity("BLK_ORDER", db, "ID", 1, "CUSTOMER_ID", 9, "NOTE", "orphan"));
+    try {
+      session.close();
+      fail("Foreign key violation expected");
+    } catch (RuntimeException e) {
+      // expected
+    }
+    // all other restore steps have been executed
+    assertTrue(hasIndex("BLK_ORDER", "BLK_ORDER_NOTE_IDX"));
+    assertNull(db.getBulkLoadSession());
+  }
+
+  @Test
+  public void testAutomaticBulkLoad() throws Exception {
+    db.setBulkLoad(true);
+    db.store(new Entity("BLK_ORDER", db, "ID", 1, "CUSTOMER_ID", 3, "NOTE", "first"));
+    db.store(new Entity("BLK_CUSTOMER", db, "ID", 3, "NAME", "Bob"));
+    BulkLoadSession session = db.getBulkLoadSession();
+    assertNotNull(session);
+    assertEquals(2, session.getTableNames().size());
+    assertFalse(hasIndex("BLK_ORDER", "BLK_ORDER_NOTE_IDX"));
+    db.endBulkLoad();
+    assertNull(db.getBulkLoadSession());
+    assertTrue(hasIndex("BLK_ORDER", "BLK_ORDER_NOTE_IDX"));
+    assertEquals(1, db.countEntities("BLK_CUSTOMER"));
+  }
+
+  @Test
+  public void testGenericPlatform() throws Exception {
+    // databases like HSQLDB get their foreign keys and indexes dropped and created again
+    BulkLoadSession session = new BulkLoadSession(db, false, BulkLoadSession.Platform.GENERIC);
+    // pending data is committed before the table is prepared
+    db.store(new Entity("BLK_CUSTOMER", db, "ID", 4, "NAME", "Carol"));
+    session.addTable("BLK_ORDER");
+    assertTrue(session.getTableNames().contains("BLK_ORDER"));
+    assertFalse(hasForeignKey("BLK_ORDER", "BLK_ORDER_FK"));
+    assertFalse(hasIndex("BLK_ORDER", "BLK_ORDER_NOTE_IDX"));
+    assertEquals(1, countOnOwnConnection("BLK_CUSTOMER"));
+    db.store(new Entity("BLK_ORDER", db, "ID", 1, "CUSTOMER_ID", 5, "NOTE", "first"));
+    db.store(new Entity("BLK_CUSTOMER", db, "ID", 5, "NAME", "Dave"));
+    session.close();
+    assertTrue(hasForeignKey("BLK_ORDER", "BLK_ORDER_FK"));
+    assertTrue(hasIndex("BLK_ORDER", "BLK_ORDER_NOTE_IDX"));
+    assertEquals(1, db.countEntities("BLK_ORDER"));
+  }
+
+  @Test
+  public void testPlatform() {
+    assertEquals(BulkLoadSession.Platform.ORACLE, BulkLoadSession.platform("Oracle"));
+    assertEquals(BulkLoadSession.Platform.SQL_SERVER, BulkLoadSession.platform("Microsoft SQL Server"));
+    assertEquals(BulkLoadSession.Platform.POSTGRESQL, BulkLoadSession.platform("PostgreSQL"));
+    assertEquals(BulkLoadSession.Platform.MYSQL, BulkLoadSession.platform("MariaDB"));
+    assertEquals(BulkLoadSession.Platform.H2, BulkLoadSession.platform("H2"));
+    assertEquals(BulkLoadSession.Platform.GENERIC, BulkLoadSession.platform("HSQL Database Engine"));
+  }
+
+  @Test
+  public void testSchemaQualifiedStatements() {
+    try (BulkLoadSession session = db.beginBulkLoad(false)) {
+      List<BulkLoadSession.Step> steps = session.plan(db.getTable("BLK_ORDER"));
+      assertEquals(2, steps.size());
+      for (BulkLoadSession.Step step : steps) {
+        assertTrue(step.prepare, step.prepare.contains("PUBLIC.BLK_ORDER"));
+        assertTrue(step.restore, step.restore.contains("PUBLIC.BLK_ORDER"));
+      }
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private boolean hasForeignKey(String tableName, String fkName) throws SQLException {
+    DatabaseMetaData metaData = db.getConnection().getMetaData();
+    try (ResultSet resultSet = metaData.getImportedKeys(null, "PUBLIC", tableName)) {
+      while (resultSet.next()) {
+        if (fkName.equals(resultSet.getString("FK_NAME"))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private long countOnOwnConnection(String tableName) {
+    Connection connection = db.createConnection();
+    try {
+      return DBUtil.queryLong("select count(*) from " + tableName, connection);
+    } finally {
+      DBUtil.close(connection);
+    }
+  }
+
+  private boolean hasIndex(String tableName, String indexName) throws SQLException {
+    DatabaseMetaData metaData = db.getConnection().getMetaData();
+    try (ResultSet resultSet = metaData.getIndexInfo(null, "PUBLIC", tableName, false, false)) {
+      while (resultSet.next()) {
+        if (indexName.equals(resultSet.getString("INDEX_NAME"))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+}
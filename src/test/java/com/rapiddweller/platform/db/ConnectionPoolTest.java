@@ -0,0 +1,153 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.benerator.engine.BeneratorMonitor;
+import com.rapiddweller.jdbacl.DBUtil;
+import com.rapiddweller.model.data.DataModel;
+import com.rapiddweller.model.data.Entity;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+
+import static com.rapiddweller.jdbacl.dialect.H2Util.*;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link ConnectionPool} of the {@link DefaultDBSystem}.<br/><br/>
+ * Created: 19.10.2026 14:48:09
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class ConnectionPoolTest {
+
+  private static final int THREAD_COUNT = 3;
+  private static final int ROWS_PER_THREAD = 100;
+
+  private DefaultDBSystem db;
+
+  @Before
+  public void setUp() throws Exception {
+    db = new DefaultDBSystem("db", IN_MEMORY_URL_PREFIX + "benerator", DRIVER, DEFAULT_USER, DEFAULT_PASSWORD, new DataModel());
+    db.setSchema("PUBLIC");
+    Connection connection = db.createConnection();
+    try {
+      DBUtil.executeUpdate("drop table CP_ITEM if exists", connection);
+      DBUtil.executeUpdate("create table CP_ITEM (ID int, NAME varchar(16), " +
+          "constraint CP_ITEM_PK primary key (ID))", connection);
+      connection.commit();
+      db.invalidate();
+    } finally {
+      DBUtil.close(connection);
+    }
+  }
+
+  @After
+  public void tearDown() {
+    db.close();
+  }
+
+  @Test
+  public void testPooledBatchInserts() throws Exception {
+    // one connection for each worker thread and one for the main thread
+    db.setPoolSize(THREAD_COUNT + 1);
+    db.setBatch(true);
+    db.getDbMetaData();
+    long commitsBefore = BeneratorMonitor.INSTANCE.getPoolCommitCount();
+    Set<Connection> connections = Collections.synchronizedSet(new HashSet<>());
+    CyclicBarrier barrier = new CyclicBarrier(THREAD_COUNT);
+    runThreads(offset -> {
+      connections.add(db.getConnection());
+      // make sure no thread terminates before all have got their connection
+      barrier.await();
+      for (int i = 0; i < ROWS_PER_THREAD; i++) {
+        db.store(new Entity("CP_ITEM", db, "ID", offset + i, "NAME", "item" + i));
+      }
+    });
+    assertEquals(THREAD_COUNT, connections.size());
+    assertFalse(db.getConnectionPool().isUndersized());
+    db.flush();
+    assertTrue(BeneratorMonitor.INSTANCE.getPoolCommitCount() > commitsBefore);
+    assertTrue(BeneratorMonitor.INSTANCE.getPooledConnectionCount() >= THREAD_COUNT);
+    assertEquals(THREAD_COUNT * ROWS_PER_THREAD,
+        DBUtil.queryLong("select count(*) from CP_ITEM", db.getConnection()));
+  }
+
+  @Test
+  public void testUndersizedPool() throws Exception {
+    // the main thread takes one of the two connections, so the worker threads need to share the other one
+    db.setPoolSize(2);
+    db.getConnection();
+    CyclicBarrier barrier = new CyclicBarrier(THREAD_COUNT);
+    runThreads(offset -> {
+      db.getConnection();
+      barrier.await();
+    });
+    assertTrue(db.getConnectionPool().isUndersized());
+  }
+
+  @Test
+  public void testUnpooled() throws Exception {
+    db.getDbMetaData();
+    Set<Connection> connections = Collections.synchronizedSet(new HashSet<>());
+    runThreads(offset -> {
+      connections.add(db.getConnection());
+      for (int i = 0; i < ROWS_PER_THREAD; i++) {
+        db.store(new Entity("CP_ITEM", db, "ID", offset + i, "NAME", "item" + i));
+      }
+    });
+    assertEquals(1, connections.size());
+    db.flush();
+    assertEquals(THREAD_COUNT * ROWS_PER_THREAD,
+        DBUtil.queryLong("select count(*) from CP_ITEM", db.getConnection()));
+  }
+
+  @Test
+  public void testTakeoverFromTerminatedThread() throws Exception {
+    db.setPoolSize(2);
+    Connection[] connections = new Connection[2];
+    for (int i = 0; i < 2; i++) {
+      int index = i;
+      Thread thread = new Thread(() -> connections[index] = db.getConnection());
+      thread.start();
+      thread.join();
+    }
+    assertSame(connections[0], connections[1]);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void runThreads(Task task) throws Exception {
+    List<Thread> threads = new ArrayList<>();
+    List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+    for (int t = 0; t < THREAD_COUNT; t++) {
+      int offset = t * ROWS_PER_THREAD;
+      Thread thread = new Thread(() -> {
+        try {
+          task.run(offset);
+        } catch (Throwable e) {
+          errors.add(e);
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertTrue(errors.toString(), errors.isEmpty());
+  }
+
+  interface Task {
+    void run(int offset) throws Exception;
+  }
+
+}
@@ -42,9 +42,11 @@
 import org.junit.Before;
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Objects;
 
@@ -368,6 +370,43 @@ public void testUpdater() throws Exception {
     assertArrayEquals(new Object[] {2, "Otto"}, storedData.get(1));
   }
 
+  @Test
+  public void testQueryEntityById_composite_key() {
+    db.execute("drop table TEST_LINE if exists");
+    db.execute("create table TEST_LINE (ORDER_ID int, LINE_NO int, TEXT varchar(20), primary key (ORDER_ID, LINE_NO))");
+    db.execute("insert into TEST_LINE (ORDER_ID, LINE_NO, TEXT) values (1, 1, 'a')");
+    db.execute("insert into TEST_LINE (ORDER_ID, LINE_NO, TEXT) values (1, 2, 'b')");
+    assertEquals("b", db.queryEntityById("TEST_LINE", new Object[] {1, 2}).get("TEXT"));
+    // the prepared statement is reused
+    assertEquals("a", db.queryEntityById("TEST_LINE", new Object[] {1, 1}).get("TEXT"));
+    assertNull(db.queryEntityById("TEST_LINE", new Object[] {2, 1}));
+  }
+
+  @Test
+  public void testTypedBindingAndReading() {
+    db.execute("drop table TEST_TYPES if exists");
+    db.execute("create table TEST_TYPES (ID int primary key, AMOUNT decimal(8,2), QUANTITY bigint, " +
+        "RATE double, CREATED timestamp, NOTE varchar(20))");
+    // values of the column types are bound directly, other values are converted
+    db.store(new Entity("TEST_TYPES", db, "ID", 1, "AMOUNT", new BigDecimal("1.50"), "QUANTITY", 3L,
+        "RATE", 0.5, "CREATED", new Timestamp(0), "NOTE", "x"));
+    db.store(new Entity("TEST_TYPES", db, "ID", "2", "AMOUNT", "2.25", "QUANTITY", 4, "RATE", "1.5"));
+    db.flush();
+    Entity entity = db.queryEntityById("TEST_TYPES", 2);
+    assertEquals(2, entity.get("ID"));
+    assertEquals(new BigDecimal("2.25"), entity.get("AMOUNT"));
+    assertEquals(4L, entity.get("QUANTITY"));
+    assertEquals(1.5, entity.get("RATE"));
+    assertNull(entity.get("CREATED"));
+    assertNull(entity.get("NOTE"));
+    DataIterator<Entity> iterator = db.queryEntities("TEST_TYPES", "ID = 1", context).iterator();
+    entity = iterator.next(new DataContainer<>()).getData();
+    assertEquals(new BigDecimal("1.50"), entity.get("AMOUNT"));
+    assertEquals(new Timestamp(0), entity.get("CREATED"));
+    assertEquals("x", entity.get("NOTE"));
+    iterator.close();
+  }
+
   @Test
   public void testTableExists() {
     assertTrue(db.tableExists("TEST"));
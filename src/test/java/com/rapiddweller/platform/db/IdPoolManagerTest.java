@@ -0,0 +1,108 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.benerator.sample.LongIdPool;
+import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.jdbacl.DBUtil;
+import com.rapiddweller.model.data.DataModel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+
+import static com.rapiddweller.jdbacl.dialect.H2Util.*;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link IdPoolManager}.<br/><br/>
+ * Created: 19.10.2026 13:51:16
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class IdPoolManagerTest extends GeneratorTest {
+
+  private DefaultDBSystem db;
+
+  @Before
+  public void setUp() throws Exception {
+    db = new DefaultDBSystem("db", IN_MEMORY_URL_PREFIX + "benerator", DRIVER, DEFAULT_USER, DEFAULT_PASSWORD, new DataModel());
+    db.setSchema("PUBLIC");
+    Connection connection = db.createConnection();
+    try {
+      DBUtil.executeUpdate("drop table IDP_CUSTOMER if exists", connection);
+      DBUtil.executeUpdate("create table IDP_CUSTOMER (ID int, constraint IDP_CUSTOMER_PK primary key (ID))", connection);
+      DBUtil.executeUpdate("drop table IDP_TAG if exists", connection);
+      DBUtil.executeUpdate("create table IDP_TAG (NAME varchar(8), constraint IDP_TAG_PK primary key (NAME))", connection);
+      insert(connection, 1, 2, 3, 4, 5);
+      db.invalidate();
+    } finally {
+      DBUtil.close(connection);
+    }
+  }
+
+  @After
+  public void tearDown() {
+    db.close();
+  }
+
+  @Test
+  public void testDenseRangeAndSharing() {
+    IdPoolManager manager = new IdPoolManager(db);
+    LongIdPool pool = manager.getPool("IDP_CUSTOMER");
+    assertTrue(pool.isDense());
+    assertEquals(5, pool.size());
+    assertEquals(1, pool.getMin());
+    assertEquals(5, pool.getMax());
+    assertSame(pool, manager.getPool("IDP_CUSTOMER"));
+  }
+
+  @Test
+  public void testRefreshAndGaps() throws Exception {
+    IdPoolManager manager = new IdPoolManager(db);
+    LongIdPool pool = manager.getPool("IDP_CUSTOMER");
+    Connection connection = db.createConnection();
+    try {
+      insert(connection, 10, 20);
+    } finally {
+      DBUtil.close(connection);
+    }
+    LongIdPool refreshed = manager.getPool("IDP_CUSTOMER");
+    assertNotSame(pool, refreshed);
+    assertFalse(refreshed.isDense());
+    assertEquals(7, refreshed.size());
+    assertEquals(10, refreshed.get(5));
+    assertEquals(20, refreshed.get(6));
+  }
+
+  @Test
+  public void testGenerator() {
+    Generator<?> generator = db.createIdPoolGenerator("IDP_CUSTOMER");
+    assertEquals(Integer.class, generator.getGeneratedType());
+    generator.init(context);
+    @SuppressWarnings("unchecked")
+    Generator<Integer> intGenerator = (Generator<Integer>) generator;
+    ProductWrapper<Integer> wrapper = new ProductWrapper<>();
+    for (int i = 0; i < 100; i++) {
+      int id = intGenerator.generate(wrapper).unwrap();
+      assertTrue(id >= 1 && id <= 5);
+    }
+    generator.close();
+  }
+
+  @Test
+  public void testUnsupportedKey() {
+    assertNull(db.createIdPoolGenerator("IDP_TAG"));
+  }
+
+  private static void insert(Connection connection, int... ids) throws Exception {
+    for (int id : ids) {
+      DBUtil.executeUpdate("insert into IDP_CUSTOMER (ID) values (" + id + ")", connection);
+    }
+    connection.commit();
+  }
+
+}
@@ -0,0 +1,143 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.format.DataSource;
+import com.rapiddweller.jdbacl.DBUtil;
+import com.rapiddweller.model.data.DataModel;
+import com.rapiddweller.model.data.Entity;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.rapiddweller.jdbacl.dialect.H2Util.*;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link PartitionedEntityDataSource}.<br/><br/>
+ * Created: 19.10.2026 14:40:12
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class PartitionedEntityDataSourceTest extends GeneratorTest {
+
+  private static final int ROW_COUNT = 1000;
+
+  private DefaultDBSystem db;
+
+  @Before
+  public void setUp() throws Exception {
+    db = new DefaultDBSystem("db", IN_MEMORY_URL_PREFIX + "benerator", DRIVER, DEFAULT_USER, DEFAULT_PASSWORD, new DataModel());
+    db.setSchema("PUBLIC");
+    Connection connection = db.createConnection();
+    try {
+      DBUtil.executeUpdate("drop table PES_ORDER if exists", connection);
+      DBUtil.executeUpdate("create table PES_ORDER (ID bigint, CATEGORY int, " +
+          "constraint PES_ORDER_PK primary key (ID))", connection);
+      DBUtil.executeUpdate("drop table PES_TAG if exists", connection);
+      DBUtil.executeUpdate("create table PES_TAG (NAME varchar(8), constraint PES_TAG_PK primary key (NAME))", connection);
+      DBUtil.executeUpdate("insert into PES_TAG (NAME) values ('A')", connection);
+      for (int i = 1; i <= ROW_COUNT; i++) {
+        // leave gaps to get partitions of different size
+        DBUtil.executeUpdate("insert into PES_ORDER (ID, CATEGORY) values (" + (i * i) + ", " + (i % 3) + ")", connection);
+      }
+      connection.commit();
+      db.invalidate();
+    } finally {
+      DBUtil.close(connection);
+    }
+  }
+
+  @After
+  public void tearDown() {
+    db.close();
+  }
+
+  @Test
+  public void testSplitRange() {
+    assertArrayEquals(new long[] { 1, 26, 51, 76 }, PartitionedEntityDataSource.splitRange(1, 100, 4));
+    assertArrayEquals(new long[] { 5, 6 }, PartitionedEntityDataSource.splitRange(5, 6, 4));
+    assertArrayEquals(new long[] { 7 }, PartitionedEntityDataSource.splitRange(7, 7, 4));
+    long[] extreme = PartitionedEntityDataSource.splitRange(Long.MIN_VALUE, Long.MAX_VALUE, 2);
+    assertArrayEquals(new long[] { Long.MIN_VALUE, 0 }, extreme);
+  }
+
+  @Test
+  public void testAllRows() {
+    db.setPartitions(4);
+    db.setPartitionFetchSize(50);
+    DataSource<Entity> source = db.queryEntities("PES_ORDER", null, context);
+    assertTrue(source instanceof PartitionedEntityDataSource);
+    Set<Long> ids = readIds(source);
+    assertEquals(ROW_COUNT, ids.size());
+    for (long i = 1; i <= ROW_COUNT; i++) {
+      assertTrue(ids.contains(i * i));
+    }
+  }
+
+  @Test
+  public void testCondition() {
+    db.setPartitions(3);
+    DataSource<Entity> source = db.queryEntities("PES_ORDER", "CATEGORY = 0", context);
+    assertTrue(source instanceof PartitionedEntityDataSource);
+    Set<Long> ids = readIds(source);
+    assertEquals(ROW_COUNT / 3, ids.size());
+    for (long i = 3; i <= ROW_COUNT; i += 3) {
+      assertTrue(ids.contains(i * i));
+    }
+  }
+
+  @Test
+  public void testEmptyResult() {
+    db.setPartitions(3);
+    assertEquals(0, readIds(db.queryEntities("PES_ORDER", "CATEGORY = 5", context)).size());
+  }
+
+  @Test
+  public void testFallback() {
+    db.setPartitions(4);
+    assertTrue(db.queryEntities("PES_TAG", null, context) instanceof EntityResultSetDataSource);
+    assertTrue(db.queryEntities("PES_ORDER", "select * from PES_ORDER", context) instanceof EntityResultSetDataSource);
+  }
+
+  @Test
+  public void testEarlyClose() {
+    db.setPartitions(4);
+    db.setPartitionFetchSize(1);
+    DataIterator<Entity> iterator = db.queryEntities("PES_ORDER", null, context).iterator();
+    assertNotNull(iterator.next(new DataContainer<>()));
+    iterator.close();
+  }
+
+  @Test
+  public void testPartitionConditions() {
+    List<String> conditions = db.partitionConditions("PES_ORDER", 3);
+    assertEquals(3, conditions.size());
+    Set<Long> ids = new HashSet<>();
+    for (String condition : conditions) {
+      ids.addAll(readIds(db.queryEntities("PES_ORDER", condition, context)));
+    }
+    assertEquals(ROW_COUNT, ids.size());
+    assertNull(db.partitionConditions("PES_TAG", 3));
+  }
+
+  private static Set<Long> readIds(DataSource<Entity> source) {
+    Set<Long> ids = new HashSet<>();
+    try (DataIterator<Entity> iterator = source.iterator()) {
+      DataContainer<Entity> container = new DataContainer<>();
+      while (iterator.next(container) != null) {
+        assertTrue(ids.add(((Number) container.getData().getComponent("ID")).longValue()));
+      }
+    }
+    return ids;
+  }
+
+}
@@ -0,0 +1,168 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.jdbacl.DBUtil;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.DataModel;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.model.data.ReferenceDescriptor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.Types;
+
+import static com.rapiddweller.jdbacl.dialect.H2Util.*;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link TableMetaDataCache}.<br/><br/>
+ * Created: 19.10.2026 11:02:45
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class TableMetaDataCacheTest extends GeneratorTest {
+
+  private DefaultDBSystem db;
+  private File directory;
+
+  @Before
+  public void setUp() throws Exception {
+    db = new DefaultDBSystem("db", IN_MEMORY_URL_PREFIX + "benerator", DRIVER, DEFAULT_USER, DEFAULT_PASSWORD, new DataModel());
+    db.setSchema("PUBLIC");
+    db.setIncludeTables("TMC_.*");
+    execute("drop table TMC_ORDER if exists",
+        "drop table TMC_CUSTOMER if exists",
+        "create table TMC_CUSTOMER (ID int primary key, NAME varchar(30) not null, EMAIL varchar(50) unique)",
+        "create table TMC_ORDER (ID int primary key, CUSTOMER_ID int, AMOUNT decimal(8,2), " +
+            "constraint TMC_ORDER_FK foreign key (CUSTOMER_ID) references TMC_CUSTOMER (ID))");
+    directory = new File("target" + File.separator + getClass().getSimpleName());
+    new TableMetaDataCache(db, directory).clear();
+  }
+
+  @After
+  public void tearDown() {
+    db.close();
+    TableMetaDataCache cache = new TableMetaDataCache(db, directory);
+    cache.clear();
+    directory.delete();
+  }
+
+  @Test
+  public void testImport() {
+    TableMetaDataCache cache = new TableMetaDataCache(db, directory);
+    assertEquals(2, cache.getTableNames().size());
+    assertNull(cache.getTable("NO_SUCH_TABLE"));
+    TableMetaData customer = cache.getTable("tmc_customer");
+    assertEquals("TMC_CUSTOMER", customer.getName());
+    assertTrue(customer.getFingerprint().startsWith("meta:"));
+    assertEquals(3, customer.getColumns().size());
+    TableMetaData.Column name = customer.getColumns().get(1);
+    assertEquals("NAME", name.name);
+    assertEquals(Types.VARCHAR, name.jdbcType);
+    assertEquals(30, name.size.intValue());
+    assertFalse(name.nullable);
+    assertEquals("ID", customer.getPKColumnNames().get(0));
+    assertTrue(customer.getUniqueColumnNames().contains("EMAIL"));
+    TableMetaData order = cache.getTable("TMC_ORDER");
+    assertEquals(1, order.getForeignKeys().size());
+    TableMetaData.ForeignKey fk = order.getForeignKeys().get(0);
+    assertEquals("CUSTOMER_ID", fk.columnName);
+    assertEquals("TMC_CUSTOMER", fk.refereeTableName);
+    assertEquals("ID", fk.refereeColumnName);
+    assertEquals(2, cache.getImportCount());
+  }
+
+  @Test
+  public void testReuseOfCacheFiles() {
+    new TableMetaDataCache(db, directory).getTable("TMC_CUSTOMER");
+    TableMetaDataCache cache = new TableMetaDataCache(db, directory);
+    assertEquals(3, cache.getTable("TMC_CUSTOMER").getColumns().size());
+    assertEquals(0, cache.getImportCount());
+  }
+
+  @Test
+  public void testIncrementalRefresh() throws Exception {
+    TableMetaDataCache cache = new TableMetaDataCache(db, directory);
+    cache.getTable("TMC_CUSTOMER");
+    cache.getTable("TMC_ORDER");
+    execute("alter table TMC_ORDER add column NOTE varchar(100)");
+    // without refresh, the validated metadata is used
+    assertEquals(3, cache.getTable("TMC_ORDER").getColumns().size());
+    cache.refresh();
+    assertEquals(3, cache.getTable("TMC_CUSTOMER").getColumns().size());
+    assertEquals(4, cache.getTable("TMC_ORDER").getColumns().size());
+    assertEquals(3, cache.getImportCount());
+  }
+
+  @Test
+  public void testConstraintAndIndexChanges() throws Exception {
+    TableMetaDataCache cache = new TableMetaDataCache(db, directory);
+    cache.getTable("TMC_ORDER");
+    execute("create index TMC_ORDER_AMOUNT on TMC_ORDER (AMOUNT)");
+    cache.refresh();
+    cache.getTable("TMC_ORDER");
+    assertEquals(2, cache.getImportCount());
+    execute("alter table TMC_ORDER drop constraint TMC_ORDER_FK");
+    cache.refresh();
+    assertEquals(0, cache.getTable("TMC_ORDER").getForeignKeys().size());
+    assertEquals(3, cache.getImportCount());
+    cache.refresh();
+    cache.getTable("TMC_ORDER");
+    assertEquals(3, cache.getImportCount());
+  }
+
+  @Test
+  public void testTableMetaCacheMode() {
+    db.setTableMetaCache(true);
+    db.setTableMetaDataCacheDirectory(directory);
+    try {
+      ComplexTypeDescriptor order = (ComplexTypeDescriptor) db.getTypeDescriptor("TMC_ORDER");
+      assertTrue(order instanceof LazyTableComplexTypeDescriptor);
+      assertEquals(0, db.haveTableMetaDataCache().getImportCount());
+      assertArrayEquals(new String[] { "ID" }, order.getIdComponentNames());
+      ReferenceDescriptor customerRef = (ReferenceDescriptor) order.getComponent("CUSTOMER_ID");
+      assertEquals("TMC_CUSTOMER", customerRef.getTargetType());
+      assertEquals(1, db.haveTableMetaDataCache().getImportCount());
+      ComplexTypeDescriptor customer = (ComplexTypeDescriptor) db.getTypeDescriptor("TMC_CUSTOMER");
+      db.store(new Entity(customer, "ID", 1, "NAME", "Alice", "EMAIL", "alice@example.com"));
+      db.store(new Entity(order, "ID", 1, "CUSTOMER_ID", 1, "AMOUNT", 12.5));
+      db.flush();
+      assertEquals(1, db.countEntities("TMC_ORDER"));
+      assertEquals(2, db.getTypeDescriptors().length);
+    } finally {
+      db.haveTableMetaDataCache().clear();
+    }
+  }
+
+  @Test
+  public void testDdlTimestampQuery() {
+    assertTrue(TableMetaDataCache.ddlTimestampQuery("Oracle").contains("LAST_DDL_TIME"));
+    assertTrue(TableMetaDataCache.ddlTimestampQuery("Microsoft SQL Server").contains("modify_date"));
+    assertTrue(TableMetaDataCache.ddlTimestampQuery("DB2/LINUXX8664").contains("ALTER_TIME"));
+    // the timestamps of MySQL and MariaDB are not updated on each ALTER TABLE
+    assertNull(TableMetaDataCache.ddlTimestampQuery("MySQL"));
+    assertNull(TableMetaDataCache.ddlTimestampQuery("MariaDB"));
+    assertNull(TableMetaDataCache.ddlTimestampQuery("H2"));
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void execute(String... sqls) throws Exception {
+    Connection connection = db.createConnection();
+    try {
+      for (String sql : sqls) {
+        DBUtil.executeUpdate(sql, connection);
+      }
+      connection.commit();
+    } finally {
+      DBUtil.close(connection);
+    }
+    db.invalidate();
+  }
+
+}
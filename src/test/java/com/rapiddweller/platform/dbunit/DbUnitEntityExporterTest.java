@@ -100,6 +100,23 @@ public void testUnusedClose() throws IOException {
     FileUtil.deleteIfExists(FILE);
   }
 
+  @Test
+  public void testEscaping() throws IOException {
+    String name = "Smith & Sons <Ltd.> \"quoted\"\nline\t2 \u00e4\u20ac\ud83d\ude00";
+    DbUnitEntityExporter exporter = new DbUnitEntityExporter(FILENAME, "ISO-8859-1");
+    Entity entity = createEntity("Person", "name", name);
+    exporter.startProductConsumption(entity);
+    exporter.finishProductConsumption(entity);
+    exporter.close();
+    assertEquals("<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>\n" +
+        "<dataset>\n" +
+        "<Person name=\"Smith &amp; Sons &lt;Ltd.&gt; &quot;quoted&quot;&#10;line&#9;2 \u00e4&#8364;&#128512;\"/>\n" +
+        "</dataset>\n", IOUtil.getContentOfURI(FILENAME, "ISO-8859-1"));
+    Element[] children = XMLUtil.getChildElements(XMLUtil.parse(FILENAME).getDocumentElement());
+    assertEquals(name, children[0].getAttribute("name"));
+    FileUtil.deleteIfExists(FILE);
+  }
+
   // helper method ---------------------------------------------------------------------------------------------------
 
   private static void assertPerson(Element element, String name, int age) {
@@ -47,4 +47,19 @@ public void testNormalDataset() {
         new DefaultBeneratorContext());
     check(iterator);
   }
+
+  @Test
+  public void testCompactDatasetWithEmptyTables() {
+    NestedDbUnitEntityIterator iterator = new NestedDbUnitEntityIterator(
+        "string://<dataset><table name='EMPTY1'><column>name</column></table><table name='EMPTY2'/>" +
+        "<table name='PERSON'><column>name</column><column>age</column>" +
+        "<row><value>Alice</value><value>23</value></row><row><value>Bob</value><value>34</value></row>" +
+        "</table></dataset>",
+        new DefaultBeneratorContext());
+    assertEquals(createPerson("Alice", "23"), DataUtil.nextNotNullData(iterator));
+    assertEquals(createPerson("Bob", "34"), DataUtil.nextNotNullData(iterator));
+    assertUnavailable(iterator);
+    iterator.close();
+  }
+
 }
@@ -30,13 +30,17 @@
 import com.rapiddweller.common.Encodings;
 import com.rapiddweller.common.FileUtil;
 import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.format.fixedwidth.FixedWidthColumnDescriptor;
+import com.rapiddweller.format.fixedwidth.FixedWidthUtil;
 import com.rapiddweller.model.data.Entity;
 import org.junit.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Locale;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -75,6 +79,83 @@ public void testFormat() throws Exception {
     FileUtil.deleteIfExists(file);
   }
 
+  @Test
+  public void testCompiled() throws Exception {
+    File file = tempFile();
+    String uri = file.getAbsolutePath();
+    FixedWidthEntityExporter exporter = new FixedWidthEntityExporter(uri, ENCODING, "left[10],right[N0000000.00],sign[5r0]");
+    try (exporter) {
+      exporter.setNullString("");
+      exporter.setLineSeparator("\n");
+      exporter.setCompiled(true);
+      consumeEntity(exporter, 12, 34, -12);
+      consumeEntity(exporter, 56, 9876543L, 345);
+      consumeEntity(exporter, 90, 1.5, null);
+      consumeEntity(exporter, null, null, 0);
+    }
+    String[] actualLines = IOUtil.readTextLines(file.getAbsolutePath(), true);
+    String[] expectedLines = new String[] {
+        "12        0000034.00-0012",
+        "56        9876543.0000345",
+        "90        0000001.5000000",
+        "                    00000"
+    };
+    assertArrayEquals(expectedLines, actualLines);
+    FileUtil.deleteIfExists(file);
+  }
+
+  @Test
+  public void testCompiledNullString() throws Exception {
+    String columns = "left[6],right[N000.00],sign[5r0]";
+    String[] expectedLines = exportWithNullString(columns, false);
+    assertArrayEquals(new String[] { "12    034.00-0012", "n/a   n/a   00n/a" }, expectedLines);
+    assertArrayEquals(expectedLines, exportWithNullString(columns, true));
+    // plain columns keep the fast path with a non-empty null string
+    FixedWidthColumnDescriptor[] descriptors = FixedWidthUtil.parseBeanColumnsSpec(
+        columns, "", "n/a", Locale.US).getColumnDescriptors();
+    assertTrue(FWRecordLayout.isPlain(descriptors[0].getFormat(), "n/a"));
+    assertFalse(FWRecordLayout.isPlain(descriptors[1].getFormat(), "n/a"));
+    assertTrue(FWRecordLayout.isPlain(descriptors[2].getFormat(), "n/a"));
+  }
+
+  @Test
+  public void testCompiledAppend() throws Exception {
+    File file = tempFile();
+    String uri = file.getAbsolutePath();
+    for (int i = 0; i < 2; i++) {
+      FixedWidthEntityExporter exporter = new FixedWidthEntityExporter(uri, ENCODING, "left[3r]");
+      try (exporter) {
+        exporter.setLineSeparator("\n");
+        exporter.setCompiled(true);
+        exporter.setAppend(true);
+        consumeEntity(exporter, i, null);
+      }
+    }
+    assertArrayEquals(new String[] { "  0", "  1" }, IOUtil.readTextLines(file.getAbsolutePath(), true));
+    FileUtil.deleteIfExists(file);
+  }
+
+  private String[] exportWithNullString(String columns, boolean compiled) throws IOException {
+    File file = tempFile();
+    FixedWidthEntityExporter exporter = new FixedWidthEntityExporter(file.getAbsolutePath(), ENCODING, columns);
+    try (exporter) {
+      exporter.setNullString("n/a");
+      exporter.setLineSeparator("\n");
+      exporter.setCompiled(compiled);
+      consumeEntity(exporter, 12, 34, -12);
+      consumeEntity(exporter, null, null, null);
+    }
+    String[] lines = IOUtil.readTextLines(file.getAbsolutePath(), true);
+    FileUtil.deleteIfExists(file);
+    return lines;
+  }
+
+  private void consumeEntity(FixedWidthEntityExporter exporter, Number left, Number right, Number sign) {
+    Entity entity = createEntity("row", "left", left, "right", right, "sign", sign);
+    exporter.startProductConsumption(entity);
+    exporter.finishProductConsumption(entity);
+  }
+
   private void consumeEntity(FixedWidthEntityExporter exporter, Number left, Number right) {
     Entity entity = createEntity("row", "left", left, "right", right);
     exporter.startProductConsumption(entity);
@@ -28,6 +28,9 @@
 
 import com.rapiddweller.benerator.InvalidGeneratorSetupException;
 import com.rapiddweller.benerator.engine.DefaultBeneratorContext;
+import com.rapiddweller.common.Encodings;
+import com.rapiddweller.common.FileUtil;
+import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.SystemInfo;
 import com.rapiddweller.common.format.Alignment;
 import com.rapiddweller.format.DataIterator;
@@ -38,6 +41,10 @@
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -106,6 +113,68 @@ public void testFiltered() {
     assertUnavailable(iterator);
   }
 
+  /**
+   * Test parallel parsing of a local file.
+   */
+  @Test
+  public void testParallel() {
+    List<Entity> expected = new ArrayList<>();
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      String name = "P" + i;
+      String age = String.valueOf(i % 99 + 1);
+      builder.append(String.format("%-6s%03d", name, i % 99 + 1)).append(i % 2 == 0 ? "\r\n" : "\n");
+      expected.add(new Entity(descriptor, "name", name, "age", age));
+    }
+    File file = new File("target/FixedWidthEntitySourceTest.fcw");
+    FileUtil.ensureDirectoryExists(file.getParentFile());
+    IOUtil.writeTextFile(file.getAbsolutePath(), builder.toString(), Encodings.UTF_8);
+    FixedWidthEntitySource source = new FixedWidthEntitySource(
+        file.getAbsolutePath(), descriptor, Encodings.UTF_8, null, descriptors);
+    source.setContext(new DefaultBeneratorContext());
+    source.setThreads(4);
+    source.setChunkSize(100);
+    DataIterator<Entity> iterator = source.iterator();
+    assertEquals(MappedFixedWidthEntityIterator.class, iterator.getClass());
+    for (Entity entity : expected) {
+      assertEquals(entity, nextOf(iterator));
+    }
+    assertUnavailable(iterator);
+    iterator.close();
+  }
+
+  /**
+   * Test that parallel parsing provides the same entities as sequential parsing,
+   * with single-byte and multi-byte encodings, zeros and negative numbers.
+   */
+  @Test
+  public void testParallelMatchesSequential() {
+    for (String encoding : new String[] { Encodings.ISO_8859_1, Encodings.UTF_8 }) {
+      StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < 300; i++) {
+        builder.append(String.format("%-6s%03d", "P" + i, i % 7 == 0 ? 0 : (i % 2 == 0 ? i % 50 : -(i % 50))));
+        builder.append(i % 2 == 0 ? "\r\n" : "\n");
+      }
+      File file = new File("target/FixedWidthEntitySourceTest-" + encoding + ".fcw");
+      FileUtil.ensureDirectoryExists(file.getParentFile());
+      IOUtil.writeTextFile(file.getAbsolutePath(), builder.toString(), encoding);
+      FixedWidthEntitySource source = new FixedWidthEntitySource(
+          file.getAbsolutePath(), descriptor, encoding, null, descriptors);
+      source.setContext(new DefaultBeneratorContext());
+      List<Entity> sequential = readAll(source.iterator());
+      source.setThreads(4);
+      source.setChunkSize(100);
+      DataIterator<Entity> iterator = source.iterator();
+      assertEquals(MappedFixedWidthEntityIterator.class, iterator.getClass());
+      assertEquals(sequential, readAll(iterator));
+      // stripping all pad zeros makes a zero an empty cell, which is how a null value is written
+      assertEquals(new Entity(descriptor, "name", "P0", "age", ""), sequential.get(0));
+      assertEquals(new Entity(descriptor, "name", "P1", "age", "-1"), sequential.get(1));
+      assertEquals(new Entity(descriptor, "name", "P2", "age", "2"), sequential.get(2));
+      assertEquals(new Entity(descriptor, "name", "P50", "age", ""), sequential.get(50));
+    }
+  }
+
   /**
    * Test missing column spec.
    */
@@ -117,4 +186,16 @@ public void testMissingColumnSpec() {
     assertEquals(BOB, nextOf(iterator));
   }
 
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static List<Entity> readAll(DataIterator<Entity> iterator) {
+    List<Entity> result = new ArrayList<>();
+    Entity entity;
+    while ((entity = nextOf(iterator)) != null) {
+      result.add(entity);
+    }
+    iterator.close();
+    return result;
+  }
+
 }
@@ -0,0 +1,187 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.memstore;
+
+import com.rapiddweller.benerator.test.ModelTest;
+import com.rapiddweller.common.exception.IllegalArgumentError;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.format.DataSource;
+import com.rapiddweller.format.util.DataSourceFromIterable;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the secondary indexes, the {@link MemStoreSelector} and composite id support of the {@link MemStore}.<br/><br/>
+ * Created: 19.10.2026 14:31:44
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class MemStoreIndexTest extends ModelTest {
+
+  private MemStore store;
+  private ComplexTypeDescriptor productType;
+
+  @Before
+  public void setUpStore() {
+    store = new MemStore("store", dataModel);
+    store.setIndexes("product(category); product(price) sorted; product(category, id)");
+    productType = createComplexType("product");
+    productType.setComponent(createId("id", "int"));
+    productType.setComponent(createPart("category", "string"));
+    productType.setComponent(createPart("price", "double"));
+    for (int i = 0; i < 20; i++) {
+      store.store(new Entity(productType, "id", i, "category", (i % 3 == 0 ? "A" : "B"), "price", i * 1.5));
+    }
+  }
+
+  @Test
+  public void testParse() {
+    assertNotNull(MemStoreSelector.parse("_candidate.id == 4", productType));
+    assertNotNull(MemStoreSelector.parse("category = 'A' and price >= 10", productType));
+    assertNotNull(MemStoreSelector.parse("price > 3 && price <= 6", productType));
+    // script selectors
+    assertNull(MemStoreSelector.parse("_candidate.name.startsWith('A')", productType));
+    assertNull(MemStoreSelector.parse("_candidate.id == x + 1", productType));
+    assertNull(MemStoreSelector.parse("{js:_candidate.id == 4}", productType));
+    // undeclared column without _candidate prefix
+    assertNull(MemStoreSelector.parse("x == 4", productType));
+  }
+
+  @Test
+  public void testHashIndex() {
+    assertIds(query("category = 'A'"), 0, 3, 6, 9, 12, 15, 18);
+    assertIds(query("_candidate.category == 'A' && _candidate.id == 9"), 9);
+    assertIds(query("category = 'C'"));
+  }
+
+  @Test
+  public void testSortedIndex() {
+    assertIds(query("price > 3 and price <= 6"), 3, 4);
+    assertIds(query("category = 'A' and price >= 10"), 9, 12, 15, 18);
+    assertIds(query("price < 3"), 0, 1);
+  }
+
+  @Test
+  public void testNumberNormalization() {
+    // the price values are doubles, the id values are integers
+    assertIds(query("price = 3"), 2);
+    assertIds(query("id = 4.0"), 4);
+  }
+
+  @Test
+  public void testDecimalHashIndex() {
+    store.addIndex("product", false, "price");
+    // 10.5 is stored as Double and parsed as BigDecimal, 6 * 1.5 = 9.0 is integral
+    assertIds(query("price = 10.5"), 7);
+    assertIds(query("_candidate.price == 10.50"), 7);
+    assertIds(query("price = 9"), 6);
+    assertEquals(EntityIndex.normalize(10.5), EntityIndex.normalize(new BigDecimal("10.50")));
+    assertEquals(EntityIndex.normalize(0.1f), EntityIndex.normalize(0.1));
+    assertEquals(Double.NaN, EntityIndex.normalize(Double.NaN));
+  }
+
+  @Test
+  public void testIncomparableValues() {
+    try {
+      EntityIndex.compare("A", 1L);
+      fail("ClassCastException expected");
+    } catch (ClassCastException e) {
+      // expected
+    }
+    // the store reports incomparable lookup values, so that MemStore can fall back to script evaluation
+    IdEntityStore entityStore = new IdEntityStore(productType);
+    entityStore.addIndex(new HashEntityIndex("category"));
+    entityStore.store(new Entity(productType, "id", 1, "category", "A", "price", 1.5));
+    try {
+      entityStore.query(MemStoreSelector.parse("_candidate.category == 5", productType));
+      fail("ClassCastException expected");
+    } catch (ClassCastException e) {
+      // expected
+    }
+    // the short form cannot be evaluated as script
+    try {
+      query("category < 5");
+      fail("IllegalArgumentError expected");
+    } catch (IllegalArgumentError e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testScriptSyntax() {
+    assertTrue(MemStoreSelector.parse("_candidate.id == 4 && _candidate.price >= 1.5", productType).isScriptSyntax());
+    assertFalse(MemStoreSelector.parse("_candidate.id = 4", productType).isScriptSyntax());
+    assertFalse(MemStoreSelector.parse("id == 4", productType).isScriptSyntax());
+    assertFalse(MemStoreSelector.parse("_candidate.id == 4 and _candidate.id != 5", productType).isScriptSyntax());
+    // not indexed, evaluated as script
+    assertIds(query("_candidate.id == 4"), 4);
+  }
+
+  @Test
+  public void testInPlaceModification() {
+    Entity product = query("category = 'A'").get(0);
+    product.set("category", "B");
+    store.update(product);
+    assertIds(query("category = 'A'"), 3, 6, 9, 12, 15, 18);
+    assertIds(query("category = 'B' and id < 3"), 1, 2, 0);
+  }
+
+  @Test
+  public void testUpdateAndFilter() {
+    store.store(new Entity(productType, "id", 3, "category", "B", "price", 4.5));
+    assertIds(query("category = 'A'"), 0, 6, 9, 12, 15, 18);
+    store.removeNotExistingIds("product", "id", "product", store);
+    assertEquals(20, store.entityCount("product"));
+    List<Entity> filter = new ArrayList<>();
+    filter.add(new Entity(productType, "id", 6));
+    filter.add(new Entity(productType, "id", 7));
+    store.filter("product", "id", new DataSourceFromIterable<>(filter, Entity.class));
+    assertIds(query("id >= 0"), 6, 7);
+    assertIds(query("category = 'A'"), 6);
+  }
+
+  @Test
+  public void testCompositeIds() {
+    ComplexTypeDescriptor itemType = createComplexType("item");
+    itemType.setComponent(createId("order_id", "int"));
+    itemType.setComponent(createId("pos", "int"));
+    store.store(new Entity(itemType, "order_id", 1, "pos", 1));
+    store.store(new Entity(itemType, "order_id", 1, "pos", 2));
+    store.store(new Entity(itemType, "order_id", 1, "pos", 1));
+    assertEquals(2, store.entityCount("item"));
+    Object[] firstId = (Object[]) store.queryEntityIds("item", null, context).iterator()
+        .next(new DataContainer<>()).getData();
+    assertArrayEquals(new Object[] { 1, 1 }, firstId);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private List<Entity> query(String selector) {
+    DataSource<Entity> source = store.queryEntities("product", selector, context);
+    List<Entity> result = new ArrayList<>();
+    try (DataIterator<Entity> iterator = source.iterator()) {
+      DataContainer<Entity> container = new DataContainer<>();
+      while (iterator.next(container) != null) {
+        result.add(container.getData());
+      }
+    }
+    return result;
+  }
+
+  private static void assertIds(List<Entity> entities, int... expectedIds) {
+    assertEquals(expectedIds.length, entities.size());
+    for (int i = 0; i < expectedIds.length; i++) {
+      assertEquals(expectedIds[i], entities.get(i).get("id"));
+    }
+  }
+
+}
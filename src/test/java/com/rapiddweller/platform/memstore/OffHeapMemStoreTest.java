@@ -0,0 +1,146 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.memstore;
+
+import com.rapiddweller.benerator.test.ModelTest;
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.format.DataSource;
+import com.rapiddweller.format.util.DataSourceFromIterable;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the off-heap mode of the {@link MemStore}.<br/><br/>
+ * Created: 19.10.2026 14:58:21
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class OffHeapMemStoreTest extends ModelTest {
+
+  private static final int COUNT = 1000;
+
+  private File directory;
+  private MemStore store;
+  private ComplexTypeDescriptor productType;
+
+  @Before
+  public void setUpStore() throws Exception {
+    directory = Files.createTempDirectory("offheap").toFile();
+    store = new MemStore("store", dataModel);
+    store.setOffHeap(true);
+    store.setSpillDirectory(directory);
+    // use small segments in order to test segment switches
+    store.setSegmentSize(4096);
+    productType = createComplexType("product");
+    productType.setComponent(createId("id", "int"));
+    productType.setComponent(createPart("category", "string"));
+    productType.setComponent(createPart("price", "big_decimal"));
+    ComplexTypeDescriptor tagType = createComplexType("tag");
+    for (int i = 0; i < COUNT; i++) {
+      store.store(new Entity(productType, "id", i, "category", (i % 3 == 0 ? "A" : "B"),
+          "price", new BigDecimal(i + ".5"), "created", new Timestamp(i * 1000L),
+          "tag", new Entity(tagType, "name", "t" + i)));
+    }
+  }
+
+  @After
+  public void tearDown() {
+    store.close();
+    directory.delete();
+  }
+
+  @Test
+  public void testIteration() {
+    assertTrue(directory.list().length > 1);
+    List<Entity> entities = query(null);
+    assertEquals(COUNT, entities.size());
+    Entity entity = entities.get(7);
+    assertEquals(7, entity.get("id"));
+    assertEquals("B", entity.get("category"));
+    assertEquals(new BigDecimal("7.5"), entity.get("price"));
+    assertEquals(new Timestamp(7000L), entity.get("created"));
+    assertEquals("t7", ((Entity) entity.get("tag")).get("name"));
+    assertEquals("product", entity.type());
+  }
+
+  @Test
+  public void testSelectors() {
+    assertEquals(3, query("category = 'A' and id < 9").size());
+    assertEquals(1, query("_candidate.id == 12").size());
+  }
+
+  @Test
+  public void testUpdateAndIds() {
+    store.store(new Entity(productType, "id", 3, "category", "C"));
+    assertEquals(COUNT, store.entityCount("product"));
+    assertEquals("C", store.getEntities("product").get(3).get("category"));
+    Object firstId = store.queryEntityIds("product", null, context).iterator()
+        .next(new DataContainer<>()).getData();
+    assertEquals(0, firstId);
+  }
+
+  @Test
+  public void testFilter() {
+    List<Entity> filter = new ArrayList<>();
+    filter.add(new Entity(productType, "id", 6));
+    filter.add(new Entity(productType, "id", 7));
+    store.filter("product", "id", new DataSourceFromIterable<>(filter, Entity.class));
+    List<Entity> entities = query(null);
+    assertEquals(2, entities.size());
+    assertEquals(6, entities.get(0).get("id"));
+    assertEquals(7, entities.get(1).get("id"));
+  }
+
+  @Test
+  public void testClose() {
+    store.close();
+    assertEquals(0, directory.list().length);
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testIndexesNotSupported() {
+    store.addIndex("product", false, "category");
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testIndexesDeclaredBeforeOffHeap() {
+    MemStore indexedStore = new MemStore("indexed", dataModel);
+    indexedStore.setIndexes("product(category)");
+    indexedStore.setOffHeap(true);
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testIndexesForUnusedType() {
+    // rejected on declaration, not only when the first entity of the type is stored
+    store.addIndex("order", false, "customer_id");
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private List<Entity> query(String selector) {
+    DataSource<Entity> source = store.queryEntities("product", selector, context);
+    List<Entity> result = new ArrayList<>();
+    try (DataIterator<Entity> iterator = source.iterator()) {
+      DataContainer<Entity> container = new DataContainer<>();
+      while (iterator.next(container) != null) {
+        result.add(container.getData());
+      }
+    }
+    return result;
+  }
+
+}
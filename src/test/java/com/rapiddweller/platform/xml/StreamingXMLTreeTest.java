@@ -0,0 +1,149 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xml;
+
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.engine.DefaultBeneratorContext;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.xml.XMLUtil;
+import com.rapiddweller.common.xml.XPathUtil;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.format.DataSource;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.io.File;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link StreamingXMLTree}.<br/><br/>
+ * Created: 19.10.2026 16:41:12
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class StreamingXMLTreeTest {
+
+  private static final String INPUT_URI = "com/rapiddweller/platform/xml/teamplayers.xml";
+
+  @Test
+  public void testQueryAndUpdateEntities() throws Exception {
+    BeneratorContext context = new DefaultBeneratorContext();
+    StreamingXMLTree tree = new StreamingXMLTree(INPUT_URI, context);
+    String outputUri = "target/test-classes/teamplayers-streamed.xml";
+    tree.setOutputUri(outputUri);
+    DataSource<Entity> source = tree.queryEntities("person", "//person", context);
+
+    // the first pass sets all cities to Berlin
+    DataIterator<Entity> iterator = source.iterator();
+    ComplexTypeDescriptor type = (ComplexTypeDescriptor) tree.getTypeDescriptor("person");
+    String[] expectedNames = { "Alice", "Bob", "Charly", "Otto" };
+    DataContainer<Entity> container = new DataContainer<>();
+    for (String expectedName : expectedNames) {
+      Entity person = iterator.next(container).getData();
+      assertEquals(type, person.descriptor());
+      assertEquals(expectedName, person.get("name"));
+      person.set("city", "Berlin");
+      tree.update(person);
+    }
+    assertNull(iterator.next(container));
+    iterator.close();
+
+    // the second pass reads the result of the first one and changes the second team
+    iterator = tree.queryEntities("team", "/teams/team[@tnum='2']", context).iterator();
+    Entity team = iterator.next(container).getData();
+    team.set("tnum", "two");
+    tree.update(team);
+    assertNull(iterator.next(container));
+    iterator.close();
+    IOUtil.close(tree);
+
+    // verify the output
+    Document doc = XMLUtil.parse(outputUri);
+    NodeList cityNodes = XPathUtil.queryNodes(doc, "//city/text()");
+    assertEquals(4, cityNodes.getLength());
+    for (int i = 0; i < 4; i++) {
+      assertEquals("Berlin", cityNodes.item(i).getTextContent());
+    }
+    assertEquals(1, XPathUtil.queryNodes(doc, "/teams/team[@tnum='two']/person").getLength());
+    assertEquals("Atlanta", XPathUtil.queryNodes(XMLUtil.parse(INPUT_URI), "//person[1]/city").item(0).getTextContent());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void testUpdateOfPreviousEntity() {
+    BeneratorContext context = new DefaultBeneratorContext();
+    StreamingXMLTree tree = new StreamingXMLTree(INPUT_URI, context);
+    tree.setOutputUri("target/test-classes/teamplayers-streamed2.xml");
+    try {
+      DataIterator<Entity> iterator = tree.queryEntities("person", "//person", context).iterator();
+      Entity alice = iterator.next(new DataContainer<>()).getData();
+      iterator.next(new DataContainer<>());
+      tree.update(alice);
+    } finally {
+      IOUtil.close(tree);
+    }
+  }
+
+  @Test
+  public void testAddedAttributesAndElements() throws Exception {
+    BeneratorContext context = new DefaultBeneratorContext();
+    StreamingXMLTree tree = new StreamingXMLTree(INPUT_URI, context);
+    String outputUri = "target/test-classes/teamplayers-streamed4.xml";
+    tree.setOutputUri(outputUri);
+    DataIterator<Entity> iterator = tree.queryEntities("person", "//person", context).iterator();
+    DataContainer<Entity> container = new DataContainer<>();
+    while (iterator.next(container) != null) {
+      Entity person = container.getData();
+      Element element = ((XmlEntity) person).getSourceElement();
+      element.setAttribute("checked", "true");
+      element.appendChild(element.getOwnerDocument().createElement("remark"));
+      tree.update(person);
+    }
+    iterator.close();
+    IOUtil.close(tree);
+    Document doc = XMLUtil.parse(outputUri);
+    assertEquals(4, XPathUtil.queryNodes(doc, "//person[@checked='true']/remark").getLength());
+    assertEquals(2, XPathUtil.queryNodes(doc, "//team[@tnum='2']/person[@pnum]").getLength());
+  }
+
+  @Test
+  public void testCloseWithoutPass() throws Exception {
+    BeneratorContext context = new DefaultBeneratorContext();
+    StreamingXMLTree tree = new StreamingXMLTree(INPUT_URI, context);
+    String outputUri = "target/test-classes/teamplayers-streamed5.xml";
+    new File(outputUri).delete();
+    tree.setOutputUri(outputUri);
+    expectValues(tree.query("//city", true, context), "Atlanta", "Boston", "Cleveland", "Oslo");
+    IOUtil.close(tree);
+    assertEquals(4, XPathUtil.queryNodes(XMLUtil.parse(outputUri), "//person").getLength());
+  }
+
+  @Test
+  public void testQueryValues() {
+    BeneratorContext context = new DefaultBeneratorContext();
+    StreamingXMLTree tree = new StreamingXMLTree(INPUT_URI, context);
+    tree.setOutputUri("target/test-classes/teamplayers-streamed3.xml");
+    expectValues(tree.query("//city", true, context), "Atlanta", "Boston", "Cleveland", "Oslo");
+    expectValues(tree.query("//team[@tnum='2']/person/@pnum", true, context), "2a", "2b");
+    expectValues(tree.query("/teams/team/person[2]/name/text()", true, context), "Bob", "Otto");
+    IOUtil.close(tree);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static void expectValues(DataSource source, Object... expectedValues) {
+    DataIterator iterator = source.iterator();
+    for (Object expectedValue : expectedValues) {
+      assertEquals(expectedValue, iterator.next(new DataContainer<>()).getData());
+    }
+    assertNull(iterator.next(new DataContainer<>()));
+    iterator.close();
+  }
+
+}
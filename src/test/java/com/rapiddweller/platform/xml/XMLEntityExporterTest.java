@@ -1,13 +1,28 @@
 package com.rapiddweller.platform.xml;
 
+import com.rapiddweller.benerator.test.ModelTest;
+import com.rapiddweller.common.FileUtil;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * The type Xml entity exporter test.
  */
-public class XMLEntityExporterTest {
+public class XMLEntityExporterTest extends ModelTest {
+
+  private static final String FILENAME = "target/" + XMLEntityExporterTest.class.getName() + ".xml";
   /**
    * Test constructor.
    */
@@ -43,5 +58,79 @@ public void testSetUri() {
   public void testToString() {
     assertEquals("XMLEntityExporter[export.xml]", (new XMLEntityExporter()).toString());
   }
-}
 
+  /**
+   * Test the compiled mode with nested elements, simple content and escaping.
+   */
+  @Test
+  public void testCompiled() throws IOException {
+    XMLEntityExporter exporter = new XMLEntityExporter(FILENAME, "UTF-8");
+    exporter.setCompiled(true);
+    exporter.setIndent(4);
+    Entity alice = createEntity("person", "name", "Alice & \"Bob\"\n", "age", 23);
+    Entity address = createEntity("address", "city", "Munich");
+    Entity remark = createEntity("remark", ComplexTypeDescriptor.__SIMPLE_CONTENT, "a < b\nc");
+    Entity charly = createEntity("person", "name", "Charly");
+    exporter.startProductConsumption(alice);
+    exporter.startProductConsumption(address);
+    exporter.finishProductConsumption(address);
+    exporter.startProductConsumption(remark);
+    exporter.finishProductConsumption(remark);
+    exporter.finishProductConsumption(alice);
+    exporter.startProductConsumption(charly);
+    exporter.finishProductConsumption(charly);
+    exporter.close();
+    assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+        "<person name=\"Alice &amp; &quot;Bob&quot;&#10;\" age=\"23\">\n" +
+        "    <address city=\"Munich\"/>\n" +
+        "    <remark>a &lt; b\nc</remark>\n" +
+        "</person>\n" +
+        "<person name=\"Charly\"/>\n", IOUtil.getContentOfURI(FILENAME, "UTF-8"));
+    FileUtil.deleteIfExists(new File(FILENAME));
+  }
+
+  @Test
+  public void testCompiledWithRootElement() throws IOException {
+    XMLEntityExporter exporter = new XMLEntityExporter(FILENAME, "UTF-8");
+    exporter.setCompiled(true);
+    exporter.setRootElement("people");
+    Entity alice = createEntity("person", "name", "Alice");
+    Entity address = createEntity("address", "city", "Munich");
+    Entity bob = createEntity("person", "name", "Bob");
+    exporter.startProductConsumption(alice);
+    exporter.startProductConsumption(address);
+    exporter.finishProductConsumption(address);
+    exporter.finishProductConsumption(alice);
+    exporter.startProductConsumption(bob);
+    exporter.finishProductConsumption(bob);
+    exporter.close();
+    assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+        "<people>\n" +
+        "  <person name=\"Alice\">\n" +
+        "    <address city=\"Munich\"/>\n" +
+        "  </person>\n" +
+        "  <person name=\"Bob\"/>\n" +
+        "</people>\n", IOUtil.getContentOfURI(FILENAME, "UTF-8"));
+    FileUtil.deleteIfExists(new File(FILENAME));
+  }
+
+  @Test
+  public void testCompression() throws IOException {
+    for (boolean compiled : new boolean[] { false, true }) {
+      XMLEntityExporter exporter = new XMLEntityExporter(FILENAME, "UTF-8");
+      exporter.setCompiled(compiled);
+      exporter.setCompression("gzip");
+      exporter.setRootElement("people");
+      Entity alice = createEntity("person", "name", "Alice");
+      exporter.startProductConsumption(alice);
+      exporter.finishProductConsumption(alice);
+      exporter.close();
+      try (InputStream in = new GZIPInputStream(new FileInputStream(FILENAME))) {
+        String xml = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(xml.replace("\r", "").endsWith("<people>\n  <person name=\"Alice\"/>\n</people>\n"));
+      }
+    }
+    FileUtil.deleteIfExists(new File(FILENAME));
+  }
+
+}
@@ -0,0 +1,112 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xml;
+
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.CollectionUtil;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link XMLPathPattern}.<br/><br/>
+ * Created: 19.10.2026 16:27:45
+ * @author Volker Bergmann
+ * @since 3.2.0
+ */
+public class XMLPathPatternTest {
+
+  @Test
+  public void testAbsolutePath() {
+    XMLPathPattern pattern = XMLPathPattern.parse("/teams/team/person");
+    assertTrue(pattern.matches(path("teams", "team", "person")));
+    assertFalse(pattern.matches(path("teams", "team")));
+    assertFalse(pattern.matches(path("root", "teams", "team", "person")));
+    assertFalse(pattern.selectsValue());
+  }
+
+  @Test
+  public void testDescendantAxis() {
+    XMLPathPattern pattern = XMLPathPattern.parse("//person");
+    assertTrue(pattern.matches(path("person")));
+    assertTrue(pattern.matches(path("teams", "team", "person")));
+    assertFalse(pattern.matches(path("teams", "team", "person", "name")));
+    pattern = XMLPathPattern.parse("/teams//name");
+    assertTrue(pattern.matches(path("teams", "team", "person", "name")));
+    assertFalse(pattern.matches(path("clubs", "team", "person", "name")));
+  }
+
+  @Test
+  public void testWildcard() {
+    XMLPathPattern pattern = XMLPathPattern.parse("/teams/*/person");
+    assertTrue(pattern.matches(path("teams", "team", "person")));
+    assertTrue(pattern.matches(path("teams", "club", "person")));
+    assertFalse(pattern.matches(path("teams", "person")));
+  }
+
+  @Test
+  public void testPositionPredicate() {
+    XMLPathPattern pattern = XMLPathPattern.parse("/teams/team[2]/person");
+    XMLPathPattern.Node teams = XMLPathPattern.Node.document().child("teams", Collections.emptyMap());
+    XMLPathPattern.Node team1 = teams.child("team", Collections.emptyMap());
+    teams.child("comment", Collections.emptyMap());
+    XMLPathPattern.Node team2 = teams.child("team", Collections.emptyMap());
+    assertFalse(pattern.matches(CollectionUtil.toList(teams, team1, team1.child("person", Collections.emptyMap()))));
+    assertTrue(pattern.matches(CollectionUtil.toList(teams, team2, team2.child("person", Collections.emptyMap()))));
+  }
+
+  @Test
+  public void testAttributePredicates() {
+    XMLPathPattern pattern = XMLPathPattern.parse("//team[@tnum='2']/person[@pnum]");
+    XMLPathPattern.Node teams = XMLPathPattern.Node.document().child("teams", Collections.emptyMap());
+    XMLPathPattern.Node team1 = teams.child("team", CollectionUtil.buildMap("tnum", "1"));
+    XMLPathPattern.Node team2 = teams.child("team", CollectionUtil.buildMap("tnum", "2"));
+    assertFalse(pattern.matches(CollectionUtil.toList(teams, team1, team1.child("person", CollectionUtil.buildMap("pnum", "1a")))));
+    assertTrue(pattern.matches(CollectionUtil.toList(teams, team2, team2.child("person", CollectionUtil.buildMap("pnum", "2a")))));
+    assertFalse(pattern.matches(CollectionUtil.toList(teams, team2, team2.child("person", Collections.emptyMap()))));
+  }
+
+  @Test
+  public void testValueSelectors() {
+    XMLPathPattern pattern = XMLPathPattern.parse("//person/@pnum");
+    assertEquals("pnum", pattern.getAttribute());
+    assertTrue(pattern.selectsValue());
+    assertTrue(pattern.matches(path("teams", "team", "person")));
+    pattern = XMLPathPattern.parse("//person/name/text()");
+    assertTrue(pattern.isText());
+    assertTrue(pattern.matches(path("person", "name")));
+  }
+
+  @Test
+  public void testUnsupported() {
+    assertTrue(XMLPathPattern.isSupported("/a/b[@c=\"d\"]"));
+    assertFalse(XMLPathPattern.isSupported("/a/b[c='d']"));
+    assertFalse(XMLPathPattern.isSupported("/a/../b"));
+    assertFalse(XMLPathPattern.isSupported("/a/b[last()]"));
+    assertFalse(XMLPathPattern.isSupported("/a/ancestor::b"));
+    assertFalse(XMLPathPattern.isSupported("/a/*[2]"));
+    assertFalse(XMLPathPattern.isSupported("/"));
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testParseUnsupported() {
+    XMLPathPattern.parse("//person[name='Alice']");
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static List<XMLPathPattern.Node> path(String... names) {
+    List<XMLPathPattern.Node> result = new ArrayList<>();
+    XMLPathPattern.Node parent = XMLPathPattern.Node.document();
+    for (String name : names) {
+      parent = parent.child(name, Collections.<String, String>emptyMap());
+      result.add(parent);
+    }
+    return result;
+  }
+
+}
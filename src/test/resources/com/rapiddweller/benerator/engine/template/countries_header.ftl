@@ -0,0 +1 @@
+Countries
@@ -0,0 +1,4 @@
+${recordNumber}. ${record.name} has the following states:
+<#list record.states as state>
+    - ${state.name}
+</#list>